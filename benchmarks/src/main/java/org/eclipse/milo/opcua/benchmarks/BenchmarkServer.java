@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.sdk.core.AccessLevel;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.DataItem;
+import org.eclipse.milo.opcua.sdk.server.api.ManagedNamespaceWithLifecycle;
+import org.eclipse.milo.opcua.sdk.server.api.MonitoredItem;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.security.DefaultCertificateManager;
+import org.eclipse.milo.opcua.stack.core.security.DefaultTrustListManager;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateBuilder;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateGenerator;
+import org.eclipse.milo.opcua.stack.server.EndpointConfiguration;
+import org.eclipse.milo.opcua.stack.server.security.DefaultServerCertificateValidator;
+
+import static org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig.USER_TOKEN_POLICY_ANONYMOUS;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * An in-process {@link OpcUaServer} with a single unsecured TCP endpoint on localhost and a namespace of
+ * {@code Int32} variables that benchmarks can read and push values to.
+ */
+class BenchmarkServer {
+
+    private static final String APPLICATION_URI = "urn:eclipse:milo:benchmarks:server";
+
+    private final OpcUaServer server;
+    private final BenchmarkNamespace namespace;
+    private final String endpointUrl;
+
+    BenchmarkServer(int variableCount) throws Exception {
+        KeyPair keyPair = SelfSignedCertificateGenerator.generateRsaKeyPair(2048);
+
+        X509Certificate certificate = new SelfSignedCertificateBuilder(keyPair)
+            .setCommonName("Eclipse Milo Benchmarks")
+            .setApplicationUri(APPLICATION_URI)
+            .build();
+
+        File pkiDir = Files.createTempDirectory("milo-benchmarks").toFile();
+        DefaultTrustListManager trustListManager = new DefaultTrustListManager(pkiDir);
+
+        int port = findFreePort();
+
+        EndpointConfiguration endpoint = EndpointConfiguration.newBuilder()
+            .setBindAddress("localhost")
+            .setHostname("localhost")
+            .setBindPort(port)
+            .setPath("/benchmarks")
+            .setCertificate(certificate)
+            .setSecurityPolicy(SecurityPolicy.None)
+            .setSecurityMode(MessageSecurityMode.None)
+            .setTransportProfile(TransportProfile.TCP_UASC_UABINARY)
+            .addTokenPolicies(USER_TOKEN_POLICY_ANONYMOUS)
+            .build();
+
+        OpcUaServerConfig config = OpcUaServerConfig.builder()
+            .setApplicationUri(APPLICATION_URI)
+            .setApplicationName(LocalizedText.english("Eclipse Milo Benchmarks Server"))
+            .setProductUri(APPLICATION_URI)
+            .setEndpoints(Collections.singleton(endpoint))
+            .setCertificateManager(new DefaultCertificateManager(keyPair, certificate))
+            .setTrustListManager(trustListManager)
+            .setCertificateValidator(new DefaultServerCertificateValidator(trustListManager))
+            .build();
+
+        server = new OpcUaServer(config);
+        namespace = new BenchmarkNamespace(server, variableCount);
+        endpointUrl = endpoint.getEndpointUrl();
+    }
+
+    void startup() throws Exception {
+        namespace.startup();
+        server.startup().get();
+    }
+
+    void shutdown() throws Exception {
+        namespace.shutdown();
+        server.shutdown().get();
+    }
+
+    OpcUaServer getServer() {
+        return server;
+    }
+
+    /**
+     * @return the {@link NodeId}s of the variables in the benchmark namespace.
+     */
+    List<NodeId> getVariableNodeIds() {
+        return namespace.variableNodeIds;
+    }
+
+    /**
+     * @return the {@link DataItem}s currently monitoring variables in the benchmark namespace.
+     */
+    List<DataItem> getDataItems() {
+        return namespace.dataItems;
+    }
+
+    /**
+     * Create and connect an {@link OpcUaClient} to this server.
+     *
+     * @return a connected {@link OpcUaClient}.
+     */
+    OpcUaClient connectClient() throws Exception {
+        OpcUaClient client = OpcUaClient.create(
+            endpointUrl,
+            endpoints -> endpoints.stream().findFirst(),
+            configBuilder ->
+                configBuilder
+                    .setApplicationName(LocalizedText.english("Eclipse Milo Benchmarks Client"))
+                    .setApplicationUri("urn:eclipse:milo:benchmarks:client")
+                    .setRequestTimeout(uint(60_000))
+                    .build()
+        );
+
+        client.connect().get();
+
+        return client;
+    }
+
+    private static int findFreePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket()) {
+            socket.bind(new InetSocketAddress("localhost", 0));
+            return socket.getLocalPort();
+        }
+    }
+
+    private static class BenchmarkNamespace extends ManagedNamespaceWithLifecycle {
+
+        static final String NAMESPACE_URI = "urn:eclipse:milo:benchmarks";
+
+        final List<NodeId> variableNodeIds = new ArrayList<>();
+        final List<DataItem> dataItems = new CopyOnWriteArrayList<>();
+
+        BenchmarkNamespace(OpcUaServer server, int variableCount) {
+            super(server, NAMESPACE_URI);
+
+            getLifecycleManager().addStartupTask(() -> {
+                for (int i = 0; i < variableCount; i++) {
+                    String name = "Variable" + i;
+
+                    UaVariableNode node = new UaVariableNode.UaVariableNodeBuilder(getNodeContext())
+                        .setNodeId(newNodeId(name))
+                        .setAccessLevel(AccessLevel.READ_WRITE)
+                        .setUserAccessLevel(AccessLevel.READ_WRITE)
+                        .setBrowseName(newQualifiedName(name))
+                        .setDisplayName(LocalizedText.english(name))
+                        .setDataType(Identifiers.Int32)
+                        .setTypeDefinition(Identifiers.BaseDataVariableType)
+                        .build();
+
+                    node.setValue(new DataValue(new Variant(0)));
+
+                    node.addReference(new Reference(
+                        node.getNodeId(),
+                        Identifiers.Organizes,
+                        Identifiers.ObjectsFolder.expanded(),
+                        Reference.Direction.INVERSE
+                    ));
+
+                    getNodeManager().addNode(node);
+                    variableNodeIds.add(node.getNodeId());
+                }
+            });
+        }
+
+        @Override
+        public void onDataItemsCreated(List<DataItem> dataItems) {
+            this.dataItems.addAll(dataItems);
+        }
+
+        @Override
+        public void onDataItemsModified(List<DataItem> dataItems) {}
+
+        @Override
+        public void onDataItemsDeleted(List<DataItem> dataItems) {
+            this.dataItems.removeAll(dataItems);
+        }
+
+        @Override
+        public void onMonitoringModeChanged(List<MonitoredItem> monitoredItems) {}
+
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.serialization.UaMessage;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.DataChangeTrigger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.DeadbandType;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MonitoringMode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.CreateMonitoredItemsRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemCreateRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoringParameters;
+import org.eclipse.milo.opcua.stack.core.types.structured.NotificationMessage;
+import org.eclipse.milo.opcua.stack.core.types.structured.PublishResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Encode and decode common service messages with {@link OpcUaBinaryStreamEncoder} and
+ * {@link OpcUaBinaryStreamDecoder}, without any chunking or security applied.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BinaryEncodingBenchmark {
+
+    @Param({"ReadRequest", "ReadResponse", "PublishResponse", "CreateMonitoredItemsRequest"})
+    public String messageType;
+
+    /**
+     * The number of operations (nodes to read, notifications, items to create) in the message.
+     */
+    @Param({"10", "1000"})
+    public int operationCount;
+
+    private UaMessage message;
+    private ByteBuf encodeBuffer;
+    private ByteBuf decodeBuffer;
+
+    private OpcUaBinaryStreamEncoder encoder;
+    private OpcUaBinaryStreamDecoder decoder;
+
+    @Setup
+    public void setup() {
+        SerializationContext context = new BenchmarkSerializationContext();
+
+        encoder = new OpcUaBinaryStreamEncoder(context);
+        decoder = new OpcUaBinaryStreamDecoder(context);
+
+        message = createMessage(context, messageType, operationCount);
+
+        encodeBuffer = BufferUtil.pooledBuffer();
+        decodeBuffer = BufferUtil.pooledBuffer();
+
+        encoder.setBuffer(decodeBuffer);
+        encoder.writeMessage(null, message);
+    }
+
+    @TearDown
+    public void tearDown() {
+        encodeBuffer.release();
+        decodeBuffer.release();
+    }
+
+    @Benchmark
+    public int encode() {
+        encodeBuffer.clear();
+        encoder.setBuffer(encodeBuffer);
+        encoder.writeMessage(null, message);
+
+        return encodeBuffer.writerIndex();
+    }
+
+    @Benchmark
+    public UaMessage decode() {
+        decodeBuffer.readerIndex(0);
+        decoder.setBuffer(decodeBuffer);
+
+        return decoder.readMessage(null);
+    }
+
+    static UaMessage createMessage(SerializationContext context, String messageType, int operationCount) {
+        switch (messageType) {
+            case "ReadRequest":
+                return createReadRequest(operationCount);
+            case "ReadResponse":
+                return createReadResponse(operationCount);
+            case "PublishResponse":
+                return createPublishResponse(context, operationCount);
+            case "CreateMonitoredItemsRequest":
+                return createCreateMonitoredItemsRequest(context, operationCount);
+            default:
+                throw new IllegalArgumentException("messageType: " + messageType);
+        }
+    }
+
+    private static ReadRequest createReadRequest(int operationCount) {
+        ReadValueId[] readValueIds = new ReadValueId[operationCount];
+
+        for (int i = 0; i < operationCount; i++) {
+            readValueIds[i] = new ReadValueId(
+                new NodeId(2, "Device/Tag" + i),
+                AttributeId.Value.uid(),
+                null,
+                QualifiedName.NULL_VALUE
+            );
+        }
+
+        return new ReadRequest(requestHeader(), 0.0, TimestampsToReturn.Both, readValueIds);
+    }
+
+    private static ReadResponse createReadResponse(int operationCount) {
+        DataValue[] results = new DataValue[operationCount];
+
+        for (int i = 0; i < operationCount; i++) {
+            results[i] = new DataValue(new Variant((double) i), StatusCode.GOOD, DateTime.now(), DateTime.now());
+        }
+
+        return new ReadResponse(responseHeader(), results, null);
+    }
+
+    private static PublishResponse createPublishResponse(SerializationContext context, int operationCount) {
+        MonitoredItemNotification[] notifications = new MonitoredItemNotification[operationCount];
+
+        for (int i = 0; i < operationCount; i++) {
+            notifications[i] = new MonitoredItemNotification(
+                uint(i),
+                new DataValue(new Variant(i), StatusCode.GOOD, DateTime.now(), DateTime.now())
+            );
+        }
+
+        DataChangeNotification dataChange = new DataChangeNotification(notifications, null);
+
+        NotificationMessage notificationMessage = new NotificationMessage(
+            uint(1),
+            DateTime.now(),
+            new ExtensionObject[]{ExtensionObject.encode(context, dataChange)}
+        );
+
+        return new PublishResponse(
+            responseHeader(),
+            uint(1),
+            new UInteger[]{uint(1)},
+            false,
+            notificationMessage,
+            new StatusCode[0],
+            null
+        );
+    }
+
+    private static CreateMonitoredItemsRequest createCreateMonitoredItemsRequest(
+        SerializationContext context,
+        int operationCount
+    ) {
+
+        ExtensionObject filter = ExtensionObject.encode(
+            context,
+            new DataChangeFilter(DataChangeTrigger.StatusValue, uint(DeadbandType.Absolute.getValue()), 0.5)
+        );
+
+        MonitoredItemCreateRequest[] itemsToCreate = new MonitoredItemCreateRequest[operationCount];
+
+        for (int i = 0; i < operationCount; i++) {
+            ReadValueId readValueId = new ReadValueId(
+                new NodeId(2, "Device/Tag" + i),
+                AttributeId.Value.uid(),
+                null,
+                QualifiedName.NULL_VALUE
+            );
+
+            itemsToCreate[i] = new MonitoredItemCreateRequest(
+                readValueId,
+                MonitoringMode.Reporting,
+                new MonitoringParameters(uint(i), 1000.0, filter, uint(10), true)
+            );
+        }
+
+        return new CreateMonitoredItemsRequest(requestHeader(), uint(1), TimestampsToReturn.Both, itemsToCreate);
+    }
+
+    private static RequestHeader requestHeader() {
+        return new RequestHeader(NodeId.NULL_VALUE, DateTime.now(), uint(1), uint(0), null, uint(10_000), null);
+    }
+
+    private static ResponseHeader responseHeader() {
+        return new ResponseHeader(DateTime.now(), uint(1), StatusCode.GOOD, null, null, null);
+    }
+
+}
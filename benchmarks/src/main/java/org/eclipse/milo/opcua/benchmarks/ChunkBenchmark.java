@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks;
+
+import java.security.KeyPair;
+import java.security.Security;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.ReferenceCountUtil;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.eclipse.milo.opcua.stack.client.transport.uasc.ClientSecureChannel;
+import org.eclipse.milo.opcua.stack.core.channel.ChannelParameters;
+import org.eclipse.milo.opcua.stack.core.channel.ChannelSecurity;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkDecoder;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.channel.ServerSecureChannel;
+import org.eclipse.milo.opcua.stack.core.channel.messages.MessageType;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import org.eclipse.milo.opcua.stack.core.types.structured.ChannelSecurityToken;
+import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
+import org.eclipse.milo.opcua.stack.core.util.NonceUtil;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateBuilder;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Encode a message into symmetric chunks with {@link ChunkEncoder} and decode them back with {@link ChunkDecoder},
+ * under each {@link SecurityPolicy}.
+ * <p>
+ * Every policy other than {@link SecurityPolicy#None} is benchmarked with {@link MessageSecurityMode#SignAndEncrypt}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ChunkBenchmark {
+
+    static {
+        // Required for SecurityPolicy.Aes256_Sha256_RsaPss
+        Security.addProvider(new BouncyCastleProvider());
+    }
+
+    private static final ChannelParameters PARAMETERS = new ChannelParameters(
+        EncodingLimits.DEFAULT_MAX_MESSAGE_SIZE,
+        EncodingLimits.DEFAULT_MAX_CHUNK_SIZE,
+        EncodingLimits.DEFAULT_MAX_CHUNK_SIZE,
+        0,
+        EncodingLimits.DEFAULT_MAX_MESSAGE_SIZE,
+        EncodingLimits.DEFAULT_MAX_CHUNK_SIZE,
+        EncodingLimits.DEFAULT_MAX_CHUNK_SIZE,
+        0
+    );
+
+    @Param({
+        "None",
+        "Basic128Rsa15",
+        "Basic256",
+        "Basic256Sha256",
+        "Aes128_Sha256_RsaOaep",
+        "Aes256_Sha256_RsaPss"
+    })
+    public SecurityPolicy securityPolicy;
+
+    @Param({"1024", "262144"})
+    public int messageSize;
+
+    private final ChunkEncoder encoder = new ChunkEncoder(PARAMETERS);
+
+    private ClientSecureChannel clientChannel;
+    private ServerSecureChannel serverChannel;
+
+    private ByteBuf messageBuffer;
+    private List<byte[]> encodedChunks;
+
+    private long requestId = 1L;
+
+    @Setup
+    public void setup() throws Exception {
+        MessageSecurityMode securityMode = securityPolicy == SecurityPolicy.None ?
+            MessageSecurityMode.None : MessageSecurityMode.SignAndEncrypt;
+
+        KeyPair clientKeyPair = SelfSignedCertificateGenerator.generateRsaKeyPair(2048);
+        KeyPair serverKeyPair = SelfSignedCertificateGenerator.generateRsaKeyPair(2048);
+        X509Certificate clientCertificate = certificate(clientKeyPair, "urn:eclipse:milo:benchmarks:client");
+        X509Certificate serverCertificate = certificate(serverKeyPair, "urn:eclipse:milo:benchmarks:server");
+
+        ByteString clientNonce = NonceUtil.generateNonce(securityPolicy);
+        ByteString serverNonce = NonceUtil.generateNonce(securityPolicy);
+
+        clientChannel = new ClientSecureChannel(
+            clientKeyPair,
+            clientCertificate,
+            newArrayList(clientCertificate),
+            serverCertificate,
+            newArrayList(serverCertificate),
+            securityPolicy,
+            securityMode
+        );
+        clientChannel.setLocalNonce(clientNonce);
+        clientChannel.setRemoteNonce(serverNonce);
+
+        serverChannel = new ServerSecureChannel();
+        serverChannel.setSecurityPolicy(securityPolicy);
+        serverChannel.setMessageSecurityMode(securityMode);
+        serverChannel.setLocalNonce(serverNonce);
+        serverChannel.setRemoteNonce(clientNonce);
+        serverChannel.setKeyPair(serverKeyPair);
+        serverChannel.setLocalCertificate(serverCertificate);
+        serverChannel.setLocalCertificateChain(new X509Certificate[]{serverCertificate});
+        serverChannel.setRemoteCertificate(clientCertificate.getEncoded());
+
+        ChannelSecurityToken token = new ChannelSecurityToken(uint(0), uint(1), DateTime.now(), uint(60_000));
+
+        if (securityMode == MessageSecurityMode.None) {
+            clientChannel.setChannelSecurity(new ChannelSecurity(null, token));
+            serverChannel.setChannelSecurity(new ChannelSecurity(null, token));
+        } else {
+            clientChannel.setChannelSecurity(new ChannelSecurity(
+                ChannelSecurity.generateKeyPair(clientChannel, clientNonce, serverNonce),
+                token
+            ));
+            serverChannel.setChannelSecurity(new ChannelSecurity(
+                ChannelSecurity.generateKeyPair(serverChannel, clientNonce, serverNonce),
+                token
+            ));
+        }
+
+        byte[] messageBytes = new byte[messageSize];
+        for (int i = 0; i < messageBytes.length; i++) {
+            messageBytes[i] = (byte) i;
+        }
+        messageBuffer = BufferUtil.pooledBuffer().writeBytes(messageBytes);
+
+        encodedChunks = new ArrayList<>();
+        for (ByteBuf chunk : encodeMessage()) {
+            encodedChunks.add(ByteBufUtil.getBytes(chunk));
+            chunk.release();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        messageBuffer.release();
+    }
+
+    @Benchmark
+    public int encode() throws Exception {
+        List<ByteBuf> chunks = encodeMessage();
+
+        int size = 0;
+        for (ByteBuf chunk : chunks) {
+            size += chunk.readableBytes();
+            chunk.release();
+        }
+        return size;
+    }
+
+    @Benchmark
+    public int decode() throws Exception {
+        // Chunks are decrypted in place, so each decode needs a fresh copy, and the decoder
+        // validates sequence numbers, so each decode needs a fresh decoder.
+        List<ByteBuf> chunks = new ArrayList<>(encodedChunks.size());
+        for (byte[] bytes : encodedChunks) {
+            chunks.add(BufferUtil.pooledBuffer(bytes.length).writeBytes(bytes));
+        }
+
+        ChunkDecoder decoder = new ChunkDecoder(PARAMETERS, EncodingLimits.DEFAULT);
+
+        ByteBuf message = decoder.decodeSymmetric(serverChannel, chunks).getMessage();
+
+        try {
+            return message.readableBytes();
+        } finally {
+            ReferenceCountUtil.release(message);
+        }
+    }
+
+    private List<ByteBuf> encodeMessage() throws Exception {
+        messageBuffer.readerIndex(0);
+
+        return encoder.encodeSymmetric(
+            clientChannel,
+            requestId++,
+            messageBuffer,
+            MessageType.SecureMessage
+        ).getMessageChunks();
+    }
+
+    private static X509Certificate certificate(KeyPair keyPair, String applicationUri) throws Exception {
+        return new SelfSignedCertificateBuilder(keyPair)
+            .setCommonName("Eclipse Milo Benchmarks")
+            .setApplicationUri(applicationUri)
+            .build();
+    }
+
+}
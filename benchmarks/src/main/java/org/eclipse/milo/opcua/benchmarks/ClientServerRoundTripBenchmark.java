@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Read the Value attribute of one or more variables from an in-process server over a localhost TCP connection,
+ * waiting for each response before sending the next request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ClientServerRoundTripBenchmark {
+
+    @Param({"1", "100"})
+    public int nodeCount;
+
+    private BenchmarkServer server;
+    private OpcUaClient client;
+
+    private List<ReadValueId> readValueIds;
+
+    @Setup
+    public void setup() throws Exception {
+        server = new BenchmarkServer(nodeCount);
+        server.startup();
+
+        client = server.connectClient();
+
+        readValueIds = server.getVariableNodeIds().stream()
+            .map(nodeId -> new ReadValueId(nodeId, AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE))
+            .collect(Collectors.toList());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        client.disconnect().get();
+        server.shutdown();
+    }
+
+    @Benchmark
+    public ReadResponse read() throws Exception {
+        return client.read(0.0, TimestampsToReturn.Both, readValueIds).get();
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.milo.opcua.sdk.server.util.DataChangeMonitoringFilter;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.DataChangeTrigger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.DeadbandType;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Evaluate {@link DataChangeMonitoringFilter#filter(DataValue, DataValue, DataChangeFilter)} over a stream of
+ * sampled values, half of which fall inside the deadband.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DataChangeFilterBenchmark {
+
+    private static final int VALUE_COUNT = 1024;
+
+    @Param({"None", "Absolute"})
+    public DeadbandType deadbandType;
+
+    /**
+     * The length of each sampled value; 0 for a scalar Double, otherwise a Double[] of this length.
+     */
+    @Param({"0", "16"})
+    public int arrayLength;
+
+    private DataChangeFilter filter;
+    private DataValue[] values;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        filter = new DataChangeFilter(DataChangeTrigger.StatusValue, uint(deadbandType.getValue()), 1.0);
+
+        values = new DataValue[VALUE_COUNT];
+
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            // alternately step by 0.5 (inside the deadband) and 2.0 (outside it)
+            double value = (i / 2) * 2.5 + (i % 2) * 0.5;
+
+            values[i] = new DataValue(new Variant(valueOf(value)), StatusCode.GOOD, DateTime.now());
+        }
+    }
+
+    @Benchmark
+    public boolean filter() {
+        int i = index;
+        index = (i + 1) & (VALUE_COUNT - 1);
+
+        return DataChangeMonitoringFilter.filter(values[i], values[index], filter);
+    }
+
+    private Object valueOf(double value) {
+        if (arrayLength == 0) {
+            return value;
+        } else {
+            Double[] array = new Double[arrayLength];
+            for (int i = 0; i < arrayLength; i++) {
+                array[i] = value + i;
+            }
+            return array;
+        }
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.events.EventContentFilter;
+import org.eclipse.milo.opcua.sdk.server.events.FilterContext;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.FilterOperator;
+import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilterElement;
+import org.eclipse.milo.opcua.stack.core.types.structured.LiteralOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.SimpleAttributeOperand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * Evaluate a typical EventFilter against a {@link BaseEventTypeNode}: a where clause of {@code Severity >= 500}
+ * and a select clause of four common event fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EventContentFilterBenchmark {
+
+    private BenchmarkServer benchmarkServer;
+
+    private FilterContext filterContext;
+    private ContentFilter whereClause;
+    private SimpleAttributeOperand[] selectClauses;
+    private BaseEventTypeNode eventNode;
+
+    @Setup
+    public void setup() throws Exception {
+        benchmarkServer = new BenchmarkServer(0);
+        benchmarkServer.startup();
+
+        OpcUaServer server = benchmarkServer.getServer();
+        SerializationContext context = server.getSerializationContext();
+
+        filterContext = new FilterContext() {
+            @Override
+            public OpcUaServer getServer() {
+                return server;
+            }
+
+            @Override
+            public Optional<Session> getSession() {
+                return Optional.empty();
+            }
+        };
+
+        whereClause = new ContentFilter(new ContentFilterElement[]{
+            new ContentFilterElement(
+                FilterOperator.GreaterThanOrEqual,
+                new ExtensionObject[]{
+                    ExtensionObject.encode(context, eventField("Severity")),
+                    ExtensionObject.encode(context, new LiteralOperand(new Variant(ushort(500))))
+                }
+            )
+        });
+
+        selectClauses = new SimpleAttributeOperand[]{
+            eventField("EventId"),
+            eventField("Time"),
+            eventField("Message"),
+            eventField("Severity")
+        };
+
+        eventNode = server.getEventFactory().createEvent(
+            new NodeId(1, UUID.randomUUID()),
+            Identifiers.BaseEventType
+        );
+
+        eventNode.setBrowseName(new QualifiedName(1, "BenchmarkEvent"));
+        eventNode.setDisplayName(LocalizedText.english("BenchmarkEvent"));
+        eventNode.setEventId(ByteString.of(new byte[]{0, 1, 2, 3}));
+        eventNode.setEventType(Identifiers.BaseEventType);
+        eventNode.setSourceNode(Identifiers.Server);
+        eventNode.setSourceName("Server");
+        eventNode.setTime(DateTime.now());
+        eventNode.setReceiveTime(DateTime.NULL_VALUE);
+        eventNode.setMessage(LocalizedText.english("event message!"));
+        eventNode.setSeverity(ushort(600));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        eventNode.delete();
+        benchmarkServer.shutdown();
+    }
+
+    @Benchmark
+    public boolean evaluate() throws Exception {
+        return EventContentFilter.evaluate(filterContext, whereClause, eventNode);
+    }
+
+    @Benchmark
+    public Variant[] select() {
+        return EventContentFilter.select(filterContext, selectClauses, eventNode);
+    }
+
+    private static SimpleAttributeOperand eventField(String name) {
+        return new SimpleAttributeOperand(
+            Identifiers.BaseEventType,
+            new QualifiedName[]{new QualifiedName(0, name)},
+            AttributeId.Value.uid(),
+            null
+        );
+    }
+
+}
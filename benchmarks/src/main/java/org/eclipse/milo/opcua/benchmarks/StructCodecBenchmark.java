@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import org.eclipse.milo.opcua.binaryschema.CompiledBsdParser;
+import org.eclipse.milo.opcua.binaryschema.GenericBsdParser;
+import org.eclipse.milo.opcua.binaryschema.Struct;
+import org.eclipse.milo.opcua.binaryschema.parser.BsdParser;
+import org.eclipse.milo.opcua.binaryschema.parser.CodecDescription;
+import org.eclipse.milo.opcua.binaryschema.parser.DictionaryDescription;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.OpcUaBinaryDataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes and decodes a vendor-specific structure with the codecs created by {@link GenericBsdParser} and by
+ * {@link CompiledBsdParser}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StructCodecBenchmark {
+
+    private static final String TYPE_DICTIONARY =
+        "<opc:TypeDictionary DefaultByteOrder=\"LittleEndian\"" +
+            " TargetNamespace=\"urn:eclipse:milo:benchmarks\"" +
+            " xmlns:opc=\"http://opcfoundation.org/BinarySchema/\">" +
+            "<opc:StructuredType Name=\"Measurement\">" +
+            "<opc:Field Name=\"QualitySpecified\" TypeName=\"opc:Bit\"/>" +
+            "<opc:Field Name=\"Reserved1\" TypeName=\"opc:Bit\" Length=\"31\"/>" +
+            "<opc:Field Name=\"Id\" TypeName=\"opc:Int32\"/>" +
+            "<opc:Field Name=\"Name\" TypeName=\"opc:String\"/>" +
+            "<opc:Field Name=\"Value\" TypeName=\"opc:Double\"/>" +
+            "<opc:Field Name=\"Quality\" TypeName=\"opc:Int32\" SwitchField=\"QualitySpecified\"/>" +
+            "<opc:Field Name=\"SamplesLen\" TypeName=\"opc:Int32\"/>" +
+            "<opc:Field Name=\"Samples\" TypeName=\"opc:Double\" LengthField=\"SamplesLen\"/>" +
+            "</opc:StructuredType>" +
+            "</opc:TypeDictionary>";
+
+    @Param({"generic", "compiled"})
+    public String parser;
+
+    private final SerializationContext context = new BenchmarkSerializationContext();
+
+    private OpcUaBinaryDataTypeCodec<Object> codec;
+    private Object value;
+
+    private ByteBuf encodeBuffer;
+    private ByteBuf decodeBuffer;
+
+    private OpcUaBinaryStreamEncoder encoder;
+    private OpcUaBinaryStreamDecoder decoder;
+
+    @Setup
+    public void setup() throws Exception {
+        codec = createCodec("compiled".equals(parser) ? new CompiledBsdParser() : new GenericBsdParser());
+
+        encoder = new OpcUaBinaryStreamEncoder(context);
+        decoder = new OpcUaBinaryStreamDecoder(context);
+
+        encodeBuffer = BufferUtil.pooledBuffer();
+        decodeBuffer = BufferUtil.pooledBuffer();
+
+        Struct struct = Struct.builder("Measurement")
+            .addMember("QualitySpecified", 1)
+            .addMember("Reserved1", 0)
+            .addMember("Id", 42)
+            .addMember("Name", "Line1/Press3/Temperature")
+            .addMember("Value", 98.6)
+            .addMember("Quality", 192)
+            .addMember("Samples", new Double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0})
+            .build();
+
+        // decode a Struct encoding to get a value in whichever representation the codec uses
+        createCodec(new GenericBsdParser()).encode(context, encoder.setBuffer(decodeBuffer), struct);
+
+        value = codec.decode(context, decoder.setBuffer(decodeBuffer));
+    }
+
+    @TearDown
+    public void tearDown() {
+        encodeBuffer.release();
+        decodeBuffer.release();
+    }
+
+    @Benchmark
+    public int encode() {
+        encodeBuffer.clear();
+        codec.encode(context, encoder.setBuffer(encodeBuffer), value);
+
+        return encodeBuffer.writerIndex();
+    }
+
+    @Benchmark
+    public Object decode() {
+        decodeBuffer.readerIndex(0);
+
+        return codec.decode(context, decoder.setBuffer(decodeBuffer));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static OpcUaBinaryDataTypeCodec<Object> createCodec(BsdParser bsdParser) throws Exception {
+        DictionaryDescription dictionary = bsdParser.parse(
+            new ByteArrayInputStream(TYPE_DICTIONARY.getBytes(StandardCharsets.UTF_8))
+        );
+
+        CodecDescription codecDescription = dictionary.getStructCodecs().get(0);
+
+        return (OpcUaBinaryDataTypeCodec<Object>) codecDescription.getCodec();
+    }
+
+}
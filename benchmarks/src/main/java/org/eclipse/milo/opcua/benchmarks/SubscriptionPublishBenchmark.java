@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.sdk.client.subscriptions.ManagedDataItem;
+import org.eclipse.milo.opcua.sdk.client.subscriptions.ManagedSubscription;
+import org.eclipse.milo.opcua.sdk.server.api.DataItem;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Change the value of every monitored item on the server and wait until the client has received a notification
+ * for each of them.
+ * <p>
+ * This measures the whole publish path end to end: queueing values in the server's monitored items, gathering
+ * notifications into PublishResponses, encoding and transport over localhost, and delivery to the client's
+ * {@link ManagedSubscription.ChangeListener}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SubscriptionPublishBenchmark {
+
+    private static final double PUBLISHING_INTERVAL = 10.0;
+
+    private static final long TIMEOUT_SECONDS = 30L;
+
+    @Param({"100", "1000", "10000"})
+    public int itemCount;
+
+    private BenchmarkServer server;
+    private OpcUaClient client;
+    private ManagedSubscription subscription;
+
+    private volatile CountDownLatch latch;
+
+    private int generation;
+
+    @Setup
+    public void setup() throws Exception {
+        server = new BenchmarkServer(itemCount);
+        server.startup();
+
+        client = server.connectClient();
+
+        subscription = ManagedSubscription.create(client, PUBLISHING_INTERVAL);
+        subscription.setDefaultSamplingInterval(PUBLISHING_INTERVAL);
+
+        subscription.addChangeListener(new ManagedSubscription.ChangeListener() {
+            @Override
+            public void onDataReceived(List<ManagedDataItem> dataItems, List<DataValue> dataValues) {
+                CountDownLatch l = latch;
+                for (int i = 0; i < dataValues.size(); i++) {
+                    l.countDown();
+                }
+            }
+        });
+
+        subscription.createDataItems(server.getVariableNodeIds());
+
+        // the benchmark namespace doesn't sample its variables, so push an
+        // initial value through every item before measuring anything
+        publish();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        subscription.delete();
+        client.disconnect().get();
+        server.shutdown();
+    }
+
+    @Benchmark
+    public int publish() throws Exception {
+        Variant value = new Variant(++generation);
+
+        latch = new CountDownLatch(itemCount);
+
+        List<DataItem> dataItems = server.getDataItems();
+        for (DataItem dataItem : dataItems) {
+            dataItem.setValue(new DataValue(value));
+        }
+
+        await();
+
+        return dataItems.size();
+    }
+
+    private void await() throws Exception {
+        if (!latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new TimeoutException(
+                String.format("received %d of %d notifications", itemCount - latch.getCount(), itemCount)
+            );
+        }
+    }
+
+}
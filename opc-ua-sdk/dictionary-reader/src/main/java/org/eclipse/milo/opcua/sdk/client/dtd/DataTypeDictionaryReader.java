@@ -11,6 +11,9 @@
 package org.eclipse.milo.opcua.sdk.client.dtd;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -37,6 +40,8 @@ import io.netty.buffer.Unpooled;
 import org.eclipse.milo.opcua.binaryschema.parser.BsdParser;
 import org.eclipse.milo.opcua.binaryschema.parser.CodecDescription;
 import org.eclipse.milo.opcua.binaryschema.parser.DictionaryDescription;
+import org.eclipse.milo.opcua.sdk.client.BrowseHelper;
+import org.eclipse.milo.opcua.sdk.client.DataTypeCache;
 import org.eclipse.milo.opcua.sdk.client.OpcUaSession;
 import org.eclipse.milo.opcua.stack.client.UaStackClient;
 import org.eclipse.milo.opcua.stack.core.AttributeId;
@@ -69,6 +74,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
 import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
 import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
 import org.eclipse.milo.opcua.stack.core.util.Namespaces;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -83,6 +89,7 @@ public class DataTypeDictionaryReader {
 
     private static final int DEFAULT_FRAGMENT_SIZE = 8192;
     private static final int PARTITION_SIZE = 64;
+    private static final String CACHE_ENTRY_NAME = "DataTypeDictionaries";
     private static final QualifiedName QN_DEFAULT_BINARY =
         new QualifiedName(0, "Default Binary");
 
@@ -91,18 +98,78 @@ public class DataTypeDictionaryReader {
     private final UaStackClient stackClient;
     private final OpcUaSession session;
     private final BsdParser bsdParser;
+    private final DataTypeCache cache;
 
     public DataTypeDictionaryReader(
         UaStackClient stackClient,
         OpcUaSession session,
         BsdParser bsdParser) {
 
+        this(stackClient, session, bsdParser, null);
+    }
+
+    /**
+     * @param stackClient a connected {@link UaStackClient}.
+     * @param session     an active {@link OpcUaSession}.
+     * @param bsdParser   the {@link BsdParser} to parse dictionaries with.
+     * @param cache       a {@link DataTypeCache} to read dictionaries from, or store them in after reading them
+     *                    from the server. May be {@code null}, in which case dictionaries are always read from
+     *                    the server.
+     */
+    public DataTypeDictionaryReader(
+        UaStackClient stackClient,
+        OpcUaSession session,
+        BsdParser bsdParser,
+        @Nullable DataTypeCache cache) {
+
         this.stackClient = stackClient;
         this.session = session;
         this.bsdParser = bsdParser;
+        this.cache = cache;
     }
 
     public CompletableFuture<List<DataTypeDictionary<?>>> readDataTypeDictionaries() {
+        if (cache == null) {
+            return readDataTypeDictionaries(null);
+        }
+
+        CompletableFuture<String> keyFuture = cache.getKeyAsync(stackClient, session)
+            .exceptionally(ex -> {
+                logger.warn("Failed to compute DataTypeCache key; reading DataTypeDictionaries without cache", ex);
+                return null;
+            });
+
+        return keyFuture.thenCompose(key -> {
+            if (key == null) {
+                return readDataTypeDictionaries(null);
+            }
+
+            List<DataTypeDictionary<?>> cached = loadDataTypeDictionaries(key);
+
+            if (cached != null) {
+                logger.debug("Loaded {} DataTypeDictionaries from cache", cached.size());
+
+                return completedFuture(cached);
+            }
+
+            List<CachedDictionary> cachedDictionaries = Collections.synchronizedList(new ArrayList<>());
+
+            return readDataTypeDictionaries(cachedDictionaries).thenApply(dictionaries -> {
+                if (dictionaries.size() == cachedDictionaries.size()) {
+                    storeDataTypeDictionaries(key, cachedDictionaries);
+                } else {
+                    // don't cache an incomplete result; try again next session
+                    logger.debug("Not caching DataTypeDictionaries; some failed to read");
+                }
+
+                return dictionaries;
+            });
+        });
+    }
+
+    private CompletableFuture<List<DataTypeDictionary<?>>> readDataTypeDictionaries(
+        @Nullable List<CachedDictionary> cachedDictionaries) {
+
         CompletableFuture<List<ReferenceDescription>> browseFuture = browseNode(new BrowseDescription(
             Identifiers.OPCBinarySchema_TypeSystem,
             BrowseDirection.Forward,
@@ -122,7 +189,7 @@ public class DataTypeDictionaryReader {
         return dictionaryNodeIds
             .thenApply(nodeIds ->
                 nodeIds
-                    .map(this::readDataTypeDictionary)
+                    .map(nodeId -> readDataTypeDictionary(nodeId, cachedDictionaries))
                     .collect(Collectors.toList()))
             .thenCompose(FutureUtils::sequence)
             .thenApply(list ->
@@ -131,11 +198,14 @@ public class DataTypeDictionaryReader {
                     .collect(Collectors.toList()));
     }
 
-    private CompletableFuture<DataTypeDictionary<?>> readDataTypeDictionary(NodeId nodeId) {
+    private CompletableFuture<DataTypeDictionary<?>> readDataTypeDictionary(
+        NodeId nodeId,
+        @Nullable List<CachedDictionary> cachedDictionaries) {
+
         logger.debug("Reading DataTypeDictionary nodeId={}", nodeId);
 
         return readDataTypeDictionaryBytes(nodeId, DEFAULT_FRAGMENT_SIZE)
-            .thenCompose(bs -> createDataTypeDictionary(nodeId, bs))
+            .thenCompose(bs -> createDataTypeDictionary(nodeId, bs, cachedDictionaries))
             .exceptionally(ex -> {
                 logger.warn("Failed to create DataTypeDictionary nodeId={}", nodeId, ex);
                 return null;
@@ -263,7 +333,11 @@ public class DataTypeDictionaryReader {
         }, stackClient.getConfig().getExecutor());
     }
 
-    private CompletableFuture<DataTypeDictionary<?>> createDataTypeDictionary(NodeId dictionaryNodeId, ByteString bs) {
+    private CompletableFuture<DataTypeDictionary<?>> createDataTypeDictionary(
+        NodeId dictionaryNodeId,
+        ByteString bs,
+        @Nullable List<CachedDictionary> cachedDictionaries) {
+
         ByteArrayInputStream is = new ByteArrayInputStream(bs.bytesOrEmpty());
 
         try {
@@ -280,9 +354,15 @@ public class DataTypeDictionaryReader {
             logger.debug("structCodecs.size()={}", structCodecs.size());
 
             if (Namespaces.OPC_UA.equals(namespaceUri)) {
+                if (cachedDictionaries != null) {
+                    cachedDictionaries.add(
+                        new CachedDictionary(dictionaryNodeId, bs, new HashMap<>(), new HashMap<>())
+                    );
+                }
+
                 return registerBuiltinStructCodecs(dictionary, structCodecs);
             } else {
-                return registerCustomStructCodecs(dictionaryNodeId, dictionary, structCodecs);
+                return registerCustomStructCodecs(dictionaryNodeId, bs, dictionary, structCodecs, cachedDictionaries);
             }
         } catch (JAXBException e) {
             return failedFuture(e);
@@ -317,8 +397,10 @@ public class DataTypeDictionaryReader {
 
     private CompletableFuture<DataTypeDictionary<?>> registerCustomStructCodecs(
         NodeId dictionaryNodeId,
+        ByteString dictionaryBytes,
         OpcUaBinaryDataTypeDictionary dictionary,
-        List<CodecDescription> structCodecs
+        List<CodecDescription> structCodecs,
+        @Nullable List<CachedDictionary> cachedDictionaries
     ) {
 
         CompletableFuture<List<NodeId>> descriptionNodeIds =
@@ -380,37 +462,16 @@ public class DataTypeDictionaryReader {
                             dataTypeIdMap.put(description, dataTypeIdIter.next());
                         }
 
-                        structCodecs.forEach(cd -> {
-                            String description = cd.getDescription();
-                            NodeId encodingId = encodingIdMap.get(description);
-                            NodeId dataTypeId = dataTypeIdMap.get(description);
-
-                            if (encodingId == null || encodingId.isNull()) {
-                                if (dataTypeId != null && dataTypeId.getNamespaceIndex().intValue() != 0) {
-                                    logger.warn("encodingId is null for description={}", description);
-                                } else {
-                                    // Theres a number of missing structures in the built-in type dictionary;
-                                    // namely the service request and response structures. It's expected that
-                                    // we won't be able to create codecs for these.
-                                    logger.debug(
-                                        "dataTypeId and encodingId is null for description={}", description);
-                                }
-                            } else if (dataTypeId == null || dataTypeId.isNull()) {
-                                logger.warn("dataTypeId is null for description={}", description);
-                            } else {
-                                dictionary.registerStructCodec(
-                                    cd.getCodec(),
-                                    description,
-                                    dataTypeId,
-                                    encodingId
-                                );
-
-                                logger.debug(
-                                    "Registered codec description={} dataTypeId={} encodingId={}",
-                                    description, dataTypeId, encodingId
-                                );
-                            }
-                        });
+                        registerStructCodecs(dictionary, structCodecs, encodingIdMap, dataTypeIdMap);
+
+                        if (cachedDictionaries != null) {
+                            cachedDictionaries.add(new CachedDictionary(
+                                dictionaryNodeId,
+                                dictionaryBytes,
+                                encodingIdMap,
+                                dataTypeIdMap
+                            ));
+                        }
 
                         return dictionary;
                     }
@@ -419,6 +480,46 @@ public class DataTypeDictionaryReader {
         );
     }
 
+    private void registerStructCodecs(
+        OpcUaBinaryDataTypeDictionary dictionary,
+        List<CodecDescription> structCodecs,
+        Map<String, NodeId> encodingIdMap,
+        Map<String, NodeId> dataTypeIdMap
+    ) {
+
+        structCodecs.forEach(cd -> {
+            String description = cd.getDescription();
+            NodeId encodingId = encodingIdMap.get(description);
+            NodeId dataTypeId = dataTypeIdMap.get(description);
+
+            if (encodingId == null || encodingId.isNull()) {
+                if (dataTypeId != null && dataTypeId.getNamespaceIndex().intValue() != 0) {
+                    logger.warn("encodingId is null for description={}", description);
+                } else {
+                    // Theres a number of missing structures in the built-in type dictionary;
+                    // namely the service request and response structures. It's expected that
+                    // we won't be able to create codecs for these.
+                    logger.debug(
+                        "dataTypeId and encodingId is null for description={}", description);
+                }
+            } else if (dataTypeId == null || dataTypeId.isNull()) {
+                logger.warn("dataTypeId is null for description={}", description);
+            } else {
+                dictionary.registerStructCodec(
+                    cd.getCodec(),
+                    description,
+                    dataTypeId,
+                    encodingId
+                );
+
+                logger.debug(
+                    "Registered codec description={} dataTypeId={} encodingId={}",
+                    description, dataTypeId, encodingId
+                );
+            }
+        });
+    }
+
     private CompletableFuture<List<NodeId>> browseDataTypeDescriptionNodeIds(NodeId dictionaryNodeId) {
         CompletableFuture<List<ReferenceDescription>> browseResult = browseNode(
             new BrowseDescription(
@@ -440,18 +541,8 @@ public class DataTypeDictionaryReader {
     }
 
     private CompletableFuture<List<String>> readDataTypeDescriptionValues(List<NodeId> nodeIds) {
-        CompletableFuture<UInteger> maxNodesPerRead = readNode(
-            new ReadValueId(
-                Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerRead,
-                AttributeId.Value.uid(),
-                null,
-                QualifiedName.NULL_VALUE
-            )
-        ).thenApply(dv -> (UInteger) dv.getValue().getValue());
-
-        CompletableFuture<Integer> getPartitionSize = maxNodesPerRead
-            .thenApply(m -> Math.max(1, Ints.saturatedCast(m.longValue())))
-            .exceptionally(ex -> PARTITION_SIZE);
+        CompletableFuture<Integer> getPartitionSize =
+            readOperationLimit(Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerRead);
 
         return getPartitionSize.thenCompose(partitionSize -> {
             List<List<NodeId>> partitions = Lists.partition(nodeIds, partitionSize);
@@ -481,17 +572,19 @@ public class DataTypeDictionaryReader {
     }
 
     private CompletableFuture<List<NodeId>> browseDataTypeEncodingNodeIds(List<NodeId> descriptionNodeIds) {
-        Stream<CompletableFuture<NodeId>> futures = descriptionNodeIds.stream().map(nodeId -> {
-            CompletableFuture<List<ReferenceDescription>> browse = browseNode(new BrowseDescription(
+        List<BrowseDescription> browseDescriptions = descriptionNodeIds.stream()
+            .map(nodeId -> new BrowseDescription(
                 nodeId,
                 BrowseDirection.Inverse,
                 Identifiers.HasDescription,
                 false,
                 uint(NodeClass.Object.getValue()),
                 uint(BrowseResultMask.All.getValue())
-            ));
+            ))
+            .collect(Collectors.toList());
 
-            return browse.thenApply(references -> {
+        return browseNodes(browseDescriptions).thenApply(results ->
+            results.stream().map(references -> {
                 Optional<ReferenceDescription> ref = references.stream()
                     .filter(r -> QN_DEFAULT_BINARY.equals(r.getBrowseName()) &&
                         Identifiers.DataTypeEncodingType.equalTo(r.getTypeDefinition()))
@@ -502,24 +595,24 @@ public class DataTypeDictionaryReader {
                         .toNodeId(stackClient.getNamespaceTable())
                         .orElse(NodeId.NULL_VALUE)
                 ).orElse(NodeId.NULL_VALUE);
-            });
-        });
-
-        return FutureUtils.sequence(futures);
+            }).collect(Collectors.toList())
+        );
     }
 
     private CompletableFuture<List<NodeId>> browseDataTypeIds(List<NodeId> dataTypeEncodingIds) {
-        Stream<CompletableFuture<NodeId>> futures = dataTypeEncodingIds.stream().map(nodeId -> {
-            CompletableFuture<List<ReferenceDescription>> browse = browseNode(new BrowseDescription(
+        List<BrowseDescription> browseDescriptions = dataTypeEncodingIds.stream()
+            .map(nodeId -> new BrowseDescription(
                 nodeId,
                 BrowseDirection.Inverse,
                 Identifiers.HasEncoding,
                 false,
                 uint(NodeClass.DataType.getValue()),
                 uint(BrowseResultMask.All.getValue())
-            ));
+            ))
+            .collect(Collectors.toList());
 
-            return browse.thenApply(references -> {
+        return browseNodes(browseDescriptions).thenApply(results ->
+            results.stream().map(references -> {
                 Optional<ReferenceDescription> ref = references.stream().findFirst();
 
                 return ref.map(r ->
@@ -527,10 +620,112 @@ public class DataTypeDictionaryReader {
                         .toNodeId(stackClient.getNamespaceTable())
                         .orElse(NodeId.NULL_VALUE)
                 ).orElse(NodeId.NULL_VALUE);
-            });
-        });
+            }).collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Browse {@code browseDescriptions} in as few requests as the server's MaxNodesPerBrowse operation limit allows.
+     *
+     * @param browseDescriptions the {@link BrowseDescription}s to browse.
+     * @return the List of {@link ReferenceDescription}s for each of {@code browseDescriptions}, in the same order.
+     */
+    private CompletableFuture<List<List<ReferenceDescription>>> browseNodes(
+        List<BrowseDescription> browseDescriptions) {
+
+        if (browseDescriptions.isEmpty()) {
+            return completedFuture(Collections.emptyList());
+        }
+
+        return readOperationLimit(Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerBrowse)
+            .thenCompose(partitionSize ->
+                BrowseHelper.browse(stackClient, session, browseDescriptions, uint(0), partitionSize)
+            );
+    }
+
+    /**
+     * Read the operation limit identified by {@code limitNodeId}, completing with {@link #PARTITION_SIZE} if it
+     * can't be read and with {@link Integer#MAX_VALUE} if the server reports no limit.
+     *
+     * @param limitNodeId the {@link NodeId} of a Property in {@code ServerCapabilities/OperationLimits}.
+     * @return the number of operations to send per request.
+     */
+    private CompletableFuture<Integer> readOperationLimit(NodeId limitNodeId) {
+        CompletableFuture<UInteger> limit = readNode(
+            new ReadValueId(
+                limitNodeId,
+                AttributeId.Value.uid(),
+                null,
+                QualifiedName.NULL_VALUE
+            )
+        ).thenApply(dv -> (UInteger) dv.getValue().getValue());
 
-        return FutureUtils.sequence(futures);
+        return limit
+            .thenApply(m -> m.longValue() == 0 ? Integer.MAX_VALUE : Ints.saturatedCast(m.longValue()))
+            .exceptionally(ex -> PARTITION_SIZE);
+    }
+
+    @Nullable
+    private List<DataTypeDictionary<?>> loadDataTypeDictionaries(String key) {
+        assert cache != null;
+
+        byte[] bs = cache.load(key, CACHE_ENTRY_NAME);
+
+        if (bs == null) return null;
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bs))) {
+            List<DataTypeDictionary<?>> dictionaries = new ArrayList<>();
+
+            int dictionaryCount = in.readInt();
+            for (int i = 0; i < dictionaryCount; i++) {
+                CachedDictionary cachedDictionary = CachedDictionary.read(in);
+
+                DictionaryDescription dictionaryDescription =
+                    bsdParser.parse(new ByteArrayInputStream(cachedDictionary.bytes.bytesOrEmpty()));
+
+                String namespaceUri = dictionaryDescription.getNamespaceUri();
+                OpcUaBinaryDataTypeDictionary dictionary = new OpcUaBinaryDataTypeDictionary(namespaceUri);
+
+                dictionaryDescription.getEnumCodecs()
+                    .forEach(cd -> dictionary.registerEnumCodec(cd.getCodec(), cd.getDescription()));
+
+                if (Namespaces.OPC_UA.equals(namespaceUri)) {
+                    registerBuiltinStructCodecs(dictionary, dictionaryDescription.getStructCodecs());
+                } else {
+                    registerStructCodecs(
+                        dictionary,
+                        dictionaryDescription.getStructCodecs(),
+                        cachedDictionary.encodingIds,
+                        cachedDictionary.dataTypeIds
+                    );
+                }
+
+                dictionaries.add(dictionary);
+            }
+
+            return dictionaries;
+        } catch (Exception e) {
+            logger.warn("Failed to read cached DataTypeDictionaries key={}", key, e);
+            return null;
+        }
+    }
+
+    private void storeDataTypeDictionaries(String key, List<CachedDictionary> cachedDictionaries) {
+        assert cache != null;
+
+        ByteArrayOutputStream bs = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bs)) {
+            out.writeInt(cachedDictionaries.size());
+            for (CachedDictionary cachedDictionary : cachedDictionaries) {
+                cachedDictionary.write(out);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to write DataTypeDictionaries key={}", key, e);
+            return;
+        }
+
+        cache.store(key, CACHE_ENTRY_NAME, bs.toByteArray());
     }
 
     private CompletableFuture<List<ReferenceDescription>> browseNode(BrowseDescription browseDescription) {
@@ -627,4 +822,71 @@ public class DataTypeDictionaryReader {
             .thenApply(r -> l(r.getResults()));
     }
 
+    /**
+     * What's needed to re-create a {@link DataTypeDictionary} without reading anything from the server: the
+     * dictionary's XML and, for dictionaries other than the built-in one, the DataType and encoding NodeIds of each
+     * structure it describes.
+     */
+    private static final class CachedDictionary {
+
+        final NodeId nodeId;
+        final ByteString bytes;
+        final Map<String, NodeId> encodingIds;
+        final Map<String, NodeId> dataTypeIds;
+
+        CachedDictionary(
+            NodeId nodeId,
+            ByteString bytes,
+            Map<String, NodeId> encodingIds,
+            Map<String, NodeId> dataTypeIds
+        ) {
+
+            this.nodeId = nodeId;
+            this.bytes = bytes;
+            this.encodingIds = encodingIds;
+            this.dataTypeIds = dataTypeIds;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeUTF(nodeId.toParseableString());
+
+            byte[] bs = bytes.bytesOrEmpty();
+            out.writeInt(bs.length);
+            out.write(bs);
+
+            writeNodeIds(out, encodingIds);
+            writeNodeIds(out, dataTypeIds);
+        }
+
+        static CachedDictionary read(DataInputStream in) throws IOException {
+            NodeId nodeId = NodeId.parse(in.readUTF());
+
+            byte[] bs = new byte[in.readInt()];
+            in.readFully(bs);
+
+            Map<String, NodeId> encodingIds = readNodeIds(in);
+            Map<String, NodeId> dataTypeIds = readNodeIds(in);
+
+            return new CachedDictionary(nodeId, ByteString.of(bs), encodingIds, dataTypeIds);
+        }
+
+        private static void writeNodeIds(DataOutputStream out, Map<String, NodeId> nodeIds) throws IOException {
+            out.writeInt(nodeIds.size());
+            for (Map.Entry<String, NodeId> entry : nodeIds.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeUTF(entry.getValue().toParseableString());
+            }
+        }
+
+        private static Map<String, NodeId> readNodeIds(DataInputStream in) throws IOException {
+            Map<String, NodeId> nodeIds = new HashMap<>();
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                nodeIds.put(in.readUTF(), NodeId.parse(in.readUTF()));
+            }
+            return nodeIds;
+        }
+
+    }
+
 }
@@ -13,10 +13,12 @@ package org.eclipse.milo.opcua.sdk.client.dtd;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.milo.opcua.binaryschema.parser.BsdParser;
+import org.eclipse.milo.opcua.sdk.client.DataTypeCache;
 import org.eclipse.milo.opcua.sdk.client.OpcUaSession;
 import org.eclipse.milo.opcua.sdk.client.session.SessionFsm;
 import org.eclipse.milo.opcua.stack.client.UaStackClient;
 import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,9 +27,20 @@ public class DataTypeDictionarySessionInitializer implements SessionFsm.SessionI
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final BsdParser bsdParser;
+    private final DataTypeCache cache;
 
     public DataTypeDictionarySessionInitializer(BsdParser bsdParser) {
+        this(bsdParser, null);
+    }
+
+    /**
+     * @param bsdParser the {@link BsdParser} to parse dictionaries with.
+     * @param cache     a {@link DataTypeCache} to read dictionaries from, or store them in after reading them from
+     *                  the server. May be {@code null}, in which case dictionaries are always read from the server.
+     */
+    public DataTypeDictionarySessionInitializer(BsdParser bsdParser, @Nullable DataTypeCache cache) {
         this.bsdParser = bsdParser;
+        this.cache = cache;
     }
 
     @Override
@@ -37,7 +50,8 @@ public class DataTypeDictionarySessionInitializer implements SessionFsm.SessionI
         DataTypeDictionaryReader reader = new DataTypeDictionaryReader(
             client,
             session,
-            bsdParser
+            bsdParser,
+            cache
         );
 
         return reader.readDataTypeDictionaries()
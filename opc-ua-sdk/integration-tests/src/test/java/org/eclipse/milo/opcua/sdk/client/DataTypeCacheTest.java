@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.milo.opcua.binaryschema.GenericBsdParser;
+import org.eclipse.milo.opcua.sdk.client.dtd.DataTypeDictionaryReader;
+import org.eclipse.milo.opcua.sdk.core.DataTypeTree;
+import org.eclipse.milo.opcua.sdk.test.AbstractClientServerTest;
+import org.eclipse.milo.opcua.stack.core.types.DataTypeDictionary;
+import org.eclipse.milo.opcua.stack.core.types.OpcUaBinaryDataTypeDictionary;
+import org.eclipse.milo.opcua.stack.core.util.Tree;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DataTypeCacheTest extends AbstractClientServerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void keyIsStableForSession() throws Exception {
+        DataTypeCache cache = new DataTypeCache(directory);
+        OpcUaSession session = client.getSession().get();
+
+        String key1 = cache.getKeyAsync(client.getStackClient(), session).get();
+        String key2 = new DataTypeCache(directory).getKeyAsync(client.getStackClient(), session).get();
+
+        assertEquals(key1, key2);
+        assertEquals(64, key1.length());
+    }
+
+    @Test
+    public void dataTypeTreeIsCached() throws Exception {
+        DataTypeCache cache = new DataTypeCache(directory);
+        OpcUaSession session = client.getSession().get();
+        String key = cache.getKeyAsync(client.getStackClient(), session).get();
+
+        assertNull(cache.loadDataTypeTree(key));
+
+        DataTypeTree built = DataTypeTreeBuilder.buildAsync(client, cache).get();
+        assertTrue(Files.exists(directory.resolve(key)));
+
+        DataTypeTree cached = cache.loadDataTypeTree(key);
+        assertNotNull(cached);
+        assertEquals(flatten(built), flatten(cached));
+
+        // the uncached builder must produce the same tree
+        assertEquals(flatten(DataTypeTreeBuilder.buildAsync(client).get()), flatten(cached));
+
+        // and now the cached tree is returned instead of building a new one
+        assertEquals(flatten(cached), flatten(DataTypeTreeBuilder.buildAsync(client, cache).get()));
+    }
+
+    @Test
+    public void staleDataTypeTreeIsRebuilt() throws Exception {
+        DataTypeCache cache = new DataTypeCache(directory);
+        OpcUaSession session = client.getSession().get();
+        String key = cache.getKeyAsync(client.getStackClient(), session).get();
+
+        DataTypeTree built = DataTypeTreeBuilder.buildAsync(client).get();
+        assertTrue(cache.validateAsync(client.getStackClient(), session, built).get());
+
+        // a tree missing every subtype of BaseDataType, as if they were added after it was cached
+        DataTypeTree stale = new DataTypeTree(new Tree<>(null, built.getTree().getValue()));
+        assertFalse(cache.validateAsync(client.getStackClient(), session, stale).get());
+
+        cache.storeDataTypeTree(key, stale);
+
+        assertEquals(flatten(built), flatten(DataTypeTreeBuilder.buildAsync(client, cache).get()));
+        assertEquals(flatten(built), flatten(cache.loadDataTypeTree(key)));
+    }
+
+    @Test
+    public void dataTypeDictionariesAreCached() throws Exception {
+        DataTypeCache cache = new DataTypeCache(directory);
+        OpcUaSession session = client.getSession().get();
+
+        List<DataTypeDictionary<?>> read = new DataTypeDictionaryReader(
+            client.getStackClient(),
+            session,
+            new GenericBsdParser(),
+            cache
+        ).readDataTypeDictionaries().get();
+
+        String key = cache.getKeyAsync(client.getStackClient(), session).get();
+        assertNotNull(cache.load(key, "DataTypeDictionaries"));
+
+        List<DataTypeDictionary<?>> cached = new DataTypeDictionaryReader(
+            client.getStackClient(),
+            session,
+            new GenericBsdParser(),
+            cache
+        ).readDataTypeDictionaries().get();
+
+        assertFalse(read.isEmpty());
+        assertEquals(read.size(), cached.size());
+
+        for (int i = 0; i < read.size(); i++) {
+            OpcUaBinaryDataTypeDictionary expected = (OpcUaBinaryDataTypeDictionary) read.get(i);
+            OpcUaBinaryDataTypeDictionary actual = (OpcUaBinaryDataTypeDictionary) cached.get(i);
+
+            assertEquals(expected.getNamespaceUri(), actual.getNamespaceUri());
+            assertEquals(expected.getCodecsByDescription().keySet(), actual.getCodecsByDescription().keySet());
+            assertEquals(expected.getCodecsByEncodingId().keySet(), actual.getCodecsByEncodingId().keySet());
+            assertEquals(expected.getCodecsByDataTypeId().keySet(), actual.getCodecsByDataTypeId().keySet());
+        }
+    }
+
+    private static List<String> flatten(DataTypeTree dataTypeTree) {
+        List<String> dataTypes = new ArrayList<>();
+
+        dataTypeTree.getTree().traverseWithParent((dataType, parent) ->
+            dataTypes.add(parent != null ? parent.getNodeId() + " > " + dataType : String.valueOf(dataType)));
+
+        return dataTypes;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.milo.opcua.sdk.test.AbstractClientServerTest;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.RegisterNodesResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OperationLimitsTest extends AbstractClientServerTest {
+
+    @Test
+    public void operationLimitsAreCachedOnSession() throws Exception {
+        OperationLimits limits = client.getOperationLimits().get();
+
+        assertEquals(
+            server.getConfig().getLimits().getMaxNodesPerRead(),
+            limits.getMaxNodesPerRead()
+        );
+        assertEquals(
+            server.getConfig().getLimits().getMaxNodesPerRegisterNodes(),
+            limits.getMaxNodesPerRegisterNodes()
+        );
+
+        assertSame(limits, client.getOperationLimits().get());
+        assertNotNull(client.getSession().get().getAttribute(OperationLimits.SESSION_ATTRIBUTE_KEY));
+    }
+
+    @Test
+    public void readIsSplitByMaxNodesPerRead() throws Exception {
+        int maxNodesPerRead = client.getOperationLimits().get().getMaxNodesPerRead().intValue();
+        assertTrue(maxNodesPerRead > 0);
+
+        int count = maxNodesPerRead * 2 + 1;
+
+        List<ReadValueId> readValueIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // alternate between an Int32 and a Byte value so the order of the results can be checked
+            NodeId nodeId = i % 2 == 0 ?
+                Identifiers.Server_ServerStatus_State :
+                Identifiers.Server_ServiceLevel;
+
+            readValueIds.add(new ReadValueId(nodeId, AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE));
+        }
+
+        ReadResponse response = client.read(0.0, TimestampsToReturn.Neither, readValueIds).get();
+
+        DataValue[] results = response.getResults();
+        assertNotNull(results);
+        assertEquals(count, results.length);
+
+        for (int i = 0; i < count; i++) {
+            assertTrue(results[i].getStatusCode().isGood());
+
+            if (i % 2 == 0) {
+                assertTrue(results[i].getValue().getValue() instanceof Integer);
+            } else {
+                assertTrue(results[i].getValue().getValue() instanceof UByte);
+            }
+        }
+    }
+
+    @Test
+    public void registerNodesIsSplitByMaxNodesPerRegisterNodes() throws Exception {
+        int maxNodesPerRegisterNodes = client.getOperationLimits().get().getMaxNodesPerRegisterNodes().intValue();
+        assertTrue(maxNodesPerRegisterNodes > 0);
+
+        List<NodeId> nodeIds = new ArrayList<>();
+        for (int i = 0; i < maxNodesPerRegisterNodes * 3; i++) {
+            nodeIds.add(new NodeId(2, uint(i)));
+        }
+
+        RegisterNodesResponse response = client.registerNodes(nodeIds).get();
+
+        assertArrayEquals(nodeIds.toArray(), response.getRegisteredNodeIds());
+    }
+
+}
@@ -16,10 +16,14 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.milo.opcua.sdk.client.subscriptions.ManagedSubscription.ChangeListener;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.variables.AnalogItemTypeNode;
 import org.eclipse.milo.opcua.stack.core.AttributeId;
 import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
@@ -30,6 +34,7 @@ import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilter;
 import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeFilter;
 import org.eclipse.milo.opcua.stack.core.types.structured.EventFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.Range;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
 import org.eclipse.milo.opcua.stack.core.types.structured.SimpleAttributeOperand;
 import org.junit.jupiter.api.Test;
@@ -209,6 +214,47 @@ public class ManagedSubscriptionTest extends AbstractSubscriptionTest {
         assertEquals(subscription.getDefaultDataFilter(), dataItem2.getMonitoredItem().getMonitoringFilter());
     }
 
+    @Test
+    public void percentDeadbandFilter() throws UaException {
+        ExtensionObject defaultDataFilter = subscription.getDefaultDataFilter();
+
+        subscription.setDefaultDataFilter(
+            new DataChangeFilter(
+                DataChangeTrigger.StatusValue,
+                uint(DeadbandType.Percent.getValue()),
+                10.0
+            )
+        );
+
+        AnalogItemTypeNode analogNode = (AnalogItemTypeNode) server.getAddressSpaceManager()
+            .getManagedNode(NodeId.parse("ns=2;s=TestAnalogValue"))
+            .orElseThrow(AssertionError::new);
+
+        try {
+            // TestAnalogValue has an EURange, TestInt32 does not
+            ManagedDataItem analogItem = subscription.createDataItem(NodeId.parse("ns=2;s=TestAnalogValue"));
+            assertTrue(analogItem.getStatusCode().isGood());
+
+            ManagedDataItem int32Item = subscription.createDataItem(NodeId.parse("ns=2;s=TestInt32"));
+            assertEquals(StatusCodes.Bad_FilterNotAllowed, int32Item.getStatusCode().getValue());
+
+            subscription.deleteDataItem(analogItem);
+
+            // an EURange without a High value can't be used to compute the deadband
+            analogNode.setEURange(new Range(0.0, null));
+
+            ManagedDataItem incompleteItem = subscription.createDataItem(analogNode.getNodeId());
+            assertEquals(StatusCodes.Bad_FilterNotAllowed, incompleteItem.getStatusCode().getValue());
+        } finally {
+            analogNode.setEURange(new Range(0.0, 100.0));
+
+            subscription.setDefaultDataFilter(
+                defaultDataFilter != null ?
+                    (DataChangeFilter) defaultDataFilter.decode(client.getStaticSerializationContext()) : null
+            );
+        }
+    }
+
     @Test
     public void defaultTimestamp() throws UaException {
         ManagedDataItem dataItem1 = subscription.createDataItem(
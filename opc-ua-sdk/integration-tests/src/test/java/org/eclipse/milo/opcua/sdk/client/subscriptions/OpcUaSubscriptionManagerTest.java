@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client.subscriptions;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaMonitoredItem;
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscription;
+import org.eclipse.milo.opcua.sdk.test.AbstractClientServerTest;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OpcUaSubscriptionManagerTest extends AbstractClientServerTest {
+
+    @Test
+    public void slowSubscriptionDoesNotDelayOthers() throws Exception {
+        ManagedSubscription slowSubscription = ManagedSubscription.create(client, 50.0);
+        ManagedSubscription fastSubscription = ManagedSubscription.create(client, 50.0);
+
+        CountDownLatch slowEntered = new CountDownLatch(1);
+        CountDownLatch slowReleased = new CountDownLatch(1);
+        CountDownLatch fastReceived = new CountDownLatch(5);
+
+        try {
+            slowSubscription.getSubscription().addNotificationListener(new UaSubscription.NotificationListener() {
+                @Override
+                public void onDataChangeNotification(
+                    UaSubscription subscription,
+                    List<UaMonitoredItem> monitoredItems,
+                    List<DataValue> dataValues,
+                    DateTime publishTime
+                ) {
+
+                    slowEntered.countDown();
+
+                    try {
+                        slowReleased.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+
+            fastSubscription.getSubscription().addNotificationListener(new UaSubscription.NotificationListener() {
+                @Override
+                public void onDataChangeNotification(
+                    UaSubscription subscription,
+                    List<UaMonitoredItem> monitoredItems,
+                    List<DataValue> dataValues,
+                    DateTime publishTime
+                ) {
+
+                    fastReceived.countDown();
+                }
+            });
+
+            slowSubscription.setDefaultSamplingInterval(50.0);
+            slowSubscription.createDataItem(Identifiers.Server_ServerStatus_CurrentTime);
+            assertTrue(slowEntered.await(5, TimeUnit.SECONDS));
+
+            // the slow subscription's listener is now blocked; the fast one should still be delivered to
+            fastSubscription.setDefaultSamplingInterval(50.0);
+            fastSubscription.createDataItem(Identifiers.Server_ServerStatus_CurrentTime);
+            assertTrue(fastReceived.await(5, TimeUnit.SECONDS));
+
+            assertTrue(slowSubscription.getSubscription().getDeliveryBacklog() > 0);
+        } finally {
+            slowReleased.countDown();
+
+            slowSubscription.delete();
+            fastSubscription.delete();
+        }
+
+        assertEquals(0, fastSubscription.getSubscription().getDeliveryBacklog());
+    }
+
+}
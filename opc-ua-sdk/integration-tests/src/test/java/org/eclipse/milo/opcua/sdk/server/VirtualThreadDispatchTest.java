@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.sdk.core.AccessLevel;
+import org.eclipse.milo.opcua.sdk.core.nodes.VariableNode;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfigBuilder;
+import org.eclipse.milo.opcua.sdk.server.nodes.AttributeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.delegates.AttributeDelegate;
+import org.eclipse.milo.opcua.sdk.test.TestClient;
+import org.eclipse.milo.opcua.sdk.test.TestNamespace;
+import org.eclipse.milo.opcua.sdk.test.TestServer;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.util.VirtualThreads;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the throughput of reads served by an {@link AttributeDelegate} that blocks, as one doing device I/O would,
+ * when service requests are dispatched on a bounded pool of platform threads and when they're dispatched on virtual
+ * threads.
+ */
+public class VirtualThreadDispatchTest {
+
+    private static final int POOL_SIZE = 4;
+    private static final int CONCURRENT_READS = 32;
+    private static final long BLOCKING_MILLIS = 100;
+
+    private static final NodeId BLOCKING_NODE_ID = new NodeId(2, "BlockingValue");
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Test
+    void blockingReadThroughput() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(POOL_SIZE);
+
+        try {
+            long platformNanos = timeBlockingReads(configBuilder -> configBuilder.setExecutor(pool));
+            long virtualNanos = timeBlockingReads(configBuilder -> configBuilder.setVirtualThreadsEnabled(true));
+
+            logger.info(
+                "{} blocking reads: {} reads/s on {} platform threads, {} reads/s with virtual threads " +
+                    "(supported={})",
+                CONCURRENT_READS,
+                readsPerSecond(platformNanos),
+                POOL_SIZE,
+                readsPerSecond(virtualNanos),
+                VirtualThreads.isSupported()
+            );
+
+            // The bounded pool can only have POOL_SIZE reads blocked at a time.
+            assertTrue(platformNanos >= TimeUnit.MILLISECONDS.toNanos(BLOCKING_MILLIS * CONCURRENT_READS / POOL_SIZE));
+
+            if (VirtualThreads.isSupported()) {
+                assertTrue(virtualNanos < platformNanos);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private long timeBlockingReads(Consumer<OpcUaServerConfigBuilder> configure) throws Exception {
+        OpcUaServer server = TestServer.create(configure);
+
+        TestNamespace testNamespace = new TestNamespace(server);
+        testNamespace.startup();
+        testNamespace.configureNode((context, nodeManager) -> {
+            UaVariableNode node = UaVariableNode.build(
+                context,
+                b -> {
+                    b.setNodeId(BLOCKING_NODE_ID);
+                    b.setBrowseName(new QualifiedName(2, "BlockingValue"));
+                    b.setDisplayName(LocalizedText.english("BlockingValue"));
+                    b.setDataType(Identifiers.Int32);
+                    b.setAccessLevel(AccessLevel.READ_ONLY);
+                    b.setUserAccessLevel(AccessLevel.READ_ONLY);
+                    return b.buildAndAdd();
+                }
+            );
+
+            node.setAttributeDelegate(new AttributeDelegate() {
+                @Override
+                public DataValue getValue(AttributeContext context, VariableNode node) {
+                    try {
+                        Thread.sleep(BLOCKING_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new DataValue(new Variant(42));
+                }
+            });
+        });
+
+        server.startup().get();
+
+        OpcUaClient client = TestClient.create(server);
+        client.connect().get();
+
+        try {
+            long start = System.nanoTime();
+
+            List<CompletableFuture<DataValue>> reads = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_READS; i++) {
+                reads.add(client.readValue(0.0, TimestampsToReturn.Neither, BLOCKING_NODE_ID));
+            }
+
+            for (CompletableFuture<DataValue> read : reads) {
+                assertEquals(42, read.get(10, TimeUnit.SECONDS).getValue().getValue());
+            }
+
+            return System.nanoTime() - start;
+        } finally {
+            client.disconnect().get();
+
+            testNamespace.shutdown();
+            server.shutdown().get();
+        }
+    }
+
+    private static long readsPerSecond(long nanos) {
+        return CONCURRENT_READS * TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+}
@@ -21,10 +21,12 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfigBuilder;
 import org.eclipse.milo.opcua.sdk.server.identity.UsernameIdentityValidator;
 import org.eclipse.milo.opcua.sdk.server.util.HostnameUtil;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
@@ -62,6 +64,10 @@ public final class TestServer {
     private TestServer() {}
 
     public static OpcUaServer create() throws Exception {
+        return create(configBuilder -> {});
+    }
+
+    public static OpcUaServer create(Consumer<OpcUaServerConfigBuilder> configure) throws Exception {
         int port = new Random().nextInt(65535 - 10000) + 10000;
 
         try {
@@ -70,13 +76,17 @@ public final class TestServer {
             ss.bind(isa);
             ss.close();
 
-            return create(port);
+            return create(port, configure);
         } catch (Throwable t) {
-            return create();
+            return create(configure);
         }
     }
 
     public static OpcUaServer create(int port) throws Exception {
+        return create(port, configBuilder -> {});
+    }
+
+    public static OpcUaServer create(int port, Consumer<OpcUaServerConfigBuilder> configure) throws Exception {
         File securityTempDir = new File(System.getProperty("java.io.tmpdir"), "security");
         if (!securityTempDir.exists() && !securityTempDir.mkdirs()) {
             throw new Exception("unable to create security temp dir: " + securityTempDir);
@@ -137,7 +147,7 @@ public final class TestServer {
 
         Set<EndpointConfiguration> endpointConfigurations = createEndpointConfigurations(certificate, port);
 
-        OpcUaServerConfig serverConfig = OpcUaServerConfig.builder()
+        OpcUaServerConfigBuilder configBuilder = OpcUaServerConfig.builder()
             .setApplicationUri(applicationUri)
             .setApplicationName(LocalizedText.english("Eclipse Milo OPC UA Example Server"))
             .setEndpoints(endpointConfigurations)
@@ -154,10 +164,11 @@ public final class TestServer {
             .setHttpsKeyPair(httpsKeyPair)
             .setHttpsCertificate(httpsCertificate)
             .setIdentityValidator(identityValidator)
-            .setProductUri("urn:eclipse:milo:example-server")
-            .build();
+            .setProductUri("urn:eclipse:milo:example-server");
+
+        configure.accept(configBuilder);
 
-        return new OpcUaServer(serverConfig);
+        return new OpcUaServer(configBuilder.build());
     }
 
     private static Set<EndpointConfiguration> createEndpointConfigurations(X509Certificate certificate, int port) {
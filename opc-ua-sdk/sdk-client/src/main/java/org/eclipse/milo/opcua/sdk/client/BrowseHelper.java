@@ -14,6 +14,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.milo.opcua.stack.client.UaStackClient;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
@@ -28,6 +30,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReferenceDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
+import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
 
 import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 import static org.eclipse.milo.opcua.stack.core.util.ConversionUtil.l;
@@ -38,6 +41,12 @@ import static org.eclipse.milo.opcua.stack.core.util.ConversionUtil.l;
  */
 public class BrowseHelper {
 
+    /**
+     * The maximum number of BrowseRequests {@link #browse(UaStackClient, OpcUaSession, List, UInteger, int)} keeps
+     * outstanding at a time.
+     */
+    private static final int MAX_IN_FLIGHT = 4;
+
     private BrowseHelper() {}
 
     public static CompletableFuture<List<ReferenceDescription>> browse(
@@ -83,6 +92,82 @@ public class BrowseHelper {
         });
     }
 
+    /**
+     * Browse every {@link BrowseDescription} in {@code browseDescriptions}, sending as few BrowseRequests as
+     * {@code maxNodesPerBrowse} allows, followed by as many BrowseNext calls as are necessary to retrieve all the
+     * references of each.
+     * <p>
+     * A {@link BrowseDescription} whose result has a bad StatusCode gets an empty List of references.
+     *
+     * @param client               a connected {@link UaStackClient}.
+     * @param session              an active {@link OpcUaSession}.
+     * @param browseDescriptions   the {@link BrowseDescription}s to browse.
+     * @param maxReferencesPerNode the maximum number of references to return per node in each response.
+     * @param maxNodesPerBrowse    the maximum number of nodes to browse per request, or 0 for no limit.
+     * @return the List of {@link ReferenceDescription}s for each of {@code browseDescriptions}, in the same order.
+     */
+    public static CompletableFuture<List<List<ReferenceDescription>>> browse(
+        UaStackClient client,
+        OpcUaSession session,
+        List<BrowseDescription> browseDescriptions,
+        UInteger maxReferencesPerNode,
+        int maxNodesPerBrowse
+    ) {
+
+        if (browseDescriptions.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        CompletableFuture<List<List<List<ReferenceDescription>>>> partitions = PartitionedRequests.send(
+            browseDescriptions,
+            maxNodesPerBrowse,
+            MAX_IN_FLIGHT,
+            partition -> browsePartition(client, session, partition, maxReferencesPerNode)
+        );
+
+        return partitions.thenApply(
+            lists ->
+                lists.stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList())
+        );
+    }
+
+    private static CompletableFuture<List<List<ReferenceDescription>>> browsePartition(
+        UaStackClient client,
+        OpcUaSession session,
+        List<BrowseDescription> browseDescriptions,
+        UInteger maxReferencesPerNode
+    ) {
+
+        BrowseRequest browseRequest = new BrowseRequest(
+            client.newRequestHeader(
+                session.getAuthenticationToken(),
+                client.getConfig().getRequestTimeout()
+            ),
+            new ViewDescription(
+                NodeId.NULL_VALUE,
+                DateTime.MIN_VALUE,
+                uint(0)
+            ),
+            maxReferencesPerNode,
+            browseDescriptions.toArray(new BrowseDescription[0])
+        );
+
+        return client.sendRequest(browseRequest).thenApply(BrowseResponse.class::cast).thenCompose(response -> {
+            List<BrowseResult> results = l(response.getResults());
+
+            Stream<CompletableFuture<List<ReferenceDescription>>> futures = results.stream().map(result -> {
+                List<ReferenceDescription> references =
+                    Collections.synchronizedList(new ArrayList<>());
+
+                return maybeBrowseNext(client, session, references, result);
+            });
+
+            return FutureUtils.sequence(futures);
+        });
+    }
+
     private static CompletableFuture<List<ReferenceDescription>> maybeBrowseNext(
         UaStackClient client,
         OpcUaSession session,
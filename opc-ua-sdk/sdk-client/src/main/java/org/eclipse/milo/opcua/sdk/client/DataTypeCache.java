@@ -0,0 +1,494 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.eclipse.milo.opcua.sdk.core.DataTypeTree;
+import org.eclipse.milo.opcua.stack.client.UaStackClient;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseDirection;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseResultMask;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReferenceDescription;
+import org.eclipse.milo.opcua.stack.core.util.Tree;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.util.ConversionUtil.l;
+
+/**
+ * An on-disk cache of the DataType information a client reads from a server while initializing a session, so that
+ * reconnecting to the same server can skip browsing the type system again.
+ * <p>
+ * Entries are stored under a key derived from the server's ApplicationUri, NamespaceArray, BuildInfo, StartTime, and
+ * the DataTypeVersion of each of its DataTypeDictionaries. Any change to one of those, including a restart of the
+ * server, changes the key, so entries written before it are never read; they can be deleted from {@code directory} at
+ * any time.
+ * <p>
+ * A server can still add or remove DataTypes while it is running without changing any of those values. Before a
+ * cached {@link DataTypeTree} is used it is checked with {@link #validateAsync(UaStackClient, OpcUaSession,
+ * DataTypeTree)}, which catches changes directly beneath BaseDataType, Structure, and Enumeration, where servers
+ * define their own types. Changes further down the hierarchy, or to the contents of a DataTypeDictionary whose
+ * DataTypeVersion stays the same, are not detected until the server restarts; don't use a cache with a server that
+ * makes such changes.
+ *
+ * @see DataTypeTreeBuilder#buildAsync(UaStackClient, OpcUaSession, DataTypeCache)
+ */
+public class DataTypeCache {
+
+    /**
+     * The attribute key that a {@code CompletableFuture<String>} holding the cache key for a session is stored under
+     * in the {@link OpcUaSession} once it has been requested.
+     *
+     * @see #getKeyAsync(UaStackClient, OpcUaSession)
+     */
+    public static final String SESSION_ATTRIBUTE_KEY = "dataTypeCacheKey";
+
+    private static final String DATA_TYPE_TREE = "DataTypeTree";
+
+    /**
+     * The DataTypes whose direct subtypes {@link #validateAsync(UaStackClient, OpcUaSession, DataTypeTree)} compares.
+     */
+    private static final List<NodeId> VALIDATED_DATA_TYPES = Arrays.asList(
+        Identifiers.BaseDataType,
+        Identifiers.Structure,
+        Identifiers.Enumeration
+    );
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Path directory;
+
+    /**
+     * @param directory the directory to store cache entries in. It will be created if it doesn't exist.
+     */
+    public DataTypeCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Get the directory cache entries are stored in.
+     *
+     * @return the directory cache entries are stored in.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Get the key that entries for the server {@code session} is connected to are stored under.
+     * <p>
+     * The key is computed once per session and then stored as an attribute on it.
+     *
+     * @param client  a connected {@link UaStackClient}.
+     * @param session an active {@link OpcUaSession}.
+     * @return the key that entries for the server {@code session} is connected to are stored under.
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<String> getKeyAsync(UaStackClient client, OpcUaSession session) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        Object existing = session.putIfAbsent(SESSION_ATTRIBUTE_KEY, future);
+
+        if (existing != null) {
+            return (CompletableFuture<String>) existing;
+        }
+
+        computeKey(client, session).whenComplete((key, ex) -> {
+            if (key != null) {
+                logger.debug("DataTypeCache key: {}", key);
+
+                future.complete(key);
+            } else {
+                session.remove(SESSION_ATTRIBUTE_KEY, future);
+                future.completeExceptionally(ex);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Load the {@link DataTypeTree} stored under {@code key}, if there is one.
+     *
+     * @param key the key the {@link DataTypeTree} was stored under.
+     * @return the {@link DataTypeTree} stored under {@code key}, or {@code null} if there is none or it can't be read.
+     */
+    @Nullable
+    public DataTypeTree loadDataTypeTree(String key) {
+        byte[] bs = load(key, DATA_TYPE_TREE);
+
+        if (bs == null) return null;
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bs))) {
+            return new DataTypeTree(readTree(in, null));
+        } catch (Exception e) {
+            logger.warn("Failed to read cached DataTypeTree key={}", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * Check that a {@link DataTypeTree} loaded from this cache still matches the server {@code session} is connected
+     * to, by browsing the direct subtypes of BaseDataType, Structure, and Enumeration and comparing them with the
+     * children of those DataTypes in {@code dataTypeTree}.
+     *
+     * @param client       a connected {@link UaStackClient}.
+     * @param session      an active {@link OpcUaSession}.
+     * @param dataTypeTree the {@link DataTypeTree} to check.
+     * @return {@code true} if {@code dataTypeTree} matches the server, {@code false} if it doesn't or the check failed.
+     */
+    public CompletableFuture<Boolean> validateAsync(
+        UaStackClient client,
+        OpcUaSession session,
+        DataTypeTree dataTypeTree
+    ) {
+
+        List<BrowseDescription> browseDescriptions = VALIDATED_DATA_TYPES.stream()
+            .map(dataTypeId -> new BrowseDescription(
+                dataTypeId,
+                BrowseDirection.Forward,
+                Identifiers.HasSubtype,
+                false,
+                uint(NodeClass.DataType.getValue()),
+                uint(BrowseResultMask.None.getValue())
+            ))
+            .collect(Collectors.toList());
+
+        return BrowseHelper.browse(client, session, browseDescriptions, uint(0), 0).handle((results, ex) -> {
+            if (results == null) {
+                logger.warn("Failed to validate cached DataTypeTree", ex);
+                return false;
+            }
+
+            for (int i = 0; i < VALIDATED_DATA_TYPES.size(); i++) {
+                NodeId dataTypeId = VALIDATED_DATA_TYPES.get(i);
+                Tree<DataTypeTree.DataType> treeNode = dataTypeTree.getTreeNode(dataTypeId);
+
+                Set<NodeId> cached = new HashSet<>();
+                if (treeNode != null) {
+                    treeNode.getChildren().forEach(child -> cached.add(child.getValue().getNodeId()));
+                }
+
+                Set<NodeId> browsed = new HashSet<>();
+                for (ReferenceDescription reference : results.get(i)) {
+                    reference.getNodeId().toNodeId(client.getNamespaceTable()).ifPresent(browsed::add);
+                }
+
+                if (!cached.equals(browsed)) {
+                    logger.debug("Cached DataTypeTree is stale: subtypes of {} changed", dataTypeId);
+                    return false;
+                }
+            }
+
+            return true;
+        });
+    }
+
+    /**
+     * Store {@code dataTypeTree} under {@code key}.
+     *
+     * @param key          the key to store {@code dataTypeTree} under.
+     * @param dataTypeTree the {@link DataTypeTree} to store.
+     */
+    public void storeDataTypeTree(String key, DataTypeTree dataTypeTree) {
+        ByteArrayOutputStream bs = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bs)) {
+            writeTree(out, dataTypeTree.getTree());
+        } catch (IOException e) {
+            logger.warn("Failed to write DataTypeTree key={}", key, e);
+            return;
+        }
+
+        store(key, DATA_TYPE_TREE, bs.toByteArray());
+    }
+
+    /**
+     * Load the entry named {@code name} stored under {@code key}, if there is one.
+     *
+     * @param key  the key the entry was stored under.
+     * @param name the name of the entry.
+     * @return the contents of the entry, or {@code null} if there is none or it can't be read.
+     */
+    @Nullable
+    public byte[] load(String key, String name) {
+        Path path = directory.resolve(key).resolve(name);
+
+        if (!Files.exists(path)) return null;
+
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            logger.warn("Failed to read cache entry {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Store {@code bytes} as the entry named {@code name} under {@code key}, replacing any existing entry.
+     *
+     * @param key   the key to store the entry under.
+     * @param name  the name of the entry.
+     * @param bytes the contents of the entry.
+     */
+    public void store(String key, String name, byte[] bytes) {
+        Path keyDirectory = directory.resolve(key);
+
+        try {
+            Files.createDirectories(keyDirectory);
+
+            // write to a temporary file first so a concurrent load never sees a partial entry
+            Path tmp = Files.createTempFile(keyDirectory, name, ".tmp");
+            Files.write(tmp, bytes);
+            Files.move(tmp, keyDirectory.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Failed to write cache entry {}/{}", keyDirectory, name, e);
+        }
+    }
+
+    private CompletableFuture<String> computeKey(UaStackClient client, OpcUaSession session) {
+        ReadRequest serverInfoRequest = new ReadRequest(
+            client.newRequestHeader(
+                session.getAuthenticationToken(),
+                client.getConfig().getRequestTimeout()
+            ),
+            0.0,
+            TimestampsToReturn.Neither,
+            new ReadValueId[]{
+                readValueId(Identifiers.Server_NamespaceArray),
+                readValueId(Identifiers.Server_ServerStatus_BuildInfo_ProductUri),
+                readValueId(Identifiers.Server_ServerStatus_BuildInfo_SoftwareVersion),
+                readValueId(Identifiers.Server_ServerStatus_BuildInfo_BuildNumber),
+                readValueId(Identifiers.Server_ServerStatus_BuildInfo_BuildDate),
+                readValueId(Identifiers.Server_ServerStatus_StartTime)
+            }
+        );
+
+        CompletableFuture<List<String>> serverInfo = client.sendRequest(serverInfoRequest)
+            .thenApply(ReadResponse.class::cast)
+            .thenApply(response -> l(response.getResults()).stream()
+                .map(DataTypeCache::valueToString)
+                .collect(Collectors.toList()));
+
+        return serverInfo.thenCompose(values -> readDictionaryVersions(client, session).thenApply(versions -> {
+            List<String> components = new ArrayList<>();
+            components.add(client.getConfig().getEndpoint().getServer().getApplicationUri());
+            components.addAll(values);
+            components.addAll(versions);
+
+            return sha256(components);
+        }));
+    }
+
+    /**
+     * Read the NodeId and DataTypeVersion of each DataTypeDictionary in the OPC Binary type system.
+     */
+    private static CompletableFuture<List<String>> readDictionaryVersions(UaStackClient client, OpcUaSession session) {
+        CompletableFuture<List<ReferenceDescription>> dictionaries = BrowseHelper.browse(
+            client,
+            session,
+            new BrowseDescription(
+                Identifiers.OPCBinarySchema_TypeSystem,
+                BrowseDirection.Forward,
+                Identifiers.HasComponent,
+                false,
+                uint(NodeClass.Variable.getValue()),
+                uint(BrowseResultMask.All.getValue())
+            ),
+            uint(0)
+        );
+
+        return dictionaries.thenCompose(references -> {
+            List<NodeId> dictionaryIds = references.stream()
+                .filter(r -> Identifiers.DataTypeDictionaryType.equalTo(r.getTypeDefinition()))
+                .map(r -> r.getNodeId().toNodeId(client.getNamespaceTable()).orElse(NodeId.NULL_VALUE))
+                .filter(NodeId::isNotNull)
+                .collect(Collectors.toList());
+
+            List<BrowseDescription> propertyDescriptions = dictionaryIds.stream()
+                .map(nodeId -> new BrowseDescription(
+                    nodeId,
+                    BrowseDirection.Forward,
+                    Identifiers.HasProperty,
+                    false,
+                    uint(NodeClass.Variable.getValue()),
+                    uint(BrowseResultMask.All.getValue())
+                ))
+                .collect(Collectors.toList());
+
+            return BrowseHelper.browse(client, session, propertyDescriptions, uint(0), 0)
+                .thenCompose(properties -> {
+                    List<ReadValueId> readValueIds = new ArrayList<>();
+
+                    for (List<ReferenceDescription> dictionaryProperties : properties) {
+                        NodeId versionId = dictionaryProperties.stream()
+                            .filter(r -> r.getBrowseName().equals(new QualifiedName(0, "DataTypeVersion")))
+                            .findFirst()
+                            .flatMap(r -> r.getNodeId().toNodeId(client.getNamespaceTable()))
+                            .orElse(NodeId.NULL_VALUE);
+
+                        readValueIds.add(readValueId(versionId));
+                    }
+
+                    return readValues(client, session, readValueIds);
+                })
+                .thenApply(values -> {
+                    List<String> versions = new ArrayList<>();
+
+                    for (int i = 0; i < dictionaryIds.size(); i++) {
+                        String version = i < values.size() ? valueToString(values.get(i)) : "";
+
+                        versions.add(dictionaryIds.get(i).toParseableString() + "=" + version);
+                    }
+
+                    return versions;
+                });
+        });
+    }
+
+    private static CompletableFuture<List<DataValue>> readValues(
+        UaStackClient client,
+        OpcUaSession session,
+        List<ReadValueId> readValueIds
+    ) {
+
+        if (readValueIds.isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+
+        ReadRequest request = new ReadRequest(
+            client.newRequestHeader(
+                session.getAuthenticationToken(),
+                client.getConfig().getRequestTimeout()
+            ),
+            0.0,
+            TimestampsToReturn.Neither,
+            readValueIds.toArray(new ReadValueId[0])
+        );
+
+        return client.sendRequest(request)
+            .thenApply(ReadResponse.class::cast)
+            .thenApply(response -> l(response.getResults()));
+    }
+
+    private static ReadValueId readValueId(NodeId nodeId) {
+        return new ReadValueId(nodeId, AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE);
+    }
+
+    private static String valueToString(DataValue value) {
+        Object o = value.getValue().getValue();
+
+        if (o instanceof Object[]) {
+            return String.join(" ", l((Object[]) o).stream().map(String::valueOf).collect(Collectors.toList()));
+        } else {
+            return String.valueOf(o);
+        }
+    }
+
+    private static String sha256(List<String> components) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            for (String component : components) {
+                digest.update(String.valueOf(component).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest()) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeTree(DataOutputStream out, Tree<DataTypeTree.DataType> tree) throws IOException {
+        DataTypeTree.DataType dataType = tree.getValue();
+
+        out.writeUTF(dataType.getBrowseName().toParseableString());
+        out.writeUTF(dataType.getNodeId().toParseableString());
+        writeNullableNodeId(out, dataType.getBinaryEncodingId());
+        writeNullableNodeId(out, dataType.getXmlEncodingId());
+
+        List<Tree<DataTypeTree.DataType>> children = tree.getChildren();
+        out.writeInt(children.size());
+        for (Tree<DataTypeTree.DataType> child : children) {
+            writeTree(out, child);
+        }
+    }
+
+    private static Tree<DataTypeTree.DataType> readTree(
+        DataInputStream in,
+        @Nullable Tree<DataTypeTree.DataType> parent
+    ) throws IOException {
+
+        DataTypeTree.DataType dataType = new DataTypeTree.DataType(
+            QualifiedName.parse(in.readUTF()),
+            NodeId.parse(in.readUTF()),
+            readNullableNodeId(in),
+            readNullableNodeId(in)
+        );
+
+        Tree<DataTypeTree.DataType> tree = new Tree<>(parent, dataType);
+
+        int childCount = in.readInt();
+        for (int i = 0; i < childCount; i++) {
+            tree.addChild(readTree(in, tree));
+        }
+
+        return tree;
+    }
+
+    private static void writeNullableNodeId(DataOutputStream out, @Nullable NodeId nodeId) throws IOException {
+        out.writeBoolean(nodeId != null);
+        if (nodeId != null) {
+            out.writeUTF(nodeId.toParseableString());
+        }
+    }
+
+    @Nullable
+    private static NodeId readNullableNodeId(DataInputStream in) throws IOException {
+        return in.readBoolean() ? NodeId.parse(in.readUTF()) : null;
+    }
+
+}
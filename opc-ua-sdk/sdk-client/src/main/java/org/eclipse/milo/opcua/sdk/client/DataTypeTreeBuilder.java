@@ -10,12 +10,17 @@
 
 package org.eclipse.milo.opcua.sdk.client;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.google.common.primitives.Ints;
+
 import org.eclipse.milo.opcua.sdk.core.DataTypeTree;
 import org.eclipse.milo.opcua.stack.client.UaStackClient;
 import org.eclipse.milo.opcua.stack.core.AttributeId;
@@ -29,6 +34,7 @@ import org.eclipse.milo.opcua.stack.core.types.OpcUaDefaultXmlEncoding;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseDirection;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseResultMask;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
@@ -42,6 +48,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
 import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
 import org.eclipse.milo.opcua.stack.core.util.Tree;
 import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.slf4j.LoggerFactory;
 
 import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 
@@ -106,9 +113,28 @@ public final class DataTypeTreeBuilder {
         );
     }
 
+    /**
+     * Get a {@link DataTypeTree} from {@code cache} if it has one for the server {@code client} is connected to,
+     * otherwise build one by recursively browsing the DataType hierarchy starting at {@link Identifiers#BaseDataType}
+     * and store it in {@code cache}.
+     *
+     * @param client a connected {@link OpcUaClient}.
+     * @param cache  the {@link DataTypeCache} to get the {@link DataTypeTree} from or store it in.
+     * @return a {@link DataTypeTree}.
+     */
+    public static CompletableFuture<DataTypeTree> buildAsync(OpcUaClient client, DataTypeCache cache) {
+        return client.getSession().thenCompose(
+            session ->
+                buildAsync(client.getStackClient(), session, cache)
+        );
+    }
+
     /**
      * Build a {@link DataTypeTree} by recursively browsing the DataType hierarchy starting at
      * {@link Identifiers#BaseDataType}.
+     * <p>
+     * Each level of the hierarchy is browsed with as few multi-node BrowseRequests as the server's
+     * MaxNodesPerBrowse operation limit allows.
      *
      * @param client  a connected {@link UaStackClient}.
      * @param session an active {@link OpcUaSession}.
@@ -126,11 +152,85 @@ public final class DataTypeTreeBuilder {
         );
 
         return readNamespaceTable(client, session)
-            .thenCompose(namespaceTable -> addChildren(root, client, session, namespaceTable))
+            .thenCombine(readMaxNodesPerBrowse(client, session), (namespaceTable, maxNodesPerBrowse) ->
+                addChildren(Collections.singletonList(root), client, session, namespaceTable, maxNodesPerBrowse))
+            .thenCompose(Function.identity())
             .thenApply(u -> new DataTypeTree(root));
     }
 
+    /**
+     * Get a {@link DataTypeTree} from {@code cache} if it has one for the server {@code session} is connected to and
+     * it passes {@link DataTypeCache#validateAsync(UaStackClient, OpcUaSession, DataTypeTree)}, otherwise build one
+     * by recursively browsing the DataType hierarchy starting at {@link Identifiers#BaseDataType} and store it in
+     * {@code cache}.
+     *
+     * @param client  a connected {@link UaStackClient}.
+     * @param session an active {@link OpcUaSession}.
+     * @param cache   the {@link DataTypeCache} to get the {@link DataTypeTree} from or store it in.
+     * @return a {@link DataTypeTree}.
+     */
+    public static CompletableFuture<DataTypeTree> buildAsync(
+        UaStackClient client,
+        OpcUaSession session,
+        DataTypeCache cache
+    ) {
+
+        CompletableFuture<String> keyFuture = cache.getKeyAsync(client, session)
+            .exceptionally(ex -> {
+                LoggerFactory.getLogger(DataTypeTreeBuilder.class)
+                    .warn("Failed to compute DataTypeCache key; building DataTypeTree without cache", ex);
+                return null;
+            });
+
+        return keyFuture.thenCompose(key -> {
+            if (key == null) {
+                return buildAsync(client, session);
+            }
+
+            DataTypeTree cached = cache.loadDataTypeTree(key);
+
+            CompletableFuture<Boolean> valid = cached != null ?
+                cache.validateAsync(client, session, cached) :
+                CompletableFuture.completedFuture(false);
+
+            return valid.thenCompose(v -> {
+                if (v) {
+                    return CompletableFuture.completedFuture(cached);
+                } else {
+                    return buildAsync(client, session).thenApply(tree -> {
+                        cache.storeDataTypeTree(key, tree);
+                        return tree;
+                    });
+                }
+            });
+        });
+    }
+
     private static CompletableFuture<NamespaceTable> readNamespaceTable(UaStackClient client, OpcUaSession session) {
+        return readValue(client, session, Identifiers.Server_NamespaceArray).thenApply(dataValue -> {
+            String[] namespaceUris = (String[]) dataValue.getValue().getValue();
+            NamespaceTable namespaceTable = new NamespaceTable();
+            for (String namespaceUri : namespaceUris) {
+                namespaceTable.addUri(namespaceUri);
+            }
+            return namespaceTable;
+        });
+    }
+
+    /**
+     * Read the server's MaxNodesPerBrowse operation limit, completing with 0 (no limit) if it can't be read.
+     */
+    private static CompletableFuture<Integer> readMaxNodesPerBrowse(UaStackClient client, OpcUaSession session) {
+        return readValue(client, session, Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerBrowse)
+            .thenApply(dataValue -> {
+                Object value = dataValue.getValue().getValue();
+
+                return value instanceof UInteger ? Ints.saturatedCast(((UInteger) value).longValue()) : 0;
+            })
+            .exceptionally(ex -> 0);
+    }
+
+    private static CompletableFuture<DataValue> readValue(UaStackClient client, OpcUaSession session, NodeId nodeId) {
         RequestHeader requestHeader = client.newRequestHeader(
             session.getAuthenticationToken(),
             client.getConfig().getRequestTimeout()
@@ -143,97 +243,130 @@ public final class DataTypeTreeBuilder {
                 TimestampsToReturn.Neither,
                 new ReadValueId[]{
                     new ReadValueId(
-                        Identifiers.Server_NamespaceArray,
+                        nodeId,
                         AttributeId.Value.uid(),
                         null,
                         QualifiedName.NULL_VALUE)}
             )
         );
 
-        return readFuture.thenApply(ReadResponse.class::cast).thenApply(response -> {
-            DataValue dataValue = response.getResults()[0];
-            String[] namespaceUris = (String[]) dataValue.getValue().getValue();
-            NamespaceTable namespaceTable = new NamespaceTable();
-            for (String namespaceUri : namespaceUris) {
-                namespaceTable.addUri(namespaceUri);
-            }
-            return namespaceTable;
-        });
+        return readFuture.thenApply(ReadResponse.class::cast).thenApply(response -> response.getResults()[0]);
     }
 
+    /**
+     * Browse the subtypes of every node in {@code trees}, then the encodings of all those subtypes, add the subtypes
+     * as children, and continue with the next level down until there are no more subtypes.
+     */
     private static CompletableFuture<Unit> addChildren(
-        Tree<DataTypeTree.DataType> tree,
+        List<Tree<DataTypeTree.DataType>> trees,
         UaStackClient client,
         OpcUaSession session,
-        NamespaceTable namespaceTable
+        NamespaceTable namespaceTable,
+        int maxNodesPerBrowse
     ) {
 
-        CompletableFuture<List<ReferenceDescription>> subtypes = browseSafe(
-            client,
-            session,
-            new BrowseDescription(
+        if (trees.isEmpty()) {
+            return CompletableFuture.completedFuture(Unit.VALUE);
+        }
+
+        List<BrowseDescription> subtypeDescriptions = trees.stream()
+            .map(tree -> new BrowseDescription(
                 tree.getValue().getNodeId(),
                 BrowseDirection.Forward,
                 Identifiers.HasSubtype,
                 false,
                 uint(NodeClass.DataType.getValue()),
                 uint(BrowseResultMask.All.getValue())
-            )
-        );
+            ))
+            .collect(Collectors.toList());
 
-        CompletableFuture<List<DataTypeTree.DataType>> dataTypesFuture = subtypes.thenCompose(references -> {
-            Stream<CompletableFuture<DataTypeTree.DataType>> dataTypeFutures =
-                references.stream().map(dataTypeReference -> {
-                    NodeId dataTypeId = dataTypeReference.getNodeId()
-                        .toNodeId(namespaceTable)
-                        .orElse(NodeId.NULL_VALUE);
-
-                    CompletableFuture<List<ReferenceDescription>> encodings = browseSafe(
-                        client,
-                        session,
-                        new BrowseDescription(
-                            dataTypeId,
-                            BrowseDirection.Forward,
-                            Identifiers.HasEncoding,
-                            false,
-                            uint(NodeClass.Object.getValue()),
-                            uint(BrowseResultMask.All.getValue())
-                        )
-                    );
+        return browseSafe(client, session, subtypeDescriptions, maxNodesPerBrowse).thenCompose(subtypes -> {
+            List<Tree<DataTypeTree.DataType>> parents = new ArrayList<>();
+            List<ReferenceDescription> dataTypeReferences = new ArrayList<>();
+
+            for (int i = 0; i < trees.size(); i++) {
+                for (ReferenceDescription reference : subtypes.get(i)) {
+                    parents.add(trees.get(i));
+                    dataTypeReferences.add(reference);
+                }
+            }
+
+            List<NodeId> dataTypeIds = dataTypeReferences.stream()
+                .map(r -> r.getNodeId().toNodeId(namespaceTable).orElse(NodeId.NULL_VALUE))
+                .collect(Collectors.toList());
 
-                    return encodings.thenApply(encodingReferences -> {
-                        NodeId binaryEncodingId = null;
-                        NodeId xmlEncodingId = null;
+            List<BrowseDescription> encodingDescriptions = dataTypeIds.stream()
+                .map(dataTypeId -> new BrowseDescription(
+                    dataTypeId,
+                    BrowseDirection.Forward,
+                    Identifiers.HasEncoding,
+                    false,
+                    uint(NodeClass.Object.getValue()),
+                    uint(BrowseResultMask.All.getValue())
+                ))
+                .collect(Collectors.toList());
 
-                        for (ReferenceDescription r : encodingReferences) {
-                            if (r.getBrowseName().equals(OpcUaDefaultBinaryEncoding.ENCODING_NAME)) {
-                                binaryEncodingId = r.getNodeId().toNodeId(namespaceTable).orElse(null);
-                            } else if (r.getBrowseName().equals(OpcUaDefaultXmlEncoding.ENCODING_NAME)) {
-                                xmlEncodingId = r.getNodeId().toNodeId(namespaceTable).orElse(null);
-                            }
+            return browseSafe(client, session, encodingDescriptions, maxNodesPerBrowse).thenCompose(encodings -> {
+                List<Tree<DataTypeTree.DataType>> children = new ArrayList<>();
+
+                for (int i = 0; i < dataTypeReferences.size(); i++) {
+                    NodeId binaryEncodingId = null;
+                    NodeId xmlEncodingId = null;
+
+                    for (ReferenceDescription r : encodings.get(i)) {
+                        if (r.getBrowseName().equals(OpcUaDefaultBinaryEncoding.ENCODING_NAME)) {
+                            binaryEncodingId = r.getNodeId().toNodeId(namespaceTable).orElse(null);
+                        } else if (r.getBrowseName().equals(OpcUaDefaultXmlEncoding.ENCODING_NAME)) {
+                            xmlEncodingId = r.getNodeId().toNodeId(namespaceTable).orElse(null);
                         }
+                    }
 
-                        return new DataTypeTree.DataType(
-                            dataTypeReference.getBrowseName(),
-                            dataTypeId,
-                            binaryEncodingId,
-                            xmlEncodingId
-                        );
-                    });
-                });
+                    DataTypeTree.DataType dataType = new DataTypeTree.DataType(
+                        dataTypeReferences.get(i).getBrowseName(),
+                        dataTypeIds.get(i),
+                        binaryEncodingId,
+                        xmlEncodingId
+                    );
 
-            return FutureUtils.sequence(dataTypeFutures);
+                    children.add(parents.get(i).addChild(dataType));
+                }
+
+                return addChildren(children, client, session, namespaceTable, maxNodesPerBrowse);
+            });
         });
+    }
+
+    /**
+     * Browse a List of {@link BrowseDescription}s "safely", in as few requests as {@code maxNodesPerBrowse} allows.
+     * <p>
+     * If the batched browse fails, e.g. because the server doesn't accept as many nodes per request as it reports,
+     * each {@link BrowseDescription} is browsed in its own request instead.
+     *
+     * @param client             a {@link UaStackClient}.
+     * @param session            an {@link OpcUaSession}.
+     * @param browseDescriptions the {@link BrowseDescription}s.
+     * @param maxNodesPerBrowse  the maximum number of nodes to browse per request, or 0 for no limit.
+     * @return the List of {@link ReferenceDescription}s obtained by browsing each of {@code browseDescriptions}.
+     */
+    private static CompletableFuture<List<List<ReferenceDescription>>> browseSafe(
+        UaStackClient client,
+        OpcUaSession session,
+        List<BrowseDescription> browseDescriptions,
+        int maxNodesPerBrowse
+    ) {
 
-        return dataTypesFuture
-            .thenCompose(dataTypes -> {
-                Stream<CompletableFuture<Unit>> futures = dataTypes.stream()
-                    .map(tree::addChild)
-                    .map(childNode -> addChildren(childNode, client, session, namespaceTable));
+        return BrowseHelper.browse(client, session, browseDescriptions, uint(0), maxNodesPerBrowse)
+            .handle((references, ex) -> {
+                if (references != null && references.size() == browseDescriptions.size()) {
+                    return CompletableFuture.completedFuture(references);
+                } else {
+                    Stream<CompletableFuture<List<ReferenceDescription>>> futures = browseDescriptions.stream()
+                        .map(browseDescription -> browseSafe(client, session, browseDescription));
 
-                return FutureUtils.sequence(futures);
+                    return FutureUtils.sequence(futures);
+                }
             })
-            .thenApply(v -> Unit.VALUE);
+            .thenCompose(Function.identity());
     }
 
     /**
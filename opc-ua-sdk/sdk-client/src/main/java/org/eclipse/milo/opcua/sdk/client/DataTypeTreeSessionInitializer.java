@@ -16,6 +16,7 @@ import org.eclipse.milo.opcua.sdk.client.session.SessionFsm;
 import org.eclipse.milo.opcua.sdk.core.DataTypeTree;
 import org.eclipse.milo.opcua.stack.client.UaStackClient;
 import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Builds a {@link DataTypeTree} and stores it on an {@link OpcUaSession} as an attribute under
@@ -31,9 +32,27 @@ public class DataTypeTreeSessionInitializer implements SessionFsm.SessionInitial
      */
     public static final String SESSION_ATTRIBUTE_KEY = "dataTypeTree";
 
+    private final DataTypeCache cache;
+
+    public DataTypeTreeSessionInitializer() {
+        this(null);
+    }
+
+    /**
+     * @param cache a {@link DataTypeCache} to get the {@link DataTypeTree} from, or store it in after building it.
+     *              May be {@code null}, in which case the {@link DataTypeTree} is always built.
+     */
+    public DataTypeTreeSessionInitializer(@Nullable DataTypeCache cache) {
+        this.cache = cache;
+    }
+
     @Override
     public CompletableFuture<Unit> initialize(UaStackClient stackClient, OpcUaSession session) {
-        return DataTypeTreeBuilder.buildAsync(stackClient, session)
+        CompletableFuture<DataTypeTree> dataTypeTree = cache != null ?
+            DataTypeTreeBuilder.buildAsync(stackClient, session, cache) :
+            DataTypeTreeBuilder.buildAsync(stackClient, session);
+
+        return dataTypeTree
             .thenAccept(tree -> session.setAttribute(SESSION_ATTRIBUTE_KEY, tree))
             .thenApply(v -> Unit.VALUE);
     }
@@ -43,9 +43,11 @@ import org.eclipse.milo.opcua.stack.core.serialization.UaRequestMessage;
 import org.eclipse.milo.opcua.stack.core.serialization.UaResponseMessage;
 import org.eclipse.milo.opcua.stack.core.types.DataTypeManager;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
@@ -62,9 +64,12 @@ import org.eclipse.milo.opcua.stack.core.types.structured.BrowseDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.BrowseNextRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.BrowseNextResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.BrowsePath;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowsePathResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.BrowseRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.CallRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.CallResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.CreateMonitoredItemsRequest;
@@ -85,6 +90,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadDetails;
 import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadValueId;
 import org.eclipse.milo.opcua.stack.core.types.structured.HistoryUpdateDetails;
 import org.eclipse.milo.opcua.stack.core.types.structured.HistoryUpdateRequest;
@@ -97,6 +103,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemCreateReq
 import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemModifyRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.PublishRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.PublishResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadEventDetails;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
@@ -105,6 +112,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.RegisterNodesResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.RepublishRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.RepublishResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
 import org.eclipse.milo.opcua.stack.core.types.structured.ServiceFault;
 import org.eclipse.milo.opcua.stack.core.types.structured.SetMonitoringModeRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.SetMonitoringModeResponse;
@@ -510,28 +518,54 @@ public class OpcUaClient implements UaClient {
                                                 TimestampsToReturn timestampsToReturn,
                                                 List<ReadValueId> readValueIds) {
 
-        return getSession().thenCompose(session -> {
-            ReadRequest request = new ReadRequest(
-                newRequestHeader(session.getAuthenticationToken()),
-                maxAge,
-                timestampsToReturn,
-                a(readValueIds, ReadValueId.class)
-            );
-
-            return sendRequest(request);
-        });
+        return getSession().thenCompose(session -> sendPartitioned(
+            readValueIds,
+            OperationLimits::getMaxNodesPerRead,
+            partition -> {
+                ReadRequest request = new ReadRequest(
+                    newRequestHeader(session.getAuthenticationToken()),
+                    maxAge,
+                    timestampsToReturn,
+                    a(partition, ReadValueId.class)
+                );
+
+                return this.<ReadResponse>sendRequest(request);
+            },
+            responses -> new ReadResponse(
+                lastResponseHeader(responses),
+                PartitionedRequests.concat(responses, ReadResponse::getResults, DataValue.class),
+                PartitionedRequests.concatDiagnostics(
+                    responses,
+                    ReadResponse::getResults,
+                    ReadResponse::getDiagnosticInfos
+                )
+            )
+        ));
     }
 
     @Override
     public CompletableFuture<WriteResponse> write(List<WriteValue> writeValues) {
-        return getSession().thenCompose(session -> {
-            WriteRequest request = new WriteRequest(
-                newRequestHeader(session.getAuthenticationToken()),
-                a(writeValues, WriteValue.class)
-            );
-
-            return sendRequest(request);
-        });
+        return getSession().thenCompose(session -> sendPartitioned(
+            writeValues,
+            OperationLimits::getMaxNodesPerWrite,
+            partition -> {
+                WriteRequest request = new WriteRequest(
+                    newRequestHeader(session.getAuthenticationToken()),
+                    a(partition, WriteValue.class)
+                );
+
+                return this.<WriteResponse>sendRequest(request);
+            },
+            responses -> new WriteResponse(
+                lastResponseHeader(responses),
+                PartitionedRequests.concat(responses, WriteResponse::getResults, StatusCode.class),
+                PartitionedRequests.concatDiagnostics(
+                    responses,
+                    WriteResponse::getResults,
+                    WriteResponse::getDiagnosticInfos
+                )
+            )
+        ));
     }
 
     @Override
@@ -540,17 +574,34 @@ public class OpcUaClient implements UaClient {
                                                               boolean releaseContinuationPoints,
                                                               List<HistoryReadValueId> nodesToRead) {
 
-        return getSession().thenCompose(session -> {
-            HistoryReadRequest request = new HistoryReadRequest(
-                newRequestHeader(session.getAuthenticationToken()),
-                ExtensionObject.encode(getStaticSerializationContext(), historyReadDetails),
-                timestampsToReturn,
-                releaseContinuationPoints,
-                a(nodesToRead, HistoryReadValueId.class)
-            );
-
-            return sendRequest(request);
-        });
+        Function<OperationLimits, UInteger> operationLimit = historyReadDetails instanceof ReadEventDetails ?
+            OperationLimits::getMaxNodesPerHistoryReadEvents :
+            OperationLimits::getMaxNodesPerHistoryReadData;
+
+        return getSession().thenCompose(session -> sendPartitioned(
+            nodesToRead,
+            operationLimit,
+            partition -> {
+                HistoryReadRequest request = new HistoryReadRequest(
+                    newRequestHeader(session.getAuthenticationToken()),
+                    ExtensionObject.encode(getStaticSerializationContext(), historyReadDetails),
+                    timestampsToReturn,
+                    releaseContinuationPoints,
+                    a(partition, HistoryReadValueId.class)
+                );
+
+                return this.<HistoryReadResponse>sendRequest(request);
+            },
+            responses -> new HistoryReadResponse(
+                lastResponseHeader(responses),
+                PartitionedRequests.concat(responses, HistoryReadResponse::getResults, HistoryReadResult.class),
+                PartitionedRequests.concatDiagnostics(
+                    responses,
+                    HistoryReadResponse::getResults,
+                    HistoryReadResponse::getDiagnosticInfos
+                )
+            )
+        ));
     }
 
     @Override
@@ -574,16 +625,29 @@ public class OpcUaClient implements UaClient {
                                                     UInteger maxReferencesPerNode,
                                                     List<BrowseDescription> nodesToBrowse) {
 
-        return getSession().thenCompose(session -> {
-            BrowseRequest request = new BrowseRequest(
-                newRequestHeader(session.getAuthenticationToken()),
-                viewDescription,
-                maxReferencesPerNode,
-                a(nodesToBrowse, BrowseDescription.class)
-            );
-
-            return sendRequest(request);
-        });
+        return getSession().thenCompose(session -> sendPartitioned(
+            nodesToBrowse,
+            OperationLimits::getMaxNodesPerBrowse,
+            partition -> {
+                BrowseRequest request = new BrowseRequest(
+                    newRequestHeader(session.getAuthenticationToken()),
+                    viewDescription,
+                    maxReferencesPerNode,
+                    a(partition, BrowseDescription.class)
+                );
+
+                return this.<BrowseResponse>sendRequest(request);
+            },
+            responses -> new BrowseResponse(
+                lastResponseHeader(responses),
+                PartitionedRequests.concat(responses, BrowseResponse::getResults, BrowseResult.class),
+                PartitionedRequests.concatDiagnostics(
+                    responses,
+                    BrowseResponse::getResults,
+                    BrowseResponse::getDiagnosticInfos
+                )
+            )
+        ));
     }
 
     @Override
@@ -603,26 +667,51 @@ public class OpcUaClient implements UaClient {
 
     @Override
     public CompletableFuture<TranslateBrowsePathsToNodeIdsResponse> translateBrowsePaths(List<BrowsePath> browsePaths) {
-        return getSession().thenCompose(session -> {
-            TranslateBrowsePathsToNodeIdsRequest request = new TranslateBrowsePathsToNodeIdsRequest(
-                newRequestHeader(session.getAuthenticationToken()),
-                a(browsePaths, BrowsePath.class)
-            );
-
-            return sendRequest(request);
-        });
+        return getSession().thenCompose(session -> sendPartitioned(
+            browsePaths,
+            OperationLimits::getMaxNodesPerTranslateBrowsePathsToNodeIds,
+            partition -> {
+                TranslateBrowsePathsToNodeIdsRequest request = new TranslateBrowsePathsToNodeIdsRequest(
+                    newRequestHeader(session.getAuthenticationToken()),
+                    a(partition, BrowsePath.class)
+                );
+
+                return this.<TranslateBrowsePathsToNodeIdsResponse>sendRequest(request);
+            },
+            responses -> new TranslateBrowsePathsToNodeIdsResponse(
+                lastResponseHeader(responses),
+                PartitionedRequests.concat(
+                    responses,
+                    TranslateBrowsePathsToNodeIdsResponse::getResults,
+                    BrowsePathResult.class
+                ),
+                PartitionedRequests.concatDiagnostics(
+                    responses,
+                    TranslateBrowsePathsToNodeIdsResponse::getResults,
+                    TranslateBrowsePathsToNodeIdsResponse::getDiagnosticInfos
+                )
+            )
+        ));
     }
 
     @Override
     public CompletableFuture<RegisterNodesResponse> registerNodes(List<NodeId> nodesToRegister) {
-        return getSession().thenCompose(session -> {
-            RegisterNodesRequest request = new RegisterNodesRequest(
-                newRequestHeader(session.getAuthenticationToken()),
-                a(nodesToRegister, NodeId.class)
-            );
-
-            return sendRequest(request);
-        });
+        return getSession().thenCompose(session -> sendPartitioned(
+            nodesToRegister,
+            OperationLimits::getMaxNodesPerRegisterNodes,
+            partition -> {
+                RegisterNodesRequest request = new RegisterNodesRequest(
+                    newRequestHeader(session.getAuthenticationToken()),
+                    a(partition, NodeId.class)
+                );
+
+                return this.<RegisterNodesResponse>sendRequest(request);
+            },
+            responses -> new RegisterNodesResponse(
+                lastResponseHeader(responses),
+                PartitionedRequests.concat(responses, RegisterNodesResponse::getRegisteredNodeIds, NodeId.class)
+            )
+        ));
     }
 
     @Override
@@ -639,14 +728,27 @@ public class OpcUaClient implements UaClient {
 
     @Override
     public CompletableFuture<CallResponse> call(List<CallMethodRequest> methodsToCall) {
-        return getSession().thenCompose(session -> {
-            CallRequest request = new CallRequest(
-                newRequestHeader(session.getAuthenticationToken()),
-                a(methodsToCall, CallMethodRequest.class)
-            );
-
-            return sendRequest(request);
-        });
+        return getSession().thenCompose(session -> sendPartitioned(
+            methodsToCall,
+            OperationLimits::getMaxNodesPerMethodCall,
+            partition -> {
+                CallRequest request = new CallRequest(
+                    newRequestHeader(session.getAuthenticationToken()),
+                    a(partition, CallMethodRequest.class)
+                );
+
+                return this.<CallResponse>sendRequest(request);
+            },
+            responses -> new CallResponse(
+                lastResponseHeader(responses),
+                PartitionedRequests.concat(responses, CallResponse::getResults, CallMethodResult.class),
+                PartitionedRequests.concatDiagnostics(
+                    responses,
+                    CallResponse::getResults,
+                    CallResponse::getDiagnosticInfos
+                )
+            )
+        ));
     }
 
     @Override
@@ -904,6 +1006,74 @@ public class OpcUaClient implements UaClient {
         return sessionFsm.getSession();
     }
 
+    /**
+     * Get the {@link OperationLimits} of the server the current session is connected to.
+     * <p>
+     * The limits are read from the server the first time they are requested and then cached on the session, so they
+     * are read again only after a new session is created. If they cannot be read {@link OperationLimits#UNLIMITED}
+     * is returned and nothing is cached.
+     *
+     * @return the {@link OperationLimits} of the server the current session is connected to.
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<OperationLimits> getOperationLimits() {
+        return getSession().thenCompose(session -> {
+            CompletableFuture<OperationLimits> future = new CompletableFuture<>();
+
+            Object existing = session.putIfAbsent(OperationLimits.SESSION_ATTRIBUTE_KEY, future);
+
+            if (existing != null) {
+                return (CompletableFuture<OperationLimits>) existing;
+            }
+
+            OperationLimits.readAsync(this, session).whenComplete((limits, ex) -> {
+                if (limits != null) {
+                    logger.debug("Read {}", limits);
+
+                    future.complete(limits);
+                } else {
+                    logger.warn("Failed to read OperationLimits", ex);
+
+                    session.remove(OperationLimits.SESSION_ATTRIBUTE_KEY, future);
+                    future.complete(OperationLimits.UNLIMITED);
+                }
+            });
+
+            return future;
+        });
+    }
+
+    /**
+     * Send {@code operations}, split into as many requests as {@code operationLimit} of the server's
+     * {@link OperationLimits} requires, and combine the responses into one.
+     * <p>
+     * Split requests are sent with at most {@link OpcUaClientConfig#getMaxInFlightRequestsPerCall()} in flight at a
+     * time. A single operation is sent as is, without consulting the server's {@link OperationLimits}.
+     */
+    private <T, R extends UaResponseMessage> CompletableFuture<R> sendPartitioned(
+        List<T> operations,
+        Function<OperationLimits, UInteger> operationLimit,
+        Function<List<T>, CompletableFuture<R>> send,
+        Function<List<R>, R> combine
+    ) {
+
+        if (operations.size() <= 1) {
+            return send.apply(operations);
+        }
+
+        return getOperationLimits().thenCompose(limits -> {
+            int limit = (int) Math.min(operationLimit.apply(limits).longValue(), Integer.MAX_VALUE);
+            int maxInFlight = (int) Math.min(config.getMaxInFlightRequestsPerCall().longValue(), Integer.MAX_VALUE);
+
+            return PartitionedRequests.send(operations, limit, maxInFlight, send)
+                .thenApply(responses -> responses.size() == 1 ? responses.get(0) : combine.apply(responses));
+        });
+    }
+
+    private static ResponseHeader lastResponseHeader(List<? extends UaResponseMessage> responses) {
+        return responses.get(responses.size() - 1).getResponseHeader();
+    }
+
     @Override
     public <T extends UaResponseMessage> CompletableFuture<T> sendRequest(UaRequestMessage request) {
         CompletableFuture<UaResponseMessage> f = getStackClient().sendRequest(request);
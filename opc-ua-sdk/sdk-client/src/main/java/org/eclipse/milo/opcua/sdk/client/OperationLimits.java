@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import com.google.common.base.MoreObjects;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * The subset of a server's {@code ServerCapabilities/OperationLimits} that limit the number of operations allowed in a
+ * single service call.
+ * <p>
+ * A limit of 0 means the server did not report a limit.
+ *
+ * @see OpcUaClient#getOperationLimits()
+ */
+public class OperationLimits {
+
+    /**
+     * The attribute key that a {@code CompletableFuture<OperationLimits>} is stored under in the
+     * {@link OpcUaSession} once the limits have been requested.
+     *
+     * @see OpcUaSession#getAttribute(String)
+     */
+    public static final String SESSION_ATTRIBUTE_KEY = "operationLimits";
+
+    /**
+     * {@link OperationLimits} with no limits set.
+     */
+    public static final OperationLimits UNLIMITED = new OperationLimits(
+        uint(0), uint(0), uint(0), uint(0), uint(0),
+        uint(0), uint(0), uint(0), uint(0)
+    );
+
+    private static final NodeId[] LIMIT_NODE_IDS = new NodeId[]{
+        Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerRead,
+        Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerWrite,
+        Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerBrowse,
+        Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerMethodCall,
+        Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerHistoryReadData,
+        Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerHistoryReadEvents,
+        Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerRegisterNodes,
+        Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerTranslateBrowsePathsToNodeIds,
+        Identifiers.Server_ServerCapabilities_OperationLimits_MaxMonitoredItemsPerCall
+    };
+
+    private final UInteger maxNodesPerRead;
+    private final UInteger maxNodesPerWrite;
+    private final UInteger maxNodesPerBrowse;
+    private final UInteger maxNodesPerMethodCall;
+    private final UInteger maxNodesPerHistoryReadData;
+    private final UInteger maxNodesPerHistoryReadEvents;
+    private final UInteger maxNodesPerRegisterNodes;
+    private final UInteger maxNodesPerTranslateBrowsePathsToNodeIds;
+    private final UInteger maxMonitoredItemsPerCall;
+
+    public OperationLimits(
+        UInteger maxNodesPerRead,
+        UInteger maxNodesPerWrite,
+        UInteger maxNodesPerBrowse,
+        UInteger maxNodesPerMethodCall,
+        UInteger maxNodesPerHistoryReadData,
+        UInteger maxNodesPerHistoryReadEvents,
+        UInteger maxNodesPerRegisterNodes,
+        UInteger maxNodesPerTranslateBrowsePathsToNodeIds,
+        UInteger maxMonitoredItemsPerCall
+    ) {
+
+        this.maxNodesPerRead = maxNodesPerRead;
+        this.maxNodesPerWrite = maxNodesPerWrite;
+        this.maxNodesPerBrowse = maxNodesPerBrowse;
+        this.maxNodesPerMethodCall = maxNodesPerMethodCall;
+        this.maxNodesPerHistoryReadData = maxNodesPerHistoryReadData;
+        this.maxNodesPerHistoryReadEvents = maxNodesPerHistoryReadEvents;
+        this.maxNodesPerRegisterNodes = maxNodesPerRegisterNodes;
+        this.maxNodesPerTranslateBrowsePathsToNodeIds = maxNodesPerTranslateBrowsePathsToNodeIds;
+        this.maxMonitoredItemsPerCall = maxMonitoredItemsPerCall;
+    }
+
+    public UInteger getMaxNodesPerRead() {
+        return maxNodesPerRead;
+    }
+
+    public UInteger getMaxNodesPerWrite() {
+        return maxNodesPerWrite;
+    }
+
+    public UInteger getMaxNodesPerBrowse() {
+        return maxNodesPerBrowse;
+    }
+
+    public UInteger getMaxNodesPerMethodCall() {
+        return maxNodesPerMethodCall;
+    }
+
+    public UInteger getMaxNodesPerHistoryReadData() {
+        return maxNodesPerHistoryReadData;
+    }
+
+    public UInteger getMaxNodesPerHistoryReadEvents() {
+        return maxNodesPerHistoryReadEvents;
+    }
+
+    public UInteger getMaxNodesPerRegisterNodes() {
+        return maxNodesPerRegisterNodes;
+    }
+
+    public UInteger getMaxNodesPerTranslateBrowsePathsToNodeIds() {
+        return maxNodesPerTranslateBrowsePathsToNodeIds;
+    }
+
+    public UInteger getMaxMonitoredItemsPerCall() {
+        return maxMonitoredItemsPerCall;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OperationLimits that = (OperationLimits) o;
+        return maxNodesPerRead.equals(that.maxNodesPerRead) &&
+            maxNodesPerWrite.equals(that.maxNodesPerWrite) &&
+            maxNodesPerBrowse.equals(that.maxNodesPerBrowse) &&
+            maxNodesPerMethodCall.equals(that.maxNodesPerMethodCall) &&
+            maxNodesPerHistoryReadData.equals(that.maxNodesPerHistoryReadData) &&
+            maxNodesPerHistoryReadEvents.equals(that.maxNodesPerHistoryReadEvents) &&
+            maxNodesPerRegisterNodes.equals(that.maxNodesPerRegisterNodes) &&
+            maxNodesPerTranslateBrowsePathsToNodeIds.equals(that.maxNodesPerTranslateBrowsePathsToNodeIds) &&
+            maxMonitoredItemsPerCall.equals(that.maxMonitoredItemsPerCall);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            maxNodesPerRead,
+            maxNodesPerWrite,
+            maxNodesPerBrowse,
+            maxNodesPerMethodCall,
+            maxNodesPerHistoryReadData,
+            maxNodesPerHistoryReadEvents,
+            maxNodesPerRegisterNodes,
+            maxNodesPerTranslateBrowsePathsToNodeIds,
+            maxMonitoredItemsPerCall
+        );
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("maxNodesPerRead", maxNodesPerRead)
+            .add("maxNodesPerWrite", maxNodesPerWrite)
+            .add("maxNodesPerBrowse", maxNodesPerBrowse)
+            .add("maxNodesPerMethodCall", maxNodesPerMethodCall)
+            .add("maxNodesPerHistoryReadData", maxNodesPerHistoryReadData)
+            .add("maxNodesPerHistoryReadEvents", maxNodesPerHistoryReadEvents)
+            .add("maxNodesPerRegisterNodes", maxNodesPerRegisterNodes)
+            .add("maxNodesPerTranslateBrowsePathsToNodeIds", maxNodesPerTranslateBrowsePathsToNodeIds)
+            .add("maxMonitoredItemsPerCall", maxMonitoredItemsPerCall)
+            .toString();
+    }
+
+    /**
+     * Read the {@link OperationLimits} from the server {@code session} is connected to, in a single request.
+     * <p>
+     * Limits the server does not report, or reports with a bad status, are set to 0.
+     *
+     * @param client  the {@link OpcUaClient} to send the request with.
+     * @param session the {@link OpcUaSession} to send the request on.
+     * @return the {@link OperationLimits} read from the server.
+     */
+    static CompletableFuture<OperationLimits> readAsync(OpcUaClient client, OpcUaSession session) {
+        ReadValueId[] readValueIds = new ReadValueId[LIMIT_NODE_IDS.length];
+
+        for (int i = 0; i < LIMIT_NODE_IDS.length; i++) {
+            readValueIds[i] = new ReadValueId(
+                LIMIT_NODE_IDS[i],
+                AttributeId.Value.uid(),
+                null,
+                QualifiedName.NULL_VALUE
+            );
+        }
+
+        ReadRequest request = new ReadRequest(
+            client.newRequestHeader(session.getAuthenticationToken()),
+            0.0,
+            TimestampsToReturn.Neither,
+            readValueIds
+        );
+
+        return client.<ReadResponse>sendRequest(request).thenApply(response -> {
+            DataValue[] results = Objects.requireNonNull(response.getResults());
+
+            UInteger[] limits = new UInteger[LIMIT_NODE_IDS.length];
+
+            for (int i = 0; i < limits.length; i++) {
+                Object value = i < results.length ? results[i].getValue().getValue() : null;
+
+                limits[i] = value instanceof UInteger ? (UInteger) value : uint(0);
+            }
+
+            return new OperationLimits(
+                limits[0], limits[1], limits[2], limits[3], limits[4],
+                limits[5], limits[6], limits[7], limits[8]
+            );
+        });
+    }
+
+}
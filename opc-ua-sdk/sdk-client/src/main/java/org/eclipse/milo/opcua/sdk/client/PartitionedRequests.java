@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.google.common.collect.Lists;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Splits a service call with more operations than a server allows per request into multiple requests, sends them with
+ * a bounded number in flight, and collects the responses in request order.
+ */
+final class PartitionedRequests {
+
+    private PartitionedRequests() {}
+
+    /**
+     * Send {@code operations} in requests of at most {@code operationLimit} operations each, with at most
+     * {@code maxInFlight} requests outstanding at a time.
+     * <p>
+     * If any request fails no further requests are sent and the returned future completes exceptionally.
+     *
+     * @param operations     the operations to send.
+     * @param operationLimit the maximum number of operations per request, or 0 for no limit.
+     * @param maxInFlight    the maximum number of requests outstanding at a time.
+     * @param send           sends one request containing the given operations.
+     * @return the responses, in the same order as the partitions of {@code operations} they answer.
+     */
+    static <T, R> CompletableFuture<List<R>> send(
+        List<T> operations,
+        int operationLimit,
+        int maxInFlight,
+        Function<List<T>, CompletableFuture<R>> send
+    ) {
+
+        if (operationLimit <= 0 || operations.size() <= operationLimit) {
+            return send.apply(operations).thenApply(Collections::singletonList);
+        }
+
+        List<List<T>> partitions = Lists.partition(operations, operationLimit);
+
+        List<CompletableFuture<R>> futures = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            futures.add(new CompletableFuture<>());
+        }
+
+        AtomicInteger nextIndex = new AtomicInteger(Math.min(Math.max(maxInFlight, 1), partitions.size()));
+        AtomicBoolean failed = new AtomicBoolean(false);
+
+        for (int i = 0; i < nextIndex.get(); i++) {
+            sendPartition(i, partitions, futures, nextIndex, failed, send);
+        }
+
+        return FutureUtils.sequence(futures);
+    }
+
+    private static <T, R> void sendPartition(
+        int index,
+        List<List<T>> partitions,
+        List<CompletableFuture<R>> futures,
+        AtomicInteger nextIndex,
+        AtomicBoolean failed,
+        Function<List<T>, CompletableFuture<R>> send
+    ) {
+
+        send.apply(partitions.get(index)).whenComplete((response, ex) -> {
+            if (ex != null) {
+                failed.set(true);
+                futures.get(index).completeExceptionally(ex);
+                // fail the partitions that won't be sent now
+                futures.forEach(f -> f.completeExceptionally(ex));
+            } else {
+                futures.get(index).complete(response);
+
+                if (!failed.get()) {
+                    int next = nextIndex.getAndIncrement();
+                    if (next < partitions.size()) {
+                        sendPartition(next, partitions, futures, nextIndex, failed, send);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Concatenate the per-operation results of each response, in order.
+     *
+     * @param responses  the responses to concatenate the results of.
+     * @param getResults gets the results of a response; may return {@code null}.
+     * @param clazz      the result class.
+     * @return the concatenated results.
+     */
+    @SuppressWarnings("unchecked")
+    static <R, T> T[] concat(List<R> responses, Function<R, T[]> getResults, Class<T> clazz) {
+        int length = 0;
+        for (R response : responses) {
+            T[] results = getResults.apply(response);
+            length += results != null ? results.length : 0;
+        }
+
+        T[] concatenated = (T[]) Array.newInstance(clazz, length);
+
+        int offset = 0;
+        for (R response : responses) {
+            T[] results = getResults.apply(response);
+            if (results != null) {
+                System.arraycopy(results, 0, concatenated, offset, results.length);
+                offset += results.length;
+            }
+        }
+
+        return concatenated;
+    }
+
+    /**
+     * Concatenate the per-operation DiagnosticInfos of each response, in order.
+     * <p>
+     * Responses that returned no DiagnosticInfos contribute {@link DiagnosticInfo#NULL_VALUE} for each of their
+     * operations, so the concatenated DiagnosticInfos stay aligned with the concatenated results.
+     *
+     * @param responses      the responses to concatenate the DiagnosticInfos of.
+     * @param getResults     gets the results of a response; may return {@code null}.
+     * @param getDiagnostics gets the DiagnosticInfos of a response; may return {@code null}.
+     * @return the concatenated DiagnosticInfos, or {@code null} if no response returned any.
+     */
+    @Nullable
+    static <R> DiagnosticInfo[] concatDiagnostics(
+        List<R> responses,
+        Function<R, Object[]> getResults,
+        Function<R, DiagnosticInfo[]> getDiagnostics
+    ) {
+
+        boolean anyDiagnostics = false;
+        for (R response : responses) {
+            DiagnosticInfo[] diagnostics = getDiagnostics.apply(response);
+            if (diagnostics != null && diagnostics.length > 0) {
+                anyDiagnostics = true;
+                break;
+            }
+        }
+
+        if (!anyDiagnostics) return null;
+
+        List<DiagnosticInfo> concatenated = new ArrayList<>();
+
+        for (R response : responses) {
+            Object[] results = getResults.apply(response);
+            DiagnosticInfo[] diagnostics = getDiagnostics.apply(response);
+            int length = results != null ? results.length : 0;
+
+            for (int i = 0; i < length; i++) {
+                if (diagnostics != null && i < diagnostics.length) {
+                    concatenated.add(diagnostics[i]);
+                } else {
+                    concatenated.add(DiagnosticInfo.NULL_VALUE);
+                }
+            }
+        }
+
+        return concatenated.toArray(new DiagnosticInfo[0]);
+    }
+
+}
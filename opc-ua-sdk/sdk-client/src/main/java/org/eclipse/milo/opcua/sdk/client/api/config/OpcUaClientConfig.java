@@ -19,6 +19,8 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.PublishRequest;
 
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
 public interface OpcUaClientConfig extends UaStackClientConfig {
 
     /**
@@ -91,6 +93,28 @@ public interface OpcUaClientConfig extends UaStackClientConfig {
      */
     double getSubscriptionWatchdogMultiplier();
 
+    /**
+     * The maximum number of requests that may be in flight at once when a service call has more operations than the
+     * server's OperationLimits allow and is split into multiple requests.
+     *
+     * @return the maximum number of requests per service call that may be in flight at once.
+     */
+    default UInteger getMaxInFlightRequestsPerCall() {
+        return uint(4);
+    }
+
+    /**
+     * The maximum number of NotificationMessages that may be waiting for delivery to a subscription's listeners
+     * before PublishResponses for that subscription stop freeing up PublishRequests until they are delivered.
+     * <p>
+     * Each subscription delivers its NotificationMessages in order, but independently of other subscriptions.
+     *
+     * @return the maximum number of NotificationMessages per subscription that may be waiting for delivery.
+     */
+    default UInteger getMaxDeliveryBacklog() {
+        return uint(8);
+    }
+
     /**
      * @return a new {@link OpcUaClientConfigBuilder}.
      */
@@ -118,10 +142,12 @@ public interface OpcUaClientConfig extends UaStackClientConfig {
         builder.setApplicationUri(config.getApplicationUri());
         builder.setProductUri(config.getProductUri());
         builder.setEncodingLimits(config.getEncodingLimits());
+        builder.setFlushConsolidation(config.getFlushConsolidation());
         builder.setChannelLifetime(config.getChannelLifetime());
         builder.setExecutor(config.getExecutor());
+        builder.setVirtualThreadsEnabled(config.isVirtualThreadsEnabled());
         builder.setScheduledExecutor(config.getScheduledExecutor());
-        builder.setEventLoop(config.getEventLoop());
+        builder.setTransportEventLoop(config.getTransportEventLoop());
         builder.setWheelTimer(config.getWheelTimer());
         builder.setConnectTimeout(config.getConnectTimeout());
         builder.setAcknowledgeTimeout(config.getAcknowledgeTimeout());
@@ -139,6 +165,8 @@ public interface OpcUaClientConfig extends UaStackClientConfig {
         builder.setKeepAliveTimeout(config.getKeepAliveTimeout());
         builder.setSessionLocaleIds(config.getSessionLocaleIds());
         builder.setSubscriptionWatchdogMultiplier(config.getSubscriptionWatchdogMultiplier());
+        builder.setMaxInFlightRequestsPerCall(config.getMaxInFlightRequestsPerCall());
+        builder.setMaxDeliveryBacklog(config.getMaxDeliveryBacklog());
 
         return builder;
     }
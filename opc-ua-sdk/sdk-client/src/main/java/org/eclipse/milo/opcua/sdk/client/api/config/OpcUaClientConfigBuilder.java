@@ -17,6 +17,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.HashedWheelTimer;
 import org.eclipse.milo.opcua.sdk.client.api.identity.AnonymousProvider;
@@ -25,6 +26,7 @@ import org.eclipse.milo.opcua.stack.client.UaStackClientConfig;
 import org.eclipse.milo.opcua.stack.client.UaStackClientConfigBuilder;
 import org.eclipse.milo.opcua.stack.client.security.ClientCertificateValidator;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.channel.FlushConsolidation;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
@@ -50,6 +52,8 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
     private UInteger keepAliveInterval = uint(5000);
     private UInteger keepAliveTimeout = uint(5000);
     private double subscriptionWatchdogMultiplier = 2.0;
+    private UInteger maxInFlightRequestsPerCall = uint(4);
+    private UInteger maxDeliveryBacklog = uint(8);
 
     public OpcUaClientConfigBuilder setApplicationName(LocalizedText applicationName) {
         this.applicationName = applicationName;
@@ -116,6 +120,16 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
         return this;
     }
 
+    public OpcUaClientConfigBuilder setMaxInFlightRequestsPerCall(UInteger maxInFlightRequestsPerCall) {
+        this.maxInFlightRequestsPerCall = maxInFlightRequestsPerCall;
+        return this;
+    }
+
+    public OpcUaClientConfigBuilder setMaxDeliveryBacklog(UInteger maxDeliveryBacklog) {
+        this.maxDeliveryBacklog = maxDeliveryBacklog;
+        return this;
+    }
+
     @Override
     public OpcUaClientConfigBuilder setEndpoint(EndpointDescription endpoint) {
         super.setEndpoint(endpoint);
@@ -159,11 +173,27 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
     }
 
     @Override
+    public OpcUaClientConfigBuilder setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        super.setVirtualThreadsEnabled(virtualThreadsEnabled);
+        return this;
+    }
+
+    /**
+     * @deprecated use {@link #setTransportEventLoop(EventLoopGroup)}.
+     */
+    @Override
+    @Deprecated
     public OpcUaClientConfigBuilder setEventLoop(NioEventLoopGroup eventLoop) {
         super.setEventLoop(eventLoop);
         return this;
     }
 
+    @Override
+    public OpcUaClientConfigBuilder setTransportEventLoop(EventLoopGroup eventLoop) {
+        super.setTransportEventLoop(eventLoop);
+        return this;
+    }
+
     @Override
     public OpcUaClientConfigBuilder setScheduledExecutor(ScheduledExecutorService scheduledExecutor) {
         super.setScheduledExecutor(scheduledExecutor);
@@ -182,6 +212,12 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
         return this;
     }
 
+    @Override
+    public OpcUaClientConfigBuilder setFlushConsolidation(FlushConsolidation flushConsolidation) {
+        super.setFlushConsolidation(flushConsolidation);
+        return this;
+    }
+
     @Override
     public OpcUaClientConfigBuilder setConnectTimeout(UInteger connectTimeout) {
         super.setConnectTimeout(connectTimeout);
@@ -225,7 +261,9 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
             keepAliveFailuresAllowed,
             keepAliveInterval,
             keepAliveTimeout,
-            subscriptionWatchdogMultiplier
+            subscriptionWatchdogMultiplier,
+            maxInFlightRequestsPerCall,
+            maxDeliveryBacklog
         );
     }
 
@@ -245,6 +283,8 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
         private final UInteger keepAliveInterval;
         private final UInteger keepAliveTimeout;
         private final double subscriptionWatchdogMultiplier;
+        private final UInteger maxInFlightRequestsPerCall;
+        private final UInteger maxDeliveryBacklog;
 
         OpcUaClientConfigImpl(
             UaStackClientConfig stackClientConfig,
@@ -260,7 +300,9 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
             UInteger keepAliveFailuresAllowed,
             UInteger keepAliveInterval,
             UInteger keepAliveTimeout,
-            double subscriptionWatchdogMultiplier
+            double subscriptionWatchdogMultiplier,
+            UInteger maxInFlightRequestsPerCall,
+            UInteger maxDeliveryBacklog
         ) {
 
             this.stackClientConfig = stackClientConfig;
@@ -277,6 +319,8 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
             this.keepAliveInterval = keepAliveInterval;
             this.keepAliveTimeout = keepAliveTimeout;
             this.subscriptionWatchdogMultiplier = subscriptionWatchdogMultiplier;
+            this.maxInFlightRequestsPerCall = maxInFlightRequestsPerCall;
+            this.maxDeliveryBacklog = maxDeliveryBacklog;
         }
 
         @Override
@@ -344,6 +388,16 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
             return subscriptionWatchdogMultiplier;
         }
 
+        @Override
+        public UInteger getMaxInFlightRequestsPerCall() {
+            return maxInFlightRequestsPerCall;
+        }
+
+        @Override
+        public UInteger getMaxDeliveryBacklog() {
+            return maxDeliveryBacklog;
+        }
+
         @Override
         public EndpointDescription getEndpoint() {
             return stackClientConfig.getEndpoint();
@@ -374,6 +428,11 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
             return stackClientConfig.getEncodingLimits();
         }
 
+        @Override
+        public FlushConsolidation getFlushConsolidation() {
+            return stackClientConfig.getFlushConsolidation();
+        }
+
         @Override
         public UInteger getChannelLifetime() {
             return stackClientConfig.getChannelLifetime();
@@ -384,16 +443,27 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
             return stackClientConfig.getExecutor();
         }
 
+        @Override
+        public boolean isVirtualThreadsEnabled() {
+            return stackClientConfig.isVirtualThreadsEnabled();
+        }
+
         @Override
         public ScheduledExecutorService getScheduledExecutor() {
             return stackClientConfig.getScheduledExecutor();
         }
 
         @Override
+        @SuppressWarnings("deprecation")
         public NioEventLoopGroup getEventLoop() {
             return stackClientConfig.getEventLoop();
         }
 
+        @Override
+        public EventLoopGroup getTransportEventLoop() {
+            return stackClientConfig.getTransportEventLoop();
+        }
+
         @Override
         public HashedWheelTimer getWheelTimer() {
             return stackClientConfig.getWheelTimer();
@@ -27,10 +27,7 @@ import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimaps;
 import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
-import org.eclipse.milo.opcua.sdk.client.nodes.UaVariableNode;
 import org.eclipse.milo.opcua.sdk.core.util.GroupMapCollate;
-import org.eclipse.milo.opcua.stack.core.AttributeId;
-import org.eclipse.milo.opcua.stack.core.Identifiers;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
@@ -258,16 +255,12 @@ public class BatchModifyMonitoredItems {
     }
 
     private static CompletableFuture<UInteger> readOperationLimit(OpcUaClient client) {
-        CompletableFuture<UaVariableNode> nodeFuture = client.getAddressSpace().getVariableNodeAsync(
-            Identifiers.Server_ServerCapabilities_OperationLimits_MaxMonitoredItemsPerCall
-        );
+        return client.getOperationLimits().thenApply(limits -> {
+            UInteger limit = limits.getMaxMonitoredItemsPerCall();
 
-        return nodeFuture.thenCompose(
-            variableNode ->
-                variableNode.readAttributeAsync(AttributeId.Value)
-                    .thenApply(v -> (UInteger) v.getValue().getValue())
-                    .exceptionally(ex -> uint(1000))
-        );
+            // 0 means the server has no limit or it couldn't be read
+            return limit.longValue() > 0 ? limit : uint(1000);
+        });
     }
 
     /**
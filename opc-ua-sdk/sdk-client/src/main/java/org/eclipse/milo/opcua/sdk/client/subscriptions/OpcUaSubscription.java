@@ -41,6 +41,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemModifyRes
 import org.eclipse.milo.opcua.stack.core.types.structured.SetMonitoringModeResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.SetTriggeringResponse;
 import org.eclipse.milo.opcua.stack.core.util.AsyncSemaphore;
+import org.eclipse.milo.opcua.stack.core.util.ExecutionQueue;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Lists.newArrayListWithCapacity;
@@ -56,6 +57,8 @@ public class OpcUaSubscription implements UaSubscription {
 
     private final AsyncSemaphore notificationSemaphore = new AsyncSemaphore(1);
 
+    private final AtomicLong deliveryBacklog = new AtomicLong(0L);
+
     private final ClientHandleSequence clientHandleSequence = new ClientHandleSequence(
         itemsByClientHandle::containsKey
     );
@@ -79,6 +82,7 @@ public class OpcUaSubscription implements UaSubscription {
 
     private final OpcUaClient client;
     private final UInteger subscriptionId;
+    private final ExecutionQueue deliveryQueue;
 
     public OpcUaSubscription(
         OpcUaClient client,
@@ -98,6 +102,8 @@ public class OpcUaSubscription implements UaSubscription {
         this.maxNotificationsPerPublish = maxNotificationsPerPublish;
         this.publishingEnabled = publishingEnabled;
         this.priority = priority;
+
+        deliveryQueue = new ExecutionQueue(client.getConfig().getExecutor());
     }
 
     @Override
@@ -389,10 +395,28 @@ public class OpcUaSubscription implements UaSubscription {
         return notificationListeners;
     }
 
+    /**
+     * Get the number of NotificationMessages received for this subscription that have not been delivered to its
+     * listeners yet.
+     *
+     * @return the number of NotificationMessages waiting for delivery.
+     */
+    public long getDeliveryBacklog() {
+        return deliveryBacklog.get();
+    }
+
     AsyncSemaphore getNotificationSemaphore() {
         return notificationSemaphore;
     }
 
+    AtomicLong getDeliveryBacklogCounter() {
+        return deliveryBacklog;
+    }
+
+    ExecutionQueue getDeliveryQueue() {
+        return deliveryQueue;
+    }
+
     Map<UInteger, OpcUaMonitoredItem> getItemsByClientHandle() {
         return itemsByClientHandle;
     }
@@ -83,15 +83,15 @@ public class OpcUaSubscriptionManager implements UaSubscriptionManager {
 
     private final ConcurrentMap<NodeId, AtomicLong> pendingCountMap = Maps.newConcurrentMap();
 
-    private final ExecutionQueue deliveryQueue;
     private final ExecutionQueue processingQueue;
 
+    private volatile boolean deliveryPaused = false;
+
     private final OpcUaClient client;
 
     public OpcUaSubscriptionManager(OpcUaClient client) {
         this.client = client;
 
-        deliveryQueue = new ExecutionQueue(client.getConfig().getExecutor());
         processingQueue = new ExecutionQueue(client.getConfig().getExecutor());
 
         client.addSessionActivityListener(new SessionActivityListener() {
@@ -203,7 +203,7 @@ public class OpcUaSubscriptionManager implements UaSubscriptionManager {
                     subscription.setRevisedLifetimeCount(modifyResponse.getRevisedLifetimeCount());
                     subscription.setRevisedMaxKeepAliveCount(modifyResponse.getRevisedMaxKeepAliveCount());
 
-                    subscriptions.put(subscription.getSubscriptionId(), subscription);
+                    addSubscription(subscription);
 
                     WatchdogTimer watchdogTimer = new WatchdogTimer(
                         subscription,
@@ -217,7 +217,7 @@ public class OpcUaSubscriptionManager implements UaSubscriptionManager {
                     return subscription;
                 });
             } else {
-                subscriptions.put(subscription.getSubscriptionId(), subscription);
+                addSubscription(subscription);
 
                 WatchdogTimer watchdogTimer = new WatchdogTimer(
                     subscription,
@@ -370,6 +370,14 @@ public class OpcUaSubscriptionManager implements UaSubscriptionManager {
         });
     }
 
+    private void addSubscription(OpcUaSubscription subscription) {
+        subscriptions.put(subscription.getSubscriptionId(), subscription);
+
+        if (deliveryPaused) {
+            subscription.getDeliveryQueue().pause();
+        }
+    }
+
     @Override
     public CompletableFuture<UaSubscription> deleteSubscription(UInteger subscriptionId) {
         List<UInteger> subscriptionIds = newArrayList(subscriptionId);
@@ -694,11 +702,27 @@ public class OpcUaSubscriptionManager implements UaSubscriptionManager {
         }
     }
 
+    /**
+     * Queue {@code notificationMessage} for delivery on {@code subscription}'s delivery queue.
+     * <p>
+     * Each subscription delivers its NotificationMessages in order, but independently of every other subscription.
+     *
+     * @param subscription        the {@link OpcUaSubscription} the NotificationMessage belongs to.
+     * @param notificationMessage the {@link NotificationMessage} to deliver.
+     * @return a {@link CompletableFuture} that completes immediately if the subscription's delivery backlog is within
+     * {@link org.eclipse.milo.opcua.sdk.client.api.config.OpcUaClientConfig#getMaxDeliveryBacklog()}, or once
+     * {@code notificationMessage} has been delivered otherwise.
+     */
     private CompletableFuture<Unit> deliverNotificationMessage(
         OpcUaSubscription subscription, NotificationMessage notificationMessage) {
 
         CompletableFuture<Unit> delivered = new CompletableFuture<>();
 
+        AtomicLong backlog = subscription.getDeliveryBacklogCounter();
+        long backlogSize = backlog.incrementAndGet();
+
+        ExecutionQueue deliveryQueue = subscription.getDeliveryQueue();
+
         subscription.getNotificationSemaphore().acquire().thenAccept(permit -> deliveryQueue.submit(() -> {
             try {
                 Map<UInteger, OpcUaMonitoredItem> items = subscription.getItemsByClientHandle();
@@ -822,13 +846,21 @@ public class OpcUaSubscriptionManager implements UaSubscriptionManager {
                     }
                 }
             } finally {
+                backlog.decrementAndGet();
                 permit.release();
 
                 delivered.complete(Unit.VALUE);
             }
         }));
 
-        return delivered;
+        if (backlogSize <= client.getConfig().getMaxDeliveryBacklog().longValue()) {
+            return completedFuture(Unit.VALUE);
+        } else {
+            logger.debug("[id={}] delivery backlog={}, waiting for delivery",
+                subscription.getSubscriptionId(), backlogSize);
+
+            return delivered;
+        }
     }
 
     public void startPublishing() {
@@ -840,11 +872,15 @@ public class OpcUaSubscriptionManager implements UaSubscriptionManager {
     }
 
     public void pauseDelivery() {
-        deliveryQueue.pause();
+        deliveryPaused = true;
+
+        subscriptions.values().forEach(s -> s.getDeliveryQueue().pause());
     }
 
     public void resumeDelivery() {
-        deliveryQueue.resume();
+        deliveryPaused = false;
+
+        subscriptions.values().forEach(s -> s.getDeliveryQueue().resume());
     }
 
     /**
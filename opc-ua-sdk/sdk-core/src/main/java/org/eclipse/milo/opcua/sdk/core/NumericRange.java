@@ -14,6 +14,7 @@ import java.lang.reflect.Array;
 import java.util.Arrays;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Primitives;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
@@ -143,10 +144,7 @@ public final class NumericRange {
                 Class<?> type = array.getClass().getComponentType();
                 Object a = Array.newInstance(type, len);
 
-                for (int i = 0; i < len; i++) {
-                    Object element = Array.get(array, low + i);
-                    Array.set(a, i, element);
-                }
+                System.arraycopy(array, low, a, 0, len);
 
                 return a;
             } else if (array instanceof String) {
@@ -209,7 +207,7 @@ public final class NumericRange {
                 Class<?> currentType = ArrayUtil.getType(current);
                 Class<?> updateType = ArrayUtil.getType(update);
 
-                if (currentType != updateType) {
+                if (Primitives.wrap(currentType) != Primitives.wrap(updateType)) {
                     throw new UaException(
                         StatusCodes.Bad_TypeMismatch,
                         String.format("currentType=%s, updateType=%s", current, update));
@@ -222,13 +220,14 @@ public final class NumericRange {
                     throw new UaException(StatusCodes.Bad_IndexRangeNoData);
                 }
 
-                for (int i = 0; i < length; i++) {
-                    if (i < low || i > high) {
-                        Object element = Array.get(current, i);
-                        Array.set(copy, i, element);
-                    } else {
-                        Object element = Array.get(update, i - low);
-                        Array.set(copy, i, element);
+                System.arraycopy(current, 0, copy, 0, length);
+
+                if (currentType == updateType) {
+                    System.arraycopy(update, 0, copy, low, high - low + 1);
+                } else {
+                    // boxed update to a primitive array, or vice versa
+                    for (int i = low; i <= high; i++) {
+                        Array.set(copy, i, Array.get(update, i - low));
                     }
                 }
 
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.history;
+
+/**
+ * Decides when the segment files of a historized Node are rewritten to reclaim the space held by deleted, replaced,
+ * and expired entries.
+ */
+public interface CompactionPolicy {
+
+    /**
+     * @param liveRecords  the number of entries that are still part of the history.
+     * @param totalRecords the number of entries stored in the segment files, including those no longer part of the
+     *                     history.
+     * @return {@code true} if the segment files should be compacted.
+     */
+    boolean shouldCompact(long liveRecords, long totalRecords);
+
+    /**
+     * @return a {@link CompactionPolicy} that never compacts.
+     */
+    static CompactionPolicy never() {
+        return (liveRecords, totalRecords) -> false;
+    }
+
+    /**
+     * @param ratio the fraction of stored entries, between 0 and 1, that must be dead before compacting.
+     * @return a {@link CompactionPolicy} that compacts once at least {@code ratio} of the stored entries are dead.
+     */
+    static CompactionPolicy deadRatio(double ratio) {
+        return (liveRecords, totalRecords) ->
+            totalRecords > 0 && (totalRecords - liveRecords) >= ratio * totalRecords;
+    }
+
+}
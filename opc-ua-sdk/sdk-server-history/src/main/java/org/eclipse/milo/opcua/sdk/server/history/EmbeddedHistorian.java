@@ -0,0 +1,1089 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.history;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.Maps;
+import org.eclipse.milo.opcua.sdk.core.NumericRange;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.AbstractLifecycle;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.SessionListener;
+import org.eclipse.milo.opcua.sdk.server.api.DataItem;
+import org.eclipse.milo.opcua.sdk.server.api.EventItem;
+import org.eclipse.milo.opcua.sdk.server.api.services.AttributeHistoryServices;
+import org.eclipse.milo.opcua.sdk.server.events.CompiledEventFilter;
+import org.eclipse.milo.opcua.sdk.server.events.EventTypeLayout;
+import org.eclipse.milo.opcua.sdk.server.events.FilterContext;
+import org.eclipse.milo.opcua.sdk.server.events.FlyweightEvent;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.services.helpers.BrowseHelper.BrowseContinuationPoint;
+import org.eclipse.milo.opcua.sdk.server.subscriptions.Subscription;
+import org.eclipse.milo.opcua.sdk.server.util.SubscriptionModel;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.PerformUpdateType;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.DeleteAtTimeDetails;
+import org.eclipse.milo.opcua.stack.core.types.structured.DeleteRawModifiedDetails;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryData;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryEvent;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryEventFieldList;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadDetails;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryUpdateDetails;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryUpdateResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadEventDetails;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRawModifiedDetails;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.UpdateDataDetails;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * A historian that stores the history of Variable values and events on local disk and serves HistoryRead and
+ * HistoryUpdate for them.
+ * <p>
+ * The history of each Node is an append-only log of records in memory-mapped segment files, with an in-memory index
+ * from time to record location (see {@link HistorySeries}). Reads decode records straight out of the mapped files
+ * one page at a time, so a large time range is streamed to the client through continuation points rather than
+ * loaded onto the heap.
+ * <p>
+ * Values are recorded by calling {@link #record(NodeId, DataValue)}, or by {@link #historize(NodeId, double)}, which
+ * samples the Node's Value attribute through the same {@link SubscriptionModel} used for monitored items and records
+ * each change. Events are recorded by calling {@link #record(NodeId, FlyweightEvent)}, or by
+ * {@link #historizeEvents(NodeId)}, which records every event the Server's
+ * {@link org.eclipse.milo.opcua.sdk.server.events.EventRouter} routes to a notifier.
+ * <p>
+ * To serve history for the Nodes of an AddressSpace, delegate its {@link AttributeHistoryServices} methods to this
+ * historian.
+ */
+public class EmbeddedHistorian extends AbstractLifecycle implements AttributeHistoryServices {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ConcurrentMap<NodeId, HistorySeries> valueSeries = Maps.newConcurrentMap();
+    private final ConcurrentMap<NodeId, HistorySeries> eventSeries = Maps.newConcurrentMap();
+
+    private final ConcurrentMap<NodeId, HistorianDataItem> dataItems = Maps.newConcurrentMap();
+    private final ConcurrentMap<NodeId, HistorianEventItem> eventItems = Maps.newConcurrentMap();
+
+    private final ConcurrentMap<ByteString, ReadOperation> continuationPoints = Maps.newConcurrentMap();
+
+    private final AtomicLong itemIds = new AtomicLong(0L);
+
+    private final SessionListener sessionListener = new SessionListener() {
+        @Override
+        public void onSessionClosed(Session session) {
+            continuationPoints.values().removeIf(
+                operation -> session.getSessionId().equals(operation.sessionId)
+            );
+        }
+    };
+
+    private volatile ScheduledFuture<?> maintenanceFuture;
+
+    private final SubscriptionModel subscriptionModel;
+
+    private final OpcUaServer server;
+    private final HistorianConfig config;
+
+    public EmbeddedHistorian(OpcUaServer server, HistorianConfig config) {
+        this.server = server;
+        this.config = config;
+
+        subscriptionModel = new SubscriptionModel(server, server.getAddressSpaceManager());
+    }
+
+    public HistorianConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    protected void onStartup() {
+        try {
+            for (HistorySeries.SeriesId id : HistorySeries.listSeries(config.getDirectory())) {
+                try {
+                    openSeries(id.kind, id.nodeId);
+                } catch (UaException e) {
+                    logger.error("Failed to open history in {}", id.path, e);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Failed to list history in {}", config.getDirectory(), e);
+        }
+
+        maintain();
+
+        subscriptionModel.startup();
+
+        server.getSessionManager().addSessionListener(sessionListener);
+
+        long interval = config.getMaintenanceInterval().toMillis();
+
+        maintenanceFuture = server.getScheduledExecutorService().scheduleWithFixedDelay(
+            () -> server.getExecutorService().execute(this::maintain),
+            interval,
+            interval,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    protected void onShutdown() {
+        ScheduledFuture<?> future = maintenanceFuture;
+        if (future != null) future.cancel(false);
+
+        server.getSessionManager().removeSessionListener(sessionListener);
+
+        eventItems.values().forEach(item -> server.getEventRouter().unregister(item));
+        eventItems.clear();
+
+        subscriptionModel.onDataItemsDeleted(new ArrayList<>(dataItems.values()));
+        subscriptionModel.shutdown();
+        dataItems.clear();
+
+        continuationPoints.clear();
+
+        closeAll(valueSeries);
+        closeAll(eventSeries);
+    }
+
+    /**
+     * Start recording the Value attribute of the Node identified by {@code nodeId}, sampled every
+     * {@code samplingInterval} milliseconds. A value is recorded whenever its value, status, or source timestamp
+     * changes.
+     *
+     * @param nodeId           the {@link NodeId} of the Variable Node to historize.
+     * @param samplingInterval the sampling interval, in milliseconds.
+     * @throws UaException if the history of the Node could not be opened.
+     */
+    public void historize(NodeId nodeId, double samplingInterval) throws UaException {
+        openSeries(HistorySeries.Kind.VALUES, nodeId);
+
+        HistorianDataItem item = new HistorianDataItem(nodeId, samplingInterval);
+        HistorianDataItem previous = dataItems.put(nodeId, item);
+
+        if (previous != null) {
+            subscriptionModel.onDataItemsDeleted(Collections.singletonList(previous));
+        }
+
+        subscriptionModel.onDataItemsCreated(Collections.singletonList(item));
+    }
+
+    /**
+     * Stop sampling the Node identified by {@code nodeId}. Its recorded history is kept.
+     *
+     * @param nodeId the {@link NodeId} of the historized Variable Node.
+     */
+    public void stopHistorizing(NodeId nodeId) {
+        HistorianDataItem item = dataItems.remove(nodeId);
+
+        if (item != null) {
+            subscriptionModel.onDataItemsDeleted(Collections.singletonList(item));
+        }
+    }
+
+    /**
+     * Start recording every event reported through the notifier identified by {@code notifierId}.
+     *
+     * @param notifierId the {@link NodeId} of the notifier.
+     * @throws UaException if the event history of the notifier could not be opened.
+     */
+    public void historizeEvents(NodeId notifierId) throws UaException {
+        openSeries(HistorySeries.Kind.EVENTS, notifierId);
+
+        HistorianEventItem item = eventItems.computeIfAbsent(notifierId, HistorianEventItem::new);
+
+        server.getEventRouter().register(item);
+    }
+
+    /**
+     * Stop recording events reported through the notifier identified by {@code notifierId}. Its recorded history is
+     * kept.
+     *
+     * @param notifierId the {@link NodeId} of the notifier.
+     */
+    public void stopHistorizingEvents(NodeId notifierId) {
+        HistorianEventItem item = eventItems.remove(notifierId);
+
+        if (item != null) {
+            server.getEventRouter().unregister(item);
+        }
+    }
+
+    /**
+     * Record {@code value} in the history of the Node identified by {@code nodeId}, replacing any value recorded at
+     * the same time.
+     * <p>
+     * Values are indexed by their source timestamp, or by their server timestamp if they have no source timestamp.
+     *
+     * @param nodeId the {@link NodeId} of the Variable Node.
+     * @param value  the value to record.
+     * @throws UaException if {@code value} has no timestamp or could not be written.
+     */
+    public void record(NodeId nodeId, DataValue value) throws UaException {
+        long time = timeOf(value);
+
+        if (time == Long.MIN_VALUE) {
+            throw new UaException(StatusCodes.Bad_InvalidTimestamp);
+        }
+
+        HistorySeries series = openSeries(HistorySeries.Kind.VALUES, nodeId);
+
+        try {
+            series.writeValue(time, value, true, true);
+        } catch (IOException e) {
+            throw new UaException(StatusCodes.Bad_InternalError, e);
+        }
+    }
+
+    /**
+     * Record {@code event} in the event history of the notifier identified by {@code notifierId}.
+     * <p>
+     * Events are indexed by their Time field, or by the current time if they have none. Every non-null field is
+     * stored, so any {@link org.eclipse.milo.opcua.stack.core.types.structured.EventFilter} can be applied when the
+     * history is read.
+     *
+     * @param notifierId the {@link NodeId} of the notifier.
+     * @param event      the event to record.
+     * @throws UaException if the event could not be written.
+     */
+    public void record(NodeId notifierId, FlyweightEvent event) throws UaException {
+        DateTime eventTime = event.getTime();
+
+        long time = eventTime != null && !eventTime.isNull() ?
+            eventTime.getUtcTime() : DateTime.now().getUtcTime();
+
+        HistorySeries series = openSeries(HistorySeries.Kind.EVENTS, notifierId);
+
+        try {
+            series.appendEvent(time, encoder -> {
+                EventTypeLayout layout = event.getLayout();
+
+                encoder.writeNodeId(event.getNodeId());
+                encoder.writeNodeId(event.getEventTypeId());
+
+                List<Integer> indices = new ArrayList<>();
+                for (int i = 0; i < layout.getFieldCount(); i++) {
+                    if (event.getFieldValue(i).isNotNull()) indices.add(i);
+                }
+
+                encoder.writeInt32(indices.size());
+
+                for (int i : indices) {
+                    List<QualifiedName> browsePath = layout.getBrowsePath(i);
+
+                    encoder.writeInt32(browsePath.size());
+                    for (QualifiedName browseName : browsePath) {
+                        encoder.writeQualifiedName(browseName);
+                    }
+                    encoder.writeVariant(event.getFieldValue(i));
+                }
+            });
+        } catch (IOException e) {
+            throw new UaException(StatusCodes.Bad_InternalError, e);
+        }
+    }
+
+    /**
+     * Apply the {@link RetentionPolicy} and {@link CompactionPolicy} to every series and flush the segment files.
+     * <p>
+     * Called periodically at the configured maintenance interval.
+     */
+    public void maintain() {
+        DateTime now = DateTime.now();
+
+        List<HistorySeries> all = new ArrayList<>(valueSeries.values());
+        all.addAll(eventSeries.values());
+
+        for (HistorySeries series : all) {
+            try {
+                DateTime cutoff = config.getRetentionPolicy().getCutoffTime(series.getNodeId(), now);
+
+                if (cutoff != null && !cutoff.isNull()) {
+                    series.discardBefore(cutoff.getUtcTime());
+                }
+
+                if (series.shouldCompact(config.getCompactionPolicy())) {
+                    series.compact();
+                }
+
+                series.force();
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Maintenance failed for history of {}", series.getNodeId(), e);
+            }
+        }
+    }
+
+    //region AttributeHistoryServices
+
+    @Override
+    public void historyRead(
+        HistoryReadContext context,
+        HistoryReadDetails readDetails,
+        TimestampsToReturn timestamps,
+        List<HistoryReadValueId> readValueIds
+    ) {
+
+        server.getExecutorService().execute(() -> {
+            List<HistoryReadResult> results = new ArrayList<>(readValueIds.size());
+
+            for (HistoryReadValueId readValueId : readValueIds) {
+                try {
+                    results.add(historyRead(context, readDetails, timestamps, readValueId));
+                } catch (UaException e) {
+                    results.add(new HistoryReadResult(e.getStatusCode(), null, null));
+                } catch (Throwable t) {
+                    logger.warn("HistoryRead failed for {}", readValueId.getNodeId(), t);
+
+                    results.add(new HistoryReadResult(new StatusCode(StatusCodes.Bad_InternalError), null, null));
+                }
+            }
+
+            context.success(results);
+        });
+    }
+
+    private HistoryReadResult historyRead(
+        HistoryReadContext context,
+        HistoryReadDetails readDetails,
+        TimestampsToReturn timestamps,
+        HistoryReadValueId readValueId
+    ) throws UaException {
+
+        Session session = context.getSession().orElse(null);
+        NodeId sessionId = session != null ? session.getSessionId() : null;
+
+        ByteString continuationPoint = readValueId.getContinuationPoint();
+
+        if (continuationPoint != null && continuationPoint.isNotNull()) {
+            ReadOperation operation = continuationPoints.remove(continuationPoint);
+
+            if (operation == null ||
+                !Objects.equals(operation.sessionId, sessionId) ||
+                !operation.series.getNodeId().equals(readValueId.getNodeId())) {
+
+                throw new UaException(StatusCodes.Bad_ContinuationPointInvalid);
+            }
+
+            if (context.isReleaseContinuationPoints()) {
+                return new HistoryReadResult(StatusCode.GOOD, null, null);
+            } else {
+                return operation.readPage(session);
+            }
+        } else if (context.isReleaseContinuationPoints()) {
+            return new HistoryReadResult(StatusCode.GOOD, null, null);
+        }
+
+        if (timestamps == TimestampsToReturn.Neither) {
+            throw new UaException(StatusCodes.Bad_TimestampsToReturnInvalid);
+        }
+
+        NumericRange indexRange = null;
+        String range = readValueId.getIndexRange();
+        if (range != null && !range.isEmpty()) {
+            indexRange = NumericRange.parse(range);
+        }
+
+        if (readDetails instanceof ReadRawModifiedDetails) {
+            ReadRawModifiedDetails details = (ReadRawModifiedDetails) readDetails;
+
+            if (Boolean.TRUE.equals(details.getIsReadModified())) {
+                throw new UaException(StatusCodes.Bad_HistoryOperationUnsupported);
+            }
+
+            HistorySeries series = valueSeries.get(readValueId.getNodeId());
+
+            if (series == null) {
+                throw new UaException(StatusCodes.Bad_HistoryOperationUnsupported);
+            }
+
+            ReadOperation operation = new ReadOperation(
+                sessionId,
+                series,
+                details.getStartTime(),
+                details.getEndTime(),
+                details.getNumValuesPerNode(),
+                Boolean.TRUE.equals(details.getReturnBounds()),
+                timestamps,
+                indexRange,
+                null
+            );
+
+            return operation.readPage(session);
+        } else if (readDetails instanceof ReadEventDetails) {
+            ReadEventDetails details = (ReadEventDetails) readDetails;
+
+            if (details.getFilter() == null) {
+                throw new UaException(StatusCodes.Bad_EventFilterInvalid);
+            }
+
+            HistorySeries series = eventSeries.get(readValueId.getNodeId());
+
+            if (series == null) {
+                throw new UaException(StatusCodes.Bad_HistoryOperationUnsupported);
+            }
+
+            ReadOperation operation = new ReadOperation(
+                sessionId,
+                series,
+                details.getStartTime(),
+                details.getEndTime(),
+                details.getNumValuesPerNode(),
+                false,
+                timestamps,
+                null,
+                server.getEventFilterCache().getCompiledFilter(details.getFilter())
+            );
+
+            return operation.readPage(session);
+        } else {
+            throw new UaException(StatusCodes.Bad_HistoryOperationUnsupported);
+        }
+    }
+
+    @Override
+    public void historyUpdate(HistoryUpdateContext context, List<HistoryUpdateDetails> updateDetails) {
+        server.getExecutorService().execute(() -> {
+            List<HistoryUpdateResult> results = new ArrayList<>(updateDetails.size());
+
+            for (HistoryUpdateDetails details : updateDetails) {
+                try {
+                    results.add(historyUpdate(details));
+                } catch (UaException e) {
+                    results.add(new HistoryUpdateResult(e.getStatusCode(), null, null));
+                } catch (IOException e) {
+                    logger.warn("HistoryUpdate failed for {}", details.getNodeId(), e);
+
+                    results.add(new HistoryUpdateResult(new StatusCode(StatusCodes.Bad_InternalError), null, null));
+                }
+            }
+
+            context.success(results);
+        });
+    }
+
+    private HistoryUpdateResult historyUpdate(HistoryUpdateDetails updateDetails) throws UaException, IOException {
+        HistorySeries series = valueSeries.get(updateDetails.getNodeId());
+
+        if (series == null) {
+            throw new UaException(StatusCodes.Bad_HistoryOperationUnsupported);
+        }
+
+        if (updateDetails instanceof UpdateDataDetails) {
+            UpdateDataDetails details = (UpdateDataDetails) updateDetails;
+
+            PerformUpdateType updateType = details.getPerformInsertReplace();
+
+            boolean insert = updateType == PerformUpdateType.Insert || updateType == PerformUpdateType.Update;
+            boolean replace = updateType == PerformUpdateType.Replace || updateType == PerformUpdateType.Update;
+
+            if (!insert && !replace) {
+                throw new UaException(StatusCodes.Bad_HistoryOperationUnsupported);
+            }
+
+            DataValue[] values = details.getUpdateValues() != null ? details.getUpdateValues() : new DataValue[0];
+            StatusCode[] operationResults = new StatusCode[values.length];
+
+            for (int i = 0; i < values.length; i++) {
+                long time = timeOf(values[i]);
+
+                operationResults[i] = time != Long.MIN_VALUE ?
+                    series.writeValue(time, values[i], insert, replace) :
+                    new StatusCode(StatusCodes.Bad_InvalidTimestamp);
+            }
+
+            return new HistoryUpdateResult(StatusCode.GOOD, operationResults, null);
+        } else if (updateDetails instanceof DeleteRawModifiedDetails) {
+            DeleteRawModifiedDetails details = (DeleteRawModifiedDetails) updateDetails;
+
+            if (Boolean.TRUE.equals(details.getIsDeleteModified())) {
+                throw new UaException(StatusCodes.Bad_HistoryOperationUnsupported);
+            }
+
+            long start = timeOrElse(details.getStartTime(), Long.MIN_VALUE);
+            long end = timeOrElse(details.getEndTime(), Long.MAX_VALUE);
+
+            int deleted = series.deleteRange(Math.min(start, end), Math.max(start, end));
+
+            return new HistoryUpdateResult(
+                deleted > 0 ? StatusCode.GOOD : new StatusCode(StatusCodes.Good_NoData),
+                null,
+                null
+            );
+        } else if (updateDetails instanceof DeleteAtTimeDetails) {
+            DeleteAtTimeDetails details = (DeleteAtTimeDetails) updateDetails;
+
+            DateTime[] times = details.getReqTimes() != null ? details.getReqTimes() : new DateTime[0];
+            StatusCode[] operationResults = new StatusCode[times.length];
+
+            for (int i = 0; i < times.length; i++) {
+                int deleted = times[i] != null ? series.deleteAt(times[i].getUtcTime()) : 0;
+
+                operationResults[i] = deleted > 0 ?
+                    StatusCode.GOOD : new StatusCode(StatusCodes.Bad_NoEntryExists);
+            }
+
+            return new HistoryUpdateResult(StatusCode.GOOD, operationResults, null);
+        } else {
+            throw new UaException(StatusCodes.Bad_HistoryOperationUnsupported);
+        }
+    }
+
+    //endregion
+
+    private HistorySeries openSeries(HistorySeries.Kind kind, NodeId nodeId) throws UaException {
+        ConcurrentMap<NodeId, HistorySeries> map = kind == HistorySeries.Kind.VALUES ? valueSeries : eventSeries;
+
+        HistorySeries series = map.get(nodeId);
+
+        if (series == null) {
+            synchronized (map) {
+                series = map.get(nodeId);
+
+                if (series == null) {
+                    try {
+                        series = HistorySeries.open(
+                            config.getDirectory().resolve(HistorySeries.directoryName(kind, nodeId)),
+                            nodeId,
+                            kind,
+                            config.getSegmentSize(),
+                            server.getSerializationContext()
+                        );
+                    } catch (IOException e) {
+                        throw new UaException(StatusCodes.Bad_InternalError, e);
+                    }
+
+                    map.put(nodeId, series);
+                }
+            }
+        }
+
+        return series;
+    }
+
+    private void closeAll(Map<NodeId, HistorySeries> seriesMap) {
+        synchronized (seriesMap) {
+            for (HistorySeries series : seriesMap.values()) {
+                try {
+                    series.close();
+                } catch (IOException e) {
+                    logger.warn("Failed to close history of {}", series.getNodeId(), e);
+                }
+            }
+            seriesMap.clear();
+        }
+    }
+
+    @Nullable
+    private FlyweightEvent decodeEvent(OpcUaBinaryStreamDecoder decoder) {
+        NodeId eventNodeId = decoder.readNodeId();
+        NodeId eventTypeId = decoder.readNodeId();
+
+        FlyweightEvent event;
+        try {
+            event = server.getEventFactory().createFlyweightEvent(eventNodeId, eventTypeId);
+        } catch (UaException e) {
+            logger.debug("Skipping recorded event of unknown type {}", eventTypeId);
+            return null;
+        }
+
+        int fieldCount = decoder.readInt32();
+
+        for (int i = 0; i < fieldCount; i++) {
+            int length = decoder.readInt32();
+            QualifiedName[] browsePath = new QualifiedName[length];
+            for (int j = 0; j < length; j++) {
+                browsePath[j] = decoder.readQualifiedName();
+            }
+            Variant value = decoder.readVariant();
+
+            int index = event.getLayout().indexOf(browsePath);
+
+            if (index >= 0) {
+                event.setFieldValue(index, value);
+            }
+        }
+
+        return event;
+    }
+
+    /**
+     * @return the source timestamp of {@code value}, or its server timestamp if it has no source timestamp, or
+     * {@link Long#MIN_VALUE} if it has neither.
+     */
+    private static long timeOf(DataValue value) {
+        DateTime sourceTime = value.getSourceTime();
+
+        if (sourceTime != null && !sourceTime.isNull()) {
+            return sourceTime.getUtcTime();
+        }
+
+        DateTime serverTime = value.getServerTime();
+
+        if (serverTime != null && !serverTime.isNull()) {
+            return serverTime.getUtcTime();
+        }
+
+        return Long.MIN_VALUE;
+    }
+
+    private static long timeOrElse(@Nullable DateTime time, long other) {
+        return time != null && !time.isNull() ? time.getUtcTime() : other;
+    }
+
+    /**
+     * One HistoryRead of one Node, read a page at a time.
+     * <p>
+     * The time range requested is resolved to an inclusive range of index times once, when the operation is created;
+     * each page resumes the scan from a {@link HistorySeries.Cursor}. An operation with more to read is kept as a
+     * continuation point until the client continues or releases it, or its session closes.
+     */
+    private final class ReadOperation {
+
+        private final long lo;
+        private final long hi;
+        private final boolean forward;
+        private final int pageSize;
+
+        @Nullable
+        private final DateTime missingStartBound;
+        @Nullable
+        private final DateTime missingEndBound;
+
+        private HistorySeries.Cursor cursor;
+        private boolean started = false;
+
+        @Nullable
+        private final NodeId sessionId;
+        private final HistorySeries series;
+        private final TimestampsToReturn timestamps;
+        @Nullable
+        private final NumericRange indexRange;
+        @Nullable
+        private final CompiledEventFilter filter;
+
+        ReadOperation(
+            @Nullable NodeId sessionId,
+            HistorySeries series,
+            @Nullable DateTime startTime,
+            @Nullable DateTime endTime,
+            @Nullable UInteger numValuesPerNode,
+            boolean returnBounds,
+            TimestampsToReturn timestamps,
+            @Nullable NumericRange indexRange,
+            @Nullable CompiledEventFilter filter
+        ) throws UaException {
+
+            this.sessionId = sessionId;
+            this.series = series;
+            this.timestamps = timestamps;
+            this.indexRange = indexRange;
+            this.filter = filter;
+
+            boolean hasStart = startTime != null && !startTime.isNull();
+            boolean hasEnd = endTime != null && !endTime.isNull();
+            long numValues = numValuesPerNode != null ? numValuesPerNode.longValue() : 0L;
+
+            if (!hasStart && !hasEnd) {
+                throw new UaException(StatusCodes.Bad_HistoryOperationInvalid);
+            } else if ((!hasStart || !hasEnd) && numValues == 0) {
+                throw new UaException(StatusCodes.Bad_HistoryOperationInvalid);
+            }
+
+            pageSize = (int) Math.min(
+                numValues > 0 ? numValues : Integer.MAX_VALUE,
+                config.getMaxValuesPerRead()
+            );
+
+            long start = hasStart ? startTime.getUtcTime() : Long.MIN_VALUE;
+            long end = hasEnd ? endTime.getUtcTime() : Long.MAX_VALUE;
+
+            // Only an end time means reading backwards from it.
+            forward = hasStart && (!hasEnd || start <= end);
+
+            DateTime startBound = null;
+            DateTime endBound = null;
+
+            if (forward) {
+                // start <= time < end, or time == start when start == end
+                long l = start;
+                long h = end == Long.MAX_VALUE || start == end ? end : end - 1;
+
+                if (returnBounds) {
+                    Optional<Long> floor = series.floorTime(start);
+                    if (floor.isPresent()) {
+                        l = floor.get();
+                    } else {
+                        startBound = startTime;
+                    }
+
+                    if (hasEnd) {
+                        Optional<Long> ceiling = series.ceilingTime(end);
+                        if (ceiling.isPresent()) {
+                            h = ceiling.get();
+                        } else {
+                            endBound = endTime;
+                        }
+                    }
+                }
+
+                lo = l;
+                hi = h;
+            } else {
+                // end < time <= start, in reverse; without a start time, time <= end
+                long h = hasStart ? start : end;
+                long l = hasStart && hasEnd ? end + 1 : Long.MIN_VALUE;
+
+                if (returnBounds) {
+                    Optional<Long> ceiling = series.ceilingTime(h);
+                    if (ceiling.isPresent()) {
+                        h = ceiling.get();
+                    } else {
+                        startBound = hasStart ? startTime : endTime;
+                    }
+
+                    if (hasStart && hasEnd) {
+                        Optional<Long> floor = series.floorTime(end);
+                        if (floor.isPresent()) {
+                            l = floor.get();
+                        } else {
+                            endBound = endTime;
+                        }
+                    }
+                }
+
+                lo = l;
+                hi = h;
+            }
+
+            missingStartBound = startBound;
+            missingEndBound = endBound;
+        }
+
+        HistoryReadResult readPage(@Nullable Session session) throws UaException {
+            List<DataValue> values = new ArrayList<>();
+            List<HistoryEventFieldList> events = new ArrayList<>();
+
+            if (!started && missingStartBound != null) {
+                values.add(boundNotFound(missingStartBound));
+            }
+            started = true;
+
+            if (filter != null) {
+                FilterContext filterContext = new FilterContext() {
+                    @Override
+                    public OpcUaServer getServer() {
+                        return server;
+                    }
+
+                    @Override
+                    public Optional<Session> getSession() {
+                        return Optional.ofNullable(session);
+                    }
+                };
+
+                cursor = series.scan(lo, hi, forward, cursor, pageSize, (time, decoder) -> {
+                    FlyweightEvent event = decodeEvent(decoder);
+
+                    if (event == null) return false;
+
+                    try {
+                        Variant[] fields = filter.apply(filterContext, event);
+
+                        if (fields != null) {
+                            events.add(new HistoryEventFieldList(fields));
+                            return true;
+                        } else {
+                            return false;
+                        }
+                    } catch (UaException e) {
+                        return false;
+                    }
+                });
+            } else {
+                try {
+                    cursor = series.scan(lo, hi, forward, cursor, pageSize, (time, decoder) -> {
+                        values.add(derive(decoder.readDataValue()));
+                        return true;
+                    });
+                } catch (UaSerializationException e) {
+                    throw new UaException(StatusCodes.Bad_InternalError, e);
+                }
+            }
+
+            if (cursor == null && missingEndBound != null) {
+                values.add(boundNotFound(missingEndBound));
+            }
+
+            ByteString continuationPoint = null;
+
+            if (cursor != null) {
+                long count = continuationPoints.values().stream()
+                    .filter(operation -> Objects.equals(operation.sessionId, sessionId))
+                    .count();
+
+                if (count >= server.getConfig().getLimits().getMaxHistoryContinuationPoints().intValue()) {
+                    throw new UaException(StatusCodes.Bad_NoContinuationPoints);
+                }
+
+                continuationPoint = BrowseContinuationPoint.generateId();
+                continuationPoints.put(continuationPoint, this);
+            }
+
+            ExtensionObject historyData = filter != null ?
+                ExtensionObject.encode(
+                    server.getSerializationContext(),
+                    new HistoryEvent(events.toArray(new HistoryEventFieldList[0]))
+                ) :
+                ExtensionObject.encode(
+                    server.getSerializationContext(),
+                    new HistoryData(values.toArray(new DataValue[0]))
+                );
+
+            return new HistoryReadResult(StatusCode.GOOD, continuationPoint, historyData);
+        }
+
+        private DataValue derive(DataValue value) {
+            if (indexRange != null) {
+                try {
+                    Object valueAtRange = NumericRange.readFromValueAtRange(value.getValue(), indexRange);
+
+                    value = new DataValue(
+                        new Variant(valueAtRange),
+                        value.getStatusCode(),
+                        value.getSourceTime(),
+                        value.getServerTime()
+                    );
+                } catch (UaException e) {
+                    value = new DataValue(
+                        Variant.NULL_VALUE,
+                        e.getStatusCode(),
+                        value.getSourceTime(),
+                        value.getServerTime()
+                    );
+                }
+            }
+
+            return DataValue.derivedValue(value, timestamps);
+        }
+
+        private DataValue boundNotFound(DateTime time) {
+            return new DataValue(Variant.NULL_VALUE, new StatusCode(StatusCodes.Bad_BoundNotFound), time, null);
+        }
+
+    }
+
+    /**
+     * Samples a historized Variable and records each change.
+     */
+    private final class HistorianDataItem implements DataItem {
+
+        private final UInteger id = uint(itemIds.incrementAndGet());
+
+        private volatile DataValue lastValue;
+
+        private final NodeId nodeId;
+        private final double samplingInterval;
+        private final ReadValueId readValueId;
+
+        HistorianDataItem(NodeId nodeId, double samplingInterval) {
+            this.nodeId = nodeId;
+            this.samplingInterval = samplingInterval;
+
+            readValueId = new ReadValueId(nodeId, AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE);
+        }
+
+        @Override
+        public void setValue(DataValue value) {
+            DataValue last = lastValue;
+
+            if (last != null &&
+                Objects.equals(last.getValue(), value.getValue()) &&
+                Objects.equals(last.getStatusCode(), value.getStatusCode()) &&
+                Objects.equals(last.getSourceTime(), value.getSourceTime())) {
+
+                return;
+            }
+
+            lastValue = value;
+
+            try {
+                record(nodeId, value);
+            } catch (UaException e) {
+                logger.warn("Failed to record value of {}: {}", nodeId, e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void setQuality(StatusCode quality) {}
+
+        @Override
+        public double getSamplingInterval() {
+            return samplingInterval;
+        }
+
+        @Override
+        public UInteger getId() {
+            return id;
+        }
+
+        @Override
+        public Session getSession() {
+            return null;
+        }
+
+        /**
+         * @return 0; this item doesn't belong to a {@link Subscription}.
+         */
+        @Override
+        public UInteger getSubscriptionId() {
+            return UInteger.MIN;
+        }
+
+        @Override
+        public ReadValueId getReadValueId() {
+            return readValueId;
+        }
+
+        @Override
+        public TimestampsToReturn getTimestampsToReturn() {
+            return TimestampsToReturn.Both;
+        }
+
+        @Override
+        public boolean isSamplingEnabled() {
+            return true;
+        }
+
+    }
+
+    /**
+     * Records the events routed to a historized notifier.
+     */
+    private final class HistorianEventItem implements EventItem {
+
+        private final UInteger id = uint(itemIds.incrementAndGet());
+
+        private final NodeId notifierId;
+        private final ReadValueId readValueId;
+
+        HistorianEventItem(NodeId notifierId) {
+            this.notifierId = notifierId;
+
+            readValueId = new ReadValueId(notifierId, AttributeId.EventNotifier.uid(), null, QualifiedName.NULL_VALUE);
+        }
+
+        @Override
+        public void onEvent(FlyweightEvent event) {
+            try {
+                record(notifierId, event);
+            } catch (UaException e) {
+                logger.warn("Failed to record event for {}: {}", notifierId, e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void onEvent(BaseEventTypeNode eventNode) {
+            try {
+                EventTypeLayout layout = server.getEventFactory().getLayout(
+                    eventNode.getTypeDefinitionNode().getNodeId()
+                );
+
+                FlyweightEvent event = new FlyweightEvent(eventNode.getNodeId(), layout);
+
+                for (int i = 0; i < layout.getFieldCount(); i++) {
+                    UaNode node = eventNode;
+
+                    for (QualifiedName browseName : layout.getBrowsePath(i)) {
+                        node = node != null ? node.findNode(browseName, Reference::isForward).orElse(null) : null;
+                    }
+
+                    if (node instanceof UaVariableNode) {
+                        DataValue value = ((UaVariableNode) node).getValue();
+
+                        if (value != null) event.setFieldValue(i, value.getValue());
+                    }
+                }
+
+                record(notifierId, event);
+            } catch (UaException e) {
+                logger.warn("Failed to record event for {}: {}", notifierId, e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public UInteger getId() {
+            return id;
+        }
+
+        @Override
+        public Session getSession() {
+            return null;
+        }
+
+        /**
+         * @return 0; this item doesn't belong to a {@link Subscription}.
+         */
+        @Override
+        public UInteger getSubscriptionId() {
+            return UInteger.MIN;
+        }
+
+        @Override
+        public ReadValueId getReadValueId() {
+            return readValueId;
+        }
+
+        @Override
+        public TimestampsToReturn getTimestampsToReturn() {
+            return TimestampsToReturn.Both;
+        }
+
+        @Override
+        public boolean isSamplingEnabled() {
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.history;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public interface HistorianConfig {
+
+    /**
+     * @return the directory the segment files are stored in.
+     */
+    Path getDirectory();
+
+    /**
+     * @return the maximum size, in bytes, of each memory-mapped segment file. Segment files start small and grow to
+     * this size as entries are appended. A single entry must fit in one segment.
+     */
+    int getSegmentSize();
+
+    /**
+     * @return the maximum number of values or events returned for one Node in one HistoryRead response. Reads that
+     * have more to return produce a continuation point.
+     */
+    int getMaxValuesPerRead();
+
+    /**
+     * @return the {@link RetentionPolicy}.
+     */
+    RetentionPolicy getRetentionPolicy();
+
+    /**
+     * @return the {@link CompactionPolicy}.
+     */
+    CompactionPolicy getCompactionPolicy();
+
+    /**
+     * @return the interval at which retention and compaction are applied and segment files are flushed.
+     */
+    Duration getMaintenanceInterval();
+
+    /**
+     * @return a new {@link HistorianConfigBuilder}.
+     */
+    static HistorianConfigBuilder builder() {
+        return new HistorianConfigBuilder();
+    }
+
+}
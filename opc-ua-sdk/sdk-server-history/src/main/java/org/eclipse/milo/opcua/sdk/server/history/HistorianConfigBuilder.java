@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.history;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import com.google.common.base.Preconditions;
+
+public class HistorianConfigBuilder {
+
+    private Path directory;
+    private int segmentSize = 16 * 1024 * 1024;
+    private int maxValuesPerRead = 10_000;
+    private RetentionPolicy retentionPolicy = RetentionPolicy.forever();
+    private CompactionPolicy compactionPolicy = CompactionPolicy.deadRatio(0.5);
+    private Duration maintenanceInterval = Duration.ofMinutes(1);
+
+    public HistorianConfigBuilder setDirectory(Path directory) {
+        this.directory = directory;
+        return this;
+    }
+
+    public HistorianConfigBuilder setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+        return this;
+    }
+
+    public HistorianConfigBuilder setMaxValuesPerRead(int maxValuesPerRead) {
+        this.maxValuesPerRead = maxValuesPerRead;
+        return this;
+    }
+
+    public HistorianConfigBuilder setRetentionPolicy(RetentionPolicy retentionPolicy) {
+        this.retentionPolicy = retentionPolicy;
+        return this;
+    }
+
+    public HistorianConfigBuilder setCompactionPolicy(CompactionPolicy compactionPolicy) {
+        this.compactionPolicy = compactionPolicy;
+        return this;
+    }
+
+    public HistorianConfigBuilder setMaintenanceInterval(Duration maintenanceInterval) {
+        this.maintenanceInterval = maintenanceInterval;
+        return this;
+    }
+
+    public HistorianConfig build() {
+        Preconditions.checkNotNull(directory, "directory must be non-null");
+        Preconditions.checkArgument(segmentSize > 1024, "segmentSize must be > 1024");
+        Preconditions.checkArgument(maxValuesPerRead > 0, "maxValuesPerRead must be > 0");
+
+        return new HistorianConfigImpl(
+            directory,
+            segmentSize,
+            maxValuesPerRead,
+            retentionPolicy,
+            compactionPolicy,
+            maintenanceInterval
+        );
+    }
+
+    public static final class HistorianConfigImpl implements HistorianConfig {
+
+        private final Path directory;
+        private final int segmentSize;
+        private final int maxValuesPerRead;
+        private final RetentionPolicy retentionPolicy;
+        private final CompactionPolicy compactionPolicy;
+        private final Duration maintenanceInterval;
+
+        public HistorianConfigImpl(
+            Path directory,
+            int segmentSize,
+            int maxValuesPerRead,
+            RetentionPolicy retentionPolicy,
+            CompactionPolicy compactionPolicy,
+            Duration maintenanceInterval
+        ) {
+
+            this.directory = directory;
+            this.segmentSize = segmentSize;
+            this.maxValuesPerRead = maxValuesPerRead;
+            this.retentionPolicy = retentionPolicy;
+            this.compactionPolicy = compactionPolicy;
+            this.maintenanceInterval = maintenanceInterval;
+        }
+
+        @Override
+        public Path getDirectory() {
+            return directory;
+        }
+
+        @Override
+        public int getSegmentSize() {
+            return segmentSize;
+        }
+
+        @Override
+        public int getMaxValuesPerRead() {
+            return maxValuesPerRead;
+        }
+
+        @Override
+        public RetentionPolicy getRetentionPolicy() {
+            return retentionPolicy;
+        }
+
+        @Override
+        public CompactionPolicy getCompactionPolicy() {
+            return compactionPolicy;
+        }
+
+        @Override
+        public Duration getMaintenanceInterval() {
+            return maintenanceInterval;
+        }
+
+    }
+
+}
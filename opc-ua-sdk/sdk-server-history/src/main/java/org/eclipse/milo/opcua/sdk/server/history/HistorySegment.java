@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * An append-only file of length-prefixed records, memory-mapped in its entirety.
+ * <p>
+ * The file is created small and grown, by doubling, up to its maximum capacity as records are appended. Unused
+ * space reads as zero and a zero length marks the end of the records. A record's length is written after its
+ * contents, so a record is never visible half-written.
+ * <p>
+ * Records are read straight out of the mapping; {@link #read(int)} wraps the mapped memory without copying it. The
+ * file is only open while it's being mapped, so a segment doesn't hold a file descriptor.
+ * <p>
+ * Not thread safe; guarded by the owning {@link HistorySeries}.
+ */
+final class HistorySegment {
+
+    static final String SUFFIX = ".seg";
+
+    private static final int MAGIC = 0x4D485331;
+    private static final int HEADER_SIZE = 8;
+
+    /**
+     * The size new segment files are created with, unless their maximum capacity is smaller.
+     */
+    static final int INITIAL_CAPACITY = 64 * 1024;
+
+    /**
+     * The number of records in this segment that still hold an entry of the history.
+     */
+    int liveRecords = 0;
+
+    /**
+     * The number of entries ever written to this segment, excluding deletions.
+     */
+    int totalRecords = 0;
+
+    private Path path;
+
+    private MappedByteBuffer buffer;
+
+    private final int number;
+    private final int maxCapacity;
+
+    private int writePosition;
+
+    private HistorySegment(Path path, int number, int maxCapacity, MappedByteBuffer buffer, int writePosition) {
+        this.path = path;
+        this.number = number;
+        this.maxCapacity = maxCapacity;
+        this.buffer = buffer;
+        this.writePosition = writePosition;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    int getNumber() {
+        return number;
+    }
+
+    int getWritePosition() {
+        return writePosition;
+    }
+
+    /**
+     * Append {@code record}, growing the file if it doesn't fit in the space left.
+     *
+     * @param record the record contents.
+     * @return the offset of the record, or -1 if the record doesn't fit in this segment at its maximum capacity.
+     */
+    int append(ByteBuf record) throws IOException {
+        int length = record.readableBytes();
+
+        if (length == 0) {
+            throw new IllegalArgumentException("empty record");
+        }
+
+        long required = (long) writePosition + 4 + length;
+
+        if (required > buffer.capacity()) {
+            if (required > maxCapacity) {
+                return -1;
+            }
+
+            grow((int) Math.min(Math.max(2L * buffer.capacity(), required), maxCapacity));
+        }
+
+        int offset = writePosition;
+
+        ByteBuffer target = buffer.duplicate();
+        target.position(offset + 4);
+        target.limit(offset + 4 + length);
+        record.getBytes(record.readerIndex(), target);
+
+        buffer.putInt(offset, length);
+
+        writePosition = offset + 4 + length;
+
+        return offset;
+    }
+
+    /**
+     * @param offset the offset of a record.
+     * @return a {@link ByteBuf} backed by the mapped memory holding the record's contents.
+     */
+    ByteBuf read(int offset) {
+        int length = buffer.getInt(offset);
+
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(offset + 4);
+        slice.limit(offset + 4 + length);
+
+        return Unpooled.wrappedBuffer(slice.slice());
+    }
+
+    /**
+     * Call {@code visitor} with each record in this segment, in the order they were appended.
+     */
+    void forEach(RecordConsumer visitor) throws IOException {
+        int offset = HEADER_SIZE;
+
+        while (offset + 4 <= writePosition) {
+            visitor.accept(offset, read(offset));
+
+            offset += 4 + buffer.getInt(offset);
+        }
+    }
+
+    /**
+     * Flush changes to the mapped memory to the file.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    void close() {
+        force();
+    }
+
+    /**
+     * Rename the segment file to {@code target}. The mapping stays valid.
+     */
+    void moveTo(Path target) throws IOException {
+        Files.move(path, target, StandardCopyOption.ATOMIC_MOVE);
+
+        path = target;
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Extend the file to {@code capacity} bytes and map it again.
+     * <p>
+     * Both mappings share the file's pages, so records already appended, and buffers returned by
+     * {@link #read(int)}, stay valid.
+     */
+    private void grow(int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // mapping beyond the end of the file extends it
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+    }
+
+    /**
+     * Create a new, empty segment file.
+     *
+     * @param path        the path of the file.
+     * @param number      the number of the segment.
+     * @param maxCapacity the size the file may grow to.
+     * @return the new {@link HistorySegment}.
+     */
+    static HistorySegment create(Path path, int number, int maxCapacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        )) {
+
+            int capacity = Math.min(INITIAL_CAPACITY, maxCapacity);
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            buffer.putInt(0, MAGIC);
+
+            return new HistorySegment(path, number, maxCapacity, buffer, HEADER_SIZE);
+        }
+    }
+
+    /**
+     * Open an existing segment file and find the end of its records.
+     *
+     * @param path        the path of the file.
+     * @param number      the number of the segment.
+     * @param maxCapacity the size the file may grow to, if it's not already larger.
+     * @return the {@link HistorySegment}.
+     */
+    static HistorySegment open(Path path, int number, int maxCapacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(
+            path,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        )) {
+
+            long size = channel.size();
+
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("invalid segment size: " + path);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("not a segment file: " + path);
+            }
+
+            int position = HEADER_SIZE;
+
+            while (position + 4 <= size) {
+                int length = buffer.getInt(position);
+
+                if (length <= 0 || position + 4L + length > size) break;
+
+                position += 4 + length;
+            }
+
+            return new HistorySegment(path, number, (int) Math.max(size, maxCapacity), buffer, position);
+        }
+    }
+
+    static String fileName(int number) {
+        return String.format("%010d%s", number, SUFFIX);
+    }
+
+    interface RecordConsumer {
+
+        void accept(int offset, ByteBuf record) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,770 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.history;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The history of one Node: a sequence of {@link HistorySegment} files holding a log of records, and a
+ * {@link TimeIndex} of the records that are still part of the history.
+ * <p>
+ * Every change is appended to the log. Writing a value at a time that already has one supersedes the earlier record;
+ * deletions are appended as records of their own. Opening a series replays the log to rebuild the index.
+ * <p>
+ * Records superseded, deleted, or discarded by retention stay in the segment files until the series is compacted,
+ * which rewrites the live records into new segments.
+ */
+final class HistorySeries {
+
+    enum Kind {
+        VALUES("v"),
+        EVENTS("e");
+
+        final String prefix;
+
+        Kind(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    private static final byte RECORD_VALUE = 1;
+    private static final byte RECORD_EVENT = 2;
+    private static final byte RECORD_DELETE_RANGE = 3;
+    private static final byte RECORD_DELETE_AT = 4;
+
+    private static final String TMP_SUFFIX = ".tmp";
+    private static final String COMPACTION_MARKER = "compacting";
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TimeIndex index = new TimeIndex();
+    private final NavigableMap<Integer, HistorySegment> segments = new TreeMap<>();
+
+    private final ByteBuf scratch = Unpooled.buffer();
+
+    private final OpcUaBinaryStreamEncoder encoder;
+
+    private final Path directory;
+    private final NodeId nodeId;
+    private final Kind kind;
+    private final int segmentSize;
+    private final SerializationContext context;
+
+    private HistorySeries(
+        Path directory,
+        NodeId nodeId,
+        Kind kind,
+        int segmentSize,
+        SerializationContext context
+    ) {
+
+        this.directory = directory;
+        this.nodeId = nodeId;
+        this.kind = kind;
+        this.segmentSize = segmentSize;
+        this.context = context;
+
+        encoder = new OpcUaBinaryStreamEncoder(context);
+    }
+
+    NodeId getNodeId() {
+        return nodeId;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the number of entries in the history.
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of segment files.
+     */
+    int getSegmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Write {@code value} at {@code time}.
+     *
+     * @param time    the time of the value.
+     * @param value   the value.
+     * @param insert  {@code true} if the value may be written when there is no value at {@code time}.
+     * @param replace {@code true} if the value may replace an existing value at {@code time}.
+     * @return Good_EntryInserted or Good_EntryReplaced if the value was written, Bad_EntryExists or
+     * Bad_NoEntryExists if it was not.
+     */
+    StatusCode writeValue(long time, DataValue value, boolean insert, boolean replace) throws IOException {
+        lock.writeLock().lock();
+        try {
+            int i = index.lowerBound(time);
+            boolean exists = i < index.size() && index.timeAt(i) == time;
+
+            if (exists && !replace) {
+                return new StatusCode(StatusCodes.Bad_EntryExists);
+            } else if (!exists && !insert) {
+                return new StatusCode(StatusCodes.Bad_NoEntryExists);
+            }
+
+            beginRecord(RECORD_VALUE, time);
+            encoder.writeDataValue(value);
+
+            long location = append(scratch);
+            segment(location).liveRecords++;
+            segment(location).totalRecords++;
+
+            if (exists) {
+                segment(index.replace(i, location)).liveRecords--;
+
+                return new StatusCode(StatusCodes.Good_EntryReplaced);
+            } else {
+                index.insert(time, location);
+
+                return new StatusCode(StatusCodes.Good_EntryInserted);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Append an event at {@code time}, after any other events at the same time.
+     *
+     * @param time   the time of the event.
+     * @param writer writes the event's fields.
+     */
+    void appendEvent(long time, PayloadWriter writer) throws IOException {
+        lock.writeLock().lock();
+        try {
+            beginRecord(RECORD_EVENT, time);
+            writer.write(encoder);
+
+            long location = append(scratch);
+            segment(location).liveRecords++;
+            segment(location).totalRecords++;
+
+            index.insert(time, location);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Delete the entries with a time {@code >= from} and {@code < to}.
+     *
+     * @return the number of entries deleted.
+     */
+    int deleteRange(long from, long to) throws IOException {
+        lock.writeLock().lock();
+        try {
+            int start = index.lowerBound(from);
+            int end = index.lowerBound(to);
+
+            if (start >= end) return 0;
+
+            beginRecord(RECORD_DELETE_RANGE, from);
+            scratch.writeLong(to);
+            append(scratch);
+
+            index.remove(start, end, location -> segment(location).liveRecords--);
+
+            return end - start;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Delete the entries at exactly {@code time}.
+     *
+     * @return the number of entries deleted.
+     */
+    int deleteAt(long time) throws IOException {
+        lock.writeLock().lock();
+        try {
+            int start = index.lowerBound(time);
+            int end = index.upperBound(time);
+
+            if (start >= end) return 0;
+
+            beginRecord(RECORD_DELETE_AT, time);
+            append(scratch);
+
+            index.remove(start, end, location -> segment(location).liveRecords--);
+
+            return end - start;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove the entries with a time {@code < cutoff} from the history without logging a deletion; retention
+     * discards them again when the series is reopened.
+     * <p>
+     * Segments at the start of the log that no longer hold any live records are deleted.
+     *
+     * @return the number of entries discarded.
+     */
+    int discardBefore(long cutoff) throws IOException {
+        lock.writeLock().lock();
+        try {
+            int end = index.lowerBound(cutoff);
+
+            index.remove(0, end, location -> segment(location).liveRecords--);
+
+            deleteLeadingEmptySegments();
+
+            return end;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the time of the last entry with a time {@code <= time}, if there is one.
+     */
+    Optional<Long> floorTime(long time) {
+        lock.readLock().lock();
+        try {
+            int i = index.upperBound(time) - 1;
+
+            return i >= 0 ? Optional.of(index.timeAt(i)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the time of the first entry with a time {@code >= time}, if there is one.
+     */
+    Optional<Long> ceilingTime(long time) {
+        lock.readLock().lock();
+        try {
+            int i = index.lowerBound(time);
+
+            return i < index.size() ? Optional.of(index.timeAt(i)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Visit the entries with a time {@code >= lo} and {@code <= hi}, in time order or in reverse, until
+     * {@code visitor} has accepted {@code max} of them.
+     * <p>
+     * Each record is decoded straight out of the mapped segment file.
+     *
+     * @param lo      the earliest time to visit.
+     * @param hi      the latest time to visit.
+     * @param forward {@code true} to visit in time order, {@code false} to visit in reverse.
+     * @param cursor  where a previous scan stopped, or {@code null} to start at the beginning of the range.
+     * @param max     the maximum number of entries {@code visitor} may accept.
+     * @param visitor the {@link RecordVisitor}.
+     * @return a {@link Cursor} to continue from, or {@code null} if every entry in the range was visited.
+     */
+    @Nullable
+    Cursor scan(long lo, long hi, boolean forward, @Nullable Cursor cursor, int max, RecordVisitor visitor) {
+        OpcUaBinaryStreamDecoder decoder = new OpcUaBinaryStreamDecoder(context);
+
+        lock.readLock().lock();
+        try {
+            int accepted = 0;
+
+            if (forward) {
+                int i = cursor == null ? index.lowerBound(lo) : index.lowerBound(cursor.time) + cursor.skip;
+                int end = index.upperBound(hi);
+
+                while (i < end && accepted < max) {
+                    if (visit(i++, decoder, visitor)) accepted++;
+                }
+
+                if (i < end) {
+                    long time = index.timeAt(i);
+
+                    return new Cursor(time, i - index.lowerBound(time));
+                }
+            } else {
+                int i = cursor == null ? index.upperBound(hi) - 1 : index.upperBound(cursor.time) - 1 - cursor.skip;
+                int end = index.lowerBound(lo);
+
+                while (i >= end && accepted < max) {
+                    if (visit(i--, decoder, visitor)) accepted++;
+                }
+
+                if (i >= end) {
+                    long time = index.timeAt(i);
+
+                    return new Cursor(time, index.upperBound(time) - 1 - i);
+                }
+            }
+
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean visit(int i, OpcUaBinaryStreamDecoder decoder, RecordVisitor visitor) {
+        long location = index.locationAt(i);
+
+        ByteBuf record = segment(location).read(offset(location));
+        record.skipBytes(1);
+        long time = record.readLong();
+
+        return visitor.visit(time, decoder.setBuffer(record));
+    }
+
+    /**
+     * @return {@code true} if {@code policy} says this series should be compacted.
+     */
+    boolean shouldCompact(CompactionPolicy policy) {
+        lock.readLock().lock();
+        try {
+            long live = 0L;
+            long total = 0L;
+
+            for (HistorySegment segment : segments.values()) {
+                live += segment.liveRecords;
+                total += segment.totalRecords;
+            }
+
+            return policy.shouldCompact(live, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrite the live records into new segments and delete the old ones.
+     * <p>
+     * The new segments are written under temporary names and a marker file naming the first new segment is written
+     * before any old segment is deleted, so an interrupted compaction is completed or discarded when the series is
+     * next opened.
+     */
+    void compact() throws IOException {
+        lock.writeLock().lock();
+        try {
+            int first = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+
+            NavigableMap<Integer, HistorySegment> compacted = new TreeMap<>();
+            long[] locations = new long[index.size()];
+
+            try {
+                HistorySegment target = null;
+
+                for (int i = 0; i < index.size(); i++) {
+                    long location = index.locationAt(i);
+                    ByteBuf record = segment(location).read(offset(location));
+
+                    int offset = target != null ? target.append(record) : -1;
+
+                    if (offset < 0) {
+                        int number = first + compacted.size();
+
+                        target = HistorySegment.create(
+                            directory.resolve(HistorySegment.fileName(number) + TMP_SUFFIX),
+                            number,
+                            segmentSize
+                        );
+                        compacted.put(number, target);
+
+                        offset = target.append(record);
+                    }
+
+                    target.liveRecords++;
+                    target.totalRecords++;
+
+                    locations[i] = location(target.getNumber(), offset);
+                }
+
+                for (HistorySegment segment : compacted.values()) {
+                    segment.force();
+                }
+            } catch (IOException | RuntimeException e) {
+                for (HistorySegment segment : compacted.values()) {
+                    segment.delete();
+                }
+                throw e;
+            }
+
+            Path marker = directory.resolve(COMPACTION_MARKER);
+            Path markerTmp = directory.resolve(COMPACTION_MARKER + TMP_SUFFIX);
+            Files.write(markerTmp, String.valueOf(first).getBytes(StandardCharsets.US_ASCII));
+            Files.move(markerTmp, marker, StandardCopyOption.ATOMIC_MOVE);
+
+            for (HistorySegment segment : compacted.values()) {
+                segment.moveTo(directory.resolve(HistorySegment.fileName(segment.getNumber())));
+            }
+
+            for (HistorySegment segment : segments.values()) {
+                segment.delete();
+            }
+
+            Files.delete(marker);
+
+            segments.clear();
+            segments.putAll(compacted);
+
+            for (int i = 0; i < locations.length; i++) {
+                index.replace(i, locations[i]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Flush the segment files.
+     */
+    void force() {
+        lock.readLock().lock();
+        try {
+            segments.values().forEach(HistorySegment::force);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            for (HistorySegment segment : segments.values()) {
+                segment.close();
+            }
+            segments.clear();
+            index.clear();
+            scratch.release();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void beginRecord(byte type, long time) {
+        scratch.clear();
+        scratch.writeByte(type);
+        scratch.writeLong(time);
+        encoder.setBuffer(scratch);
+    }
+
+    private long append(ByteBuf record) throws IOException {
+        HistorySegment active = segments.isEmpty() ? null : segments.lastEntry().getValue();
+
+        int offset = active != null ? active.append(record) : -1;
+
+        if (offset < 0) {
+            int number = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+
+            active = HistorySegment.create(directory.resolve(HistorySegment.fileName(number)), number, segmentSize);
+            segments.put(number, active);
+
+            offset = active.append(record);
+
+            if (offset < 0) {
+                throw new IOException(String.format(
+                    "record of %d bytes does not fit in a segment of %d bytes",
+                    record.readableBytes(), segmentSize));
+            }
+        }
+
+        return location(active.getNumber(), offset);
+    }
+
+    private void deleteLeadingEmptySegments() throws IOException {
+        // Only a prefix of the log can be dropped: a later segment may hold deletions that apply to earlier ones.
+        while (segments.size() > 1 && segments.firstEntry().getValue().liveRecords == 0) {
+            segments.pollFirstEntry().getValue().delete();
+        }
+    }
+
+    private void replay(HistorySegment segment) throws IOException {
+        segment.forEach((offset, record) -> {
+            byte type = record.readByte();
+            long time = record.readLong();
+            long location = location(segment.getNumber(), offset);
+
+            switch (type) {
+                case RECORD_VALUE: {
+                    int i = index.lowerBound(time);
+
+                    if (i < index.size() && index.timeAt(i) == time) {
+                        segment(index.replace(i, location)).liveRecords--;
+                    } else {
+                        index.insert(time, location);
+                    }
+                    segment.liveRecords++;
+                    segment.totalRecords++;
+                    break;
+                }
+                case RECORD_EVENT: {
+                    index.insert(time, location);
+                    segment.liveRecords++;
+                    segment.totalRecords++;
+                    break;
+                }
+                case RECORD_DELETE_RANGE: {
+                    long to = record.readLong();
+                    index.remove(
+                        index.lowerBound(time),
+                        index.lowerBound(to),
+                        l -> segment(l).liveRecords--
+                    );
+                    break;
+                }
+                case RECORD_DELETE_AT: {
+                    index.remove(
+                        index.lowerBound(time),
+                        index.upperBound(time),
+                        l -> segment(l).liveRecords--
+                    );
+                    break;
+                }
+                default:
+                    throw new IOException(String.format(
+                        "unknown record type %d at offset %d in %s", type, offset, segment.getPath()));
+            }
+        });
+    }
+
+    private HistorySegment segment(long location) {
+        return segments.get((int) (location >>> 32));
+    }
+
+    private static int offset(long location) {
+        return (int) location;
+    }
+
+    private static long location(int number, int offset) {
+        return ((long) number << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Open the series stored in {@code directory}, creating the directory if it does not exist.
+     *
+     * @param directory   the directory of the series.
+     * @param nodeId      the {@link NodeId} of the historized Node.
+     * @param kind        the {@link Kind} of entries stored in the series.
+     * @param segmentSize the size segment files may grow to.
+     * @param context     the {@link SerializationContext} used to encode and decode entries.
+     * @return the {@link HistorySeries}.
+     */
+    static HistorySeries open(
+        Path directory,
+        NodeId nodeId,
+        Kind kind,
+        int segmentSize,
+        SerializationContext context
+    ) throws IOException {
+
+        Files.createDirectories(directory);
+
+        recoverCompaction(directory);
+
+        HistorySeries series = new HistorySeries(directory, nodeId, kind, segmentSize, context);
+
+        try {
+            for (Map.Entry<Integer, Path> entry : listSegments(directory, HistorySegment.SUFFIX).entrySet()) {
+                HistorySegment segment = HistorySegment.open(entry.getValue(), entry.getKey(), segmentSize);
+                series.segments.put(entry.getKey(), segment);
+                series.replay(segment);
+            }
+        } catch (IOException | RuntimeException e) {
+            series.close();
+            throw e;
+        }
+
+        return series;
+    }
+
+    /**
+     * Finish or discard a compaction that was interrupted.
+     */
+    private static void recoverCompaction(Path directory) throws IOException {
+        Path marker = directory.resolve(COMPACTION_MARKER);
+        String tmpSuffix = HistorySegment.SUFFIX + TMP_SUFFIX;
+
+        if (Files.exists(marker)) {
+            int first = Integer.parseInt(new String(Files.readAllBytes(marker), StandardCharsets.US_ASCII).trim());
+
+            for (Map.Entry<Integer, Path> entry : listSegments(directory, tmpSuffix).entrySet()) {
+                Files.move(
+                    entry.getValue(),
+                    directory.resolve(HistorySegment.fileName(entry.getKey())),
+                    StandardCopyOption.ATOMIC_MOVE
+                );
+            }
+
+            for (Map.Entry<Integer, Path> entry : listSegments(directory, HistorySegment.SUFFIX).entrySet()) {
+                if (entry.getKey() < first) {
+                    Files.delete(entry.getValue());
+                }
+            }
+
+            Files.delete(marker);
+        } else {
+            for (Path path : listSegments(directory, tmpSuffix).values()) {
+                Files.delete(path);
+            }
+        }
+
+        Files.deleteIfExists(directory.resolve(COMPACTION_MARKER + TMP_SUFFIX));
+    }
+
+    private static NavigableMap<Integer, Path> listSegments(Path directory, String suffix) throws IOException {
+        NavigableMap<Integer, Path> paths = new TreeMap<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + suffix)) {
+            for (Path path : stream) {
+                String fileName = path.getFileName().toString();
+                String number = fileName.substring(0, fileName.length() - suffix.length());
+
+                try {
+                    paths.put(Integer.parseInt(number), path);
+                } catch (NumberFormatException ignored) {
+                    // not a segment file
+                }
+            }
+        }
+
+        return paths;
+    }
+
+    /**
+     * @return the name of the directory the series for {@code nodeId} is stored in.
+     */
+    static String directoryName(Kind kind, NodeId nodeId) {
+        String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(
+            nodeId.toParseableString().getBytes(StandardCharsets.UTF_8)
+        );
+
+        return kind.prefix + "-" + encoded;
+    }
+
+    /**
+     * Find the series stored in the subdirectories of {@code directory}.
+     *
+     * @return the {@link Kind} and {@link NodeId} of each series, by the path of its directory.
+     */
+    static List<SeriesId> listSeries(Path directory) throws IOException {
+        List<SeriesId> series = new ArrayList<>();
+
+        if (!Files.isDirectory(directory)) return series;
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+
+                for (Kind kind : Kind.values()) {
+                    if (name.startsWith(kind.prefix + "-")) {
+                        try {
+                            byte[] bs = Base64.getUrlDecoder().decode(name.substring(kind.prefix.length() + 1));
+
+                            NodeId.parseSafe(new String(bs, StandardCharsets.UTF_8))
+                                .ifPresent(nodeId -> series.add(new SeriesId(kind, nodeId, path)));
+                        } catch (IllegalArgumentException ignored) {
+                            // not a series directory
+                        }
+                    }
+                }
+            }
+        }
+
+        return series;
+    }
+
+    static final class SeriesId {
+
+        final Kind kind;
+        final NodeId nodeId;
+        final Path path;
+
+        SeriesId(Kind kind, NodeId nodeId, Path path) {
+            this.kind = kind;
+            this.nodeId = nodeId;
+            this.path = path;
+        }
+
+    }
+
+    /**
+     * A position in the index to resume a {@link #scan} from: the time of the next entry, and how many entries with
+     * that same time precede it in the direction of the scan.
+     */
+    static final class Cursor {
+
+        final long time;
+        final int skip;
+
+        Cursor(long time, int skip) {
+            this.time = time;
+            this.skip = skip;
+        }
+
+    }
+
+    interface PayloadWriter {
+
+        void write(OpcUaBinaryStreamEncoder encoder);
+
+    }
+
+    interface RecordVisitor {
+
+        /**
+         * @param time    the time of the entry.
+         * @param decoder a decoder positioned at the start of the entry's payload.
+         * @return {@code true} if the entry was accepted and counts towards the maximum of the scan.
+         */
+        boolean visit(long time, OpcUaBinaryStreamDecoder decoder);
+
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.history;
+
+import java.time.Duration;
+
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+
+/**
+ * Decides how long the history of each Node is kept.
+ * <p>
+ * Entries older than the cutoff are discarded the next time the {@link EmbeddedHistorian} runs its maintenance.
+ */
+public interface RetentionPolicy {
+
+    /**
+     * Get the time before which the history of the Node identified by {@code nodeId} may be discarded.
+     *
+     * @param nodeId the {@link NodeId} of the historized Node or event notifier.
+     * @param now    the current time.
+     * @return the cutoff time, or {@link DateTime#MIN_VALUE} to keep everything.
+     */
+    DateTime getCutoffTime(NodeId nodeId, DateTime now);
+
+    /**
+     * @return a {@link RetentionPolicy} that never discards history.
+     */
+    static RetentionPolicy forever() {
+        return (nodeId, now) -> DateTime.MIN_VALUE;
+    }
+
+    /**
+     * @param maxAge the maximum age of an entry.
+     * @return a {@link RetentionPolicy} that discards entries older than {@code maxAge}.
+     */
+    static RetentionPolicy maxAge(Duration maxAge) {
+        return (nodeId, now) -> new DateTime(now.getJavaInstant().minus(maxAge));
+    }
+
+}
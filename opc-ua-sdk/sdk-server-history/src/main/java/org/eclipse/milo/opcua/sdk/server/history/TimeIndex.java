@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.history;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * The entries of one {@link HistorySeries}, sorted by time: parallel arrays of timestamps and the locations of the
+ * records holding each entry.
+ * <p>
+ * Entries with equal timestamps keep the order they were inserted in. Appending an entry newer than every other
+ * entry, the common case, does not move anything.
+ * <p>
+ * Not thread safe; guarded by the owning {@link HistorySeries}.
+ */
+final class TimeIndex {
+
+    private long[] times = new long[16];
+    private long[] locations = new long[16];
+    private int size = 0;
+
+    int size() {
+        return size;
+    }
+
+    long timeAt(int index) {
+        return times[index];
+    }
+
+    long locationAt(int index) {
+        return locations[index];
+    }
+
+    /**
+     * @return the index of the first entry with a time {@code >= time}, or {@link #size()} if there is none.
+     */
+    int lowerBound(long time) {
+        int lo = 0;
+        int hi = size;
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+
+            if (times[mid] < time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+    /**
+     * @return the index of the first entry with a time {@code > time}, or {@link #size()} if there is none.
+     */
+    int upperBound(long time) {
+        if (size == 0 || times[size - 1] <= time) return size;
+
+        int lo = 0;
+        int hi = size;
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+
+            if (times[mid] <= time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+    /**
+     * Insert an entry after any existing entries with the same time.
+     */
+    void insert(long time, long location) {
+        int index = upperBound(time);
+
+        if (size == times.length) {
+            int capacity = times.length * 2;
+            times = Arrays.copyOf(times, capacity);
+            locations = Arrays.copyOf(locations, capacity);
+        }
+
+        if (index < size) {
+            System.arraycopy(times, index, times, index + 1, size - index);
+            System.arraycopy(locations, index, locations, index + 1, size - index);
+        }
+
+        times[index] = time;
+        locations[index] = location;
+        size++;
+    }
+
+    /**
+     * Replace the location of the entry at {@code index}.
+     *
+     * @return the location that was replaced.
+     */
+    long replace(int index, long location) {
+        long previous = locations[index];
+        locations[index] = location;
+        return previous;
+    }
+
+    /**
+     * Remove the entries from {@code from}, inclusive, to {@code to}, exclusive.
+     *
+     * @param removed called with the location of each removed entry.
+     */
+    void remove(int from, int to, LongConsumer removed) {
+        if (from >= to) return;
+
+        for (int i = from; i < to; i++) {
+            removed.accept(locations[i]);
+        }
+
+        System.arraycopy(times, to, times, from, size - to);
+        System.arraycopy(locations, to, locations, from, size - to);
+        size -= (to - from);
+    }
+
+    void clear() {
+        times = new long[16];
+        locations = new long[16];
+        size = 0;
+    }
+
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.history;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.sdk.server.api.services.AttributeHistoryServices.HistoryReadContext;
+import org.eclipse.milo.opcua.sdk.server.api.services.AttributeHistoryServices.HistoryUpdateContext;
+import org.eclipse.milo.opcua.sdk.server.events.FlyweightEvent;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.PerformUpdateType;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.DeleteAtTimeDetails;
+import org.eclipse.milo.opcua.stack.core.types.structured.DeleteRawModifiedDetails;
+import org.eclipse.milo.opcua.stack.core.types.structured.EventFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryData;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryEvent;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadDetails;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryUpdateDetails;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryUpdateResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadEventDetails;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRawModifiedDetails;
+import org.eclipse.milo.opcua.stack.core.types.structured.SimpleAttributeOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.UpdateDataDetails;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class EmbeddedHistorianTest {
+
+    private static final long SECOND = 10_000_000L;
+
+    private static final DateTime T0 = new DateTime(DateTime.now().getUtcTime() - 1000 * SECOND);
+
+    private final NodeId nodeId = new NodeId(2, "Value");
+    private final NodeId notifierId = new NodeId(2, "Notifier");
+
+    private OpcUaServer server;
+    private Path directory;
+    private EmbeddedHistorian historian;
+
+    @BeforeClass
+    public void setupServer() {
+        server = new OpcUaServer(OpcUaServerConfig.builder().build());
+        server.getEventFactory().startup();
+    }
+
+    @AfterClass
+    public void teardownServer() {
+        server.getEventFactory().shutdown();
+    }
+
+    @BeforeMethod
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("history");
+
+        historian = newHistorian(HistorianConfig.builder().setDirectory(directory));
+    }
+
+    @AfterMethod
+    public void teardown() throws Exception {
+        historian.shutdown();
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testReadRaw() throws Exception {
+        recordValues(100);
+
+        List<DataValue> values = readValues(readRaw(time(10), time(20), 0, false));
+        assertEquals(values.size(), 10);
+        assertEquals(values.get(0).getValue().getValue(), 10);
+        assertEquals(values.get(9).getValue().getValue(), 19);
+
+        List<DataValue> reversed = readValues(readRaw(time(20), time(10), 0, false));
+        assertEquals(reversed.size(), 10);
+        assertEquals(reversed.get(0).getValue().getValue(), 20);
+        assertEquals(reversed.get(9).getValue().getValue(), 11);
+
+        List<DataValue> latest = readValues(readRaw(null, time(1000), 3, false));
+        assertEquals(latest.size(), 3);
+        assertEquals(latest.get(0).getValue().getValue(), 99);
+    }
+
+    @Test
+    public void testReadRawWithBounds() throws Exception {
+        recordValues(10);
+
+        List<DataValue> values = readValues(
+            readRaw(new DateTime(time(2).getUtcTime() + 1), new DateTime(time(5).getUtcTime() + 1), 0, true)
+        );
+
+        assertEquals(values.size(), 5);
+        assertEquals(values.get(0).getValue().getValue(), 2);
+        assertEquals(values.get(4).getValue().getValue(), 6);
+
+        List<DataValue> unbounded = readValues(readRaw(time(-5), time(20), 0, true));
+
+        assertEquals(unbounded.size(), 12);
+        assertEquals(unbounded.get(0).getStatusCode().getValue(), StatusCodes.Bad_BoundNotFound);
+        assertEquals(unbounded.get(11).getStatusCode().getValue(), StatusCodes.Bad_BoundNotFound);
+    }
+
+    @Test
+    public void testContinuationPoints() throws Exception {
+        historian.shutdown();
+        historian = newHistorian(HistorianConfig.builder().setDirectory(directory).setMaxValuesPerRead(25));
+
+        recordValues(100);
+
+        List<Object> values = new ArrayList<>();
+        HistoryReadDetails details = readRaw(time(0), time(100), 0, false);
+
+        HistoryReadResult result = historyRead(details, null, false);
+        int pages = 1;
+
+        while (result.getContinuationPoint() != null && result.getContinuationPoint().isNotNull()) {
+            decodeValues(result).forEach(v -> values.add(v.getValue().getValue()));
+
+            result = historyRead(details, result.getContinuationPoint(), false);
+            pages++;
+        }
+        decodeValues(result).forEach(v -> values.add(v.getValue().getValue()));
+
+        assertEquals(pages, 4);
+        assertEquals(values.size(), 100);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(values.get(i), i);
+        }
+
+        // released continuation points can't be used again
+        ByteString continuationPoint = historyRead(details, null, false).getContinuationPoint();
+        assertNotNull(continuationPoint);
+        assertTrue(historyRead(details, continuationPoint, true).getStatusCode().isGood());
+        assertEquals(
+            historyRead(details, continuationPoint, false).getStatusCode().getValue(),
+            StatusCodes.Bad_ContinuationPointInvalid
+        );
+    }
+
+    @Test
+    public void testHistoryUpdate() throws Exception {
+        recordValues(10);
+
+        HistoryUpdateResult insert = historyUpdate(new UpdateDataDetails(
+            nodeId,
+            PerformUpdateType.Insert,
+            new DataValue[]{value(5, 500), value(10, 1000)}
+        ));
+        assertEquals(insert.getOperationResults()[0].getValue(), StatusCodes.Bad_EntryExists);
+        assertEquals(insert.getOperationResults()[1].getValue(), StatusCodes.Good_EntryInserted);
+
+        HistoryUpdateResult replace = historyUpdate(new UpdateDataDetails(
+            nodeId,
+            PerformUpdateType.Replace,
+            new DataValue[]{value(5, 500), value(11, 1100)}
+        ));
+        assertEquals(replace.getOperationResults()[0].getValue(), StatusCodes.Good_EntryReplaced);
+        assertEquals(replace.getOperationResults()[1].getValue(), StatusCodes.Bad_NoEntryExists);
+
+        historyUpdate(new DeleteRawModifiedDetails(nodeId, false, time(0), time(2)));
+
+        HistoryUpdateResult deleteAt = historyUpdate(new DeleteAtTimeDetails(
+            nodeId,
+            new DateTime[]{time(7), time(50)}
+        ));
+        assertTrue(deleteAt.getOperationResults()[0].isGood());
+        assertEquals(deleteAt.getOperationResults()[1].getValue(), StatusCodes.Bad_NoEntryExists);
+
+        List<Object> expected = new ArrayList<>();
+        Collections.addAll(expected, 2, 3, 4, 500, 6, 8, 9, 1000);
+
+        assertEquals(readAll(), expected);
+
+        // the same history is rebuilt from the segment files
+        historian.shutdown();
+        historian = newHistorian(HistorianConfig.builder().setDirectory(directory));
+
+        assertEquals(readAll(), expected);
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        historian.shutdown();
+        historian = newHistorian(
+            HistorianConfig.builder()
+                .setDirectory(directory)
+                .setSegmentSize(4096)
+                .setCompactionPolicy(CompactionPolicy.deadRatio(0.5))
+        );
+
+        for (int round = 0; round < 10; round++) {
+            recordValues(100);
+        }
+
+        List<Object> before = readAll();
+        assertEquals(before.size(), 100);
+
+        historian.maintain();
+
+        assertEquals(readAll(), before);
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            long segments = paths.filter(p -> p.toString().endsWith(HistorySegment.SUFFIX)).count();
+
+            assertTrue(segments <= 2, "segments=" + segments);
+        }
+
+        historian.shutdown();
+        historian = newHistorian(HistorianConfig.builder().setDirectory(directory));
+
+        assertEquals(readAll(), before);
+    }
+
+    @Test
+    public void testSegmentsGrowAsValuesAreRecorded() throws Exception {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            assertEquals(paths.filter(p -> p.toString().endsWith(HistorySegment.SUFFIX)).count(), 0L);
+        }
+
+        recordValues(5000);
+
+        List<Path> segments;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            segments = paths.filter(p -> p.toString().endsWith(HistorySegment.SUFFIX)).collect(Collectors.toList());
+        }
+
+        assertEquals(segments.size(), 1);
+
+        long size = Files.size(segments.get(0));
+        assertTrue(size > HistorySegment.INITIAL_CAPACITY, "size=" + size);
+        assertTrue(size < 16 * 1024 * 1024, "size=" + size);
+
+        historian.shutdown();
+        historian = newHistorian(HistorianConfig.builder().setDirectory(directory));
+
+        List<DataValue> values = readValues(readRaw(time(-1), time(5000), 0, false));
+        assertEquals(values.size(), 5000);
+        assertEquals(values.get(4999).getValue().getValue(), 4999);
+    }
+
+    @Test
+    public void testRetention() throws Exception {
+        historian.shutdown();
+        historian = newHistorian(
+            HistorianConfig.builder()
+                .setDirectory(directory)
+                .setRetentionPolicy((nodeId, now) -> time(50))
+        );
+
+        recordValues(100);
+
+        historian.maintain();
+
+        List<Object> values = readAll();
+        assertEquals(values.size(), 50);
+        assertEquals(values.get(0), 50);
+    }
+
+    @Test
+    public void testReadEvents() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            NodeId eventTypeId = i % 2 == 0 ? Identifiers.BaseEventType : Identifiers.SystemEventType;
+
+            FlyweightEvent event = server.getEventFactory().createFlyweightEvent(
+                new NodeId(1, "Event" + i),
+                eventTypeId
+            );
+            event.setEventType(eventTypeId);
+            event.setEventId(ByteString.of(new byte[]{(byte) i}));
+            event.setTime(time(i));
+            event.setSeverity(ushort(i * 100));
+
+            historian.record(notifierId, event);
+        }
+
+        EventFilter filter = new EventFilter(
+            new SimpleAttributeOperand[]{
+                new SimpleAttributeOperand(
+                    Identifiers.BaseEventType,
+                    new QualifiedName[]{new QualifiedName(0, "Severity")},
+                    AttributeId.Value.uid(),
+                    null
+                ),
+                new SimpleAttributeOperand(
+                    Identifiers.BaseEventType,
+                    new QualifiedName[]{new QualifiedName(0, "EventType")},
+                    AttributeId.Value.uid(),
+                    null
+                )
+            },
+            new ContentFilter(null)
+        );
+
+        HistoryReadResult result = historyRead(
+            new HistoryReadValueId(notifierId, null, QualifiedName.NULL_VALUE, ByteString.NULL_VALUE),
+            new ReadEventDetails(uint(0), time(2), time(6), filter),
+            false
+        );
+
+        HistoryEvent historyEvent = (HistoryEvent) result.getHistoryData().decode(server.getSerializationContext());
+
+        assertEquals(historyEvent.getEvents().length, 4);
+        assertEquals(historyEvent.getEvents()[0].getEventFields()[0].getValue(), ushort(200));
+        assertEquals(historyEvent.getEvents()[1].getEventFields()[1].getValue(), Identifiers.SystemEventType);
+    }
+
+    @Test
+    public void testUnknownNode() throws Exception {
+        HistoryReadResult result = historyRead(
+            new HistoryReadValueId(new NodeId(2, "Unknown"), null, QualifiedName.NULL_VALUE, ByteString.NULL_VALUE),
+            readRaw(time(0), time(10), 0, false),
+            false
+        );
+
+        assertEquals(result.getStatusCode().getValue(), StatusCodes.Bad_HistoryOperationUnsupported);
+        assertNull(result.getHistoryData());
+    }
+
+    private EmbeddedHistorian newHistorian(HistorianConfigBuilder builder) {
+        EmbeddedHistorian historian = new EmbeddedHistorian(
+            server,
+            builder.setMaintenanceInterval(Duration.ofHours(1)).build()
+        );
+
+        historian.startup();
+
+        return historian;
+    }
+
+    private void recordValues(int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            historian.record(nodeId, value(i, i));
+        }
+    }
+
+    private List<Object> readAll() throws Exception {
+        List<Object> values = new ArrayList<>();
+
+        for (DataValue value : readValues(readRaw(time(-1000), time(1000), 0, false))) {
+            values.add(value.getValue().getValue());
+        }
+
+        return values;
+    }
+
+    private List<DataValue> readValues(HistoryReadDetails details) throws Exception {
+        HistoryReadResult result = historyRead(details, null, false);
+
+        assertTrue(result.getStatusCode().isGood(), result.getStatusCode().toString());
+
+        return decodeValues(result);
+    }
+
+    private List<DataValue> decodeValues(HistoryReadResult result) {
+        HistoryData historyData = (HistoryData) result.getHistoryData().decode(server.getSerializationContext());
+
+        List<DataValue> values = new ArrayList<>();
+        Collections.addAll(values, historyData.getDataValues());
+        return values;
+    }
+
+    private HistoryReadResult historyRead(
+        HistoryReadDetails details,
+        ByteString continuationPoint,
+        boolean release
+    ) throws Exception {
+
+        return historyRead(
+            new HistoryReadValueId(nodeId, null, QualifiedName.NULL_VALUE, continuationPoint),
+            details,
+            release
+        );
+    }
+
+    private HistoryReadResult historyRead(
+        HistoryReadValueId readValueId,
+        HistoryReadDetails details,
+        boolean release
+    ) throws Exception {
+
+        HistoryReadContext context = new HistoryReadContext(server, null, null, release);
+
+        historian.historyRead(context, details, TimestampsToReturn.Both, Collections.singletonList(readValueId));
+
+        return context.getFuture().get().get(0);
+    }
+
+    private HistoryUpdateResult historyUpdate(HistoryUpdateDetails details) throws Exception {
+        HistoryUpdateContext context = new HistoryUpdateContext(server, null);
+
+        historian.historyUpdate(context, Collections.singletonList(details));
+
+        HistoryUpdateResult result = context.getFuture().get().get(0);
+
+        assertTrue(result.getStatusCode().isGood(), result.getStatusCode().toString());
+
+        return result;
+    }
+
+    private static ReadRawModifiedDetails readRaw(DateTime start, DateTime end, int numValues, boolean bounds) {
+        return new ReadRawModifiedDetails(false, start, end, uint(numValues), bounds);
+    }
+
+    private static DataValue value(int seconds, int value) {
+        return new DataValue(new Variant(value), StatusCode.GOOD, time(seconds), DateTime.now());
+    }
+
+    private static DateTime time(int seconds) {
+        return new DateTime(T0.getUtcTime() + seconds * SECOND);
+    }
+
+}
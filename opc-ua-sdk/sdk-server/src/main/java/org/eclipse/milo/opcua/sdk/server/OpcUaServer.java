@@ -29,12 +29,15 @@ import org.eclipse.milo.opcua.sdk.core.ServerTable;
 import org.eclipse.milo.opcua.sdk.server.api.AddressSpaceManager;
 import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
 import org.eclipse.milo.opcua.sdk.server.diagnostics.ServerDiagnosticsSummary;
+import org.eclipse.milo.opcua.sdk.server.events.EventFilterCache;
+import org.eclipse.milo.opcua.sdk.server.events.EventRouter;
 import org.eclipse.milo.opcua.sdk.server.model.ObjectTypeInitializer;
 import org.eclipse.milo.opcua.sdk.server.model.VariableTypeInitializer;
 import org.eclipse.milo.opcua.sdk.server.namespaces.OpcUaNamespace;
 import org.eclipse.milo.opcua.sdk.server.namespaces.ServerNamespace;
 import org.eclipse.milo.opcua.sdk.server.nodes.factories.EventFactory;
 import org.eclipse.milo.opcua.sdk.server.subscriptions.Subscription;
+import org.eclipse.milo.opcua.sdk.server.util.AttributeValueCache;
 import org.eclipse.milo.opcua.stack.core.BuiltinReferenceType;
 import org.eclipse.milo.opcua.stack.core.NamespaceTable;
 import org.eclipse.milo.opcua.stack.core.ReferenceType;
@@ -90,8 +93,12 @@ public class OpcUaServer {
 
     private final ServerDiagnosticsSummary diagnosticsSummary = new ServerDiagnosticsSummary(this);
 
+    private final AttributeValueCache attributeValueCache;
+
     private final EventBus eventBus = new EventBus("server");
     private final EventFactory eventFactory = new EventFactory(this);
+    private final EventFilterCache eventFilterCache = new EventFilterCache(this);
+    private final EventRouter eventRouter;
 
     private final UaStackServer stackServer;
 
@@ -105,6 +112,15 @@ public class OpcUaServer {
 
         stackServer = new UaStackServer(config);
 
+        eventRouter = new EventRouter(this);
+        eventBus.register(eventRouter);
+
+        attributeValueCache = new AttributeValueCache(
+            this,
+            config.getLimits().getMaxCachedValueNodes().longValue(),
+            config.getLimits().getMaxCachedValueAge().longValue()
+        );
+
         Stream<String> paths = stackServer.getConfig().getEndpoints()
             .stream()
             .map(e -> EndpointUtil.getPath(e.getEndpointUrl()))
@@ -202,6 +218,15 @@ public class OpcUaServer {
         return diagnosticsSummary;
     }
 
+    /**
+     * Get the {@link AttributeValueCache} used to satisfy Reads with a non-zero maxAge.
+     *
+     * @return the {@link AttributeValueCache}.
+     */
+    public AttributeValueCache getAttributeValueCache() {
+        return attributeValueCache;
+    }
+
     /**
      * Get the Server-wide {@link EventBus}.
      * <p>
@@ -222,6 +247,26 @@ public class OpcUaServer {
         return eventFactory;
     }
 
+    /**
+     * Get the {@link EventRouter} that delivers events to monitored items.
+     * <p>
+     * Events posted to the {@link EventBus} are routed by it as well.
+     *
+     * @return the {@link EventRouter} that delivers events to monitored items.
+     */
+    public EventRouter getEventRouter() {
+        return eventRouter;
+    }
+
+    /**
+     * Get the shared {@link EventFilterCache}.
+     *
+     * @return the shared {@link EventFilterCache}.
+     */
+    public EventFilterCache getEventFilterCache() {
+        return eventFilterCache;
+    }
+
     public ObjectTypeManager getObjectTypeManager() {
         return objectTypeManager;
     }
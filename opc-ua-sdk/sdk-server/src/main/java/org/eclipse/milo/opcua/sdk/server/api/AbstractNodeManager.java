@@ -11,16 +11,18 @@
 package org.eclipse.milo.opcua.sdk.server.api;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
+import com.google.common.collect.ForwardingMap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.LinkedHashMultiset;
 import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
 import org.eclipse.milo.opcua.sdk.core.Reference;
 import org.eclipse.milo.opcua.sdk.core.nodes.Node;
 import org.eclipse.milo.opcua.stack.core.NamespaceTable;
@@ -30,7 +32,13 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
 
     private final ConcurrentMap<NodeId, T> nodeMap;
-    private final ConcurrentMap<NodeId, LinkedHashMultiset<Reference>> referenceMap;
+    private final ConcurrentMap<NodeId, ReferenceSet> referenceMap;
+
+    /**
+     * Set once {@link #getReferenceMap()} has handed out the backing multisets, which may then be modified without
+     * invalidating the cached snapshots.
+     */
+    private volatile boolean referenceMapExposed = false;
 
     public AbstractNodeManager() {
         nodeMap = makeNodeMap(new MapMaker());
@@ -58,12 +66,21 @@ public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
     }
 
     /**
-     * Get the backing {@link ConcurrentMap} holding this {@link NodeManager}'s References.
+     * Get a live view of this {@link NodeManager}'s References, keyed by source {@link NodeId}.
+     * <p>
+     * The multisets in the returned map are the ones the References are stored in, and changes made through the map
+     * or its multisets are seen by this {@link NodeManager}. Once this has been called, References snapshots are no
+     * longer cached, since they can't be invalidated when these multisets are modified directly.
      *
-     * @return the backing {@link ConcurrentMap} holding this {@link NodeManager}'s References.
+     * @return a live view of this {@link NodeManager}'s References, keyed by source {@link NodeId}.
+     * @deprecated use {@link #getReferences(NodeId)} or {@link #getReferencesSnapshot(NodeId)} to read References
+     * and {@link #addReference(Reference)} or {@link #removeReference(Reference)} to modify them.
      */
+    @Deprecated
     public ConcurrentMap<NodeId, LinkedHashMultiset<Reference>> getReferenceMap() {
-        return referenceMap;
+        referenceMapExposed = true;
+
+        return new ReferenceMapView(referenceMap);
     }
 
     /**
@@ -122,61 +139,209 @@ public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
     }
 
     @Override
-    public synchronized void addReference(Reference reference) {
-        LinkedHashMultiset<Reference> references = referenceMap.computeIfAbsent(
-            reference.getSourceNodeId(),
-            nodeId -> LinkedHashMultiset.create()
-        );
+    public void addReference(Reference reference) {
+        referenceMap.compute(reference.getSourceNodeId(), (nodeId, references) -> {
+            if (references == null) {
+                references = new ReferenceSet();
+            }
 
-        references.add(reference);
+            references.add(reference);
+
+            return references;
+        });
     }
 
     @Override
-    public synchronized void addReferences(Reference reference, NamespaceTable namespaceTable) {
+    public void addReferences(Reference reference, NamespaceTable namespaceTable) {
         addReference(reference);
 
         reference.invert(namespaceTable).ifPresent(this::addReference);
     }
 
     @Override
-    public synchronized void removeReference(Reference reference) {
-        LinkedHashMultiset<Reference> references = referenceMap.get(
-            reference.getSourceNodeId()
-        );
-
-        if (references != null) {
+    public void removeReference(Reference reference) {
+        referenceMap.computeIfPresent(reference.getSourceNodeId(), (nodeId, references) -> {
             references.remove(reference);
 
-            if (references.isEmpty()) {
-                referenceMap.remove(reference.getSourceNodeId());
-            }
-        }
+            return references.isEmpty() ? null : references;
+        });
     }
 
     @Override
-    public synchronized void removeReferences(Reference reference, NamespaceTable namespaceTable) {
+    public void removeReferences(Reference reference, NamespaceTable namespaceTable) {
         removeReference(reference);
 
         reference.invert(namespaceTable).ifPresent(this::removeReference);
     }
 
     @Override
-    public synchronized List<Reference> getReferences(NodeId nodeId) {
-        LinkedHashMultiset<Reference> references = referenceMap.get(nodeId);
+    public List<Reference> getReferences(NodeId nodeId) {
+        return new ArrayList<>(getReferencesSnapshot(nodeId));
+    }
+
+    @Override
+    public List<Reference> getReferences(NodeId nodeId, Predicate<Reference> filter) {
+        ImmutableList<Reference> references = getReferencesSnapshot(nodeId);
+
+        List<Reference> filtered = new ArrayList<>();
+
+        for (Reference reference : references) {
+            if (filter.test(reference)) {
+                filtered.add(reference);
+            }
+        }
+
+        return filtered;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned list is shared between callers until the References for {@code nodeId} change, and reading it
+     * never blocks on concurrent modifications.
+     */
+    @Override
+    public ImmutableList<Reference> getReferencesSnapshot(NodeId nodeId) {
+        ReferenceSet references = referenceMap.get(nodeId);
 
         if (references != null) {
-            return new ArrayList<>(references);
+            return references.snapshot(!referenceMapExposed);
         } else {
-            return Collections.emptyList();
+            return ImmutableList.of();
         }
     }
 
-    @Override
-    public List<Reference> getReferences(NodeId nodeId, Predicate<Reference> filter) {
-        return getReferences(nodeId)
-            .stream()
-            .filter(filter)
-            .collect(Collectors.toList());
+    /**
+     * The deprecated, live view of the References returned by {@link #getReferenceMap()}. Each {@link ReferenceSet}
+     * is presented as its backing multiset, and multisets put into the map are adopted as the backing multiset of a
+     * new {@link ReferenceSet}.
+     */
+    private static final class ReferenceMapView
+        extends ForwardingMap<NodeId, LinkedHashMultiset<Reference>>
+        implements ConcurrentMap<NodeId, LinkedHashMultiset<Reference>> {
+
+        private final ConcurrentMap<NodeId, ReferenceSet> referenceMap;
+        private final Map<NodeId, LinkedHashMultiset<Reference>> delegate;
+
+        ReferenceMapView(ConcurrentMap<NodeId, ReferenceSet> referenceMap) {
+            this.referenceMap = referenceMap;
+
+            delegate = Maps.transformValues(referenceMap, references -> references.references);
+        }
+
+        @Override
+        protected Map<NodeId, LinkedHashMultiset<Reference>> delegate() {
+            return delegate;
+        }
+
+        @Override
+        public LinkedHashMultiset<Reference> put(NodeId key, LinkedHashMultiset<Reference> value) {
+            return unwrap(referenceMap.put(key, new ReferenceSet(value)));
+        }
+
+        @Override
+        public void putAll(Map<? extends NodeId, ? extends LinkedHashMultiset<Reference>> map) {
+            standardPutAll(map);
+        }
+
+        @Override
+        public LinkedHashMultiset<Reference> putIfAbsent(NodeId key, LinkedHashMultiset<Reference> value) {
+            return unwrap(referenceMap.putIfAbsent(key, new ReferenceSet(value)));
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            ReferenceSet references = referenceMap.get(key);
+
+            return references != null && references.references.equals(value) && referenceMap.remove(key, references);
+        }
+
+        @Override
+        public boolean replace(
+            NodeId key,
+            LinkedHashMultiset<Reference> oldValue,
+            LinkedHashMultiset<Reference> newValue
+        ) {
+
+            ReferenceSet references = referenceMap.get(key);
+
+            return references != null && references.references.equals(oldValue) &&
+                referenceMap.replace(key, references, new ReferenceSet(newValue));
+        }
+
+        @Override
+        public LinkedHashMultiset<Reference> replace(NodeId key, LinkedHashMultiset<Reference> value) {
+            return unwrap(referenceMap.replace(key, new ReferenceSet(value)));
+        }
+
+        private static LinkedHashMultiset<Reference> unwrap(ReferenceSet references) {
+            return references != null ? references.references : null;
+        }
+
+    }
+
+    /**
+     * The References of a single source Node.
+     * <p>
+     * Mutations happen inside {@link ConcurrentMap#compute} on the owning map, so membership in the map and the
+     * contents of the set change atomically. Readers are served a cached immutable snapshot that is rebuilt at most
+     * once after each change, so a burst of additions (e.g. populating a large folder) stays O(1) per Reference.
+     */
+    private static final class ReferenceSet {
+
+        private final LinkedHashMultiset<Reference> references;
+
+        private volatile ImmutableList<Reference> snapshot = null;
+
+        ReferenceSet() {
+            this(LinkedHashMultiset.create());
+        }
+
+        ReferenceSet(LinkedHashMultiset<Reference> references) {
+            this.references = references;
+        }
+
+        synchronized void add(Reference reference) {
+            references.add(reference);
+            snapshot = null;
+        }
+
+        synchronized void remove(Reference reference) {
+            if (references.remove(reference)) {
+                snapshot = null;
+            }
+        }
+
+        synchronized boolean isEmpty() {
+            return references.isEmpty();
+        }
+
+        /**
+         * @param cached {@code false} if the multiset may have been modified without going through this set, in
+         *               which case a new snapshot is taken.
+         */
+        ImmutableList<Reference> snapshot(boolean cached) {
+            if (!cached) {
+                synchronized (this) {
+                    return ImmutableList.copyOf(references);
+                }
+            }
+
+            ImmutableList<Reference> s = snapshot;
+
+            if (s == null) {
+                synchronized (this) {
+                    s = snapshot;
+
+                    if (s == null) {
+                        s = snapshot = ImmutableList.copyOf(references);
+                    }
+                }
+            }
+
+            return s;
+        }
+
     }
 
 }
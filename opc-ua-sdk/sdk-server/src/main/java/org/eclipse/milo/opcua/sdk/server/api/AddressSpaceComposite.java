@@ -12,6 +12,7 @@ package org.eclipse.milo.opcua.sdk.server.api;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -29,6 +30,7 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import org.eclipse.milo.opcua.stack.core.types.structured.AddNodesItem;
 import org.eclipse.milo.opcua.stack.core.types.structured.AddNodesResult;
@@ -47,6 +49,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
 import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
 import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,10 +73,15 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
 
     private final CompositeAddressSpaceFilter filter = new CompositeAddressSpaceFilter(addressSpaces);
 
+    private volatile RoutingTable routingTable = new RoutingTable(emptyList());
+
     private final OpcUaServer server;
+    private final AddressSpaceFragment emptyAddressSpace;
 
     public AddressSpaceComposite(OpcUaServer server) {
         this.server = server;
+
+        emptyAddressSpace = new EmptyAddressSpaceFragment(server);
     }
 
     @Override
@@ -91,6 +99,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public synchronized void register(AddressSpaceFragment addressSpace) {
         if (!addressSpaces.contains(addressSpace)) {
             addressSpaces.add(addressSpace);
+            routingTable = new RoutingTable(addressSpaces);
 
             logger.debug("registered {}", addressSpace);
         } else {
@@ -108,6 +117,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public synchronized void registerFirst(AddressSpaceFragment addressSpace) {
         if (!addressSpaces.contains(addressSpace)) {
             addressSpaces.add(0, addressSpace);
+            routingTable = new RoutingTable(addressSpaces);
 
             logger.debug("registered {} at index 0", addressSpace);
         } else {
@@ -123,6 +133,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public synchronized void unregister(AddressSpaceFragment addressSpace) {
         if (addressSpaces.contains(addressSpace)) {
             addressSpaces.remove(addressSpace);
+            routingTable = new RoutingTable(addressSpaces);
 
             logger.debug("unregistered {}", addressSpace);
         } else {
@@ -149,10 +160,24 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     }
 
     private AddressSpaceFragment getAddressSpace(Predicate<AddressSpaceFragment> filter) {
-        return addressSpaces.stream()
-            .filter(filter)
-            .findFirst()
-            .orElse(new EmptyAddressSpaceFragment(server));
+        return getAddressSpace(null, filter);
+    }
+
+    /**
+     * Get the first registered {@link AddressSpaceFragment} whose filter matches an operation on {@code nodeId}.
+     * <p>
+     * Fragments that declare a {@link SimpleAddressSpaceFilter.Coverage} are found through the routing table and
+     * never have {@code filter} tested; the rest are tested in registration order.
+     *
+     * @param nodeId the {@link NodeId} the {@link SimpleAddressSpaceFilter} of a fragment would match the operation
+     *               on, or {@code null} if the operation can only be matched by testing {@code filter}.
+     * @param filter a {@link Predicate} that tests a fragment's filter against the operation.
+     * @return the matching {@link AddressSpaceFragment}, or an empty fragment if none matched.
+     */
+    private AddressSpaceFragment getAddressSpace(@Nullable NodeId nodeId, Predicate<AddressSpaceFragment> filter) {
+        AddressSpaceFragment addressSpace = routingTable.route(nodeId, filter);
+
+        return addressSpace != null ? addressSpace : emptyAddressSpace;
     }
 
     //region ViewServices
@@ -161,19 +186,19 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public void browse(BrowseContext context, ViewDescription view, NodeId nodeId) {
         List<AddressSpaceFragment> addressSpaces = getAddressSpaces();
 
-        AddressSpace firstMatch;
-        try {
-            firstMatch = addressSpaces.stream()
-                .filter(asx -> asx.getFilter().filterBrowse(server, nodeId))
-                .findFirst()
-                .orElseThrow(() -> new UaException(StatusCodes.Bad_NodeIdUnknown));
+        AddressSpace firstMatch = routingTable.route(
+            nodeId,
+            asx ->
+                asx.getFilter().filterBrowse(server, nodeId)
+        );
 
-            addressSpaces.remove(firstMatch);
-        } catch (UaException e) {
-            context.failure(e);
+        if (firstMatch == null) {
+            context.failure(new UaException(StatusCodes.Bad_NodeIdUnknown));
             return;
         }
 
+        addressSpaces.remove(firstMatch);
+
         List<CompletableFuture<List<Reference>>> futures = new ArrayList<>();
 
         BrowseContext browseContext = new BrowseContext(
@@ -252,6 +277,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<NodeId>> registeredNodeIds = groupMapCollate(
             nodeIds,
             nodeId -> getAddressSpace(
+                nodeId,
                 asx ->
                     asx.getFilter().filterRegisterNode(server, nodeId)
             ),
@@ -276,6 +302,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<Unit>> units = groupMapCollate(
             nodeIds,
             nodeId -> getAddressSpace(
+                nodeId,
                 asx ->
                     asx.getFilter().filterUnregisterNode(server, nodeId)
             ),
@@ -317,6 +344,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<DataValue>> values = groupMapCollate(
             readValueIds,
             readValueId -> getAddressSpace(
+                readValueId.getNodeId(),
                 asx ->
                     asx.getFilter().filterRead(server, readValueId)
             ),
@@ -345,6 +373,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<StatusCode>> results = groupMapCollate(
             writeValues,
             writeValue -> getAddressSpace(
+                writeValue.getNodeId(),
                 asx ->
                     asx.getFilter().filterWrite(server, writeValue)
             ),
@@ -380,6 +409,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<HistoryReadResult>> results = groupMapCollate(
             readValueIds,
             readValueId -> getAddressSpace(
+                readValueId.getNodeId(),
                 asx ->
                     asx.getFilter().filterHistoryRead(server, readValueId)
             ),
@@ -388,7 +418,8 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
                 HistoryReadContext ctx = new HistoryReadContext(
                     server,
                     context.getSession().orElse(null),
-                    context.getDiagnosticsContext()
+                    context.getDiagnosticsContext(),
+                    context.isReleaseContinuationPoints()
                 );
 
                 asx.historyRead(
@@ -414,6 +445,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<HistoryUpdateResult>> results = groupMapCollate(
             updateDetailsList,
             updateDetails -> getAddressSpace(
+                updateDetails.getNodeId(),
                 asx ->
                     asx.getFilter().filterHistoryUpdate(server, updateDetails)
             ),
@@ -447,6 +479,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<CallMethodResult>> results = groupMapCollate(
             requests,
             request -> getAddressSpace(
+                request.getObjectId(),
                 asx ->
                     asx.getFilter().filterCall(server, request)
             ),
@@ -480,6 +513,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     ) {
 
         AddressSpace addressSpace = getAddressSpace(
+            itemToMonitor.getNodeId(),
             asx ->
                 asx.getFilter().filterOnCreateDataItem(server, itemToMonitor)
         );
@@ -501,6 +535,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     ) {
 
         AddressSpace addressSpace = getAddressSpace(
+            itemToModify.getNodeId(),
             asx ->
                 asx.getFilter().filterOnModifyDataItem(server, itemToModify)
         );
@@ -521,6 +556,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     ) {
 
         AddressSpace addressSpace = getAddressSpace(
+            itemToMonitor.getNodeId(),
             asx ->
                 asx.getFilter().filterOnCreateEventItem(server, itemToMonitor)
         );
@@ -540,6 +576,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     ) {
 
         AddressSpace addressSpace = getAddressSpace(
+            itemToModify.getNodeId(),
             asx ->
                 asx.getFilter().filterOnModifyEventItem(server, itemToModify)
         );
@@ -555,6 +592,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public void onDataItemsCreated(List<DataItem> dataItems) {
         Map<AddressSpace, List<DataItem>> byAddressSpace = dataItems.stream().collect(groupingBy(item ->
             getAddressSpace(
+                item.getReadValueId().getNodeId(),
                 asx ->
                     asx.getFilter().filterOnDataItemsCreated(server, item.getReadValueId())
             )
@@ -567,6 +605,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public void onDataItemsModified(List<DataItem> dataItems) {
         Map<AddressSpace, List<DataItem>> byAddressSpace = dataItems.stream().collect(groupingBy(item ->
             getAddressSpace(
+                item.getReadValueId().getNodeId(),
                 asx ->
                     asx.getFilter().filterOnDataItemsModified(server, item.getReadValueId())
             )
@@ -579,6 +618,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public void onDataItemsDeleted(List<DataItem> dataItems) {
         Map<AddressSpace, List<DataItem>> byAddressSpace = dataItems.stream().collect(groupingBy(item ->
             getAddressSpace(
+                item.getReadValueId().getNodeId(),
                 asx ->
                     asx.getFilter().filterOnDataItemsDeleted(server, item.getReadValueId())
             )
@@ -591,6 +631,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public void onEventItemsCreated(List<EventItem> eventItems) {
         Map<AddressSpace, List<EventItem>> byAddressSpace = eventItems.stream().collect(groupingBy(item ->
             getAddressSpace(
+                item.getReadValueId().getNodeId(),
                 asx ->
                     asx.getFilter().filterOnEventItemsCreated(server, item.getReadValueId())
             )
@@ -603,6 +644,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public void onEventItemsModified(List<EventItem> eventItems) {
         Map<AddressSpace, List<EventItem>> byAddressSpace = eventItems.stream().collect(groupingBy(item ->
             getAddressSpace(
+                item.getReadValueId().getNodeId(),
                 asx ->
                     asx.getFilter().filterOnEventItemsModified(server, item.getReadValueId())
             )
@@ -615,6 +657,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public void onEventItemsDeleted(List<EventItem> eventItems) {
         Map<AddressSpace, List<EventItem>> byAddressSpace = eventItems.stream().collect(groupingBy(item ->
             getAddressSpace(
+                item.getReadValueId().getNodeId(),
                 asx ->
                     asx.getFilter().filterOnEventItemsDeleted(server, item.getReadValueId())
             )
@@ -627,6 +670,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public void onMonitoringModeChanged(List<MonitoredItem> monitoredItems) {
         Map<AddressSpace, List<MonitoredItem>> byAddressSpace = monitoredItems.stream().collect(groupingBy(item ->
             getAddressSpace(
+                item.getReadValueId().getNodeId(),
                 asx ->
                     asx.getFilter().filterOnMonitoringModeChanged(server, item.getReadValueId())
             )
@@ -669,6 +713,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<StatusCode>> results = groupMapCollate(
             nodesToDelete,
             deleteNodesItem -> getAddressSpace(
+                deleteNodesItem.getNodeId(),
                 asx ->
                     asx.getFilter().filterDeleteNodes(server, deleteNodesItem)
             ),
@@ -694,6 +739,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<StatusCode>> results = groupMapCollate(
             referencesToAdd,
             addReferencesItem -> getAddressSpace(
+                addReferencesItem.getSourceNodeId(),
                 asx ->
                     asx.getFilter().filterAddReferences(server, addReferencesItem)
             ),
@@ -719,6 +765,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<StatusCode>> results = groupMapCollate(
             referencesToDelete,
             deleteReferencesItem -> getAddressSpace(
+                deleteReferencesItem.getSourceNodeId(),
                 asx ->
                     asx.getFilter().filterDeleteReferences(server, deleteReferencesItem)
             ),
@@ -890,7 +937,90 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     }
 
     /**
-     * EmptyAddressSpace is used ephemerally and should never be registered.
+     * An immutable index of the registered fragments, rebuilt whenever a fragment is registered or unregistered.
+     * <p>
+     * For each namespace index covered by at least one fragment it holds, in registration order, the fragments that
+     * either cover that namespace or don't declare their coverage. Every other namespace index only needs to test the
+     * fragments that don't declare their coverage. Either way the first match is the same as it would be testing
+     * every fragment in registration order.
+     */
+    private static final class RoutingTable {
+
+        private final Map<UShort, Route[]> routesByNamespace = new HashMap<>();
+
+        private final Route[] predicateRoutes;
+        private final Route[] allRoutes;
+
+        RoutingTable(List<AddressSpaceFragment> addressSpaces) {
+            List<Route> routes = new ArrayList<>();
+
+            for (AddressSpaceFragment asx : addressSpaces) {
+                AddressSpaceFilter filter = asx.getFilter();
+
+                SimpleAddressSpaceFilter.Coverage coverage = filter instanceof SimpleAddressSpaceFilter ?
+                    ((SimpleAddressSpaceFilter) filter).getCoverage().orElse(null) : null;
+
+                routes.add(new Route(asx, coverage));
+            }
+
+            predicateRoutes = routes.stream()
+                .filter(route -> route.coverage == null)
+                .toArray(Route[]::new);
+
+            allRoutes = routes.stream()
+                .map(route -> new Route(route.addressSpace, null))
+                .toArray(Route[]::new);
+
+            routes.stream()
+                .filter(route -> route.coverage != null)
+                .map(route -> route.coverage.getNamespaceIndex())
+                .distinct()
+                .forEach(namespaceIndex -> {
+                    Route[] namespaceRoutes = routes.stream()
+                        .filter(route ->
+                            route.coverage == null ||
+                                route.coverage.getNamespaceIndex().equals(namespaceIndex))
+                        .toArray(Route[]::new);
+
+                    routesByNamespace.put(namespaceIndex, namespaceRoutes);
+                });
+        }
+
+        @Nullable
+        AddressSpaceFragment route(@Nullable NodeId nodeId, Predicate<AddressSpaceFragment> filter) {
+            Route[] routes = nodeId != null ?
+                routesByNamespace.getOrDefault(nodeId.getNamespaceIndex(), predicateRoutes) :
+                allRoutes;
+
+            for (Route route : routes) {
+                if (route.coverage != null) {
+                    if (route.coverage.covers(nodeId)) {
+                        return route.addressSpace;
+                    }
+                } else if (filter.test(route.addressSpace)) {
+                    return route.addressSpace;
+                }
+            }
+
+            return null;
+        }
+
+    }
+
+    private static final class Route {
+
+        final AddressSpaceFragment addressSpace;
+        final SimpleAddressSpaceFilter.Coverage coverage;
+
+        Route(AddressSpaceFragment addressSpace, @Nullable SimpleAddressSpaceFilter.Coverage coverage) {
+            this.addressSpace = addressSpace;
+            this.coverage = coverage;
+        }
+
+    }
+
+    /**
+     * EmptyAddressSpace handles operations no registered fragment matched and should never be registered.
      */
     private static class EmptyAddressSpaceFragment extends ManagedAddressSpace implements AddressSpaceFragment {
 
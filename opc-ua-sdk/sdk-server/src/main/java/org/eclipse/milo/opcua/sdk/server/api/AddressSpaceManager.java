@@ -96,7 +96,7 @@ public class AddressSpaceManager extends AddressSpaceComposite {
      */
     public List<Reference> getManagedReferences(NodeId nodeId) {
         return nodeManagers.stream()
-            .map(n -> n.getReferences(nodeId))
+            .map(n -> n.getReferencesSnapshot(nodeId))
             .flatMap(Collection::stream)
             .collect(Collectors.toList());
     }
@@ -11,11 +11,69 @@
 package org.eclipse.milo.opcua.sdk.server.api;
 
 import com.google.common.eventbus.Subscribe;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.events.EventRouter;
+import org.eclipse.milo.opcua.sdk.server.events.FlyweightEvent;
 import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.slf4j.LoggerFactory;
 
 public interface EventItem extends MonitoredItem {
 
     @Subscribe
     void onEvent(BaseEventTypeNode eventNode);
 
+    /**
+     * Called with events that are {@link FlyweightEvent}s rather than Nodes.
+     * <p>
+     * The default implementation converts {@code event} to a {@link BaseEventTypeNode}, passes it to
+     * {@link #onEvent(BaseEventTypeNode)}, and deletes it afterwards, so implementations that predate
+     * {@link FlyweightEvent} keep receiving every event. Override this to handle {@link FlyweightEvent}s without
+     * creating Nodes.
+     *
+     * @param event the event.
+     */
+    @Subscribe
+    default void onEvent(FlyweightEvent event) {
+        Session session = getSession();
+
+        if (session == null) {
+            LoggerFactory.getLogger(EventItem.class).warn(
+                "Dropped FlyweightEvent {} for item {}: no Session to convert it with",
+                event.getNodeId(), getId()
+            );
+            return;
+        }
+
+        BaseEventTypeNode eventNode;
+        try {
+            eventNode = session.getServer().getEventFactory().createEvent(event);
+        } catch (UaException e) {
+            LoggerFactory.getLogger(EventItem.class).warn(
+                "Dropped FlyweightEvent {} for item {}: {}",
+                event.getNodeId(), getId(), e.getMessage(), e
+            );
+            return;
+        }
+
+        try {
+            onEvent(eventNode);
+        } finally {
+            eventNode.delete();
+        }
+    }
+
+    /**
+     * Get the event type that events must be of, or be a subtype of, to possibly pass this item's filter.
+     * <p>
+     * {@link EventRouter} only delivers events of this type to the item.
+     *
+     * @return the {@link NodeId} of the event type that events must be of to possibly pass this item's filter.
+     */
+    default NodeId getEventTypeId() {
+        return Identifiers.BaseEventType;
+    }
+
 }
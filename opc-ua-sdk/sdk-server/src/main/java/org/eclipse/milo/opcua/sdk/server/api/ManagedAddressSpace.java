@@ -104,7 +104,7 @@ public abstract class ManagedAddressSpace implements AddressSpace {
     @Override
     public void browse(BrowseContext context, ViewDescription viewDescription, NodeId nodeId) {
         if (nodeManager.containsNode(nodeId)) {
-            List<Reference> references = nodeManager.getReferences(nodeId);
+            List<Reference> references = nodeManager.getReferencesSnapshot(nodeId);
 
             logger.debug("Browsed {} references for {}", references.size(), nodeId);
 
@@ -116,7 +116,7 @@ public abstract class ManagedAddressSpace implements AddressSpace {
 
     @Override
     public void getReferences(BrowseContext context, ViewDescription viewDescription, NodeId nodeId) {
-        List<Reference> references = nodeManager.getReferences(nodeId);
+        List<Reference> references = nodeManager.getReferencesSnapshot(nodeId);
 
         logger.debug("Got {} references for {}", references.size(), nodeId);
 
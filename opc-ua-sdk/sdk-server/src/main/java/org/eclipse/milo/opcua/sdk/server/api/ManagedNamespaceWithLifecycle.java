@@ -14,13 +14,18 @@ import org.eclipse.milo.opcua.sdk.server.Lifecycle;
 import org.eclipse.milo.opcua.sdk.server.LifecycleManager;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
 
 public abstract class ManagedNamespaceWithLifecycle extends ManagedNamespace implements Lifecycle {
 
     private final LifecycleManager lifecycleManager = new LifecycleManager();
 
     public ManagedNamespaceWithLifecycle(OpcUaServer server, String namespaceUri) {
-        super(server, namespaceUri);
+        this(server, namespaceUri, new UaNodeManager());
+    }
+
+    public ManagedNamespaceWithLifecycle(OpcUaServer server, String namespaceUri, UaNodeManager nodeManager) {
+        super(server, namespaceUri, nodeManager);
 
         getLifecycleManager().addLifecycle(new Lifecycle() {
             @Override
@@ -10,6 +10,7 @@
 
 package org.eclipse.milo.opcua.sdk.server.api;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -139,6 +140,20 @@ public interface NodeManager<T extends Node> {
      */
     List<Reference> getReferences(NodeId nodeId, Predicate<Reference> filter);
 
+    /**
+     * Get an unmodifiable, point-in-time list of all {@link Reference}s that have {@code nodeId} as their source
+     * {@link NodeId}.
+     * <p>
+     * Unlike {@link #getReferences(NodeId)} the result is not guaranteed to be a private copy, so implementations
+     * can avoid copying on every call. Prefer this when the result is only iterated.
+     *
+     * @param nodeId the source {@link NodeId}.
+     * @return an unmodifiable list of all {@link Reference}s that have {@code nodeId} as their source {@link NodeId}.
+     */
+    default List<Reference> getReferencesSnapshot(NodeId nodeId) {
+        return Collections.unmodifiableList(getReferences(nodeId));
+    }
+
     /**
      * Return {@code true} if this {@link NodeManager} contains {@code node}.
      *
@@ -10,12 +10,15 @@
 
 package org.eclipse.milo.opcua.sdk.server.api;
 
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.stack.core.NamespaceTable;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
 import org.eclipse.milo.opcua.stack.core.types.structured.AddNodesItem;
 import org.eclipse.milo.opcua.stack.core.types.structured.AddReferencesItem;
 import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodRequest;
@@ -25,6 +28,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadValueId;
 import org.eclipse.milo.opcua.stack.core.types.structured.HistoryUpdateDetails;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
 import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A simple {@link AddressSpaceFilter} that delegates each of the filter operations to a simple filter on {@link NodeId}
@@ -68,6 +72,48 @@ public abstract class SimpleAddressSpaceFilter implements AddressSpaceFilter {
         };
     }
 
+    /**
+     * Create a new {@link SimpleAddressSpaceFilter} that matches every {@link NodeId} in the namespace at
+     * {@code namespaceIndex}.
+     * <p>
+     * The filter declares its {@link Coverage}, allowing an {@link AddressSpaceComposite} to route operations to it
+     * by namespace index instead of testing it for every operation.
+     *
+     * @param namespaceIndex the namespace index to match.
+     * @return a new {@link SimpleAddressSpaceFilter} that matches every {@link NodeId} in the namespace.
+     */
+    public static SimpleAddressSpaceFilter create(UShort namespaceIndex) {
+        return new CoverageFilter(new Coverage(namespaceIndex, null, null));
+    }
+
+    /**
+     * Create a new {@link SimpleAddressSpaceFilter} that matches numeric {@link NodeId}s in the namespace at
+     * {@code namespaceIndex} whose identifier is between {@code low} and {@code high}, inclusive.
+     * <p>
+     * The filter declares its {@link Coverage}, allowing an {@link AddressSpaceComposite} to route operations to it
+     * by namespace index instead of testing it for every operation.
+     *
+     * @param namespaceIndex the namespace index to match.
+     * @param low            the lowest numeric identifier to match.
+     * @param high           the highest numeric identifier to match.
+     * @return a new {@link SimpleAddressSpaceFilter} that matches the numeric range.
+     */
+    public static SimpleAddressSpaceFilter create(UShort namespaceIndex, UInteger low, UInteger high) {
+        return new CoverageFilter(new Coverage(namespaceIndex, low, high));
+    }
+
+    /**
+     * Get the {@link Coverage} of this filter, if it can be declared.
+     * <p>
+     * A filter that declares its coverage must return the same result from {@link #filterNode(NodeId)} and
+     * {@link #filterMonitoredItem(NodeId)} as {@link Coverage#covers(NodeId)} does, for any {@link NodeId}.
+     *
+     * @return the {@link Coverage} of this filter, or {@link Optional#empty()} if it can only be tested by predicate.
+     */
+    public Optional<Coverage> getCoverage() {
+        return Optional.empty();
+    }
+
     /**
      * Return {@code true} if the operation {@code nodeId} belongs to should be handled this filter's
      * {@link AddressSpace}.
@@ -241,4 +287,83 @@ public abstract class SimpleAddressSpaceFilter implements AddressSpaceFilter {
 
     //endregion
 
+    /**
+     * The set of {@link NodeId}s a {@link SimpleAddressSpaceFilter} matches: every NodeId in a namespace, or the
+     * numeric NodeIds in a namespace whose identifier falls in a range.
+     */
+    public static final class Coverage {
+
+        private final UShort namespaceIndex;
+        private final UInteger low;
+        private final UInteger high;
+
+        Coverage(UShort namespaceIndex, @Nullable UInteger low, @Nullable UInteger high) {
+            this.namespaceIndex = namespaceIndex;
+            this.low = low;
+            this.high = high;
+        }
+
+        public UShort getNamespaceIndex() {
+            return namespaceIndex;
+        }
+
+        /**
+         * @return {@code true} if every {@link NodeId} in the namespace is covered.
+         */
+        public boolean isWholeNamespace() {
+            return low == null || high == null;
+        }
+
+        /**
+         * @param nodeId a {@link NodeId}.
+         * @return {@code true} if {@code nodeId} is covered.
+         */
+        public boolean covers(NodeId nodeId) {
+            if (!namespaceIndex.equals(nodeId.getNamespaceIndex())) {
+                return false;
+            } else if (isWholeNamespace()) {
+                return true;
+            } else {
+                Object identifier = nodeId.getIdentifier();
+
+                return identifier instanceof UInteger &&
+                    ((UInteger) identifier).compareTo(low) >= 0 &&
+                    ((UInteger) identifier).compareTo(high) <= 0;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return isWholeNamespace() ?
+                String.format("Coverage{ns=%s}", namespaceIndex) :
+                String.format("Coverage{ns=%s, i=%s..%s}", namespaceIndex, low, high);
+        }
+
+    }
+
+    private static final class CoverageFilter extends SimpleAddressSpaceFilter {
+
+        private final Coverage coverage;
+
+        CoverageFilter(Coverage coverage) {
+            this.coverage = coverage;
+        }
+
+        @Override
+        public Optional<Coverage> getCoverage() {
+            return Optional.of(coverage);
+        }
+
+        @Override
+        protected boolean filterNode(NodeId nodeId) {
+            return coverage.covers(nodeId);
+        }
+
+        @Override
+        protected boolean filterMonitoredItem(NodeId nodeId) {
+            return coverage.covers(nodeId);
+        }
+
+    }
+
 }
@@ -107,6 +107,8 @@ public interface OpcUaServerConfig extends UaStackServerConfig {
         builder.setApplicationUri(config.getApplicationUri());
         builder.setProductUri(config.getProductUri());
         builder.setEncodingLimits(config.getEncodingLimits());
+        builder.setFlushConsolidation(config.getFlushConsolidation());
+        builder.setAcceptorCount(config.getAcceptorCount());
         builder.setMinimumSecureChannelLifetime(config.getMinimumSecureChannelLifetime());
         builder.setMaximumSecureChannelLifetime(config.getMaximumSecureChannelLifetime());
         builder.setCertificateManager(config.getCertificateManager());
@@ -115,6 +117,7 @@ public interface OpcUaServerConfig extends UaStackServerConfig {
         builder.setHttpsKeyPair(config.getHttpsKeyPair().orElse(null));
         builder.setHttpsCertificateChain(config.getHttpsCertificateChain().orElse(null));
         builder.setExecutor(config.getExecutor());
+        builder.setVirtualThreadsEnabled(config.isVirtualThreadsEnabled());
 
         // OpcUaServerConfig values
         builder.setIdentityValidator(config.getIdentityValidator());
@@ -21,6 +21,7 @@ import org.eclipse.milo.opcua.sdk.server.identity.AnonymousIdentityValidator;
 import org.eclipse.milo.opcua.sdk.server.identity.IdentityValidator;
 import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.channel.FlushConsolidation;
 import org.eclipse.milo.opcua.stack.core.security.CertificateManager;
 import org.eclipse.milo.opcua.stack.core.security.TrustListManager;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
@@ -139,12 +140,30 @@ public class OpcUaServerConfigBuilder extends UaStackServerConfigBuilder {
         return this;
     }
 
+    @Override
+    public OpcUaServerConfigBuilder setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        super.setVirtualThreadsEnabled(virtualThreadsEnabled);
+        return this;
+    }
+
     @Override
     public OpcUaServerConfigBuilder setEncodingLimits(EncodingLimits encodingLimits) {
         super.setEncodingLimits(encodingLimits);
         return this;
     }
 
+    @Override
+    public OpcUaServerConfigBuilder setFlushConsolidation(FlushConsolidation flushConsolidation) {
+        super.setFlushConsolidation(flushConsolidation);
+        return this;
+    }
+
+    @Override
+    public OpcUaServerConfigBuilder setAcceptorCount(int acceptorCount) {
+        super.setAcceptorCount(acceptorCount);
+        return this;
+    }
+
     @Override
     public OpcUaServerConfigBuilder setMinimumSecureChannelLifetime(UInteger minimumSecureChannelLifetime) {
         super.setMinimumSecureChannelLifetime(minimumSecureChannelLifetime);
@@ -270,11 +289,26 @@ public class OpcUaServerConfigBuilder extends UaStackServerConfigBuilder {
             return stackServerConfig.getExecutor();
         }
 
+        @Override
+        public boolean isVirtualThreadsEnabled() {
+            return stackServerConfig.isVirtualThreadsEnabled();
+        }
+
         @Override
         public EncodingLimits getEncodingLimits() {
             return stackServerConfig.getEncodingLimits();
         }
 
+        @Override
+        public FlushConsolidation getFlushConsolidation() {
+            return stackServerConfig.getFlushConsolidation();
+        }
+
+        @Override
+        public int getAcceptorCount() {
+            return stackServerConfig.getAcceptorCount();
+        }
+
         @Override
         public UInteger getMinimumSecureChannelLifetime() {
             return stackServerConfig.getMinimumSecureChannelLifetime();
@@ -139,6 +139,30 @@ public interface OpcUaServerConfigLimits {
         return uint(Integer.MAX_VALUE);
     }
 
+    /**
+     * Get the maximum number of Nodes whose attribute values are kept in the server's value cache, which is used to
+     * satisfy Read requests with a non-zero maxAge.
+     * <p>
+     * A value of 0 disables the cache, in which case every Read goes to the address space regardless of maxAge.
+     *
+     * @return the maximum number of Nodes whose attribute values are cached.
+     */
+    default UInteger getMaxCachedValueNodes() {
+        return uint(0);
+    }
+
+    /**
+     * Get the maximum time, in milliseconds, a cached attribute value is kept after it was last refreshed.
+     * <p>
+     * Cached values older than the maxAge of a Read are never returned; this only bounds how long unused entries
+     * occupy memory.
+     *
+     * @return the maximum time, in milliseconds, a cached attribute value is kept.
+     */
+    default Double getMaxCachedValueAge() {
+        return 60_000.0;
+    }
+
     //region ServerCapabilities
 
     default Double getMinSupportedSampleRate() {
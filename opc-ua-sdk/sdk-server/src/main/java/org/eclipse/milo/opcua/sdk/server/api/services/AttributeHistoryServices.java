@@ -74,8 +74,12 @@ public interface AttributeHistoryServices {
 
     final class HistoryReadContext extends ServiceOperationContext<HistoryReadValueId, HistoryReadResult> {
 
+        private final boolean releaseContinuationPoints;
+
         public HistoryReadContext(OpcUaServer server, @Nullable Session session) {
             super(server, session);
+
+            this.releaseContinuationPoints = false;
         }
 
         public HistoryReadContext(
@@ -83,7 +87,26 @@ public interface AttributeHistoryServices {
             @Nullable Session session,
             DiagnosticsContext<HistoryReadValueId> diagnosticsContext) {
 
+            this(server, session, diagnosticsContext, false);
+        }
+
+        public HistoryReadContext(
+            OpcUaServer server,
+            @Nullable Session session,
+            DiagnosticsContext<HistoryReadValueId> diagnosticsContext,
+            boolean releaseContinuationPoints) {
+
             super(server, session, diagnosticsContext);
+
+            this.releaseContinuationPoints = releaseContinuationPoints;
+        }
+
+        /**
+         * @return {@code true} if the continuation points in the request should be released instead of used to
+         * continue reading.
+         */
+        public boolean isReleaseContinuationPoints() {
+            return releaseContinuationPoints;
         }
 
     }
@@ -27,6 +27,7 @@ public class ServerDiagnosticsSummary {
     private final LongAdder sessionTimeoutCount = new LongAdder();
     private final LongAdder sessionAbortCount = new LongAdder();
     private final LongAdder cumulatedSubscriptionCount = new LongAdder();
+    private final LongAdder queuedNotificationCount = new LongAdder();
 
     private final OpcUaServer server;
 
@@ -117,6 +118,23 @@ public class ServerDiagnosticsSummary {
         );
     }
 
+    /**
+     * @return the total number of notifications currently queued by all monitored items in the server, waiting to
+     * be published.
+     */
+    public long getQueuedNotificationCount() {
+        return queuedNotificationCount.sum();
+    }
+
+    /**
+     * @return the {@link LongAdder} the queues of monitored items in the server update as notifications are queued,
+     * discarded, and drained.
+     * @see #getQueuedNotificationCount()
+     */
+    public LongAdder getQueuedNotificationCounter() {
+        return queuedNotificationCount;
+    }
+
     /**
      * @return the number of requests that were rejected due to security constraints since the server was started (or
      * restarted). The requests include all Services defined in Part 4, and also requests to create sessions.
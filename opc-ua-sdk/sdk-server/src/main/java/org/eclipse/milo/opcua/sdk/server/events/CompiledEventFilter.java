@@ -0,0 +1,570 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+import org.eclipse.milo.opcua.sdk.core.NumericRange;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.events.operators.Operator;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.AttributeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.util.AttributeReader;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.FilterOperator;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.AttributeOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilterElement;
+import org.eclipse.milo.opcua.stack.core.types.structured.ElementOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.EventFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.FilterOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.LiteralOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.SimpleAttributeOperand;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An {@link EventFilter} compiled for repeated evaluation against events.
+ * <p>
+ * The where clause operands are decoded and the operators looked up once, when the filter is compiled. Whether each
+ * {@link SimpleAttributeOperand} applies to an event, given the operand's TypeDefinitionId, is computed once per
+ * event type.
+ * <p>
+ * A {@link CompiledEventFilter} is shared by every monitored item with an equal filter (see {@link EventFilterCache}).
+ * The result of applying it to the most recent event, identified by its node and EventId, is remembered per
+ * {@link Session}, so an event delivered to many items with the same filter is only evaluated, and its fields only
+ * selected, once per Session.
+ */
+public class CompiledEventFilter {
+
+    private final AtomicReference<EventResults> lastResults = new AtomicReference<>();
+
+    private final ConcurrentMap<NodeId, boolean[]> applicableOperands = Maps.newConcurrentMap();
+
+    private final ConcurrentMap<EventTypeLayout, int[]> operandFieldIndices = new MapMaker().weakKeys().makeMap();
+
+    private final Map<SimpleAttributeOperand, Integer> operandIndices = new IdentityHashMap<>();
+    private final List<SimpleAttributeOperand> operands = new ArrayList<>();
+
+    private final SimpleAttributeOperand[] selectClauses;
+    private final ContentFilterElement[] elements;
+    private final FilterOperand[][] elementOperands;
+    private final Operator<?>[] elementOperators;
+
+    private final NodeId eventTypeId;
+
+    private final OpcUaServer server;
+    private final EventFilterCache cache;
+    private final EventFilter filter;
+
+    CompiledEventFilter(OpcUaServer server, EventFilterCache cache, EventFilter filter) {
+        this.server = server;
+        this.cache = cache;
+        this.filter = filter;
+
+        SimpleAttributeOperand[] selectClauses = filter.getSelectClauses();
+        this.selectClauses = selectClauses != null ? selectClauses : new SimpleAttributeOperand[0];
+
+        for (SimpleAttributeOperand operand : this.selectClauses) {
+            addOperand(operand);
+        }
+
+        ContentFilterElement[] elements = filter.getWhereClause() != null ?
+            filter.getWhereClause().getElements() : null;
+        this.elements = elements != null ? elements : new ContentFilterElement[0];
+
+        elementOperands = new FilterOperand[this.elements.length][];
+        elementOperators = new Operator<?>[this.elements.length];
+
+        for (int i = 0; i < this.elements.length; i++) {
+            ContentFilterElement element = this.elements[i];
+
+            ExtensionObject[] xos = element.getFilterOperands();
+            FilterOperand[] filterOperands = new FilterOperand[xos != null ? xos.length : 0];
+
+            for (int j = 0; j < filterOperands.length; j++) {
+                Object operand = xos[j].decodeOrNull(server.getSerializationContext());
+
+                if (operand instanceof FilterOperand) {
+                    filterOperands[j] = (FilterOperand) operand;
+
+                    if (operand instanceof SimpleAttributeOperand) {
+                        addOperand((SimpleAttributeOperand) operand);
+                    }
+                }
+            }
+
+            FilterOperator filterOperator = element.getFilterOperator();
+
+            elementOperands[i] = filterOperands;
+            elementOperators[i] = filterOperator != null ? EventContentFilter.getOperator(filterOperator) : null;
+        }
+
+        NodeId eventTypeId = this.elements.length > 0 ? findEventTypeId(0, 0) : null;
+        this.eventTypeId = eventTypeId != null ? eventTypeId : Identifiers.BaseEventType;
+    }
+
+    /**
+     * Find the event type that an event must be an instance of for the element at {@code index} to be true, following
+     * OfType elements and the operands of And elements.
+     */
+    @Nullable
+    private NodeId findEventTypeId(int index, int depth) {
+        if (index < 0 || index >= elements.length || depth > elements.length) return null;
+
+        FilterOperator filterOperator = elements[index].getFilterOperator();
+        FilterOperand[] filterOperands = elementOperands[index];
+
+        if (filterOperator == FilterOperator.OfType && filterOperands.length > 0) {
+            if (filterOperands[0] instanceof LiteralOperand) {
+                Object value = ((LiteralOperand) filterOperands[0]).getValue().getValue();
+
+                return value instanceof NodeId ? (NodeId) value : null;
+            }
+        } else if (filterOperator == FilterOperator.And) {
+            for (FilterOperand operand : filterOperands) {
+                if (operand instanceof ElementOperand) {
+                    NodeId eventTypeId = findEventTypeId(((ElementOperand) operand).getIndex().intValue(), depth + 1);
+
+                    if (eventTypeId != null) return eventTypeId;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private void addOperand(SimpleAttributeOperand operand) {
+        if (!operandIndices.containsKey(operand)) {
+            operandIndices.put(operand, operands.size());
+            operands.add(operand);
+        }
+    }
+
+    /**
+     * @return the {@link EventFilter} this was compiled from.
+     */
+    public EventFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * Get the event type that events must be of, or be a subtype of, to possibly match this filter.
+     * <p>
+     * This is the type in an OfType element at the root of the where clause, or reachable from the root through And
+     * elements, and {@link Identifiers#BaseEventType} otherwise.
+     *
+     * @return the {@link NodeId} of the event type that events must be of to possibly match this filter.
+     */
+    public NodeId getEventTypeId() {
+        return eventTypeId;
+    }
+
+    /**
+     * Apply this filter to {@code eventNode}.
+     *
+     * @param context   the {@link FilterContext} of the monitored item the event is being delivered to.
+     * @param eventNode the event.
+     * @return the selected event fields if {@code eventNode} matches the where clause, otherwise {@code null}.
+     * @throws UaException if the where clause can't be evaluated.
+     */
+    @Nullable
+    public Variant[] apply(FilterContext context, BaseEventTypeNode eventNode) throws UaException {
+        EventResults results = lastResults.get();
+
+        ByteString eventId = eventNode.getEventId();
+
+        if (results == null || results.event != eventNode || !Objects.equals(results.eventId, eventId)) {
+            results = new EventResults(eventNode, eventId);
+            lastResults.set(results);
+        }
+
+        Object sessionKey = context.getSession().map(Object.class::cast).orElse(NO_SESSION);
+
+        Optional<Variant[]> fields = results.fields.get(sessionKey);
+
+        if (fields == null) {
+            NodeId eventTypeId = eventNode.getTypeDefinitionNode().getNodeId();
+            boolean[] applicable = getApplicableOperands(eventTypeId);
+
+            OperandResolver resolver = operand -> getSimpleAttribute(context, applicable, operand, eventNode);
+
+            if (evaluate(context, resolver, eventTypeId, eventNode)) {
+                fields = Optional.of(select(resolver));
+            } else {
+                fields = Optional.empty();
+            }
+
+            results.fields.put(sessionKey, fields);
+        }
+
+        return fields.orElse(null);
+    }
+
+    /**
+     * Apply this filter to {@code event}.
+     * <p>
+     * Only the Value attribute of the event's fields and the NodeId attribute of the event itself can be selected;
+     * other attributes are null.
+     *
+     * @param context the {@link FilterContext} of the monitored item the event is being delivered to.
+     * @param event   the event.
+     * @return the selected event fields if {@code event} matches the where clause, otherwise {@code null}.
+     * @throws UaException if the where clause can't be evaluated.
+     */
+    @Nullable
+    public Variant[] apply(FilterContext context, FlyweightEvent event) throws UaException {
+        EventResults results = lastResults.get();
+
+        ByteString eventId = event.getEventId();
+
+        if (results == null || results.event != event || !Objects.equals(results.eventId, eventId)) {
+            results = new EventResults(event, eventId);
+            lastResults.set(results);
+        }
+
+        // Fields aren't subject to the access restrictions of a Session, so the result is shared by all of them.
+        Optional<Variant[]> fields = results.fields.get(NO_SESSION);
+
+        if (fields == null) {
+            int[] fieldIndices = getOperandFieldIndices(event.getLayout());
+
+            OperandResolver resolver = operand -> getFieldValue(fieldIndices, operand, event);
+
+            if (evaluate(context, resolver, event.getEventTypeId(), null)) {
+                fields = Optional.of(select(resolver));
+            } else {
+                fields = Optional.empty();
+            }
+
+            results.fields.put(NO_SESSION, fields);
+        }
+
+        return fields.orElse(null);
+    }
+
+    /**
+     * Select the fields of {@code eventNode} without evaluating the where clause or remembering the result.
+     *
+     * @param context   the {@link FilterContext} of the monitored item the event is being delivered to.
+     * @param eventNode the event.
+     * @return the selected event fields.
+     */
+    public Variant[] select(FilterContext context, BaseEventTypeNode eventNode) {
+        boolean[] applicable = getApplicableOperands(eventNode.getTypeDefinitionNode().getNodeId());
+
+        return select(operand -> getSimpleAttribute(context, applicable, operand, eventNode));
+    }
+
+    /**
+     * Select the fields of {@code event} without evaluating the where clause or remembering the result.
+     *
+     * @param event the event.
+     * @return the selected event fields.
+     */
+    public Variant[] select(FlyweightEvent event) {
+        int[] fieldIndices = getOperandFieldIndices(event.getLayout());
+
+        return select(operand -> getFieldValue(fieldIndices, operand, event));
+    }
+
+    private Variant[] select(OperandResolver resolver) {
+        Variant[] fields = new Variant[selectClauses.length];
+
+        for (int i = 0; i < selectClauses.length; i++) {
+            try {
+                fields[i] = new Variant(resolver.resolve(selectClauses[i]));
+            } catch (UaException e) {
+                fields[i] = Variant.NULL_VALUE;
+            }
+        }
+
+        return fields;
+    }
+
+    private boolean evaluate(
+        FilterContext context,
+        OperandResolver resolver,
+        NodeId eventTypeId,
+        @Nullable BaseEventTypeNode eventNode
+    ) throws UaException {
+
+        if (elements.length == 0) return true;
+
+        CompiledOperatorContext operatorContext = new CompiledOperatorContext(context, resolver, eventTypeId);
+
+        Object result = operatorContext.evaluate(0, eventNode);
+
+        if (result == null) {
+            return false;
+        } else if (result instanceof Boolean) {
+            return (Boolean) result;
+        } else {
+            throw new UaException(StatusCodes.Bad_ContentFilterInvalid);
+        }
+    }
+
+    /**
+     * Get, computing it the first time an event of this type is seen, whether each operand applies to events of the
+     * type of {@code eventNode}.
+     */
+    private boolean[] getApplicableOperands(NodeId eventTypeId) {
+        return applicableOperands.computeIfAbsent(eventTypeId, id -> {
+            boolean[] applicable = new boolean[operands.size()];
+
+            for (int i = 0; i < applicable.length; i++) {
+                applicable[i] = isApplicable(operands.get(i), id);
+            }
+
+            return applicable;
+        });
+    }
+
+    private boolean isApplicable(SimpleAttributeOperand operand, NodeId eventTypeId) {
+        NodeId typeDefinitionId = operand.getTypeDefinitionId();
+
+        return typeDefinitionId == null ||
+            typeDefinitionId.equals(Identifiers.BaseEventType) ||
+            cache.isSameOrSubtype(eventTypeId, typeDefinitionId);
+    }
+
+    /**
+     * Get, computing it the first time an event with this layout is seen, the index of the field each operand refers
+     * to, {@link #EVENT_FIELD} if it refers to the event itself, or -1 if it doesn't apply to the event type or the
+     * event type has no such field.
+     */
+    private int[] getOperandFieldIndices(EventTypeLayout layout) {
+        return operandFieldIndices.computeIfAbsent(layout, l -> {
+            int[] fieldIndices = new int[operands.size()];
+
+            for (int i = 0; i < fieldIndices.length; i++) {
+                SimpleAttributeOperand operand = operands.get(i);
+                QualifiedName[] browsePath = operand.getBrowsePath();
+
+                if (!isApplicable(operand, l.getEventTypeId())) {
+                    fieldIndices[i] = -1;
+                } else if (browsePath == null || browsePath.length == 0) {
+                    fieldIndices[i] = EVENT_FIELD;
+                } else {
+                    fieldIndices[i] = l.indexOf(browsePath);
+                }
+            }
+
+            return fieldIndices;
+        });
+    }
+
+    @Nullable
+    private Object getFieldValue(
+        int[] fieldIndices,
+        SimpleAttributeOperand operand,
+        FlyweightEvent event
+    ) throws UaException {
+
+        Integer index = operandIndices.get(operand);
+
+        if (index == null) return null;
+
+        int fieldIndex = fieldIndices[index];
+
+        AttributeId attributeId = AttributeId.from(operand.getAttributeId())
+            .orElseThrow(() -> new UaException(StatusCodes.Bad_AttributeIdInvalid));
+
+        if (fieldIndex == EVENT_FIELD) {
+            return attributeId == AttributeId.NodeId ? event.getNodeId() : null;
+        } else if (fieldIndex < 0 || attributeId != AttributeId.Value) {
+            return null;
+        }
+
+        Variant value = event.getFieldValue(fieldIndex);
+
+        String indexRange = operand.getIndexRange();
+
+        if (indexRange != null) {
+            try {
+                return NumericRange.readFromValueAtRange(value, NumericRange.parse(indexRange));
+            } catch (UaException e) {
+                return null;
+            }
+        } else {
+            return value.getValue();
+        }
+    }
+
+    @Nullable
+    private Object getSimpleAttribute(
+        FilterContext context,
+        boolean[] applicable,
+        SimpleAttributeOperand operand,
+        BaseEventTypeNode eventNode
+    ) throws UaException {
+
+        Integer index = operandIndices.get(operand);
+
+        if (index == null || !applicable[index]) {
+            return null;
+        }
+
+        UaNode targetNode = eventNode;
+
+        QualifiedName[] browsePath = operand.getBrowsePath();
+
+        if (browsePath != null) {
+            Predicate<UaNode> nodePredicate = n ->
+                n.getNodeClass() == NodeClass.Object || n.getNodeClass() == NodeClass.Variable;
+
+            for (QualifiedName targetBrowsePath : browsePath) {
+                targetNode = targetNode
+                    .findNode(targetBrowsePath, nodePredicate, cache::isForwardHierarchical)
+                    .orElse(null);
+
+                if (targetNode == null) return null;
+            }
+        }
+
+        AttributeId attributeId = AttributeId.from(operand.getAttributeId())
+            .orElseThrow(() -> new UaException(StatusCodes.Bad_AttributeIdInvalid));
+
+        AttributeContext attributeContext = new AttributeContext(
+            context.getServer(),
+            context.getSession().orElse(null)
+        );
+
+        DataValue value = AttributeReader.readAttribute(
+            attributeContext,
+            targetNode,
+            attributeId,
+            TimestampsToReturn.Neither,
+            operand.getIndexRange(),
+            QualifiedName.NULL_VALUE
+        );
+
+        return value.getValue().getValue();
+    }
+
+    private static final int EVENT_FIELD = -2;
+
+    private static final Object NO_SESSION = new Object();
+
+    private interface OperandResolver {
+
+        @Nullable
+        Object resolve(SimpleAttributeOperand operand) throws UaException;
+
+    }
+
+    private static class EventResults {
+
+        final ConcurrentMap<Object, Optional<Variant[]>> fields = Maps.newConcurrentMap();
+
+        final Object event;
+        final ByteString eventId;
+
+        EventResults(Object event, ByteString eventId) {
+            this.event = event;
+            this.eventId = eventId;
+        }
+
+    }
+
+    private class CompiledOperatorContext implements OperatorContext {
+
+        private final FilterContext filterContext;
+        private final OperandResolver resolver;
+        private final NodeId eventTypeId;
+
+        CompiledOperatorContext(FilterContext filterContext, OperandResolver resolver, NodeId eventTypeId) {
+            this.filterContext = filterContext;
+            this.resolver = resolver;
+            this.eventTypeId = eventTypeId;
+        }
+
+        @Override
+        public Optional<Session> getSession() {
+            return filterContext.getSession();
+        }
+
+        @Override
+        public OpcUaServer getServer() {
+            return server;
+        }
+
+        @Override
+        public ContentFilterElement[] getElements() {
+            return elements;
+        }
+
+        @Override
+        public boolean isSameOrSubtype(NodeId typeId, NodeId superTypeId) {
+            return cache.isSameOrSubtype(typeId, superTypeId);
+        }
+
+        @Override
+        public NodeId getEventTypeId(@Nullable BaseEventTypeNode eventNode) {
+            return eventTypeId;
+        }
+
+        @Nullable
+        Object evaluate(int index, @Nullable BaseEventTypeNode eventNode) throws UaException {
+            Operator<?> operator = elementOperators[index];
+
+            if (operator == null) {
+                throw new UaException(StatusCodes.Bad_FilterOperatorInvalid);
+            }
+
+            return operator.apply(this, eventNode, elementOperands[index]);
+        }
+
+        @Nullable
+        @Override
+        public Object resolve(@NotNull FilterOperand operand, BaseEventTypeNode eventNode) throws UaException {
+            if (operand instanceof LiteralOperand) {
+                return ((LiteralOperand) operand).getValue().getValue();
+            } else if (operand instanceof ElementOperand) {
+                UInteger index = ((ElementOperand) operand).getIndex();
+
+                return evaluate(index.intValue(), eventNode);
+            } else if (operand instanceof AttributeOperand) {
+                // AttributeOperand is not allowed to be used in EventFilters.
+                throw new UaException(StatusCodes.Bad_EventFilterInvalid);
+            } else if (operand instanceof SimpleAttributeOperand) {
+                return resolver.resolve((SimpleAttributeOperand) operand);
+            } else {
+                throw new UaException(StatusCodes.Bad_FilterOperandInvalid);
+            }
+        }
+
+    }
+
+}
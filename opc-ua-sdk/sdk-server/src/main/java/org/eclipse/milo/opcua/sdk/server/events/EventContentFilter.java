@@ -361,7 +361,7 @@ public class EventContentFilter {
     }
 
     @NotNull
-    private static Operator<?> getOperator(@NotNull FilterOperator filterOperator) {
+    static Operator<?> getOperator(@NotNull FilterOperator filterOperator) {
         //@formatter:off
         switch (filterOperator) {
             // Basic FilterOperators
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.core.nodes.ObjectTypeNode;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.structured.EventFilter;
+
+/**
+ * A Server-wide cache of {@link CompiledEventFilter}s and of the type hierarchy lookups they make.
+ * <p>
+ * Equal {@link EventFilter}s share a single {@link CompiledEventFilter}. Compiled filters are held weakly and are
+ * discarded once no monitored item uses them anymore.
+ * <p>
+ * Type hierarchy lookups are cached for the lifetime of the Server. Adding new types is fine, but types whose
+ * supertype or reference type hierarchy changes after they have been used in an EventFilter will see stale results.
+ * Subtype lookups are only cached when both NodeIds identify existing ObjectTypes, and at most
+ * {@link #MAX_SUBTYPE_ENTRIES} of them are kept, so NodeIds supplied by clients can't grow the cache without bound.
+ */
+public class EventFilterCache {
+
+    private final ConcurrentMap<EventFilter, CompiledEventFilter> compiledFilters =
+        new MapMaker().weakValues().makeMap();
+
+    static final long MAX_SUBTYPE_ENTRIES = 10_000;
+
+    private final Cache<Map.Entry<NodeId, NodeId>, Boolean> subtypes = CacheBuilder.newBuilder()
+        .maximumSize(MAX_SUBTYPE_ENTRIES)
+        .build();
+
+    private final Map<NodeId, Boolean> hierarchicalReferenceTypes = Maps.newConcurrentMap();
+
+    private final OpcUaServer server;
+
+    public EventFilterCache(OpcUaServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Get the {@link CompiledEventFilter} for {@code filter}, compiling it if no monitored item uses an equal filter.
+     * <p>
+     * The caller must hold on to the returned {@link CompiledEventFilter} for as long as it uses it.
+     *
+     * @param filter a validated {@link EventFilter}.
+     * @return the {@link CompiledEventFilter} for {@code filter}.
+     */
+    public CompiledEventFilter getCompiledFilter(EventFilter filter) {
+        return compiledFilters.computeIfAbsent(filter, f -> new CompiledEventFilter(server, this, f));
+    }
+
+    /**
+     * @return the number of distinct {@link CompiledEventFilter}s currently cached.
+     */
+    public int getCompiledFilterCount() {
+        return compiledFilters.size();
+    }
+
+    /**
+     * @param typeId      the {@link NodeId} of a type.
+     * @param superTypeId the {@link NodeId} of a possible supertype.
+     * @return {@code true} if {@code typeId} is {@code superTypeId} or one of its subtypes.
+     */
+    public boolean isSameOrSubtype(NodeId typeId, NodeId superTypeId) {
+        if (typeId.equals(superTypeId)) return true;
+
+        Map.Entry<NodeId, NodeId> key = Maps.immutableEntry(typeId, superTypeId);
+
+        Boolean cached = subtypes.getIfPresent(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean subtype = EventContentFilter.subtypeOf(typeId, superTypeId, server);
+
+        // Both types exist if the lookup found one to be a subtype of the other.
+        if (subtype || (isObjectType(typeId) && isObjectType(superTypeId))) {
+            subtypes.put(key, subtype);
+        }
+
+        return subtype;
+    }
+
+    /**
+     * @return the number of subtype lookups currently cached.
+     */
+    public long getSubtypeCacheSize() {
+        return subtypes.size();
+    }
+
+    /**
+     * @param reference a {@link Reference}.
+     * @return {@code true} if {@code reference} is a forward reference of a HierarchicalReferences subtype.
+     */
+    public boolean isForwardHierarchical(Reference reference) {
+        return reference.isForward() && hierarchicalReferenceTypes.computeIfAbsent(
+            reference.getReferenceTypeId(),
+            id -> reference.subtypeOf(Identifiers.HierarchicalReferences, server.getReferenceTypes())
+        );
+    }
+
+    private boolean isObjectType(NodeId nodeId) {
+        return server.getAddressSpaceManager()
+            .getManagedNode(nodeId)
+            .map(node -> node instanceof ObjectTypeNode)
+            .orElse(false);
+    }
+
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.eventbus.Subscribe;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.core.nodes.ObjectTypeNode;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.EventItem;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.util.ExecutionQueue;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Routes events to the {@link EventItem}s that could be interested in them.
+ * <p>
+ * Registered items are indexed by the NodeId of the notifier they monitor and by the event type their filter requires
+ * (see {@link EventItem#getEventTypeId()}). An event is only delivered to items monitoring the Server object, the
+ * event's SourceNode, or a notifier the SourceNode can be reached from by following HasEventSource and HasNotifier
+ * references in the inverse direction, and only if the event's type is the type the item requires or a subtype of it.
+ * <p>
+ * Events may be {@link BaseEventTypeNode}s or {@link FlyweightEvent}s. Events of either kind posted to the Server's
+ * {@link com.google.common.eventbus.EventBus} are routed as well.
+ */
+public class EventRouter {
+
+    public static final int DEFAULT_MAX_QUEUED_EVENTS = 10_000;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Map<NodeId, Map<NodeId, Set<EventItem>>> index = Maps.newConcurrentMap();
+
+    private final Map<EventItem, Registration> registrations = Maps.newConcurrentMap();
+
+    private final LongAdder droppedEventCount = new LongAdder();
+    private final LongAdder overflowedEventCount = new LongAdder();
+
+    private final AtomicInteger queuedEventCount = new AtomicInteger(0);
+
+    private final ExecutionQueue dispatchQueue;
+
+    private final OpcUaServer server;
+    private final int maxQueuedEvents;
+
+    public EventRouter(OpcUaServer server) {
+        this(server, DEFAULT_MAX_QUEUED_EVENTS);
+    }
+
+    /**
+     * @param server          the {@link OpcUaServer}.
+     * @param maxQueuedEvents the maximum number of events queued by {@code postAsync} and not yet delivered.
+     */
+    public EventRouter(OpcUaServer server, int maxQueuedEvents) {
+        this.server = server;
+        this.maxQueuedEvents = maxQueuedEvents;
+
+        dispatchQueue = new ExecutionQueue(server.getExecutorService());
+    }
+
+    /**
+     * Register {@code item} to receive events, replacing any previous registration.
+     * <p>
+     * Items must be registered again when their filter is modified.
+     *
+     * @param item the {@link EventItem} to register.
+     */
+    public synchronized void register(EventItem item) {
+        unregister(item);
+
+        NodeId notifierId = item.getReadValueId().getNodeId();
+        NodeId eventTypeId = item.getEventTypeId();
+
+        index
+            .computeIfAbsent(notifierId, id -> Maps.newConcurrentMap())
+            .computeIfAbsent(eventTypeId, id -> Sets.newConcurrentHashSet())
+            .add(item);
+
+        registrations.put(item, new Registration(notifierId, eventTypeId));
+    }
+
+    /**
+     * Unregister {@code item} so it no longer receives events.
+     *
+     * @param item the {@link EventItem} to unregister.
+     */
+    public synchronized void unregister(EventItem item) {
+        Registration registration = registrations.remove(item);
+
+        if (registration != null) {
+            Map<NodeId, Set<EventItem>> itemsByType = index.get(registration.notifierId);
+
+            if (itemsByType != null) {
+                Set<EventItem> items = itemsByType.get(registration.eventTypeId);
+
+                if (items != null) {
+                    items.remove(item);
+
+                    if (items.isEmpty()) itemsByType.remove(registration.eventTypeId);
+                }
+
+                if (itemsByType.isEmpty()) index.remove(registration.notifierId);
+            }
+        }
+    }
+
+    /**
+     * @return the number of registered {@link EventItem}s.
+     */
+    public int getRegisteredItemCount() {
+        return registrations.size();
+    }
+
+    /**
+     * Deliver {@code eventNode} to interested items on the calling thread.
+     * <p>
+     * The caller remains responsible for deleting {@code eventNode} once this returns.
+     *
+     * @param eventNode the event to deliver.
+     */
+    @Subscribe
+    public void post(BaseEventTypeNode eventNode) {
+        deliver(eventNode);
+    }
+
+    /**
+     * Deliver {@code event} to interested items on the calling thread.
+     *
+     * @param event the event to deliver.
+     */
+    @Subscribe
+    public void post(FlyweightEvent event) {
+        deliver(event);
+    }
+
+    /**
+     * Queue {@code eventNode} to be delivered to interested items on the Server's executor.
+     * <p>
+     * Events are delivered in the order they are queued. Ownership of {@code eventNode} passes to this router, which
+     * deletes it after delivery, or immediately if the queue is full and the event is dropped.
+     *
+     * @param eventNode the event to deliver.
+     * @return {@code true} if the event was queued, {@code false} if it was dropped.
+     */
+    public boolean postAsync(BaseEventTypeNode eventNode) {
+        if (queuedEventCount.incrementAndGet() > maxQueuedEvents) {
+            queuedEventCount.decrementAndGet();
+            droppedEventCount.increment();
+
+            eventNode.delete();
+
+            return false;
+        }
+
+        dispatchQueue.submit(() -> {
+            try {
+                deliver(eventNode);
+            } finally {
+                queuedEventCount.decrementAndGet();
+
+                eventNode.delete();
+            }
+        });
+
+        return true;
+    }
+
+    /**
+     * Queue {@code event} to be delivered to interested items on the Server's executor.
+     * <p>
+     * Events are delivered in the order they are queued.
+     *
+     * @param event the event to deliver.
+     * @return {@code true} if the event was queued, {@code false} if it was dropped because the queue was full.
+     */
+    public boolean postAsync(FlyweightEvent event) {
+        if (queuedEventCount.incrementAndGet() > maxQueuedEvents) {
+            queuedEventCount.decrementAndGet();
+            droppedEventCount.increment();
+
+            return false;
+        }
+
+        dispatchQueue.submit(() -> {
+            try {
+                deliver(event);
+            } finally {
+                queuedEventCount.decrementAndGet();
+            }
+        });
+
+        return true;
+    }
+
+    /**
+     * @return the number of events queued by {@code postAsync} and not yet delivered.
+     */
+    public int getQueuedEventCount() {
+        return queuedEventCount.get();
+    }
+
+    /**
+     * @return the number of events dropped by {@code postAsync} because the queue was full.
+     */
+    public LongAdder getDroppedEventCount() {
+        return droppedEventCount;
+    }
+
+    /**
+     * @return the number of events discarded by monitored items because their queue was full.
+     */
+    public LongAdder getOverflowedEventCount() {
+        return overflowedEventCount;
+    }
+
+    private void deliver(BaseEventTypeNode eventNode) {
+        if (index.isEmpty()) return;
+
+        ObjectTypeNode typeDefinitionNode = eventNode.getTypeDefinitionNode();
+
+        NodeId eventTypeId = typeDefinitionNode != null ?
+            typeDefinitionNode.getNodeId() : Identifiers.BaseEventType;
+
+        deliver(eventTypeId, eventNode.getSourceNode(), item -> item.onEvent(eventNode));
+    }
+
+    private void deliver(FlyweightEvent event) {
+        if (index.isEmpty()) return;
+
+        deliver(event.getEventTypeId(), event.getSourceNode(), item -> item.onEvent(event));
+    }
+
+    private void deliver(NodeId eventTypeId, @Nullable NodeId sourceNodeId, Consumer<EventItem> onEvent) {
+        EventFilterCache filterCache = server.getEventFilterCache();
+
+        for (NodeId notifierId : getNotifierIds(sourceNodeId)) {
+            Map<NodeId, Set<EventItem>> itemsByType = index.get(notifierId);
+
+            if (itemsByType == null) continue;
+
+            itemsByType.forEach((itemEventTypeId, items) -> {
+                if (filterCache.isSameOrSubtype(eventTypeId, itemEventTypeId)) {
+                    for (EventItem item : items) {
+                        try {
+                            onEvent.accept(item);
+                        } catch (Throwable t) {
+                            logger.warn("Uncaught Throwable delivering event to item {}.", item.getId(), t);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Get the NodeIds of the notifiers an event from {@code sourceNodeId} is reported through: the Server object, the
+     * SourceNode, and every node the SourceNode can be reached from by inverse HasEventSource references, which
+     * includes HasNotifier.
+     * <p>
+     * The references are only followed when items monitor notifiers other than the Server object.
+     */
+    private Set<NodeId> getNotifierIds(@Nullable NodeId sourceNodeId) {
+        Set<NodeId> notifierIds = new LinkedHashSet<>();
+        notifierIds.add(Identifiers.Server);
+
+        boolean onlyServer = index.size() == 1 && index.containsKey(Identifiers.Server);
+
+        if (sourceNodeId == null || sourceNodeId.isNull() || onlyServer) {
+            return notifierIds;
+        }
+
+        Queue<NodeId> queue = new ArrayDeque<>();
+        queue.add(sourceNodeId);
+        notifierIds.add(sourceNodeId);
+
+        while (!queue.isEmpty()) {
+            NodeId nodeId = queue.poll();
+
+            for (Reference reference : server.getAddressSpaceManager().getManagedReferences(nodeId)) {
+                if (reference.isInverse() && isEventSourceReference(reference)) {
+                    reference.getTargetNodeId()
+                        .toNodeId(server.getNamespaceTable())
+                        .filter(notifierIds::add)
+                        .ifPresent(queue::add);
+                }
+            }
+        }
+
+        return notifierIds;
+    }
+
+    private boolean isEventSourceReference(Reference reference) {
+        return reference.getReferenceTypeId().equals(Identifiers.HasEventSource) ||
+            reference.subtypeOf(Identifiers.HasEventSource, server.getReferenceTypes());
+    }
+
+    private static class Registration {
+
+        final NodeId notifierId;
+        final NodeId eventTypeId;
+
+        Registration(NodeId notifierId, NodeId eventTypeId) {
+            this.notifierId = notifierId;
+            this.eventTypeId = eventTypeId;
+        }
+
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.factories.BrowsePath;
+import org.eclipse.milo.opcua.sdk.server.nodes.factories.InstanceDeclarationHierarchy;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+
+/**
+ * The fields of an event type: every Variable instance declaration in the type's instance declaration hierarchy,
+ * identified by its browse path relative to the type and assigned a fixed index.
+ * <p>
+ * {@link FlyweightEvent}s of the type store their field values in an array in this order.
+ */
+public class EventTypeLayout {
+
+    private final Map<List<QualifiedName>, Integer> indices = new HashMap<>();
+    private final List<List<QualifiedName>> browsePaths = new ArrayList<>();
+    private final List<Variant> defaultValues = new ArrayList<>();
+
+    private final NodeId eventTypeId;
+    private final NamespaceTable namespaceTable;
+
+    private EventTypeLayout(NodeId eventTypeId, NamespaceTable namespaceTable) {
+        this.eventTypeId = eventTypeId;
+        this.namespaceTable = namespaceTable;
+    }
+
+    /**
+     * @return the {@link NodeId} of the event type.
+     */
+    public NodeId getEventTypeId() {
+        return eventTypeId;
+    }
+
+    /**
+     * @return the number of fields.
+     */
+    public int getFieldCount() {
+        return browsePaths.size();
+    }
+
+    /**
+     * @param index the index of a field.
+     * @return the browse path of the field at {@code index}, relative to the event type.
+     */
+    public List<QualifiedName> getBrowsePath(int index) {
+        return browsePaths.get(index);
+    }
+
+    /**
+     * @param browsePath the browse path of a field, relative to the event type.
+     * @return the index of the field at {@code browsePath}, or -1 if the event type has no such field.
+     */
+    public int indexOf(List<QualifiedName> browsePath) {
+        Integer index = indices.get(browsePath);
+
+        return index != null ? index : -1;
+    }
+
+    /**
+     * @param browsePath the browse path of a field, relative to the event type.
+     * @return the index of the field at {@code browsePath}, or -1 if the event type has no such field.
+     */
+    public int indexOf(QualifiedName... browsePath) {
+        return indexOf(Arrays.asList(browsePath));
+    }
+
+    /**
+     * @return the {@link NamespaceTable} the browse names in this layout are indexed by.
+     */
+    NamespaceTable getNamespaceTable() {
+        return namespaceTable;
+    }
+
+    /**
+     * @return a new array of field values, initialized to the values of the instance declarations.
+     */
+    Variant[] newValues() {
+        return defaultValues.toArray(new Variant[0]);
+    }
+
+    private void addField(List<QualifiedName> browsePath, Variant defaultValue) {
+        indices.put(browsePath, browsePaths.size());
+        browsePaths.add(browsePath);
+        defaultValues.add(defaultValue);
+    }
+
+    /**
+     * Create the {@link EventTypeLayout} for the event type identified by {@code eventTypeId}.
+     *
+     * @param server      the {@link OpcUaServer}.
+     * @param eventTypeId the {@link NodeId} of the event type.
+     * @return the {@link EventTypeLayout} for the event type.
+     * @throws UaException if {@code eventTypeId} does not identify an ObjectType.
+     */
+    public static EventTypeLayout create(OpcUaServer server, NodeId eventTypeId) throws UaException {
+        UaNode typeNode = server.getAddressSpaceManager().getManagedNode(eventTypeId).orElse(null);
+
+        if (!(typeNode instanceof UaObjectTypeNode)) {
+            throw new UaException(StatusCodes.Bad_NodeIdUnknown, "unknown event type: " + eventTypeId);
+        }
+
+        InstanceDeclarationHierarchy idh = InstanceDeclarationHierarchy.create(
+            server.getAddressSpaceManager(),
+            server.getNamespaceTable(),
+            eventTypeId
+        );
+
+        EventTypeLayout layout = new EventTypeLayout(eventTypeId, server.getNamespaceTable());
+
+        for (Map.Entry<BrowsePath, NodeId> entry : idh.getInstanceDeclarations().entrySet()) {
+            UaNode node = server.getAddressSpaceManager().getManagedNode(entry.getValue()).orElse(null);
+
+            if (node instanceof UaVariableNode) {
+                DataValue value = ((UaVariableNode) node).getValue();
+
+                layout.addField(
+                    Collections.unmodifiableList(entry.getKey().getBrowseNames()),
+                    value != null ? value.getValue() : Variant.NULL_VALUE
+                );
+            }
+        }
+
+        return layout;
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.milo.opcua.sdk.core.QualifiedProperty;
+import org.eclipse.milo.opcua.sdk.server.model.types.objects.BaseEventType;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An event instance stored as a flat array of field values, laid out by its {@link EventTypeLayout}, instead of as a
+ * graph of Nodes.
+ * <p>
+ * Event filters and monitored items read the fields directly; nothing is added to the address space, so there is
+ * nothing to delete once the event has been posted.
+ * <p>
+ * Set the fields before posting the event. A posted event must not be modified.
+ */
+public class FlyweightEvent {
+
+    private final NodeId nodeId;
+    private final EventTypeLayout layout;
+    private final Variant[] values;
+
+    public FlyweightEvent(NodeId nodeId, EventTypeLayout layout) {
+        this.nodeId = nodeId;
+        this.layout = layout;
+
+        values = layout.newValues();
+    }
+
+    /**
+     * @return the {@link NodeId} of this event, returned when an event filter selects the NodeId attribute of the
+     * event itself.
+     */
+    public NodeId getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * @return the {@link NodeId} of the type of this event.
+     */
+    public NodeId getEventTypeId() {
+        return layout.getEventTypeId();
+    }
+
+    /**
+     * @return the {@link EventTypeLayout} of this event.
+     */
+    public EventTypeLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * @param index the index of a field in the {@link EventTypeLayout}.
+     * @return the value of the field at {@code index}.
+     */
+    public Variant getFieldValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * @param browsePath the browse path of a field, relative to the event type.
+     * @return the value of the field at {@code browsePath}, or {@link Variant#NULL_VALUE} if there is no such field.
+     */
+    public Variant getFieldValue(List<QualifiedName> browsePath) {
+        int index = layout.indexOf(browsePath);
+
+        return index >= 0 ? values[index] : Variant.NULL_VALUE;
+    }
+
+    /**
+     * @param index the index of a field in the {@link EventTypeLayout}.
+     * @param value the value to set.
+     */
+    public void setFieldValue(int index, Variant value) {
+        values[index] = value != null ? value : Variant.NULL_VALUE;
+    }
+
+    /**
+     * @param browsePath the browse path of a field, relative to the event type.
+     * @param value      the value to set.
+     * @throws IllegalArgumentException if the event type has no field at {@code browsePath}.
+     */
+    public void setFieldValue(List<QualifiedName> browsePath, Variant value) {
+        int index = layout.indexOf(browsePath);
+
+        if (index < 0) {
+            throw new IllegalArgumentException("no field " + browsePath + " in " + layout.getEventTypeId());
+        }
+
+        setFieldValue(index, value);
+    }
+
+    public <T> Optional<T> getProperty(QualifiedProperty<T> property) {
+        return getBrowseName(property).flatMap(browseName -> {
+            Object value = getFieldValue(Collections.singletonList(browseName)).getValue();
+
+            try {
+                return Optional.ofNullable(value).map(property.getJavaType()::cast);
+            } catch (ClassCastException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    public <T> void setProperty(QualifiedProperty<T> property, @Nullable T value) {
+        QualifiedName browseName = getBrowseName(property).orElseThrow(() ->
+            new IllegalArgumentException(
+                "property belongs to unregistered namespace: " + property.getNamespaceUri()));
+
+        setFieldValue(Collections.singletonList(browseName), new Variant(value));
+    }
+
+    private Optional<QualifiedName> getBrowseName(QualifiedProperty<?> property) {
+        return property.getQualifiedName(layout.getNamespaceTable());
+    }
+
+    public ByteString getEventId() {
+        return getProperty(BaseEventType.EVENT_ID).orElse(null);
+    }
+
+    public void setEventId(ByteString value) {
+        setProperty(BaseEventType.EVENT_ID, value);
+    }
+
+    public NodeId getEventType() {
+        return getProperty(BaseEventType.EVENT_TYPE).orElse(null);
+    }
+
+    public void setEventType(NodeId value) {
+        setProperty(BaseEventType.EVENT_TYPE, value);
+    }
+
+    public NodeId getSourceNode() {
+        return getProperty(BaseEventType.SOURCE_NODE).orElse(null);
+    }
+
+    public void setSourceNode(NodeId value) {
+        setProperty(BaseEventType.SOURCE_NODE, value);
+    }
+
+    public String getSourceName() {
+        return getProperty(BaseEventType.SOURCE_NAME).orElse(null);
+    }
+
+    public void setSourceName(String value) {
+        setProperty(BaseEventType.SOURCE_NAME, value);
+    }
+
+    public DateTime getTime() {
+        return getProperty(BaseEventType.TIME).orElse(null);
+    }
+
+    public void setTime(DateTime value) {
+        setProperty(BaseEventType.TIME, value);
+    }
+
+    public DateTime getReceiveTime() {
+        return getProperty(BaseEventType.RECEIVE_TIME).orElse(null);
+    }
+
+    public void setReceiveTime(DateTime value) {
+        setProperty(BaseEventType.RECEIVE_TIME, value);
+    }
+
+    public LocalizedText getMessage() {
+        return getProperty(BaseEventType.MESSAGE).orElse(null);
+    }
+
+    public void setMessage(LocalizedText value) {
+        setProperty(BaseEventType.MESSAGE, value);
+    }
+
+    public UShort getSeverity() {
+        return getProperty(BaseEventType.SEVERITY).orElse(null);
+    }
+
+    public void setSeverity(UShort value) {
+        setProperty(BaseEventType.SEVERITY, value);
+    }
+
+}
@@ -14,6 +14,7 @@ import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.api.AccessContext;
 import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
 import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilterElement;
 import org.eclipse.milo.opcua.stack.core.types.structured.FilterOperand;
 
@@ -26,4 +27,26 @@ public interface OperatorContext extends AccessContext, FilterContext {
 
     Object resolve(FilterOperand operand, BaseEventTypeNode eventNode) throws UaException;
 
+    /**
+     * Get the type of the event being evaluated.
+     * <p>
+     * Contexts evaluating events that aren't Nodes, e.g. {@link FlyweightEvent}s, pass a {@code null} eventNode to
+     * the operators and override this.
+     *
+     * @param eventNode the event being evaluated.
+     * @return the {@link NodeId} of the type of the event being evaluated.
+     */
+    default NodeId getEventTypeId(BaseEventTypeNode eventNode) {
+        return eventNode.getTypeDefinitionNode().getNodeId();
+    }
+
+    /**
+     * @param typeId      the {@link NodeId} of a type.
+     * @param superTypeId the {@link NodeId} of a possible supertype.
+     * @return {@code true} if {@code typeId} is {@code superTypeId} or one of its subtypes.
+     */
+    default boolean isSameOrSubtype(NodeId typeId, NodeId superTypeId) {
+        return typeId.equals(superTypeId) || EventContentFilter.subtypeOf(typeId, superTypeId, getServer());
+    }
+
 }
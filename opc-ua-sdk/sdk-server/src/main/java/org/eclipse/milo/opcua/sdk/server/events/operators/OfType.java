@@ -20,8 +20,6 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.structured.FilterOperand;
 import org.jetbrains.annotations.Nullable;
 
-import static org.eclipse.milo.opcua.sdk.server.events.EventContentFilter.subtypeOf;
-
 public class OfType implements Operator<Boolean> {
 
     OfType() {}
@@ -46,13 +44,11 @@ public class OfType implements Operator<Boolean> {
         Object value = context.resolve(operands[0], eventNode);
 
         if (value instanceof NodeId) {
-            NodeId eventTypeDefinitionId =
-                eventNode.getTypeDefinitionNode().getNodeId();
+            NodeId eventTypeDefinitionId = context.getEventTypeId(eventNode);
 
             NodeId targetTypeDefinitionId = (NodeId) value;
 
-            return eventTypeDefinitionId.equals(targetTypeDefinitionId) ||
-                subtypeOf(eventTypeDefinitionId, targetTypeDefinitionId, context.getServer());
+            return context.isSameOrSubtype(eventTypeDefinitionId, targetTypeDefinitionId);
         } else {
             return false;
         }
@@ -13,12 +13,15 @@ package org.eclipse.milo.opcua.sdk.server.items;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.google.common.primitives.Ints;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.Session;
 import org.eclipse.milo.opcua.sdk.server.api.MonitoredItem;
-import org.eclipse.milo.opcua.sdk.server.util.RingBuffer;
+import org.eclipse.milo.opcua.sdk.server.subscriptions.Subscription;
+import org.eclipse.milo.opcua.sdk.server.util.BoundedQueue;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.serialization.UaStructure;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
@@ -35,7 +38,18 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
     protected volatile Map<UInteger, BaseMonitoredItem<?>> triggeredItems;
     protected volatile boolean triggered = false;
 
-    protected volatile RingBuffer<T> queue;
+    /**
+     * Values are enqueued by any number of threads and drained by the {@link Subscription} without holding this
+     * item's monitor.
+     */
+    protected final BoundedQueue<T> queue;
+
+    /**
+     * {@code true} while this item is in its {@link Subscription}'s ready queue.
+     */
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+
+    private volatile Subscription subscription;
 
     protected volatile long clientHandle;
     protected volatile int queueSize;
@@ -76,7 +90,9 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
 
         setQueueSize(queueSize);
 
-        queue = new RingBuffer<>(this.queueSize);
+        LongAdder queuedNotificationCount = server.getDiagnosticsSummary().getQueuedNotificationCounter();
+
+        queue = new BoundedQueue<>(this.queueSize, discardOldest, queuedNotificationCount);
     }
 
     protected void setQueueSize(UInteger queueSize) {
@@ -86,12 +102,13 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
         this.queueSize = qs;
     }
 
-    public synchronized boolean getNotifications(List<UaStructure> notifications, int max) {
-        int queueSize = queue.size();
-        int count = Math.min(queueSize, max);
+    public boolean getNotifications(List<UaStructure> notifications, int max) {
+        for (int i = 0; i < max; i++) {
+            T value = queue.poll();
 
-        for (int i = 0; i < count; i++) {
-            notifications.add(wrapQueueValue(queue.remove()));
+            if (value == null) break;
+
+            notifications.add(wrapQueueValue(value));
         }
 
         boolean queueIsEmpty = queue.isEmpty();
@@ -103,10 +120,21 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
         return queueIsEmpty;
     }
 
-    public synchronized boolean hasNotifications() {
+    public boolean hasNotifications() {
         return (queue.size() > 0 && monitoringMode == MonitoringMode.Reporting);
     }
 
+    /**
+     * Get the number of notifications currently queued by this item.
+     * <p>
+     * Safe to call from diagnostics while values are being enqueued.
+     *
+     * @return the number of notifications currently queued by this item.
+     */
+    public int getQueuedNotificationCount() {
+        return queue.size();
+    }
+
     public synchronized void modify(
         TimestampsToReturn timestamps,
         UInteger clientHandle,
@@ -123,18 +151,22 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
         this.samplingInterval = samplingInterval;
         this.discardOldest = discardOldest;
 
+        queue.setDiscardOldest(discardOldest);
+
         if (queueSize.intValue() != this.queueSize) {
             setQueueSize(queueSize);
 
-            RingBuffer<T> oldQueue = queue;
-            queue = new RingBuffer<>(this.queueSize);
-
-            while (oldQueue.size() > 0) {
-                enqueue(oldQueue.remove());
-            }
+            queue.setMaxSize(this.queueSize);
         }
     }
 
+    /**
+     * Add {@code value} to this item's queue, making room according to {@link #isDiscardOldest()} if it's full.
+     * <p>
+     * May be called concurrently from any number of threads.
+     *
+     * @param value the value to enqueue.
+     */
     protected abstract void enqueue(T value);
 
     public void setMonitoringMode(MonitoringMode monitoringMode) {
@@ -142,6 +174,58 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
 
         if (monitoringMode == MonitoringMode.Disabled) {
             queue.clear();
+        } else if (hasNotifications()) {
+            notifyReady();
+        }
+    }
+
+    /**
+     * Mark this item as triggered by a linked triggering item.
+     */
+    protected void trigger() {
+        triggered = true;
+
+        notifyReady();
+    }
+
+    /**
+     * Register this item in its {@link Subscription}'s ready queue if it isn't there already.
+     * <p>
+     * Implementations must call this after enqueuing a value that should be reported.
+     */
+    public void notifyReady() {
+        Subscription subscription = this.subscription;
+
+        if (subscription != null && ready.compareAndSet(false, true)) {
+            subscription.onItemReady(this);
+        }
+    }
+
+    /**
+     * Clear the flag indicating this item is in its {@link Subscription}'s ready queue.
+     * <p>
+     * Called by the {@link Subscription} after removing this item from the queue and before checking it for
+     * notifications, so that any value enqueued concurrently registers the item again.
+     */
+    public void resetReady() {
+        ready.set(false);
+    }
+
+    /**
+     * Discard this item's queued notifications and stop counting its queue towards the server's queued notification
+     * count.
+     * <p>
+     * Called by the {@link Subscription} when this item, or the Subscription itself, is deleted.
+     */
+    public void onDeleted() {
+        queue.close();
+    }
+
+    public void setSubscription(Subscription subscription) {
+        this.subscription = subscription;
+
+        if (hasNotifications() || isTriggered()) {
+            notifyReady();
         }
     }
 
@@ -200,7 +284,7 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
         return triggeredItems;
     }
 
-    public synchronized boolean isTriggered() {
+    public boolean isTriggered() {
         return triggered;
     }
 
@@ -10,13 +10,19 @@
 
 package org.eclipse.milo.opcua.sdk.server.items;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.Session;
 import org.eclipse.milo.opcua.sdk.server.api.DataItem;
+import org.eclipse.milo.opcua.sdk.server.model.types.variables.AnalogItemType;
 import org.eclipse.milo.opcua.sdk.server.subscriptions.Subscription;
 import org.eclipse.milo.opcua.sdk.server.util.DataChangeMonitoringFilter;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
@@ -31,6 +37,7 @@ import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeFilter;
 import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemNotification;
 import org.eclipse.milo.opcua.stack.core.types.structured.MonitoringFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.Range;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
 import org.jetbrains.annotations.NotNull;
 
@@ -44,8 +51,8 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
         0.0
     );
 
-    private volatile DataValue lastValue = null;
-    private volatile DataChangeFilter filter = null;
+    private final AtomicReference<DataValue> lastValue = new AtomicReference<>();
+    private volatile DataChangeMonitoringFilter filter = DataChangeMonitoringFilter.create(DEFAULT_FILTER, null);
     private volatile ExtensionObject filterResult = null;
 
     public MonitoredDataItem(
@@ -66,54 +73,68 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
             timestamps, clientHandle, samplingInterval, queueSize, discardOldest);
     }
 
+    /**
+     * Queue {@code value} if it passes the filter when compared with the last value that did.
+     * <p>
+     * The last value is updated with a compare-and-set, so concurrent calls never queue two values that were both
+     * compared with the same last value.
+     *
+     * @param value the sampled value.
+     */
     @Override
-    public synchronized void setValue(DataValue value) {
-        boolean valuePassesFilter = DataChangeMonitoringFilter.filter(lastValue, value, filter);
+    public void setValue(DataValue value) {
+        while (true) {
+            DataValue last = lastValue.get();
 
-        if (valuePassesFilter) {
-            lastValue = value;
+            if (!filter.filter(last, value)) {
+                return;
+            } else if (lastValue.compareAndSet(last, value)) {
+                break;
+            }
+        }
 
-            enqueue(value);
+        enqueue(value);
 
-            if (triggeredItems != null) {
-                triggeredItems.values().forEach(item -> item.triggered = true);
-            }
+        Map<UInteger, BaseMonitoredItem<?>> triggeredItems = this.triggeredItems;
+
+        if (triggeredItems != null) {
+            triggeredItems.values().forEach(BaseMonitoredItem::trigger);
         }
     }
 
     @Override
-    protected synchronized void enqueue(@NotNull DataValue value) {
-        if (queue.size() < queue.maxSize()) {
-            queue.add(value);
-        } else {
-            StatusCode statusCode = value.getStatusCode();
+    protected void enqueue(@NotNull DataValue value) {
+        boolean overflow = queue.add(value, v -> {
+            StatusCode statusCode = v.getStatusCode();
 
             if (getQueueSize() > 1) {
                 /* Set overflow if queueSize > 1... */
-                if (statusCode != null) {
-                    value = value.withStatus(statusCode.withOverflow());
-                }
-
-                Subscription subscription = session.getSubscriptionManager().getSubscription(subscriptionId);
-
-                if (subscription != null) {
-                    subscription.getSubscriptionDiagnostics().getMonitoringQueueOverflowCount().increment();
-                }
+                return statusCode != null ? v.withStatus(statusCode.withOverflow()) : v;
             } else if (statusCode != null && statusCode.isOverflowSet()) {
                 /* But make sure it's clear otherwise. */
-                value = value.withStatus(statusCode.withoutOverflow());
+                return v.withStatus(statusCode.withoutOverflow());
+            } else {
+                return v;
             }
+        });
 
-            if (discardOldest) {
-                queue.add(value);
-            } else {
-                queue.set(queue.maxSize() - 1, value);
+        if (overflow && getQueueSize() > 1) {
+            Subscription subscription = session.getSubscriptionManager().getSubscription(subscriptionId);
+
+            if (subscription != null) {
+                subscription.getSubscriptionDiagnostics().getMonitoringQueueOverflowCount().increment();
             }
         }
+
+        if (monitoringMode == MonitoringMode.Reporting) {
+            notifyReady();
+        }
     }
 
     @Override
-    public synchronized void setQuality(StatusCode quality) {
+    public void setQuality(StatusCode quality) {
+        DataValue lastValue = this.lastValue.get();
+
         if (lastValue == null) {
             setValue(new DataValue(Variant.NULL_VALUE, quality, DateTime.now(), DateTime.now()));
         } else {
@@ -135,27 +156,74 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
     @Override
     public synchronized void setMonitoringMode(MonitoringMode monitoringMode) {
         if (monitoringMode == MonitoringMode.Disabled) {
-            lastValue = null;
+            lastValue.set(null);
         }
 
         super.setMonitoringMode(monitoringMode);
     }
 
     public synchronized void maybeSendLastValue() {
+        DataValue lastValue = this.lastValue.get();
+
         if (queue.isEmpty() && lastValue != null) {
             enqueue(lastValue);
         }
     }
 
+    /**
+     * Install {@code filter}.
+     * <p>
+     * A Percent deadband is resolved to an absolute deadband using the EURange Property of the monitored Node, which
+     * must be a Node managed by the Server.
+     *
+     * @param filter the {@link MonitoringFilter} to install.
+     * @throws UaException if {@code filter} is not a {@link DataChangeFilter}, or specifies a Percent deadband and the
+     *                     monitored Node has no EURange or its EURange is missing a Low or High value.
+     */
     @Override
     public void installFilter(MonitoringFilter filter) throws UaException {
         if (filter instanceof DataChangeFilter) {
-            this.filter = (DataChangeFilter) filter;
+            DataChangeFilter dataChangeFilter = (DataChangeFilter) filter;
+
+            Range euRange = null;
+
+            if (dataChangeFilter.getDeadbandType() != null &&
+                dataChangeFilter.getDeadbandType().intValue() == DeadbandType.Percent.getValue()) {
+
+                euRange = getEuRange().orElseThrow(() -> new UaException(StatusCodes.Bad_FilterNotAllowed));
+            }
+
+            this.filter = DataChangeMonitoringFilter.create(dataChangeFilter, euRange);
         } else {
             throw new UaException(StatusCodes.Bad_MonitoredItemFilterUnsupported);
         }
     }
 
+    private Optional<Range> getEuRange() {
+        return server.getAddressSpaceManager()
+            .getManagedNode(getReadValueId().getNodeId())
+            .flatMap(node -> node.getPropertyNode(AnalogItemType.E_U_RANGE))
+            .map(node -> {
+                Object value = node.getValue().getValue().getValue();
+
+                if (value instanceof ExtensionObject) {
+                    try {
+                        value = ((ExtensionObject) value).decode(server.getSerializationContext());
+                    } catch (UaSerializationException e) {
+                        return null;
+                    }
+                }
+
+                if (value instanceof Range) {
+                    Range range = (Range) value;
+
+                    return range.getLow() != null && range.getHigh() != null ? range : null;
+                } else {
+                    return null;
+                }
+            });
+    }
+
     @Override
     public ExtensionObject getFilterResult() {
         return filterResult;
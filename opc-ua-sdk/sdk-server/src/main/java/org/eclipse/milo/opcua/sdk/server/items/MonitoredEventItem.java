@@ -15,12 +15,15 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
 
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.Session;
 import org.eclipse.milo.opcua.sdk.server.api.EventItem;
+import org.eclipse.milo.opcua.sdk.server.events.CompiledEventFilter;
 import org.eclipse.milo.opcua.sdk.server.events.EventContentFilter;
 import org.eclipse.milo.opcua.sdk.server.events.FilterContext;
+import org.eclipse.milo.opcua.sdk.server.events.FlyweightEvent;
 import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
 import org.eclipse.milo.opcua.sdk.server.subscriptions.Subscription;
 import org.eclipse.milo.opcua.stack.core.Identifiers;
@@ -32,20 +35,17 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
-import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.MonitoringMode;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
-import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilter;
 import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilterElementResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.EventFieldList;
 import org.eclipse.milo.opcua.stack.core.types.structured.EventFilter;
 import org.eclipse.milo.opcua.stack.core.types.structured.EventFilterResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.MonitoringFilter;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
-import org.eclipse.milo.opcua.stack.core.types.structured.SimpleAttributeOperand;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +59,7 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private volatile EventFilter filter;
+    private volatile CompiledEventFilter compiledFilter;
     private volatile EventFilterResult filterResult;
     private volatile boolean filterResultGood;
 
@@ -99,17 +100,13 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
     @Override
     public void onEvent(BaseEventTypeNode eventNode) {
         try {
-            if (filterResultGood) {
-                ContentFilter whereClause = filter.getWhereClause();
+            CompiledEventFilter compiledFilter = this.compiledFilter;
 
-                boolean matches = EventContentFilter.evaluate(
-                    filterContext,
-                    whereClause,
-                    eventNode
-                );
+            if (filterResultGood && compiledFilter != null) {
+                Variant[] eventFields = compiledFilter.apply(filterContext, eventNode);
 
-                if (matches) {
-                    enqueue(selectEventFields(eventNode));
+                if (eventFields != null) {
+                    enqueue(eventFields);
                 }
             }
         } catch (UaException e) {
@@ -118,26 +115,33 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
     }
 
 
-    @NotNull
-    private Variant[] selectEventFields(BaseEventTypeNode eventNode) {
-        SimpleAttributeOperand[] selectClauses = filter.getSelectClauses();
-
-        if (selectClauses != null) {
-            return EventContentFilter.select(
-                filterContext,
-                selectClauses,
-                eventNode
-            );
-        } else {
-            return new Variant[0];
+    @Override
+    public void onEvent(FlyweightEvent event) {
+        try {
+            CompiledEventFilter compiledFilter = this.compiledFilter;
+
+            if (filterResultGood && compiledFilter != null) {
+                Variant[] eventFields = compiledFilter.apply(filterContext, event);
+
+                if (eventFields != null) {
+                    enqueue(eventFields);
+                }
+            }
+        } catch (UaException e) {
+            logger.error("Filter evaluation failed: {}", e.getMessage(), e);
         }
     }
 
     @Override
-    protected synchronized void enqueue(Variant[] value) {
-        if (queue.size() < queue.maxSize()) {
-            queue.add(value);
-        } else {
+    public NodeId getEventTypeId() {
+        CompiledEventFilter compiledFilter = this.compiledFilter;
+
+        return compiledFilter != null ? compiledFilter.getEventTypeId() : Identifiers.BaseEventType;
+    }
+
+    @Override
+    protected void enqueue(Variant[] value) {
+        if (queue.add(value, UnaryOperator.identity())) {
             if (getQueueSize() > 1) {
                 eventOverflow.set(true);
 
@@ -148,16 +152,16 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
                 }
             }
 
-            if (discardOldest) {
-                queue.add(value);
-            } else {
-                queue.set(queue.maxSize() - 1, value);
-            }
+            server.getEventRouter().getOverflowedEventCount().increment();
+        }
+
+        if (monitoringMode == MonitoringMode.Reporting) {
+            notifyReady();
         }
     }
 
     @Override
-    public synchronized boolean getNotifications(List<UaStructure> notifications, int max) {
+    public boolean getNotifications(List<UaStructure> notifications, int max) {
         if (eventOverflow.compareAndSet(true, false)) {
             Variant[] eventFields = generateOverflowEventFields();
 
@@ -180,19 +184,20 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
 
     @NotNull
     private Variant[] generateOverflowEventFields() {
-        BaseEventTypeNode overflowEvent = null;
+        CompiledEventFilter compiledFilter = this.compiledFilter;
+
+        if (compiledFilter == null) {
+            return new Variant[0];
+        }
 
         try {
             UUID eventId = UUID.randomUUID();
 
-            overflowEvent = server.getEventFactory().createEvent(
+            FlyweightEvent overflowEvent = server.getEventFactory().createFlyweightEvent(
                 new NodeId(1, eventId),
                 Identifiers.EventQueueOverflowEventType
             );
 
-            overflowEvent.setBrowseName(new QualifiedName(1, "EventQueueOverflow"));
-            overflowEvent.setDisplayName(LocalizedText.english("EventQueueOverflow"));
-
             ByteBuffer buffer = ByteBuffer.allocate(64);
             buffer.putLong(eventId.getMostSignificantBits());
             buffer.putLong(eventId.getLeastSignificantBits());
@@ -206,15 +211,11 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
             overflowEvent.setMessage(LocalizedText.english("Event Queue Overflow"));
             overflowEvent.setSeverity(ushort(0));
 
-            return selectEventFields(overflowEvent);
+            return compiledFilter.select(overflowEvent);
         } catch (UaException e) {
             logger.error("Error creating overflow event: {}", e.getMessage(), e);
 
             return new Variant[0];
-        } finally {
-            if (overflowEvent != null) {
-                overflowEvent.delete();
-            }
         }
     }
 
@@ -240,8 +241,12 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
                 .allMatch(StatusCode::isGood);
 
             filterResultGood = selectClauseGood && whereClauseGood;
+
+            compiledFilter = filterResultGood ?
+                server.getEventFilterCache().getCompiledFilter(this.filter) : null;
         } else {
             filterResultGood = false;
+            compiledFilter = null;
 
             throw new UaException(StatusCodes.Bad_MonitoredItemFilterUnsupported);
         }
@@ -26,17 +26,19 @@ import org.eclipse.milo.opcua.sdk.server.api.MonitoredItem;
 import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfigLimits;
 import org.eclipse.milo.opcua.sdk.server.api.methods.AbstractMethodInvocationHandler;
 import org.eclipse.milo.opcua.sdk.server.api.methods.Out;
+import org.eclipse.milo.opcua.sdk.server.events.FlyweightEvent;
 import org.eclipse.milo.opcua.sdk.server.items.BaseMonitoredItem;
 import org.eclipse.milo.opcua.sdk.server.items.MonitoredDataItem;
 import org.eclipse.milo.opcua.sdk.server.model.methods.ConditionRefreshMethod;
 import org.eclipse.milo.opcua.sdk.server.model.methods.GetMonitoredItemsMethod;
 import org.eclipse.milo.opcua.sdk.server.model.methods.ResendDataMethod;
-import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
 import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.OperationLimitsTypeNode;
 import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.ServerCapabilitiesTypeNode;
 import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.ServerTypeNode;
 import org.eclipse.milo.opcua.sdk.server.model.nodes.variables.ServerStatusTypeNode;
 import org.eclipse.milo.opcua.sdk.server.namespaces.loader.NodeLoader;
+import org.eclipse.milo.opcua.sdk.server.namespaces.loader.NodeSnapshotLoader;
+import org.eclipse.milo.opcua.sdk.server.namespaces.loader.SnapshotNodeManager;
 import org.eclipse.milo.opcua.sdk.server.nodes.UaMethodNode;
 import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
 import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
@@ -51,7 +53,6 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
-import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
 import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.RedundancySupport;
@@ -77,25 +78,31 @@ public class OpcUaNamespace extends ManagedNamespaceWithLifecycle {
 
     private final OpcUaServer server;
 
+    private final SnapshotNodeManager nodeManager;
+
     public OpcUaNamespace(OpcUaServer server) {
-        super(server, Namespaces.OPC_UA);
+        this(server, new SnapshotNodeManager());
+    }
+
+    private OpcUaNamespace(OpcUaServer server, SnapshotNodeManager nodeManager) {
+        super(server, Namespaces.OPC_UA, nodeManager);
 
         this.server = server;
+        this.nodeManager = nodeManager;
 
-        subscriptionModel = new SubscriptionModel(server, this);
+        subscriptionModel = new SubscriptionModel(server, this, getNodeManager());
 
         getLifecycleManager().addStartupTask(() -> {
+            // Set a reasonable value for the MinimumSamplingInterval
+            // attribute on all VariableNodes, otherwise it defaults to 0.
+            // Nodes still pending in the snapshot get it when they're loaded.
+            nodeManager.setNodeInitializer(OpcUaNamespace::setMinimumSamplingInterval);
+
             loadNodes();
             configureServerObject();
             configureConditionRefresh();
 
-            // Set a reasonable value for the MinimumSamplingInterval
-            // attribute on all VariableNodes, otherwise it defaults to 0.
-            getNodeManager().getNodes()
-                .stream()
-                .filter(node -> node instanceof UaVariableNode)
-                .map(UaVariableNode.class::cast)
-                .forEach(n -> n.setMinimumSamplingInterval(MIN_SAMPLING_INTERVAL));
+            nodeManager.getMaterializedNodes().forEach(OpcUaNamespace::setMinimumSamplingInterval);
         });
 
         getLifecycleManager().addLifecycle(subscriptionModel);
@@ -125,34 +132,42 @@ public class OpcUaNamespace extends ManagedNamespaceWithLifecycle {
     public void onEventItemsCreated(List<EventItem> eventItems) {
         eventItems.stream()
             .filter(MonitoredItem::isSamplingEnabled)
-            .forEach(item -> server.getEventBus().register(item));
+            .forEach(item -> server.getEventRouter().register(item));
     }
 
     @Override
     public void onEventItemsModified(List<EventItem> eventItems) {
         for (EventItem item : eventItems) {
             if (item.isSamplingEnabled()) {
-                server.getEventBus().register(item);
+                server.getEventRouter().register(item);
             } else {
-                server.getEventBus().unregister(item);
+                server.getEventRouter().unregister(item);
             }
         }
     }
 
     @Override
     public void onEventItemsDeleted(List<EventItem> eventItems) {
-        eventItems.forEach(item -> server.getEventBus().unregister(item));
+        eventItems.forEach(item -> server.getEventRouter().unregister(item));
+    }
+
+    private static void setMinimumSamplingInterval(UaNode node) {
+        if (node instanceof UaVariableNode) {
+            ((UaVariableNode) node).setMinimumSamplingInterval(MIN_SAMPLING_INTERVAL);
+        }
     }
 
     private void loadNodes() {
         try {
             long startTime = System.nanoTime();
-            long startCount = getNodeManager().getNodes().size();
+            long startCount = nodeManager.getNodeIds().size();
 
-            new NodeLoader(getNodeContext(), getNodeManager()).loadNodes();
+            if (!loadSnapshot()) {
+                new NodeLoader(getNodeContext(), getNodeManager()).loadNodes();
+            }
 
             long deltaMs = TimeUnit.MILLISECONDS.convert(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
-            long deltaCount = getNodeManager().getNodes().size() - startCount;
+            long deltaCount = nodeManager.getNodeIds().size() - startCount;
 
             logger.info("Loaded {} nodes in {}ms.", deltaCount, deltaMs);
         } catch (Exception e) {
@@ -160,6 +175,21 @@ public class OpcUaNamespace extends ManagedNamespaceWithLifecycle {
         }
     }
 
+    /**
+     * Load the nodes from the precompiled snapshot, if there is one.
+     *
+     * @return {@code true} if the nodes were loaded from the snapshot, {@code false} if they still need to be loaded
+     * by the generated {@link NodeLoader}.
+     */
+    private boolean loadSnapshot() {
+        try {
+            return new NodeSnapshotLoader(getNodeContext(), getNodeManager()).loadNodes();
+        } catch (Exception e) {
+            logger.warn("Error loading node snapshot; falling back to NodeLoader.", e);
+            return false;
+        }
+    }
+
     private void configureServerObject() {
         ServerTypeNode serverTypeNode = (ServerTypeNode) getNodeManager().get(Identifiers.Server);
 
@@ -328,13 +358,11 @@ public class OpcUaNamespace extends ManagedNamespaceWithLifecycle {
                 Subscription subscription = session.getSubscriptionManager().getSubscription(subscriptionId);
 
                 if (subscription != null) {
-                    BaseEventTypeNode refreshStart = server.getEventFactory().createEvent(
+                    FlyweightEvent refreshStart = server.getEventFactory().createFlyweightEvent(
                         new NodeId(1, UUID.randomUUID()),
                         Identifiers.RefreshStartEventType
                     );
 
-                    refreshStart.setBrowseName(new QualifiedName(1, "RefreshStart"));
-                    refreshStart.setDisplayName(LocalizedText.english("RefreshStart"));
                     refreshStart.setEventId(NonceUtil.generateNonce(16));
                     refreshStart.setEventType(Identifiers.RefreshStartEventType);
                     refreshStart.setSourceNode(Identifiers.Server);
@@ -344,13 +372,11 @@ public class OpcUaNamespace extends ManagedNamespaceWithLifecycle {
                     refreshStart.setMessage(LocalizedText.english("RefreshStart"));
                     refreshStart.setSeverity(ushort(0));
 
-                    BaseEventTypeNode refreshEnd = server.getEventFactory().createEvent(
+                    FlyweightEvent refreshEnd = server.getEventFactory().createFlyweightEvent(
                         new NodeId(1, UUID.randomUUID()),
                         Identifiers.RefreshEndEventType
                     );
 
-                    refreshEnd.setBrowseName(new QualifiedName(1, "RefreshEnd"));
-                    refreshEnd.setDisplayName(LocalizedText.english("RefreshEnd"));
                     refreshEnd.setEventId(NonceUtil.generateNonce(16));
                     refreshEnd.setEventType(Identifiers.RefreshEndEventType);
                     refreshEnd.setSourceNode(Identifiers.Server);
@@ -362,9 +388,6 @@ public class OpcUaNamespace extends ManagedNamespaceWithLifecycle {
 
                     server.getEventBus().post(refreshStart);
                     server.getEventBus().post(refreshEnd);
-
-                    refreshStart.delete();
-                    refreshEnd.delete();
                 } else {
                     throw new UaException(StatusCodes.Bad_SubscriptionIdInvalid);
                 }
@@ -92,7 +92,7 @@ public class ServerNamespace extends AddressSpaceComposite implements Lifecycle,
         public DiagnosticsFragment(OpcUaServer server) {
             super(server, ServerNamespace.this);
 
-            subscriptionModel = new SubscriptionModel(server, this);
+            subscriptionModel = new SubscriptionModel(server, this, getNodeManager());
 
             ServerDiagnosticsTypeNode serverDiagnosticsNode = (ServerDiagnosticsTypeNode) getServer()
                 .getAddressSpaceManager()
@@ -149,7 +149,7 @@ public class ServerNamespace extends AddressSpaceComposite implements Lifecycle,
         public VendorServerInfoFragment(OpcUaServer server) {
             super(server, ServerNamespace.this);
 
-            subscriptionModel = new SubscriptionModel(server, this);
+            subscriptionModel = new SubscriptionModel(server, this, getNodeManager());
 
             getLifecycleManager().addLifecycle(subscriptionModel);
 
@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.namespaces.loader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.io.ByteStreams;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.api.NodeManager;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+
+/**
+ * Loads the namespace 0 nodes and references from a snapshot written by {@link NodeSnapshotWriter} instead of
+ * running the generated {@link NodeLoader} classes.
+ * <p>
+ * The snapshot is a classpath resource named {@link #RESOURCE_NAME} next to this class, generated at build time by
+ * {@link NodeSnapshotWriter#main(String[])}. When it's a plain file it's memory-mapped rather than copied onto the heap.
+ * <p>
+ * Every node record is length-prefixed, so the snapshot can be indexed without decoding the nodes. When loading into a
+ * {@link SnapshotNodeManager} only the index and the References are read up front and each node is decoded the first
+ * time it's looked up; any other {@link NodeManager} gets every node decoded immediately.
+ * <p>
+ * The whole snapshot is checked before anything is added to the {@link NodeManager}, so a snapshot that can't be read
+ * leaves the {@link NodeManager} untouched and the caller can fall back to {@link NodeLoader}.
+ */
+public class NodeSnapshotLoader {
+
+    public static final String RESOURCE_NAME = "namespace0.snapshot";
+
+    static final String MAGIC = "milo-node-snapshot";
+
+    static final int VERSION = 2;
+
+    private final UaNodeContext context;
+    private final NodeManager<UaNode> nodeManager;
+
+    public NodeSnapshotLoader(UaNodeContext context, NodeManager<UaNode> nodeManager) {
+        this.context = context;
+        this.nodeManager = nodeManager;
+    }
+
+    /**
+     * Load the nodes and references in the {@link #RESOURCE_NAME} snapshot resource.
+     *
+     * @return {@code true} if the snapshot was loaded, {@code false} if there is no snapshot resource.
+     * @throws IOException if the snapshot resource can't be read.
+     * @throws UaException if the snapshot can't be decoded.
+     */
+    public boolean loadNodes() throws IOException, UaException {
+        URL resource = NodeSnapshotLoader.class.getResource(RESOURCE_NAME);
+
+        if (resource == null) return false;
+
+        ByteBuf buffer = readResource(resource);
+
+        try {
+            loadNodes(buffer);
+        } finally {
+            buffer.release();
+        }
+
+        return true;
+    }
+
+    /**
+     * Load the nodes and references in the snapshot contained in {@code buffer}.
+     * <p>
+     * A {@link SnapshotNodeManager} retains {@code buffer} until all of its nodes have been decoded.
+     *
+     * @param buffer a {@link ByteBuf} containing a snapshot written by {@link NodeSnapshotWriter}.
+     * @throws UaException if the snapshot can't be decoded.
+     */
+    public void loadNodes(ByteBuf buffer) throws UaException {
+        OpcUaBinaryStreamDecoder decoder = newDecoder(buffer);
+
+        List<NodeRecord> records = new ArrayList<>();
+        List<Reference> references = new ArrayList<>();
+
+        try {
+            String magic = decoder.readString();
+            int version = decoder.readInt32();
+
+            if (!MAGIC.equals(magic) || version != VERSION) {
+                throw new UaException(
+                    StatusCodes.Bad_DecodingError,
+                    String.format("unsupported snapshot: magic=%s version=%s", magic, version)
+                );
+            }
+
+            int typeCount = decoder.readInt32();
+            List<NodeType> nodeTypes = new ArrayList<>(typeCount);
+
+            for (int i = 0; i < typeCount; i++) {
+                NodeClass nodeClass = NodeClass.from(decoder.readInt32());
+                String className = decoder.readString();
+
+                nodeTypes.add(new NodeType(nodeClass, findConstructor(className, nodeClass)));
+            }
+
+            int nodeCount = decoder.readInt32();
+
+            for (int i = 0; i < nodeCount; i++) {
+                NodeType nodeType = nodeTypes.get(decoder.readInt32());
+                NodeId nodeId = decoder.readNodeId();
+                int length = decoder.readInt32();
+
+                if (length < 0 || length > buffer.readableBytes()) {
+                    throw new UaException(
+                        StatusCodes.Bad_DecodingError,
+                        String.format("invalid record length for %s: %s", nodeId, length)
+                    );
+                }
+
+                records.add(new NodeRecord(nodeType, nodeId, buffer.readerIndex(), length));
+
+                buffer.skipBytes(length);
+            }
+
+            int sourceCount = decoder.readInt32();
+
+            for (int i = 0; i < sourceCount; i++) {
+                NodeId sourceNodeId = decoder.readNodeId();
+                int referenceCount = decoder.readInt32();
+
+                for (int j = 0; j < referenceCount; j++) {
+                    references.add(new Reference(
+                        sourceNodeId,
+                        decoder.readNodeId(),
+                        decoder.readExpandedNodeId(),
+                        decoder.readBoolean()
+                    ));
+                }
+            }
+        } catch (UaException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new UaException(StatusCodes.Bad_DecodingError, e);
+        }
+
+        if (nodeManager instanceof SnapshotNodeManager) {
+            SnapshotNodeManager snapshotNodeManager = (SnapshotNodeManager) nodeManager;
+
+            for (NodeRecord record : records) {
+                snapshotNodeManager.addPendingNode(record.nodeId, () -> {
+                    try {
+                        return readNode(record, buffer);
+                    } catch (ReflectiveOperationException e) {
+                        throw new IllegalStateException("failed to create node " + record.nodeId, e);
+                    }
+                });
+            }
+
+            snapshotNodeManager.addSnapshotBuffer(buffer.retain());
+        } else {
+            List<UaNode> nodes = new ArrayList<>(records.size());
+
+            try {
+                for (NodeRecord record : records) {
+                    nodes.add(readNode(record, buffer));
+                }
+            } catch (Exception e) {
+                throw new UaException(StatusCodes.Bad_DecodingError, e);
+            }
+
+            nodes.forEach(nodeManager::addNode);
+        }
+
+        // The snapshot includes the inverse of every Reference, so they're added without inverting them again.
+        references.forEach(nodeManager::addReference);
+    }
+
+    private OpcUaBinaryStreamDecoder newDecoder(ByteBuf buffer) {
+        return new OpcUaBinaryStreamDecoder(context.getServer().getSerializationContext()).setBuffer(buffer);
+    }
+
+    private UaNode readNode(NodeRecord record, ByteBuf buffer) throws ReflectiveOperationException {
+        OpcUaBinaryStreamDecoder decoder = newDecoder(buffer.slice(record.offset, record.length));
+
+        NodeType nodeType = record.nodeType;
+        NodeId nodeId = record.nodeId;
+
+        QualifiedName browseName = decoder.readQualifiedName();
+        LocalizedText displayName = decoder.readLocalizedText();
+        LocalizedText description = decoder.readLocalizedText();
+        UInteger writeMask = decoder.readUInt32();
+        UInteger userWriteMask = decoder.readUInt32();
+
+        Object[] attributes;
+
+        switch (nodeType.nodeClass) {
+            case Object:
+                attributes = new Object[]{decoder.readByte()};
+                break;
+
+            case Variable:
+                attributes = new Object[]{
+                    new DataValue(decoder.readVariant()),
+                    decoder.readNodeId(),
+                    decoder.readInt32(),
+                    decoder.readUInt32Array(null),
+                    decoder.readByte(),
+                    decoder.readByte(),
+                    decoder.readDouble(),
+                    decoder.readBoolean()
+                };
+                break;
+
+            case Method:
+                attributes = new Object[]{decoder.readBoolean(), decoder.readBoolean()};
+                break;
+
+            case ObjectType:
+            case DataType:
+                attributes = new Object[]{decoder.readBoolean()};
+                break;
+
+            case VariableType:
+                attributes = new Object[]{
+                    new DataValue(decoder.readVariant()),
+                    decoder.readNodeId(),
+                    decoder.readInt32(),
+                    decoder.readUInt32Array(null),
+                    decoder.readBoolean()
+                };
+                break;
+
+            case ReferenceType:
+                attributes = new Object[]{
+                    decoder.readBoolean(),
+                    decoder.readBoolean(),
+                    decoder.readLocalizedText()
+                };
+                break;
+
+            case View:
+                attributes = new Object[]{decoder.readBoolean(), decoder.readByte()};
+                break;
+
+            default:
+                throw new IllegalArgumentException("nodeClass: " + nodeType.nodeClass);
+        }
+
+        Object[] parameters = new Object[7 + attributes.length];
+        parameters[0] = context;
+        parameters[1] = nodeId;
+        parameters[2] = browseName;
+        parameters[3] = displayName;
+        parameters[4] = description;
+        parameters[5] = writeMask;
+        parameters[6] = userWriteMask;
+        System.arraycopy(attributes, 0, parameters, 7, attributes.length);
+
+        try {
+            return (UaNode) nodeType.constructor.newInstance(parameters);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("failed to create node " + nodeId, e.getCause());
+        }
+    }
+
+    /**
+     * Find the public constructor of {@code className} that takes the {@link UaNodeContext}, the base attributes,
+     * and all the attributes specific to {@code nodeClass}, in that order, as the generated loaders call it.
+     */
+    private static Constructor<?> findConstructor(String className, NodeClass nodeClass) throws ClassNotFoundException {
+        Class<?> clazz = Class.forName(className, true, NodeSnapshotLoader.class.getClassLoader());
+
+        int parameterCount = 7 + getAttributeCount(nodeClass);
+
+        for (Constructor<?> constructor : clazz.getConstructors()) {
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+
+            if (parameterTypes.length == parameterCount &&
+                parameterTypes[0] == UaNodeContext.class &&
+                parameterTypes[1] == NodeId.class) {
+
+                return constructor;
+            }
+        }
+
+        throw new IllegalArgumentException("no constructor for " + nodeClass + " found: " + className);
+    }
+
+    static int getAttributeCount(NodeClass nodeClass) {
+        switch (nodeClass) {
+            case Object:
+                return 1;
+            case Variable:
+                return 8;
+            case Method:
+                return 2;
+            case ObjectType:
+            case DataType:
+                return 1;
+            case VariableType:
+                return 5;
+            case ReferenceType:
+                return 3;
+            case View:
+                return 2;
+            default:
+                throw new IllegalArgumentException("nodeClass: " + nodeClass);
+        }
+    }
+
+    private static ByteBuf readResource(URL resource) throws IOException {
+        if ("file".equals(resource.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Paths.get(resource.toURI()), StandardOpenOption.READ)) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+                return Unpooled.wrappedBuffer(mapped);
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        } else {
+            try (InputStream inputStream = resource.openStream()) {
+                return Unpooled.wrappedBuffer(ByteStreams.toByteArray(inputStream));
+            }
+        }
+    }
+
+    private static class NodeType {
+
+        final NodeClass nodeClass;
+        final Constructor<?> constructor;
+
+        NodeType(NodeClass nodeClass, Constructor<?> constructor) {
+            this.nodeClass = nodeClass;
+            this.constructor = constructor;
+        }
+
+    }
+
+    private static class NodeRecord {
+
+        final NodeType nodeType;
+        final NodeId nodeId;
+        final int offset;
+        final int length;
+
+        NodeRecord(NodeType nodeType, NodeId nodeId, int offset, int length) {
+            this.nodeType = nodeType;
+            this.nodeId = nodeId;
+            this.offset = offset;
+            this.length = length;
+        }
+
+    }
+
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.namespaces.loader;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
+import org.eclipse.milo.opcua.sdk.server.api.NodeManager;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaDataTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaMethodNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaReferenceTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaViewNode;
+import org.eclipse.milo.opcua.stack.core.Stack;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+
+/**
+ * Writes the nodes and references in a {@link UaNodeManager} as a snapshot that {@link NodeSnapshotLoader} can load.
+ * <p>
+ * {@link #main(String[])} generates the namespace 0 snapshot resource from the generated {@link NodeLoader} classes.
+ * The {@code node-snapshot} profile of the sdk-server build runs it after compiling, so the snapshot always matches
+ * the classes it's packaged with.
+ */
+public class NodeSnapshotWriter {
+
+    private final SerializationContext serializationContext;
+
+    public NodeSnapshotWriter(SerializationContext serializationContext) {
+        this.serializationContext = serializationContext;
+    }
+
+    /**
+     * Write a snapshot of the nodes in {@code nodeManager} and all of their references to {@code outputStream}.
+     * <p>
+     * Nodes are written in a stable order, so the same nodes always produce the same snapshot.
+     *
+     * @param nodeManager  the {@link UaNodeManager} containing the nodes to write.
+     * @param outputStream the {@link OutputStream} to write to.
+     * @throws IOException if writing to {@code outputStream} fails.
+     */
+    public void write(UaNodeManager nodeManager, OutputStream outputStream) throws IOException {
+        ByteBuf buffer = Unpooled.buffer();
+
+        try {
+            write(nodeManager, buffer);
+
+            buffer.readBytes(outputStream, buffer.readableBytes());
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private void write(UaNodeManager nodeManager, ByteBuf buffer) {
+        OpcUaBinaryStreamEncoder encoder = new OpcUaBinaryStreamEncoder(serializationContext).setBuffer(buffer);
+
+        List<UaNode> nodes = nodeManager.getNodes();
+        nodes.sort(Comparator.comparing(n -> n.getNodeId().toParseableString()));
+
+        Map<String, Integer> typeIndices = new LinkedHashMap<>();
+        List<NodeClass> typeNodeClasses = new ArrayList<>();
+
+        for (UaNode node : nodes) {
+            String className = node.getClass().getName();
+
+            if (!typeIndices.containsKey(className)) {
+                typeIndices.put(className, typeIndices.size());
+                typeNodeClasses.add(node.getNodeClass());
+            }
+        }
+
+        encoder.writeString(NodeSnapshotLoader.MAGIC);
+        encoder.writeInt32(NodeSnapshotLoader.VERSION);
+
+        encoder.writeInt32(typeIndices.size());
+        typeIndices.forEach((className, index) -> {
+            encoder.writeInt32(typeNodeClasses.get(index).getValue());
+            encoder.writeString(className);
+        });
+
+        encoder.writeInt32(nodes.size());
+        for (UaNode node : nodes) {
+            encoder.writeInt32(typeIndices.get(node.getClass().getName()));
+            encoder.writeNodeId(node.getNodeId());
+
+            // The length of the rest of the record, so the loader can index nodes without decoding them.
+            int lengthIndex = buffer.writerIndex();
+            encoder.writeInt32(0);
+
+            writeNode(encoder, node);
+
+            buffer.setIntLE(lengthIndex, buffer.writerIndex() - lengthIndex - 4);
+        }
+
+        // References are written for every node and for every local target of those references, which covers the
+        // inverse References added to targets that aren't nodes themselves.
+        Set<NodeId> sourceNodeIds = new LinkedHashSet<>();
+        nodes.forEach(node -> sourceNodeIds.add(node.getNodeId()));
+
+        for (UaNode node : nodes) {
+            for (Reference reference : nodeManager.getReferences(node.getNodeId())) {
+                reference.getTargetNodeId()
+                    .toNodeId(serializationContext.getNamespaceTable())
+                    .ifPresent(sourceNodeIds::add);
+            }
+        }
+
+        List<NodeId> sources = new ArrayList<>();
+        List<List<Reference>> sourceReferences = new ArrayList<>();
+
+        for (NodeId sourceNodeId : sourceNodeIds) {
+            List<Reference> references = nodeManager.getReferences(sourceNodeId);
+
+            if (!references.isEmpty()) {
+                sources.add(sourceNodeId);
+                sourceReferences.add(references);
+            }
+        }
+
+        encoder.writeInt32(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            encoder.writeNodeId(sources.get(i));
+            encoder.writeInt32(sourceReferences.get(i).size());
+
+            for (Reference reference : sourceReferences.get(i)) {
+                encoder.writeNodeId(reference.getReferenceTypeId());
+                encoder.writeExpandedNodeId(reference.getTargetNodeId());
+                encoder.writeBoolean(reference.isForward());
+            }
+        }
+    }
+
+    private static void writeNode(OpcUaBinaryStreamEncoder encoder, UaNode node) {
+        encoder.writeQualifiedName(node.getBrowseName());
+        encoder.writeLocalizedText(node.getDisplayName());
+        encoder.writeLocalizedText(node.getDescription());
+        encoder.writeUInt32(node.getWriteMask());
+        encoder.writeUInt32(node.getUserWriteMask());
+
+        switch (node.getNodeClass()) {
+            case Object: {
+                UaObjectNode objectNode = (UaObjectNode) node;
+                encoder.writeByte(objectNode.getEventNotifier());
+                break;
+            }
+
+            case Variable: {
+                // Only the Variant is written; the loaded DataValue is timestamped when it's created, the same as
+                // the generated loaders do.
+                UaVariableNode variableNode = (UaVariableNode) node;
+                encoder.writeVariant(variableNode.getValue().getValue());
+                encoder.writeNodeId(variableNode.getDataType());
+                encoder.writeInt32(variableNode.getValueRank());
+                encoder.writeUInt32Array(null, variableNode.getArrayDimensions());
+                encoder.writeByte(variableNode.getAccessLevel());
+                encoder.writeByte(variableNode.getUserAccessLevel());
+                encoder.writeDouble(variableNode.getMinimumSamplingInterval());
+                encoder.writeBoolean(variableNode.getHistorizing());
+                break;
+            }
+
+            case Method: {
+                UaMethodNode methodNode = (UaMethodNode) node;
+                encoder.writeBoolean(methodNode.isExecutable());
+                encoder.writeBoolean(methodNode.isUserExecutable());
+                break;
+            }
+
+            case ObjectType: {
+                UaObjectTypeNode objectTypeNode = (UaObjectTypeNode) node;
+                encoder.writeBoolean(objectTypeNode.getIsAbstract());
+                break;
+            }
+
+            case VariableType: {
+                UaVariableTypeNode variableTypeNode = (UaVariableTypeNode) node;
+                encoder.writeVariant(variableTypeNode.getValue().getValue());
+                encoder.writeNodeId(variableTypeNode.getDataType());
+                encoder.writeInt32(variableTypeNode.getValueRank());
+                encoder.writeUInt32Array(null, variableTypeNode.getArrayDimensions());
+                encoder.writeBoolean(variableTypeNode.getIsAbstract());
+                break;
+            }
+
+            case ReferenceType: {
+                UaReferenceTypeNode referenceTypeNode = (UaReferenceTypeNode) node;
+                encoder.writeBoolean(referenceTypeNode.getIsAbstract());
+                encoder.writeBoolean(referenceTypeNode.getSymmetric());
+                encoder.writeLocalizedText(referenceTypeNode.getInverseName());
+                break;
+            }
+
+            case DataType: {
+                UaDataTypeNode dataTypeNode = (UaDataTypeNode) node;
+                encoder.writeBoolean(dataTypeNode.getIsAbstract());
+                break;
+            }
+
+            case View: {
+                UaViewNode viewNode = (UaViewNode) node;
+                encoder.writeBoolean(viewNode.getContainsNoLoops());
+                encoder.writeByte(viewNode.getEventNotifier());
+                break;
+            }
+
+            default:
+                throw new IllegalArgumentException("nodeClass: " + node.getNodeClass());
+        }
+    }
+
+    /**
+     * Load namespace 0 with the generated {@link NodeLoader} classes and write it as a snapshot.
+     *
+     * @param args the path to write the snapshot to, normally {@link NodeSnapshotLoader#RESOURCE_NAME} in this
+     *             package's directory under the build's output directory.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("usage: NodeSnapshotWriter <output>");
+        }
+
+        Path output = Paths.get(args[0]);
+
+        OpcUaServer server = new OpcUaServer(OpcUaServerConfig.builder().build());
+
+        UaNodeManager nodeManager = new UaNodeManager();
+
+        UaNodeContext context = new UaNodeContext() {
+            @Override
+            public OpcUaServer getServer() {
+                return server;
+            }
+
+            @Override
+            public NodeManager<UaNode> getNodeManager() {
+                return nodeManager;
+            }
+        };
+
+        new NodeLoader(context, nodeManager).loadNodes();
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+
+        try (OutputStream outputStream = Files.newOutputStream(output)) {
+            new NodeSnapshotWriter(server.getSerializationContext()).write(nodeManager, outputStream);
+        }
+
+        System.out.printf("Wrote %d nodes to %s%n", nodeManager.getNodes().size(), output.toAbsolutePath());
+
+        Stack.releaseSharedResources();
+    }
+
+}
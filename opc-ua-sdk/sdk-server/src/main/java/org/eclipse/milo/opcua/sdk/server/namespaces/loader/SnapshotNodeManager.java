@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.namespaces.loader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.netty.buffer.ByteBuf;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link UaNodeManager} that {@link NodeSnapshotLoader} fills with pending nodes, which are only decoded from the
+ * snapshot the first time they're looked up.
+ * <p>
+ * Pending nodes are reported by {@link #containsNode(NodeId)} and {@link #getNodeIds()} without being decoded;
+ * {@link #getNodes()} decodes every node that is still pending. References are always loaded up front.
+ */
+public class SnapshotNodeManager extends UaNodeManager {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ConcurrentMap<NodeId, Supplier<UaNode>> pendingNodes = new ConcurrentHashMap<>();
+
+    /**
+     * The snapshots the pending nodes are decoded from, released once there are no pending nodes left. Guarded by
+     * {@link #pendingNodes}.
+     */
+    private final List<ByteBuf> snapshotBuffers = new ArrayList<>();
+
+    private volatile Consumer<UaNode> nodeInitializer = node -> {};
+
+    /**
+     * Set a callback that is applied to every node decoded from the snapshot, before it's visible to anyone else.
+     *
+     * @param nodeInitializer the callback to apply to each node as it's decoded.
+     */
+    public void setNodeInitializer(Consumer<UaNode> nodeInitializer) {
+        this.nodeInitializer = nodeInitializer;
+    }
+
+    /**
+     * Get a copied List of the nodes that have been added or decoded so far, without decoding any pending nodes.
+     *
+     * @return a copied List of the nodes that have been added or decoded so far.
+     */
+    public List<UaNode> getMaterializedNodes() {
+        return super.getNodes();
+    }
+
+    /**
+     * Add a node that is created by {@code supplier} the first time it's looked up.
+     *
+     * @param nodeId   the {@link NodeId} of the node.
+     * @param supplier creates the node; called at most once.
+     */
+    void addPendingNode(NodeId nodeId, Supplier<UaNode> supplier) {
+        pendingNodes.put(nodeId, supplier);
+    }
+
+    /**
+     * Hold on to the snapshot the pending nodes are decoded from until all of them have been decoded or removed.
+     *
+     * @param buffer a retained {@link ByteBuf} containing the snapshot; released by this {@link SnapshotNodeManager}.
+     */
+    void addSnapshotBuffer(ByteBuf buffer) {
+        synchronized (pendingNodes) {
+            snapshotBuffers.add(buffer);
+
+            releaseSnapshotBuffersIfDone();
+        }
+    }
+
+    @Override
+    public List<UaNode> getNodes() {
+        if (!pendingNodes.isEmpty()) {
+            new ArrayList<>(pendingNodes.keySet()).forEach(this::materialize);
+        }
+
+        return super.getNodes();
+    }
+
+    @Override
+    public List<NodeId> getNodeIds() {
+        List<NodeId> nodeIds = super.getNodeIds();
+        nodeIds.addAll(pendingNodes.keySet());
+        return nodeIds;
+    }
+
+    @Override
+    public boolean containsNode(NodeId nodeId) {
+        return super.containsNode(nodeId) || pendingNodes.containsKey(nodeId);
+    }
+
+    @Override
+    public Optional<UaNode> addNode(UaNode node) {
+        synchronized (pendingNodes) {
+            if (pendingNodes.remove(node.getNodeId()) != null) {
+                releaseSnapshotBuffersIfDone();
+            }
+
+            return super.addNode(node);
+        }
+    }
+
+    @Override
+    public Optional<UaNode> getNode(NodeId nodeId) {
+        UaNode node = getNodeMap().get(nodeId);
+
+        if (node == null && !pendingNodes.isEmpty()) {
+            node = materialize(nodeId);
+        }
+
+        return Optional.ofNullable(node);
+    }
+
+    @Override
+    public Optional<UaNode> removeNode(NodeId nodeId) {
+        synchronized (pendingNodes) {
+            materialize(nodeId);
+
+            return super.removeNode(nodeId);
+        }
+    }
+
+    @Nullable
+    private UaNode materialize(NodeId nodeId) {
+        synchronized (pendingNodes) {
+            UaNode node = getNodeMap().get(nodeId);
+
+            if (node == null) {
+                Supplier<UaNode> supplier = pendingNodes.get(nodeId);
+
+                if (supplier != null) {
+                    try {
+                        node = supplier.get();
+
+                        nodeInitializer.accept(node);
+
+                        getNodeMap().put(nodeId, node);
+                    } catch (RuntimeException e) {
+                        logger.error("Error loading node {} from snapshot.", nodeId, e);
+
+                        node = null;
+                    } finally {
+                        pendingNodes.remove(nodeId);
+
+                        releaseSnapshotBuffersIfDone();
+                    }
+                }
+            }
+
+            return node;
+        }
+    }
+
+    private void releaseSnapshotBuffersIfDone() {
+        if (pendingNodes.isEmpty()) {
+            snapshotBuffers.forEach(ByteBuf::release);
+            snapshotBuffers.clear();
+        }
+    }
+
+}
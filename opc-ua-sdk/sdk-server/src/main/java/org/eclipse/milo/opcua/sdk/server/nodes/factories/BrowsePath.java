@@ -10,6 +10,8 @@
 
 package org.eclipse.milo.opcua.sdk.server.nodes.factories;
 
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
 
 import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
@@ -29,6 +31,21 @@ public class BrowsePath {
         this.browseName = browseName;
     }
 
+    /**
+     * Get the browse names of the components of this browse path, starting below the root.
+     *
+     * @return the browse names of the components of this browse path, starting below the root.
+     */
+    public List<QualifiedName> getBrowseNames() {
+        LinkedList<QualifiedName> browseNames = new LinkedList<>();
+
+        for (BrowsePath path = this; path.parent != null; path = path.parent) {
+            browseNames.addFirst(path.browseName);
+        }
+
+        return browseNames;
+    }
+
     /**
      * Joins the components of this browse path with "/" as the separator.
      *
@@ -10,6 +10,11 @@
 
 package org.eclipse.milo.opcua.sdk.server.nodes.factories;
 
+import java.util.Map;
+import java.util.UUID;
+
+import com.google.common.collect.Maps;
+import org.eclipse.milo.opcua.sdk.core.Reference;
 import org.eclipse.milo.opcua.sdk.core.nodes.ObjectNode;
 import org.eclipse.milo.opcua.sdk.core.nodes.ObjectTypeNode;
 import org.eclipse.milo.opcua.sdk.server.AbstractLifecycle;
@@ -18,17 +23,24 @@ import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
 import org.eclipse.milo.opcua.sdk.server.VariableTypeManager;
 import org.eclipse.milo.opcua.sdk.server.api.NodeManager;
+import org.eclipse.milo.opcua.sdk.server.events.EventTypeLayout;
+import org.eclipse.milo.opcua.sdk.server.events.FlyweightEvent;
 import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
 import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
 import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
 import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
 
 public class EventFactory extends AbstractLifecycle {
 
     private final NodeManager<UaNode> nodeManager = new UaNodeManager();
 
+    private final Map<NodeId, EventTypeLayout> layouts = Maps.newConcurrentMap();
+
     private final OpcUaServer server;
     private final NodeFactory nodeFactory;
 
@@ -89,6 +101,80 @@ public class EventFactory extends AbstractLifecycle {
         );
     }
 
+    /**
+     * Create an Event instance with the type and field values of {@code event}, for consumers that only handle
+     * {@link BaseEventTypeNode}s.
+     * <p>
+     * The Event Node gets a new, unique {@link NodeId}, so the same event can be converted more than once at the same
+     * time. It must be deleted by the caller once it is no longer needed.
+     *
+     * @param event the {@link FlyweightEvent} to convert.
+     * @return an Event {@link ObjectNode} instance holding the field values of {@code event}.
+     * @throws UaException if an error occurs creating the Event instance.
+     */
+    public BaseEventTypeNode createEvent(FlyweightEvent event) throws UaException {
+        NodeId nodeId = new NodeId(event.getNodeId().getNamespaceIndex(), UUID.randomUUID());
+
+        BaseEventTypeNode eventNode = createEvent(nodeId, event.getEventTypeId());
+
+        EventTypeLayout layout = event.getLayout();
+
+        for (int i = 0; i < layout.getFieldCount(); i++) {
+            Variant value = event.getFieldValue(i);
+
+            if (value == null || value.isNull()) continue;
+
+            UaNode node = eventNode;
+
+            for (QualifiedName browseName : layout.getBrowsePath(i)) {
+                node = node != null ? node.findNode(browseName, Reference::isForward).orElse(null) : null;
+            }
+
+            if (node instanceof UaVariableNode) {
+                ((UaVariableNode) node).setValue(new DataValue(value));
+            }
+        }
+
+        return eventNode;
+    }
+
+    /**
+     * Create a {@link FlyweightEvent} of the type identified by {@code typeDefinitionId}.
+     * <p>
+     * Unlike {@link #createEvent(NodeId, NodeId)}, no Nodes are created, and the event does not need to be deleted.
+     * Every field, optional or not, is present and starts with the value of its instance declaration.
+     *
+     * @param nodeId           the {@link NodeId} of the event.
+     * @param typeDefinitionId the {@link NodeId} of the {@link ObjectTypeNode} representing the type definition.
+     * @return a {@link FlyweightEvent} instance.
+     * @throws UaException if {@code typeDefinitionId} does not identify an ObjectType.
+     */
+    public FlyweightEvent createFlyweightEvent(NodeId nodeId, NodeId typeDefinitionId) throws UaException {
+        return new FlyweightEvent(nodeId, getLayout(typeDefinitionId));
+    }
+
+    /**
+     * Get the {@link EventTypeLayout} of the type identified by {@code typeDefinitionId}, creating it the first time
+     * it's requested.
+     *
+     * @param typeDefinitionId the {@link NodeId} of the {@link ObjectTypeNode} representing the type definition.
+     * @return the {@link EventTypeLayout} of the type.
+     * @throws UaException if {@code typeDefinitionId} does not identify an ObjectType.
+     */
+    public EventTypeLayout getLayout(NodeId typeDefinitionId) throws UaException {
+        EventTypeLayout layout = layouts.get(typeDefinitionId);
+
+        if (layout == null) {
+            layout = EventTypeLayout.create(server, typeDefinitionId);
+
+            EventTypeLayout existing = layouts.putIfAbsent(typeDefinitionId, layout);
+
+            if (existing != null) layout = existing;
+        }
+
+        return layout;
+    }
+
     private static class EventNodeContext implements UaNodeContext {
 
         private final OpcUaServer server;
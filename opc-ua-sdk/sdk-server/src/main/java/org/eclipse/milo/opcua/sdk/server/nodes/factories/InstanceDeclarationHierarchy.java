@@ -10,7 +10,9 @@
 
 package org.eclipse.milo.opcua.sdk.server.nodes.factories;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -40,6 +42,19 @@ public class InstanceDeclarationHierarchy {
         this.referenceTable = referenceTable;
     }
 
+    /**
+     * Get the NodeIds of the instance declarations in this hierarchy, keyed by their {@link BrowsePath} relative to
+     * the type, in hierarchy order. The type itself, at the root path, is not included.
+     *
+     * @return the NodeIds of the instance declarations in this hierarchy, keyed by their {@link BrowsePath}.
+     */
+    public Map<BrowsePath, NodeId> getInstanceDeclarations() {
+        Map<BrowsePath, NodeId> instanceDeclarations = new LinkedHashMap<>(nodeTable.nodes);
+        instanceDeclarations.keySet().removeIf(browsePath -> browsePath.parent == null);
+
+        return instanceDeclarations;
+    }
+
     NodeTable getNodeTable() {
         return nodeTable;
     }
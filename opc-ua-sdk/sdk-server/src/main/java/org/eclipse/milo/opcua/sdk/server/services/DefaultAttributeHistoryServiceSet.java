@@ -72,7 +72,8 @@ public class DefaultAttributeHistoryServiceSet implements AttributeHistoryServic
         HistoryReadContext context = new HistoryReadContext(
             server,
             session,
-            diagnosticsContext
+            diagnosticsContext,
+            Boolean.TRUE.equals(request.getReleaseContinuationPoints())
         );
 
         HistoryReadDetails details = (HistoryReadDetails) request.getHistoryReadDetails().decode(
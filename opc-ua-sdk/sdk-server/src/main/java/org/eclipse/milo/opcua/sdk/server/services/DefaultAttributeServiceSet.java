@@ -17,6 +17,7 @@ import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.Session;
 import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices.ReadContext;
 import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices.WriteContext;
+import org.eclipse.milo.opcua.sdk.server.util.AttributeValueCache;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
@@ -68,12 +69,23 @@ public class DefaultAttributeServiceSet implements AttributeServiceSet {
 
         ReadContext context = new ReadContext(server, session, diagnosticsContext);
 
-        server.getAddressSpaceManager().read(
-            context,
-            request.getMaxAge(),
-            request.getTimestampsToReturn(),
-            nodesToRead
-        );
+        AttributeValueCache valueCache = server.getAttributeValueCache();
+
+        if (request.getMaxAge() > 0d && valueCache.isEnabled()) {
+            valueCache.read(
+                context,
+                request.getMaxAge(),
+                request.getTimestampsToReturn(),
+                nodesToRead
+            );
+        } else {
+            server.getAddressSpaceManager().read(
+                context,
+                request.getMaxAge(),
+                request.getTimestampsToReturn(),
+                nodesToRead
+            );
+        }
 
         context.getFuture().thenAccept(values -> {
             ResponseHeader header = service.createResponseHeader();
@@ -118,6 +130,15 @@ public class DefaultAttributeServiceSet implements AttributeServiceSet {
             new DiagnosticsContext<>()
         );
 
+        AttributeValueCache valueCache = server.getAttributeValueCache();
+
+        if (valueCache.isEnabled()) {
+            // Invalidate once the write has completed so a read or sample racing with it can't re-cache the old value.
+            context.getFuture().whenComplete(
+                (values, ex) -> nodesToWrite.forEach(writeValue -> valueCache.invalidate(writeValue.getNodeId()))
+            );
+        }
+
         server.getAddressSpaceManager().write(context, nodesToWrite);
 
         context.getFuture().thenAccept(values -> {
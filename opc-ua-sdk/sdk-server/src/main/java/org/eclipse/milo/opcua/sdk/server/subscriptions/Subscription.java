@@ -17,7 +17,9 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -81,6 +83,11 @@ public class Subscription {
     private final AtomicLong itemIds = new AtomicLong(1L);
     private final Map<UInteger, BaseMonitoredItem<?>> itemsById = Maps.newConcurrentMap();
 
+    /**
+     * Items that have enqueued a value or been triggered since they were last checked for notifications.
+     */
+    private final Queue<BaseMonitoredItem<?>> readyItems = new ConcurrentLinkedQueue<>();
+
     private final AtomicReference<State> state = new AtomicReference<>(State.Normal);
     private final AtomicReference<StateListener> stateListener = new AtomicReference<>();
 
@@ -169,6 +176,8 @@ public class Subscription {
         if (sf != null) sf.cancel(false);
         publishingTimer = null;
 
+        itemsById.values().forEach(BaseMonitoredItem::onDeleted);
+
         logger.debug("[id={}] subscription deleted.", subscriptionId);
 
         return Lists.newArrayList(itemsById.values());
@@ -194,6 +203,7 @@ public class Subscription {
     public synchronized void addMonitoredItems(List<BaseMonitoredItem<?>> createdItems) {
         for (BaseMonitoredItem<?> item : createdItems) {
             itemsById.put(item.getId(), item);
+            item.setSubscription(this);
         }
 
         resetLifetimeCounter();
@@ -204,6 +214,7 @@ public class Subscription {
     public synchronized void removeMonitoredItems(List<BaseMonitoredItem<?>> deletedItems) {
         for (BaseMonitoredItem<?> item : deletedItems) {
             itemsById.remove(item.getId());
+            item.onDeleted();
         }
 
         resetLifetimeCounter();
@@ -215,6 +226,18 @@ public class Subscription {
         return itemsById;
     }
 
+    /**
+     * Called by a {@link BaseMonitoredItem} belonging to this Subscription when it has notifications to report or
+     * has been triggered.
+     * <p>
+     * Only items that have called this since the last publishing cycle are examined when gathering notifications.
+     *
+     * @param item the {@link BaseMonitoredItem} that is ready.
+     */
+    public void onItemReady(BaseMonitoredItem<?> item) {
+        readyItems.add(item);
+    }
+
     /**
      * Given the requested publishing interval, set it to something reasonable.
      *
@@ -431,9 +454,14 @@ public class Subscription {
 
         lastIterator.forEachRemaining(items::add);
 
-        itemsById.values().stream()
-            .filter(item -> item.hasNotifications() || item.isTriggered())
-            .forEach(items::add);
+        BaseMonitoredItem<?> item;
+        while ((item = readyItems.poll()) != null) {
+            item.resetReady();
+
+            if (itemsById.get(item.getId()) == item && (item.hasNotifications() || item.isTriggered())) {
+                items.add(item);
+            }
+        }
 
         PeekingIterator<BaseMonitoredItem<?>> iterator = Iterators.peekingIterator(items.iterator());
 
@@ -580,8 +608,27 @@ public class Subscription {
     }
 
     private boolean notificationsAvailable() {
-        return itemsById.values().stream()
-            .anyMatch(item -> item.hasNotifications() || item.isTriggered());
+        Iterator<BaseMonitoredItem<?>> iterator = readyItems.iterator();
+
+        while (iterator.hasNext()) {
+            BaseMonitoredItem<?> item = iterator.next();
+
+            if (item.hasNotifications() || item.isTriggered()) {
+                return true;
+            } else {
+                // Nothing to report, e.g. the item is sampling but not reporting; drop it
+                // from the ready queue, re-checking afterwards in case it became ready again.
+                iterator.remove();
+                item.resetReady();
+
+                if (item.hasNotifications() || item.isTriggered()) {
+                    item.notifyReady();
+                    return true;
+                }
+            }
+        }
+
+        return false;
     }
 
     private void setState(State state) {
@@ -598,6 +645,11 @@ public class Subscription {
         if (state == State.Late) {
             subscriptionDiagnostics.getLatePublishRequestCount().increment();
         }
+
+        if (state == State.Closing && previousState != State.Closing) {
+            // The lifetime expired; this Subscription and its items are deleted.
+            itemsById.values().forEach(BaseMonitoredItem::onDeleted);
+        }
     }
 
     public UInteger getId() {
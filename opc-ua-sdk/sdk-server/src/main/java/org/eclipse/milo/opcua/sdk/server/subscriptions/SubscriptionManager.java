@@ -619,14 +619,18 @@ public class SubscriptionManager {
                 }
 
                 if (deadbandType == DeadbandType.Percent) {
-                    // Percent deadband is not currently implemented
-                    throw new UaException(StatusCodes.Bad_MonitoredItemFilterUnsupported);
+                    Double deadbandValue = filter.getDeadbandValue();
+
+                    // Percent deadband is a percentage of the EURange, resolved when the filter is installed
+                    if (deadbandValue == null || deadbandValue < 0.0 || deadbandValue > 100.0) {
+                        throw new UaException(StatusCodes.Bad_DeadbandFilterInvalid);
+                    }
                 }
 
-                if (deadbandType == DeadbandType.Absolute &&
+                if (deadbandType != DeadbandType.None &&
                     !AttributeId.Value.isEqual(attributeId)) {
 
-                    // Absolute deadband is only allowed for Value attributes
+                    // Deadbands are only allowed for Value attributes
                     throw new UaException(StatusCodes.Bad_FilterNotAllowed);
                 }
 
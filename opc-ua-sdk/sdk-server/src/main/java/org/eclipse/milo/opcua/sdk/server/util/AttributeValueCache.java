@@ -0,0 +1,442 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Maps;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices.ReadContext;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A cache of attribute values, read through the server's {@link
+ * org.eclipse.milo.opcua.sdk.server.api.AddressSpaceManager}, used to satisfy Read requests with a non-zero maxAge.
+ * <p>
+ * Entries are keyed by {@link ReadValueId} and by the identity object of the {@link Session} the value was read on,
+ * so a value is only ever shared between sessions whose identities are equal and therefore see the same access
+ * rights. Concurrent misses for the same key are coalesced into a single read.
+ * <p>
+ * The cache holds up to {@link
+ * org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfigLimits#getMaxCachedValueNodes()} Nodes, evicting the
+ * least recently used. A value's age is measured from its ServerTimestamp, or from when it was cached if it has
+ * none. Each value expires {@code maxAgeMillis} after it was read, independently of the other values cached for the
+ * same Node; values written through the Write service invalidate the Node's entries once the write has completed.
+ * <p>
+ * Invalidating a Node bumps its generation. A value is only cached if its Node's generation didn't change while it
+ * was being read, so a read that started before a write and finished after it can't cache the value it saw.
+ */
+public class AttributeValueCache {
+
+    private static final Object NO_IDENTITY = new Object();
+
+    /**
+     * Generations are tracked per stripe of Nodes rather than per Node so they take a fixed amount of memory;
+     * Nodes that share a stripe only cost each other a skipped put.
+     */
+    private static final int GENERATION_STRIPES = 256;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong allGeneration = new AtomicLong(0L);
+
+    private final ConcurrentMap<CacheKey, PendingRead> pendingReads = Maps.newConcurrentMap();
+
+    private final Cache<NodeId, ConcurrentMap<CacheKey, CachedValue>> cache;
+
+    private final OpcUaServer server;
+    private final long maxSize;
+    private final long maxAgeNanos;
+
+    public AttributeValueCache(OpcUaServer server, long maxSize, long maxAgeMillis) {
+        this.server = server;
+        this.maxSize = maxSize;
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(maxAgeMillis, 0L));
+
+        // Values expire individually; this only drops the entries of Nodes that are no longer being read.
+        cache = CacheBuilder.newBuilder()
+            .maximumSize(Math.max(maxSize, 0L))
+            .expireAfterAccess(maxAgeNanos, TimeUnit.NANOSECONDS)
+            .build();
+    }
+
+    /**
+     * @return {@code true} if this cache has a non-zero size and should be consulted.
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Read {@code readValueIds}, returning cached values no older than {@code maxAge} and reading the rest through
+     * the server's {@link org.eclipse.milo.opcua.sdk.server.api.AddressSpaceManager}.
+     * <p>
+     * Complete {@code context} with the values, in the same order as {@code readValueIds}.
+     *
+     * @param context      the {@link ReadContext}.
+     * @param maxAge       the maximum age, in milliseconds, of a cached value that may be returned.
+     * @param timestamps   requested timestamp values.
+     * @param readValueIds the values to read.
+     */
+    public void read(
+        ReadContext context,
+        double maxAge,
+        TimestampsToReturn timestamps,
+        List<ReadValueId> readValueIds
+    ) {
+
+        Session session = context.getSession().orElse(null);
+        Object identity = identityOf(session);
+        long now = System.nanoTime();
+        long maxAgeNanos = TimeUnit.NANOSECONDS.convert(Math.round(maxAge), TimeUnit.MILLISECONDS);
+
+        List<CompletableFuture<DataValue>> futures = new ArrayList<>(readValueIds.size());
+        Map<ReadValueId, PendingRead> misses = new LinkedHashMap<>();
+
+        for (ReadValueId readValueId : readValueIds) {
+            CacheKey key = new CacheKey(identity, readValueId);
+            CachedValue cached = getCachedValue(key, now);
+
+            if (cached != null && now - cached.timestamp <= maxAgeNanos) {
+                hitCount.increment();
+
+                futures.add(CompletableFuture.completedFuture(cached.value));
+            } else {
+                missCount.increment();
+
+                // Capture the generation before the read is issued; a pending read issued before the Node was
+                // invalidated may return the old value, so it's replaced rather than joined.
+                long generation = generation(readValueId.getNodeId());
+
+                PendingRead pending = pendingReads.get(key);
+
+                while (pending == null || pending.generation != generation) {
+                    PendingRead p = new PendingRead(generation);
+
+                    boolean issued = pending == null ?
+                        pendingReads.putIfAbsent(key, p) == null :
+                        pendingReads.replace(key, pending, p);
+
+                    if (issued) {
+                        pending = p;
+                        misses.put(readValueId, p);
+                    } else {
+                        pending = pendingReads.get(key);
+                    }
+                }
+
+                futures.add(pending.future);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            ReadContext missContext = new ReadContext(server, session, context.getDiagnosticsContext());
+
+            try {
+                server.getAddressSpaceManager().read(
+                    missContext,
+                    0.0,
+                    TimestampsToReturn.Both,
+                    new ArrayList<>(misses.keySet())
+                );
+            } catch (Throwable t) {
+                // fail the pending reads rather than leave them for later Reads to join
+                missContext.getFuture().completeExceptionally(t);
+            }
+
+            missContext.getFuture().whenComplete((values, ex) -> {
+                Iterator<Map.Entry<ReadValueId, PendingRead>> mi = misses.entrySet().iterator();
+                Iterator<DataValue> vi = values != null ? values.iterator() : null;
+
+                while (mi.hasNext()) {
+                    Map.Entry<ReadValueId, PendingRead> entry = mi.next();
+                    CacheKey key = new CacheKey(identity, entry.getKey());
+                    PendingRead pending = entry.getValue();
+
+                    if (vi != null && vi.hasNext()) {
+                        DataValue value = vi.next();
+                        put(key, value, pending.generation);
+                        pendingReads.remove(key, pending);
+                        pending.future.complete(value);
+                    } else {
+                        pendingReads.remove(key, pending);
+                        pending.future.completeExceptionally(
+                            ex != null ? ex : new IllegalStateException("missing read result")
+                        );
+                    }
+                }
+            });
+        }
+
+        FutureUtils.sequence(futures).whenComplete((values, ex) -> {
+            if (values != null) {
+                List<DataValue> results = new ArrayList<>(values.size());
+
+                for (int i = 0; i < values.size(); i++) {
+                    results.add(derive(readValueIds.get(i), values.get(i), timestamps));
+                }
+
+                context.success(results);
+            } else {
+                context.getFuture().completeExceptionally(ex);
+            }
+        });
+    }
+
+    /**
+     * Store a value that was read on {@code session} with {@link TimestampsToReturn#Both}, e.g. by sampling for a
+     * monitored item.
+     *
+     * @param session     the {@link Session} the value was read on, or {@code null} if it was read without one.
+     * @param readValueId the {@link ReadValueId} that was read.
+     * @param value       the {@link DataValue} that was read.
+     */
+    public void put(@Nullable Session session, ReadValueId readValueId, DataValue value) {
+        if (isEnabled()) {
+            CacheKey key = new CacheKey(identityOf(session), readValueId);
+
+            put(key, value, generation(readValueId.getNodeId()));
+        }
+    }
+
+    /**
+     * Store a value that was read on {@code session} with {@link TimestampsToReturn#Both}, unless the Node it was
+     * read from has been invalidated since {@code generation} was obtained from {@link #getGeneration(NodeId)}.
+     *
+     * @param session     the {@link Session} the value was read on, or {@code null} if it was read without one.
+     * @param readValueId the {@link ReadValueId} that was read.
+     * @param value       the {@link DataValue} that was read.
+     * @param generation  the generation of the Node obtained before the read was issued.
+     */
+    public void put(@Nullable Session session, ReadValueId readValueId, DataValue value, long generation) {
+        if (isEnabled()) {
+            put(new CacheKey(identityOf(session), readValueId), value, generation);
+        }
+    }
+
+    /**
+     * Get the current generation of the Node identified by {@code nodeId}, to be obtained before issuing a read
+     * whose result is passed to {@link #put(Session, ReadValueId, DataValue, long)}.
+     *
+     * @param nodeId the {@link NodeId} of the Node.
+     * @return the current generation of the Node.
+     */
+    public long getGeneration(NodeId nodeId) {
+        return generation(nodeId);
+    }
+
+    /**
+     * Discard all cached attribute values for the Node identified by {@code nodeId}.
+     *
+     * @param nodeId the {@link NodeId} of the Node to invalidate.
+     */
+    public void invalidate(NodeId nodeId) {
+        generations.incrementAndGet(stripe(nodeId));
+        cache.invalidate(nodeId);
+    }
+
+    /**
+     * Discard all cached attribute values.
+     */
+    public void invalidateAll() {
+        allGeneration.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return the number of read operations satisfied from the cache.
+     */
+    public LongAdder getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of read operations that had to go to the address space.
+     */
+    public LongAdder getMissCount() {
+        return missCount;
+    }
+
+    private void put(CacheKey key, DataValue value, long generation) {
+        NodeId nodeId = key.readValueId.getNodeId();
+
+        if (generation(nodeId) != generation) return;
+
+        ConcurrentMap<CacheKey, CachedValue> values = cache.getIfPresent(nodeId);
+
+        if (values == null) {
+            values = Maps.newConcurrentMap();
+
+            ConcurrentMap<CacheKey, CachedValue> existing = cache.asMap().putIfAbsent(nodeId, values);
+            if (existing != null) values = existing;
+        }
+
+        long now = System.nanoTime();
+
+        values.values().removeIf(cached -> cached.isExpired(now, maxAgeNanos));
+
+        CachedValue cachedValue = new CachedValue(value, readTime(value, now));
+        values.put(key, cachedValue);
+
+        // The Node may have been invalidated after the generation check but before the put.
+        if (generation(nodeId) != generation) {
+            values.remove(key, cachedValue);
+        }
+    }
+
+    /**
+     * Get the time, on the {@link System#nanoTime()} clock, {@code value} was read at: its server timestamp if it has
+     * one, so a value that was already old when it was cached isn't served past a client's maxAge, otherwise
+     * {@code now}.
+     */
+    private static long readTime(DataValue value, long now) {
+        DateTime serverTime = value.getServerTime();
+
+        if (serverTime != null && !serverTime.isNull()) {
+            long ageMillis = System.currentTimeMillis() - serverTime.getJavaTime();
+
+            return now - TimeUnit.MILLISECONDS.toNanos(Math.max(ageMillis, 0L));
+        } else {
+            return now;
+        }
+    }
+
+    private long generation(NodeId nodeId) {
+        // Both counters only ever increase, so their sum changes whenever either of them does.
+        return generations.get(stripe(nodeId)) + allGeneration.get();
+    }
+
+    private static int stripe(NodeId nodeId) {
+        return (nodeId.hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+    }
+
+    @Nullable
+    private CachedValue getCachedValue(CacheKey key, long now) {
+        ConcurrentMap<CacheKey, CachedValue> values = cache.getIfPresent(key.readValueId.getNodeId());
+        CachedValue cached = values != null ? values.get(key) : null;
+
+        if (cached != null && cached.isExpired(now, maxAgeNanos)) {
+            values.remove(key, cached);
+            return null;
+        } else {
+            return cached;
+        }
+    }
+
+    private static Object identityOf(@Nullable Session session) {
+        if (session != null) {
+            Object identity = session.getIdentityObject();
+
+            return identity != null ? identity : session.getSessionId();
+        } else {
+            return NO_IDENTITY;
+        }
+    }
+
+    /**
+     * Derive the value to return from a cached value that was read with {@link TimestampsToReturn#Both}, keeping the
+     * server timestamp it was originally read with.
+     */
+    private static DataValue derive(ReadValueId readValueId, DataValue value, TimestampsToReturn timestamps) {
+        boolean includeSource = timestamps == TimestampsToReturn.Source || timestamps == TimestampsToReturn.Both;
+        boolean includeServer = timestamps == TimestampsToReturn.Server || timestamps == TimestampsToReturn.Both;
+
+        if (!AttributeId.Value.isEqual(readValueId.getAttributeId())) {
+            includeSource = false;
+        }
+
+        return new DataValue(
+            value.getValue(),
+            value.getStatusCode(),
+            includeSource ? value.getSourceTime() : null,
+            includeSource ? value.getSourcePicoseconds() : null,
+            includeServer ? value.getServerTime() : null,
+            includeServer ? value.getServerPicoseconds() : null
+        );
+    }
+
+    private static final class CacheKey {
+
+        private final Object identity;
+        private final ReadValueId readValueId;
+
+        private CacheKey(Object identity, ReadValueId readValueId) {
+            this.identity = identity;
+            this.readValueId = readValueId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CacheKey cacheKey = (CacheKey) o;
+            return identity.equals(cacheKey.identity) && readValueId.equals(cacheKey.readValueId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(identity, readValueId);
+        }
+
+    }
+
+    private static final class PendingRead {
+
+        private final CompletableFuture<DataValue> future = new CompletableFuture<>();
+
+        private final long generation;
+
+        private PendingRead(long generation) {
+            this.generation = generation;
+        }
+
+    }
+
+    private static final class CachedValue {
+
+        private final DataValue value;
+        private final long timestamp;
+
+        private CachedValue(DataValue value, long timestamp) {
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+
+        private boolean isExpired(long now, long maxAgeNanos) {
+            return now - timestamp > maxAgeNanos;
+        }
+
+    }
+
+}
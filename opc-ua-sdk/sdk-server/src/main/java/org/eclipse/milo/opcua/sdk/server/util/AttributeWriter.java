@@ -13,6 +13,7 @@ package org.eclipse.milo.opcua.sdk.server.util;
 import java.util.Optional;
 import java.util.Set;
 
+import com.google.common.primitives.Primitives;
 import org.eclipse.milo.opcua.sdk.core.AccessLevel;
 import org.eclipse.milo.opcua.sdk.core.NumericRange;
 import org.eclipse.milo.opcua.sdk.core.Reference;
@@ -228,8 +229,9 @@ public class AttributeWriter {
             }
         }
 
+        // primitive arrays are accepted wherever the boxed type is expected
         Class<?> valueClass = o.getClass().isArray() ?
-            ArrayUtil.getType(o) : o.getClass();
+            Primitives.wrap(ArrayUtil.getType(o)) : o.getClass();
 
         Class<?> expectedClass = getExpectedClass(server, dataType, valueClass);
 
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A bounded FIFO queue for many producers and a single consumer that never blocks.
+ * <p>
+ * The number of elements is reserved with a compare-and-set before an element is linked in, so concurrent producers
+ * can't exceed {@link #maxSize()}. A producer that finds the queue full instead makes room according to the queue's
+ * discard policy: with {@code discardOldest} the oldest element is dropped, otherwise the newest element is replaced.
+ * <p>
+ * Elements are linked nodes, so a queue with a large maximum size that rarely holds more than a few elements only
+ * pays for what it uses.
+ * <p>
+ * An optional {@link LongAdder} can be supplied that is kept up to date with the number of elements in the queue, so
+ * that several queues can share a running total.
+ */
+public class BoundedQueue<E> {
+
+    /**
+     * The value of {@link #count} once the queue has been closed.
+     */
+    private static final int CLOSED = Integer.MIN_VALUE;
+
+    private final ConcurrentLinkedDeque<E> elements = new ConcurrentLinkedDeque<>();
+
+    /**
+     * The number of elements in the queue, including elements reserved by a producer but not linked in yet, or
+     * {@link #CLOSED}.
+     */
+    private final AtomicInteger count = new AtomicInteger(0);
+
+    private volatile int maxSize;
+    private volatile boolean discardOldest;
+
+    private final LongAdder sizeCounter;
+
+    /**
+     * @param maxSize       the maximum number of elements the queue holds.
+     * @param discardOldest {@code true} to drop the oldest element when adding to a full queue, {@code false} to
+     *                      replace the newest element.
+     * @param sizeCounter   a {@link LongAdder} to add to or subtract from as elements are added, removed, or cleared;
+     *                      may be {@code null}.
+     */
+    public BoundedQueue(int maxSize, boolean discardOldest, @Nullable LongAdder sizeCounter) {
+        this.maxSize = maxSize;
+        this.discardOldest = discardOldest;
+        this.sizeCounter = sizeCounter;
+    }
+
+    /**
+     * Add an element to the queue, dropping the oldest element or replacing the newest element if it's full.
+     * <p>
+     * May be called from any thread. Elements added after the queue was closed are ignored.
+     *
+     * @param e          the element to add.
+     * @param onOverflow applied to {@code e} if the queue is full, to get the element that makes room instead.
+     * @return {@code true} if the queue was full and an element was dropped or replaced.
+     */
+    public boolean add(@NotNull E e, UnaryOperator<E> onOverflow) {
+        while (true) {
+            int n = count.get();
+
+            if (n == CLOSED) {
+                return false;
+            } else if (n < maxSize) {
+                if (count.compareAndSet(n, n + 1)) {
+                    if (sizeCounter != null) sizeCounter.increment();
+
+                    elements.offerLast(e);
+
+                    return false;
+                }
+            } else {
+                E discarded = discardOldest ? elements.pollFirst() : elements.pollLast();
+
+                if (discarded != null) {
+                    elements.offerLast(onOverflow.apply(e));
+
+                    return true;
+                } else {
+                    // Full, but the reserved elements are still being linked in by other producers.
+                    Thread.yield();
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove and return the oldest element.
+     * <p>
+     * Must only be called by the queue's single consumer.
+     *
+     * @return the oldest element, or {@code null} if the queue is empty or closed.
+     */
+    @Nullable
+    public E poll() {
+        return take(true);
+    }
+
+    /**
+     * Remove every element from the queue.
+     */
+    public void clear() {
+        while (take(true) != null) {
+            // keep going
+        }
+    }
+
+    /**
+     * Discard every element and stop accepting new ones. The elements are subtracted from the size counter, and
+     * elements added afterwards are never counted.
+     */
+    public void close() {
+        int n = count.getAndSet(CLOSED);
+
+        if (n != CLOSED) {
+            if (sizeCounter != null) sizeCounter.add(-n);
+
+            elements.clear();
+        }
+    }
+
+    /**
+     * Set the maximum number of elements the queue holds.
+     * <p>
+     * If the queue holds more than {@code maxSize} elements they are discarded according to the discard policy: the
+     * oldest elements with {@code discardOldest}, otherwise the newest elements except for the very newest.
+     *
+     * @param maxSize the maximum number of elements the queue holds.
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+
+        if (discardOldest) {
+            while (count.get() > maxSize && take(true) != null) {
+                // keep going
+            }
+        } else if (count.get() > maxSize) {
+            E newest = elements.pollLast();
+
+            while (count.get() > maxSize && take(false) != null) {
+                // keep going
+            }
+
+            if (newest != null) {
+                elements.offerLast(newest);
+            }
+        }
+    }
+
+    /**
+     * @param discardOldest {@code true} to drop the oldest element when adding to a full queue, {@code false} to
+     *                      replace the newest element.
+     */
+    public void setDiscardOldest(boolean discardOldest) {
+        this.discardOldest = discardOldest;
+    }
+
+    /**
+     * @return {@code true} if the queue is empty (size == 0).
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return The maximum allowed size (number of elements).
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return The current size (number of elements), including elements still being added.
+     */
+    public int size() {
+        return Math.max(count.get(), 0);
+    }
+
+    @Nullable
+    private E take(boolean first) {
+        E e = first ? elements.pollFirst() : elements.pollLast();
+
+        if (e == null) return null;
+
+        while (true) {
+            int n = count.get();
+
+            if (n == CLOSED) {
+                // close() has already discarded it.
+                return null;
+            } else if (count.compareAndSet(n, n - 1)) {
+                if (sizeCounter != null) sizeCounter.decrement();
+
+                return e;
+            }
+        }
+    }
+
+}
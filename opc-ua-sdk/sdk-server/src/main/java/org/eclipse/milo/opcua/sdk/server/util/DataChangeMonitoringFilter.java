@@ -10,99 +10,430 @@
 
 package org.eclipse.milo.opcua.sdk.server.util;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.DataChangeTrigger;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.DeadbandType;
 import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.Range;
+import org.jetbrains.annotations.Nullable;
 
-public class DataChangeMonitoringFilter {
+/**
+ * A {@link DataChangeFilter} prepared for evaluating sampled values.
+ * <p>
+ * The trigger and deadband are resolved once, when the filter is created; a Percent deadband is converted to an
+ * absolute one using the EURange of the monitored item. Values are compared by a {@link ValueComparator} chosen by the
+ * class of the value, so scalar and array values of the built-in types are compared without casts that can fail.
+ * <p>
+ * The deadband applies to the value only. A change in status, or in source timestamp when the trigger is
+ * {@link DataChangeTrigger#StatusValueTimestamp}, passes the filter regardless.
+ */
+public final class DataChangeMonitoringFilter {
 
-    public static boolean filter(DataValue lastValue, DataValue currentValue, DataChangeFilter filter) {
-        return triggerFilter(lastValue, currentValue, filter) && deadbandFilter(lastValue, currentValue, filter);
-    }
+    private static final ClassValue<ValueComparator> COMPARATORS = new ClassValue<ValueComparator>() {
+        @Override
+        protected ValueComparator computeValue(Class<?> type) {
+            return ValueComparator.of(type);
+        }
+    };
 
-    private static boolean triggerFilter(DataValue lastValue, DataValue currentValue, DataChangeFilter filter) {
-        if (lastValue == null) return true;
+    private final DataChangeTrigger trigger;
+    private final boolean deadbandEnabled;
+    private final double deadband;
 
-        DataChangeTrigger trigger = filter.getTrigger();
+    private DataChangeMonitoringFilter(DataChangeTrigger trigger, boolean deadbandEnabled, double deadband) {
+        this.trigger = trigger;
+        this.deadbandEnabled = deadbandEnabled;
+        this.deadband = deadband;
+    }
 
-        if (trigger == DataChangeTrigger.Status) {
-            return statusChanged(lastValue, currentValue);
-        } else if (trigger == DataChangeTrigger.StatusValue) {
-            return valueChanged(lastValue, currentValue) || statusChanged(lastValue, currentValue);
-        } else {
-            // DataChangeTrigger.StatusValueTimestamp
-            return timestampChanged(lastValue, currentValue) ||
-                valueChanged(lastValue, currentValue) ||
-                statusChanged(lastValue, currentValue);
-        }
+    /**
+     * @return the absolute deadband applied to values, or 0 if there is none.
+     */
+    public double getDeadband() {
+        return deadbandEnabled ? deadband : 0.0;
     }
 
-    private static boolean deadbandFilter(DataValue lastValue, DataValue currentValue, DataChangeFilter filter) {
+    /**
+     * @param lastValue    the last value that passed the filter, or {@code null} if there is none.
+     * @param currentValue the newly sampled value.
+     * @return {@code true} if {@code currentValue} should be reported.
+     */
+    public boolean filter(@Nullable DataValue lastValue, DataValue currentValue) {
         if (lastValue == null) return true;
 
-        int index = filter.getDeadbandType().intValue();
-        if (index < 0 || index >= DeadbandType.values().length) return true;
-        DeadbandType deadbandType = DeadbandType.values()[index];
+        if (statusChanged(lastValue, currentValue)) return true;
 
-        if (deadbandType != DeadbandType.Absolute) return true;
+        if (trigger == DataChangeTrigger.Status) return false;
 
-        Object last = lastValue.getValue().getValue();
-        Object current = currentValue.getValue().getValue();
-
-        if (last == null || current == null) {
+        if (trigger == DataChangeTrigger.StatusValueTimestamp && timestampChanged(lastValue, currentValue)) {
             return true;
-        } else if (last.getClass().isArray() && current.getClass().isArray()) {
-            return compareArrayDeadband(last, current, filter.getDeadbandValue());
-        } else {
-            return compareScalarDeadband(last, current, filter.getDeadbandValue());
         }
+
+        return valueChanged(lastValue.getValue().getValue(), currentValue.getValue().getValue());
     }
 
-    private static boolean compareArrayDeadband(Object last, Object current, double deadband) {
-        Object[] lastA = (Object[]) last;
-        Object[] currentA = (Object[]) current;
+    private boolean valueChanged(@Nullable Object last, @Nullable Object current) {
+        if (last == current) return false;
+        if (last == null || current == null) return true;
+        if (last.getClass() != current.getClass()) return true;
 
-        if (lastA.length != currentA.length) {
-            return true;
-        } else {
-            boolean exceeds = false;
+        ValueComparator comparator = COMPARATORS.get(current.getClass());
+
+        return deadbandEnabled ?
+            comparator.exceeds(last, current, deadband) :
+            comparator.changed(last, current);
+    }
 
-            for (int i = 0; i < lastA.length; i++) {
-                exceeds = exceeds || exceedsDeadband(lastA[i], currentA[i], deadband);
+    /**
+     * Create a {@link DataChangeMonitoringFilter} for {@code filter}.
+     *
+     * @param filter  the {@link DataChangeFilter}.
+     * @param euRange the EURange of the monitored item; required if {@code filter} specifies a Percent deadband.
+     * @return a {@link DataChangeMonitoringFilter} for {@code filter}.
+     * @throws IllegalArgumentException if {@code filter} specifies a Percent deadband and {@code euRange} is
+     *                                  {@code null}.
+     */
+    public static DataChangeMonitoringFilter create(DataChangeFilter filter, @Nullable Range euRange) {
+        DataChangeTrigger trigger = filter.getTrigger() != null ?
+            filter.getTrigger() : DataChangeTrigger.StatusValue;
+
+        DeadbandType deadbandType = filter.getDeadbandType() != null ?
+            DeadbandType.from(filter.getDeadbandType().intValue()) : null;
+
+        double deadbandValue = filter.getDeadbandValue() != null ? filter.getDeadbandValue() : 0.0;
+
+        if (deadbandType == DeadbandType.Absolute) {
+            return new DataChangeMonitoringFilter(trigger, true, deadbandValue);
+        } else if (deadbandType == DeadbandType.Percent) {
+            if (euRange == null || euRange.getLow() == null || euRange.getHigh() == null) {
+                throw new IllegalArgumentException("Percent deadband requires an EURange");
             }
 
-            return exceeds;
+            double span = Math.abs(euRange.getHigh() - euRange.getLow());
+
+            return new DataChangeMonitoringFilter(trigger, true, deadbandValue / 100.0 * span);
+        } else {
+            return new DataChangeMonitoringFilter(trigger, false, 0.0);
         }
     }
 
-    private static boolean compareScalarDeadband(Object last, Object current, double deadband) {
-        return exceedsDeadband(last, current, deadband);
-    }
+    /**
+     * Evaluate {@code filter} without preparing it first.
+     * <p>
+     * There is no EURange to apply a Percent deadband with, so Percent deadbands are ignored. Prefer creating a
+     * {@link DataChangeMonitoringFilter} once and reusing it.
+     */
+    public static boolean filter(DataValue lastValue, DataValue currentValue, DataChangeFilter filter) {
+        DeadbandType deadbandType = filter.getDeadbandType() != null ?
+            DeadbandType.from(filter.getDeadbandType().intValue()) : null;
 
-    private static boolean exceedsDeadband(Object last, Object current, double deadband) {
-        try {
-            double lastD = ((Number) last).doubleValue();
-            double currentD = ((Number) current).doubleValue();
+        DataChangeMonitoringFilter monitoringFilter = deadbandType == DeadbandType.Percent ?
+            new DataChangeMonitoringFilter(filter.getTrigger(), false, 0.0) :
+            create(filter, null);
 
-            return Math.abs(lastD - currentD) > deadband;
-        } catch (Throwable t) {
-            return true;
-        }
+        return monitoringFilter.filter(lastValue, currentValue);
     }
 
     private static boolean statusChanged(DataValue lastValue, DataValue currentValue) {
         return !Objects.equals(lastValue.getStatusCode(), currentValue.getStatusCode());
     }
 
-    private static boolean valueChanged(DataValue lastValue, DataValue currentValue) {
-        return !Objects.equals(lastValue.getValue(), currentValue.getValue());
-    }
-
     private static boolean timestampChanged(DataValue lastValue, DataValue currentValue) {
         return !Objects.equals(lastValue.getSourceTime(), currentValue.getSourceTime());
     }
 
+    /**
+     * Compares two values of the same class, either for any change or for a change larger than a deadband.
+     * <p>
+     * Deadbands only apply to numeric values and element-wise to numeric arrays; any change to a non-numeric value,
+     * or to the length of an array, exceeds the deadband.
+     */
+    private enum ValueComparator {
+
+        DOUBLE {
+            @Override
+            boolean changed(Object last, Object current) {
+                return Double.doubleToLongBits((Double) last) != Double.doubleToLongBits((Double) current);
+            }
+
+            @Override
+            boolean exceeds(Object last, Object current, double deadband) {
+                return exceedsDeadband((Double) last, (Double) current, deadband);
+            }
+        },
+
+        NUMBER {
+            @Override
+            boolean changed(Object last, Object current) {
+                return !last.equals(current);
+            }
+
+            @Override
+            boolean exceeds(Object last, Object current, double deadband) {
+                return exceedsDeadband(((Number) last).doubleValue(), ((Number) current).doubleValue(), deadband);
+            }
+        },
+
+        NUMBER_ARRAY {
+            @Override
+            boolean changed(Object last, Object current) {
+                return !Arrays.equals((Object[]) last, (Object[]) current);
+            }
+
+            @Override
+            boolean exceeds(Object last, Object current, double deadband) {
+                Object[] lastA = (Object[]) last;
+                Object[] currentA = (Object[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    Object l = lastA[i];
+                    Object c = currentA[i];
+
+                    if (l == null || c == null) {
+                        if (l != c) return true;
+                    } else if (exceedsDeadband(((Number) l).doubleValue(), ((Number) c).doubleValue(), deadband)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+        },
+
+        OBJECT_ARRAY {
+            @Override
+            boolean changed(Object last, Object current) {
+                return !Arrays.deepEquals((Object[]) last, (Object[]) current);
+            }
+
+            @Override
+            boolean exceeds(Object last, Object current, double deadband) {
+                Object[] lastA = (Object[]) last;
+                Object[] currentA = (Object[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    Object l = lastA[i];
+                    Object c = currentA[i];
+
+                    if (l == c) continue;
+                    if (l == null || c == null || l.getClass() != c.getClass()) return true;
+
+                    if (COMPARATORS.get(c.getClass()).exceeds(l, c, deadband)) return true;
+                }
+
+                return false;
+            }
+        },
+
+        DOUBLE_PRIMITIVE_ARRAY {
+            @Override
+            boolean changed(Object last, Object current) {
+                return !Arrays.equals((double[]) last, (double[]) current);
+            }
+
+            @Override
+            boolean exceeds(Object last, Object current, double deadband) {
+                double[] lastA = (double[]) last;
+                double[] currentA = (double[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    if (exceedsDeadband(lastA[i], currentA[i], deadband)) return true;
+                }
+
+                return false;
+            }
+        },
+
+        FLOAT_PRIMITIVE_ARRAY {
+            @Override
+            boolean changed(Object last, Object current) {
+                return !Arrays.equals((float[]) last, (float[]) current);
+            }
+
+            @Override
+            boolean exceeds(Object last, Object current, double deadband) {
+                float[] lastA = (float[]) last;
+                float[] currentA = (float[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    if (exceedsDeadband(lastA[i], currentA[i], deadband)) return true;
+                }
+
+                return false;
+            }
+        },
+
+        LONG_PRIMITIVE_ARRAY {
+            @Override
+            boolean changed(Object last, Object current) {
+                return !Arrays.equals((long[]) last, (long[]) current);
+            }
+
+            @Override
+            boolean exceeds(Object last, Object current, double deadband) {
+                long[] lastA = (long[]) last;
+                long[] currentA = (long[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    if (exceedsDeadband(lastA[i], currentA[i], deadband)) return true;
+                }
+
+                return false;
+            }
+        },
+
+        INT_PRIMITIVE_ARRAY {
+            @Override
+            boolean changed(Object last, Object current) {
+                return !Arrays.equals((int[]) last, (int[]) current);
+            }
+
+            @Override
+            boolean exceeds(Object last, Object current, double deadband) {
+                int[] lastA = (int[]) last;
+                int[] currentA = (int[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    if (exceedsDeadband(lastA[i], currentA[i], deadband)) return true;
+                }
+
+                return false;
+            }
+        },
+
+        SHORT_PRIMITIVE_ARRAY {
+            @Override
+            boolean changed(Object last, Object current) {
+                return !Arrays.equals((short[]) last, (short[]) current);
+            }
+
+            @Override
+            boolean exceeds(Object last, Object current, double deadband) {
+                short[] lastA = (short[]) last;
+                short[] currentA = (short[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    if (exceedsDeadband(lastA[i], currentA[i], deadband)) return true;
+                }
+
+                return false;
+            }
+        },
+
+        BYTE_PRIMITIVE_ARRAY {
+            @Override
+            boolean changed(Object last, Object current) {
+                return !Arrays.equals((byte[]) last, (byte[]) current);
+            }
+
+            @Override
+            boolean exceeds(Object last, Object current, double deadband) {
+                byte[] lastA = (byte[]) last;
+                byte[] currentA = (byte[]) current;
+
+                if (lastA.length != currentA.length) return true;
+
+                for (int i = 0; i < lastA.length; i++) {
+                    if (exceedsDeadband(lastA[i], currentA[i], deadband)) return true;
+                }
+
+                return false;
+            }
+        },
+
+        BOOLEAN_PRIMITIVE_ARRAY {
+            @Override
+            boolean changed(Object last, Object current) {
+                return !Arrays.equals((boolean[]) last, (boolean[]) current);
+            }
+
+            @Override
+            boolean exceeds(Object last, Object current, double deadband) {
+                return changed(last, current);
+            }
+        },
+
+        OBJECT {
+            @Override
+            boolean changed(Object last, Object current) {
+                return !Objects.deepEquals(last, current);
+            }
+
+            @Override
+            boolean exceeds(Object last, Object current, double deadband) {
+                return changed(last, current);
+            }
+        };
+
+        /**
+         * @return {@code true} if {@code last} and {@code current} are not equal.
+         */
+        abstract boolean changed(Object last, Object current);
+
+        /**
+         * @return {@code true} if {@code current} differs from {@code last} by more than {@code deadband}.
+         */
+        abstract boolean exceeds(Object last, Object current, double deadband);
+
+        private static boolean exceedsDeadband(double last, double current, double deadband) {
+            if (Double.isNaN(last) || Double.isNaN(current)) {
+                return Double.isNaN(last) != Double.isNaN(current);
+            }
+
+            return Math.abs(last - current) > deadband;
+        }
+
+        static ValueComparator of(Class<?> type) {
+            if (type == Double.class) {
+                return DOUBLE;
+            } else if (Number.class.isAssignableFrom(type)) {
+                return NUMBER;
+            } else if (type.isArray()) {
+                Class<?> componentType = type.getComponentType();
+
+                if (componentType == double.class) {
+                    return DOUBLE_PRIMITIVE_ARRAY;
+                } else if (componentType == float.class) {
+                    return FLOAT_PRIMITIVE_ARRAY;
+                } else if (componentType == long.class) {
+                    return LONG_PRIMITIVE_ARRAY;
+                } else if (componentType == int.class) {
+                    return INT_PRIMITIVE_ARRAY;
+                } else if (componentType == short.class) {
+                    return SHORT_PRIMITIVE_ARRAY;
+                } else if (componentType == byte.class) {
+                    return BYTE_PRIMITIVE_ARRAY;
+                } else if (componentType == boolean.class) {
+                    return BOOLEAN_PRIMITIVE_ARRAY;
+                } else if (componentType.isPrimitive()) {
+                    return OBJECT;
+                } else if (Number.class.isAssignableFrom(componentType)) {
+                    return NUMBER_ARRAY;
+                } else {
+                    return OBJECT_ARRAY;
+                }
+            } else {
+                return OBJECT;
+            }
+        }
+
+    }
+
 }
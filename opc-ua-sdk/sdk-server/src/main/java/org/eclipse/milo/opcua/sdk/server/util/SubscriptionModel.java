@@ -11,39 +11,74 @@
 package org.eclipse.milo.opcua.sdk.server.util;
 
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.math.DoubleMath;
-import org.eclipse.milo.opcua.sdk.core.util.GroupMapCollate;
 import org.eclipse.milo.opcua.sdk.server.AbstractLifecycle;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
 import org.eclipse.milo.opcua.sdk.server.api.DataItem;
 import org.eclipse.milo.opcua.sdk.server.api.MonitoredItem;
+import org.eclipse.milo.opcua.sdk.server.api.NodeManager;
 import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices;
 import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices.ReadContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.AttributeObserver;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
 import org.eclipse.milo.opcua.stack.core.AttributeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
 import org.eclipse.milo.opcua.stack.core.util.ExecutionQueue;
-
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Samples {@link DataItem}s by reading them through an {@link AttributeServices} instance.
+ * <p>
+ * Items are grouped by sampling interval into {@link SamplingGroup}s, each of which is scheduled at a fixed rate.
+ * Creating, modifying, or deleting items only touches the groups the affected items move in or out of; the rest of
+ * the schedule is left alone.
+ * <p>
+ * On each tick a group reads every distinct {@link ReadValueId} it contains once, even when several items are
+ * monitoring the same attribute, and fans the result out to each item. Attribute delegates and filters can make a
+ * read depend on the session performing it, so a {@link ReadValueId} is only shared across sessions when its node is
+ * found in the {@link NodeManager} and has neither; otherwise it is read once per session. The sampled values also
+ * refresh the server's {@link AttributeValueCache} for every session that received them.
+ * <p>
+ * When constructed with a {@link NodeManager}, items monitoring the Value attribute of a {@link UaVariableNode} that
+ * has no {@link org.eclipse.milo.opcua.sdk.server.nodes.delegates.AttributeDelegate} and no attribute filters are not
+ * sampled at all. Instead, an {@link AttributeObserver} on the node pushes each new value to the items as it is set,
+ * at most once per sampling interval. The node's Value attribute is then the value being monitored, so there is
+ * nothing to read. Items whose node has a delegate or filters at the time they are created or modified are sampled.
+ */
 public class SubscriptionModel extends AbstractLifecycle {
 
-    private final Set<DataItem> itemSet = Collections.newSetFromMap(Maps.newConcurrentMap());
+    private final Logger logger = LoggerFactory.getLogger(getClass());
 
-    private final List<ScheduledUpdate> schedule = Lists.newCopyOnWriteArrayList();
+    private final ConcurrentMap<Long, SamplingGroup> groups = Maps.newConcurrentMap();
+    private final ConcurrentMap<DataItem, SamplingGroup> itemGroups = Maps.newConcurrentMap();
+
+    private final ConcurrentMap<UaVariableNode, ValueObserver> observers = Maps.newConcurrentMap();
+    private final ConcurrentMap<DataItem, PushedItem> pushedItems = Maps.newConcurrentMap();
 
     private final ExecutorService executor;
     private final ScheduledExecutorService scheduler;
@@ -51,11 +86,31 @@ public class SubscriptionModel extends AbstractLifecycle {
 
     private final OpcUaServer server;
     private final AttributeServices attributeServices;
+    private final AttributeValueCache valueCache;
+    private final NodeManager<UaNode> nodeManager;
 
     public SubscriptionModel(OpcUaServer server, AttributeServices attributeServices) {
+        this(server, attributeServices, null);
+    }
+
+    /**
+     * @param server            the {@link OpcUaServer}.
+     * @param attributeServices the {@link AttributeServices} sampled items are read through.
+     * @param nodeManager       the {@link NodeManager} to look up pushed items' nodes in, or {@code null} to sample
+     *                          every item.
+     */
+    public SubscriptionModel(
+        OpcUaServer server,
+        AttributeServices attributeServices,
+        @Nullable NodeManager<UaNode> nodeManager
+    ) {
+
         this.server = server;
 
         this.attributeServices = attributeServices;
+        this.nodeManager = nodeManager;
+
+        valueCache = server.getAttributeValueCache();
 
         executor = server.getExecutorService();
         scheduler = server.getScheduledExecutorService();
@@ -70,9 +125,11 @@ public class SubscriptionModel extends AbstractLifecycle {
     @Override
     protected void onShutdown() {
         executionQueue.submit(() -> {
-            schedule.forEach(ScheduledUpdate::cancel);
-            schedule.clear();
-            itemSet.clear();
+            groups.values().forEach(SamplingGroup::cancel);
+            groups.clear();
+            itemGroups.clear();
+
+            new ArrayList<>(pushedItems.keySet()).forEach(this::remove);
         });
     }
 
@@ -81,10 +138,7 @@ public class SubscriptionModel extends AbstractLifecycle {
             throw new IllegalArgumentException("not running");
         }
 
-        executionQueue.submit(() -> {
-            itemSet.addAll(items);
-            reschedule();
-        });
+        executionQueue.submit(() -> update(items));
     }
 
     public void onDataItemsModified(List<DataItem> items) {
@@ -92,7 +146,7 @@ public class SubscriptionModel extends AbstractLifecycle {
             throw new IllegalArgumentException("not running");
         }
 
-        executionQueue.submit(this::reschedule);
+        executionQueue.submit(() -> update(items));
     }
 
     public void onDataItemsDeleted(List<DataItem> items) {
@@ -100,10 +154,7 @@ public class SubscriptionModel extends AbstractLifecycle {
             throw new IllegalArgumentException("not running");
         }
 
-        executionQueue.submit(() -> {
-            itemSet.removeAll(items);
-            reschedule();
-        });
+        executionQueue.submit(() -> items.forEach(this::remove));
     }
 
     public void onMonitoringModeChanged(List<MonitoredItem> items) {
@@ -111,93 +162,447 @@ public class SubscriptionModel extends AbstractLifecycle {
             throw new IllegalArgumentException("not running");
         }
 
-        executionQueue.submit(this::reschedule);
+        List<DataItem> dataItems = new ArrayList<>(items.size());
+
+        for (MonitoredItem item : items) {
+            if (item instanceof DataItem) {
+                dataItems.add((DataItem) item);
+            }
+        }
+
+        executionQueue.submit(() -> update(dataItems));
+    }
+
+    /**
+     * @return the number of distinct sampling intervals currently scheduled.
+     */
+    public int getSamplingGroupCount() {
+        return groups.size();
+    }
+
+    /**
+     * @return the number of items currently being sampled.
+     */
+    public int getSampledItemCount() {
+        return itemGroups.size();
+    }
+
+    /**
+     * @return the number of items currently receiving values pushed from their node.
+     */
+    public int getPushedItemCount() {
+        return pushedItems.size();
     }
 
-    private void reschedule() {
-        Map<Double, List<DataItem>> bySamplingInterval = itemSet.stream()
-            .filter(DataItem::isSamplingEnabled)
-            .collect(Collectors.groupingBy(DataItem::getSamplingInterval));
+    /**
+     * Move each of {@code items} into the group for its current sampling interval, or out of any group if sampling
+     * is disabled, and sample every item that was newly scheduled so it gets an initial value right away.
+     * <p>
+     * Items that can have their values pushed are attached to their node instead.
+     */
+    private void update(List<DataItem> items) {
+        List<DataItem> scheduled = new ArrayList<>();
+
+        for (DataItem item : items) {
+            SamplingGroup current = itemGroups.get(item);
+
+            UaVariableNode pushNode = item.isSamplingEnabled() ? getPushNode(item) : null;
+
+            if (pushNode != null) {
+                PushedItem pushed = pushedItems.get(item);
 
-        List<ScheduledUpdate> updates = bySamplingInterval.keySet().stream()
-            .map(samplingInterval -> {
-                List<DataItem> items = bySamplingInterval.get(samplingInterval);
+                if (pushed != null) {
+                    if (pushed.node == pushNode && pushed.samplingInterval == pushInterval(item)) {
+                        continue;
+                    } else {
+                        remove(item);
+                    }
+                } else if (current != null) {
+                    remove(item);
+                }
+
+                push(item, pushNode);
+            } else if (item.isSamplingEnabled()) {
+                if (pushedItems.containsKey(item)) {
+                    remove(item);
+                }
+
+                long samplingInterval = roundSamplingInterval(item.getSamplingInterval());
+
+                if (current != null) {
+                    if (current.samplingInterval == samplingInterval) {
+                        continue;
+                    } else {
+                        remove(item);
+                    }
+                }
 
-                return new ScheduledUpdate(samplingInterval, items);
-            })
-            .collect(Collectors.toList());
+                SamplingGroup group = groups.computeIfAbsent(samplingInterval, SamplingGroup::new);
+                group.items.add(item);
+                itemGroups.put(item, group);
 
-        schedule.forEach(ScheduledUpdate::cancel);
-        schedule.clear();
-        schedule.addAll(updates);
-        schedule.forEach(scheduler::execute);
+                scheduled.add(item);
+            } else if (current != null || pushedItems.containsKey(item)) {
+                remove(item);
+            }
+        }
+
+        if (!scheduled.isEmpty()) {
+            executor.execute(() -> sample(scheduled));
+        }
+    }
+
+    /**
+     * Attach {@code item} to {@code node} and deliver the node's current value as its initial value.
+     */
+    private void push(DataItem item, UaVariableNode node) {
+        PushedItem pushed = new PushedItem(item, node);
+        pushedItems.put(item, pushed);
+
+        // Holding the node's lock keeps a concurrent setValue from being delivered before the initial value.
+        synchronized (node) {
+            observers.computeIfAbsent(node, n -> {
+                ValueObserver observer = new ValueObserver();
+                n.addAttributeObserver(observer);
+                return observer;
+            }).items.add(pushed);
+
+            pushed.offer(node.getValue());
+        }
     }
 
-    private class ScheduledUpdate implements Runnable {
+    /**
+     * @return the node whose value changes can be pushed to {@code item}, or {@code null} if it must be sampled.
+     */
+    @Nullable
+    private UaVariableNode getPushNode(DataItem item) {
+        if (nodeManager == null) return null;
 
-        private volatile boolean cancelled = false;
+        ReadValueId readValueId = item.getReadValueId();
 
-        private final long samplingInterval;
-        private final List<DataItem> items;
+        if (!AttributeId.Value.isEqual(readValueId.getAttributeId())) return null;
+
+        String indexRange = readValueId.getIndexRange();
+        if (indexRange != null && !indexRange.isEmpty()) return null;
 
-        private ScheduledUpdate(double samplingInterval, List<DataItem> items) {
-            this.samplingInterval = DoubleMath.roundToLong(samplingInterval, RoundingMode.UP);
-            this.items = items;
+        if (readValueId.getDataEncoding() != null && readValueId.getDataEncoding().isNotNull()) return null;
+
+        UaNode node = nodeManager.get(readValueId.getNodeId());
+
+        if (node instanceof UaVariableNode &&
+            node.getAttributeDelegate() == null &&
+            node.getFilterChain().getFilters().isEmpty()) {
+
+            return (UaVariableNode) node;
+        } else {
+            return null;
         }
+    }
 
-        private void cancel() {
-            cancelled = true;
+    private void remove(DataItem item) {
+        PushedItem pushed = pushedItems.remove(item);
+
+        if (pushed != null) {
+            pushed.cancel();
+
+            synchronized (pushed.node) {
+                ValueObserver observer = observers.get(pushed.node);
+
+                if (observer != null) {
+                    observer.items.remove(pushed);
+
+                    if (observer.items.isEmpty()) {
+                        pushed.node.removeAttributeObserver(observer);
+                        observers.remove(pushed.node, observer);
+                    }
+                }
+            }
         }
 
-        @Override
-        public void run() {
-            if (cancelled) return;
+        SamplingGroup group = itemGroups.remove(item);
 
-            CompletableFuture<List<DataValue>> future = GroupMapCollate.groupMapCollate(
-                items,
-                MonitoredItem::getSession,
-                session -> sessionItems -> {
-                    List<PendingRead> pending = sessionItems.stream()
-                        .map(item -> new PendingRead(item.getReadValueId()))
-                        .collect(Collectors.toList());
+        if (group != null) {
+            group.items.remove(item);
 
-                    List<ReadValueId> ids = pending.stream()
-                        .map(PendingRead::getInput)
-                        .collect(Collectors.toList());
+            if (group.items.isEmpty()) {
+                group.cancel();
+                groups.remove(group.samplingInterval, group);
+            }
+        }
+    }
+
+    /**
+     * Read the distinct set of {@link ReadValueId}s monitored by {@code items} and deliver the results to each item.
+     * <p>
+     * {@link ReadValueId}s whose result doesn't depend on the Session (see {@link #isSessionIndependent(ReadValueId)})
+     * are read once for all items in a single call to {@link AttributeServices#read}. The rest are read in one call
+     * per {@link Session}, because attribute delegates and filters may depend on the identity of the Session
+     * performing the read.
+     *
+     * @param items the items to sample.
+     * @return a {@link CompletableFuture} that completes when all values have been delivered.
+     */
+    private CompletableFuture<Void> sample(Collection<DataItem> items) {
+        Map<ReadValueId, List<DataItem>> shared = new LinkedHashMap<>();
+        Map<Session, Map<ReadValueId, List<DataItem>>> bySession = new LinkedHashMap<>();
+        Map<ReadValueId, Boolean> sessionIndependent = new HashMap<>();
+
+        for (DataItem item : items) {
+            ReadValueId readValueId = item.getReadValueId();
+
+            if (sessionIndependent.computeIfAbsent(readValueId, this::isSessionIndependent)) {
+                shared.computeIfAbsent(readValueId, k -> new ArrayList<>(1)).add(item);
+            } else {
+                bySession
+                    .computeIfAbsent(item.getSession(), k -> new LinkedHashMap<>())
+                    .computeIfAbsent(readValueId, k -> new ArrayList<>(1))
+                    .add(item);
+            }
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(bySession.size() + 1);
+
+        if (!shared.isEmpty()) {
+            // Any of the sessions involved can perform the shared read; the result is the same for all of them.
+            Session session = shared.values().iterator().next().get(0).getSession();
+
+            futures.add(sample(session, shared));
+        }
+
+        bySession.forEach((session, byReadValueId) -> futures.add(sample(session, byReadValueId)));
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
 
-                    ReadContext context = new ReadContext(server, session);
+    /**
+     * @return {@code true} if reading {@code readValueId} gives the same result regardless of the Session performing
+     * the read, i.e. its node is in {@link #nodeManager} and has no attribute delegate or filters that could consult
+     * the Session.
+     */
+    private boolean isSessionIndependent(ReadValueId readValueId) {
+        if (nodeManager == null) return false;
 
-                    attributeServices.read(context, 0d, TimestampsToReturn.Both, ids);
+        UaNode node = nodeManager.get(readValueId.getNodeId());
 
-                    return context.getFuture();
+        return node != null &&
+            node.getAttributeDelegate() == null &&
+            node.getFilterChain().getFilters().isEmpty();
+    }
+
+    /**
+     * Read the {@link ReadValueId}s in {@code byReadValueId} on {@code session} and deliver the results to the items
+     * monitoring them.
+     */
+    private CompletableFuture<Void> sample(Session session, Map<ReadValueId, List<DataItem>> byReadValueId) {
+        List<ReadValueId> readValueIds = new ArrayList<>(byReadValueId.keySet());
+
+        // Obtained before reading so a value read concurrently with a Write isn't cached after the Write.
+        long[] generations = new long[readValueIds.size()];
+        for (int i = 0; i < generations.length; i++) {
+            generations[i] = valueCache.getGeneration(readValueIds.get(i).getNodeId());
+        }
+
+        ReadContext context = new ReadContext(server, session);
+
+        try {
+            attributeServices.read(context, 0d, TimestampsToReturn.Both, readValueIds);
+        } catch (Throwable t) {
+            context.getFuture().completeExceptionally(t);
+        }
+
+        return context.getFuture().thenAcceptAsync(values -> {
+            Iterator<Map.Entry<ReadValueId, List<DataItem>>> ii = byReadValueId.entrySet().iterator();
+            Iterator<DataValue> vi = values.iterator();
+            int i = 0;
+
+            while (ii.hasNext() && vi.hasNext()) {
+                Map.Entry<ReadValueId, List<DataItem>> entry = ii.next();
+                List<DataItem> readers = entry.getValue();
+                DataValue value = vi.next();
+
+                long generation = generations[i++];
+
+                readers.stream()
+                    .map(DataItem::getSession)
+                    .distinct()
+                    .forEach(s -> valueCache.put(s, entry.getKey(), value, generation));
+
+                for (DataItem item : readers) {
+                    item.setValue(deriveValue(item, value));
                 }
-            );
+            }
+        }, executor).exceptionally(ex -> {
+            logger.warn("Sampling {} items failed: {}", readValueIds.size(), ex.getMessage(), ex);
+            return null;
+        });
+    }
 
-            future.thenAcceptAsync(values -> {
-                Iterator<DataItem> ii = items.iterator();
-                Iterator<DataValue> vi = values.iterator();
+    private static DataValue deriveValue(DataItem item, DataValue value) {
+        TimestampsToReturn timestamps = item.getTimestampsToReturn();
 
-                while (ii.hasNext() && vi.hasNext()) {
-                    DataItem item = ii.next();
-                    DataValue value = vi.next();
+        if (timestamps != null) {
+            UInteger attributeId = item.getReadValueId().getAttributeId();
 
-                    TimestampsToReturn timestamps = item.getTimestampsToReturn();
+            return (AttributeId.Value.isEqual(attributeId)) ?
+                DataValue.derivedValue(value, timestamps) :
+                DataValue.derivedNonValue(value, timestamps);
+        } else {
+            return value;
+        }
+    }
 
-                    if (timestamps != null) {
-                        UInteger attributeId = item.getReadValueId().getAttributeId();
+    private static long roundSamplingInterval(double samplingInterval) {
+        return Math.max(1L, DoubleMath.roundToLong(samplingInterval, RoundingMode.UP));
+    }
 
-                        value = (AttributeId.Value.isEqual(attributeId)) ?
-                            DataValue.derivedValue(value, timestamps) :
-                            DataValue.derivedNonValue(value, timestamps);
-                    }
+    /**
+     * Pushed items may have a sampling interval of 0, in which case every change is delivered.
+     */
+    private static long pushInterval(DataItem item) {
+        return Math.max(0L, DoubleMath.roundToLong(item.getSamplingInterval(), RoundingMode.UP));
+    }
+
+    /**
+     * Observes the Value attribute of a node on behalf of every {@link PushedItem} monitoring it.
+     */
+    private static class ValueObserver implements AttributeObserver {
 
-                    item.setValue(value);
+        private final Set<PushedItem> items = Collections.newSetFromMap(Maps.newConcurrentMap());
+
+        @Override
+        public void attributeChanged(UaNode node, AttributeId attributeId, Object value) {
+            if (attributeId == AttributeId.Value && value instanceof DataValue) {
+                for (PushedItem item : items) {
+                    item.offer((DataValue) value);
                 }
+            }
+        }
+
+    }
+
+    /**
+     * An item receiving values pushed from its node.
+     * <p>
+     * A value arriving less than one sampling interval after the previous delivery is held back until the interval
+     * has elapsed, and replaced if another value arrives in the meantime, so the item sees at most one value per
+     * interval and always ends up with the latest one.
+     */
+    private class PushedItem {
+
+        private long lastDelivery;
+        private DataValue pending;
+        private ScheduledFuture<?> future;
+
+        private final DataItem item;
+        private final UaVariableNode node;
+        private final long samplingInterval;
+
+        private PushedItem(DataItem item, UaVariableNode node) {
+            this.item = item;
+            this.node = node;
+            this.samplingInterval = pushInterval(item);
+
+            lastDelivery = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(samplingInterval);
+        }
+
+        private synchronized void offer(DataValue value) {
+            if (value == null) return;
+
+            if (future != null) {
+                pending = value;
+                return;
+            }
+
+            long now = System.nanoTime();
+            long wait = TimeUnit.MILLISECONDS.toNanos(samplingInterval) - (now - lastDelivery);
+
+            if (wait <= 0) {
+                deliver(value, now);
+            } else {
+                pending = value;
+
+                future = scheduler.schedule(this::flush, wait, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private synchronized void flush() {
+            future = null;
+
+            if (pending != null) {
+                DataValue value = pending;
+                pending = null;
+
+                deliver(value, System.nanoTime());
+            }
+        }
+
+        private synchronized void cancel() {
+            if (future != null) {
+                future.cancel(false);
+                future = null;
+            }
+
+            pending = null;
+        }
+
+        private void deliver(DataValue value, long now) {
+            lastDelivery = now;
+
+            try {
+                valueCache.put(item.getSession(), item.getReadValueId(), value);
+
+                item.setValue(deriveValue(item, value));
+            } catch (Throwable t) {
+                logger.warn("Failed to deliver value to item {}.", item.getId(), t);
+            }
+        }
+
+    }
+
+    /**
+     * All items sharing a sampling interval, sampled together on a fixed-rate schedule.
+     * <p>
+     * A tick that fires while the previous read for this group is still outstanding is skipped rather than queued,
+     * so a slow read degrades the effective rate instead of accumulating a backlog or shifting the schedule.
+     */
+    private class SamplingGroup {
+
+        private final Set<DataItem> items = Collections.newSetFromMap(Maps.newConcurrentMap());
+
+        private final AtomicBoolean sampling = new AtomicBoolean(false);
+
+        private final long samplingInterval;
+        private final ScheduledFuture<?> future;
+
+        private SamplingGroup(long samplingInterval) {
+            this.samplingInterval = samplingInterval;
+
+            this.future = scheduler.scheduleAtFixedRate(
+                this::tick,
+                samplingInterval,
+                samplingInterval,
+                TimeUnit.MILLISECONDS
+            );
+        }
+
+        private void cancel() {
+            future.cancel(false);
+        }
+
+        private void tick() {
+            if (sampling.compareAndSet(false, true)) {
+                try {
+                    executor.execute(
+                        () -> sample(items).whenComplete((v, ex) -> sampling.set(false))
+                    );
+                } catch (Throwable t) {
+                    sampling.set(false);
 
-                if (!cancelled) {
-                    scheduler.schedule(this, samplingInterval, TimeUnit.MILLISECONDS);
+                    logger.warn("Failed to dispatch sampling for interval={}ms", samplingInterval, t);
                 }
-            }, executor);
+            } else {
+                logger.trace("Skipped sampling tick for interval={}ms; previous read outstanding.", samplingInterval);
+            }
         }
 
     }
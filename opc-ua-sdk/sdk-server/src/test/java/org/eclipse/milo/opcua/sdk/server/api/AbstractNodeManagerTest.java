@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.api;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.LinkedHashMultiset;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class AbstractNodeManagerTest {
+
+    private final NodeId folderId = new NodeId(1, "Folder");
+
+    @Test
+    public void testMultisetSemantics() {
+        AbstractNodeManager<UaNode> nodeManager = new AbstractNodeManager<>();
+
+        Reference reference = organizes(0);
+
+        nodeManager.addReference(reference);
+        nodeManager.addReference(reference);
+        assertEquals(nodeManager.getReferences(folderId).size(), 2);
+
+        nodeManager.removeReference(reference);
+        assertEquals(nodeManager.getReferences(folderId).size(), 1);
+
+        nodeManager.removeReference(reference);
+        assertTrue(nodeManager.getReferences(folderId).isEmpty());
+    }
+
+    @Test
+    public void testAddReferencesAddsInverse() {
+        AbstractNodeManager<UaNode> nodeManager = new AbstractNodeManager<>();
+
+        Reference reference = organizes(0);
+        nodeManager.addReferences(reference, new NamespaceTable());
+
+        List<Reference> inverse = nodeManager.getReferences(new NodeId(1, "Child0"));
+        assertEquals(inverse.size(), 1);
+        assertEquals(inverse.get(0).getTargetNodeId(), folderId.expanded());
+
+        nodeManager.removeReferences(reference, new NamespaceTable());
+        assertTrue(nodeManager.getReferences(folderId).isEmpty());
+        assertTrue(nodeManager.getReferences(new NodeId(1, "Child0")).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testReferenceMapIsLiveView() {
+        AbstractNodeManager<UaNode> nodeManager = new AbstractNodeManager<>();
+
+        nodeManager.addReference(organizes(0));
+        assertEquals(nodeManager.getReferencesSnapshot(folderId).size(), 1);
+
+        ConcurrentMap<NodeId, LinkedHashMultiset<Reference>> referenceMap = nodeManager.getReferenceMap();
+        assertEquals(referenceMap.get(folderId).size(), 1);
+
+        // changes made through the multisets are seen by the NodeManager...
+        referenceMap.get(folderId).add(organizes(1));
+        assertEquals(nodeManager.getReferencesSnapshot(folderId).size(), 2);
+        assertEquals(nodeManager.getReferences(folderId).get(1), organizes(1));
+
+        NodeId otherId = new NodeId(1, "Other");
+        referenceMap.computeIfAbsent(otherId, k -> LinkedHashMultiset.create()).add(organizes(2));
+        assertEquals(nodeManager.getReferences(otherId).size(), 1);
+
+        // ...as are changes made through the map...
+        referenceMap.remove(otherId);
+        assertTrue(nodeManager.getReferences(otherId).isEmpty());
+
+        // ...and changes made through the NodeManager are seen by the map.
+        nodeManager.removeReference(organizes(0));
+        assertEquals(referenceMap.get(folderId).size(), 1);
+
+        referenceMap.clear();
+        assertTrue(nodeManager.getReferences(folderId).isEmpty());
+    }
+
+    @Test
+    public void testSnapshotIsSharedUntilModified() {
+        AbstractNodeManager<UaNode> nodeManager = new AbstractNodeManager<>();
+
+        nodeManager.addReference(organizes(0));
+
+        List<Reference> snapshot1 = nodeManager.getReferencesSnapshot(folderId);
+        List<Reference> snapshot2 = nodeManager.getReferencesSnapshot(folderId);
+        assertSame(snapshot1, snapshot2);
+
+        nodeManager.addReference(organizes(1));
+
+        List<Reference> snapshot3 = nodeManager.getReferencesSnapshot(folderId);
+        assertEquals(snapshot1.size(), 1);
+        assertEquals(snapshot3.size(), 2);
+        assertEquals(snapshot3.get(1), organizes(1));
+    }
+
+    @Test
+    public void testConcurrentAddAndRead() throws Exception {
+        AbstractNodeManager<UaNode> nodeManager = new AbstractNodeManager<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        for (int t = 0; t < 4; t++) {
+            int offset = t * 1000;
+
+            executor.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    nodeManager.addReference(organizes(offset + i));
+                    nodeManager.getReferencesSnapshot(folderId);
+                }
+            });
+        }
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(nodeManager.getReferences(folderId).size(), 4000);
+    }
+
+    private Reference organizes(int i) {
+        return new Reference(
+            folderId,
+            Identifiers.Organizes,
+            new NodeId(1, "Child" + i).expanded(),
+            true
+        );
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.api;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices.ReadContext;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+
+public class AddressSpaceCompositeTest {
+
+    private OpcUaServer server;
+    private AddressSpaceComposite composite;
+
+    @BeforeMethod
+    public void setup() {
+        server = Mockito.mock(OpcUaServer.class);
+        composite = new AddressSpaceComposite(server);
+    }
+
+    @Test
+    public void testRoutesByNamespaceIndex() {
+        AddressSpaceFragment ns1 = fragment(SimpleAddressSpaceFilter.create(ushort(1)));
+        AddressSpaceFragment ns2 = fragment(SimpleAddressSpaceFilter.create(ushort(2)));
+
+        composite.register(ns1);
+        composite.register(ns2);
+
+        read(new NodeId(2, "foo"));
+        read(new NodeId(1, "foo"));
+        read(new NodeId(2, "bar"));
+
+        verify(ns1, times(1)).read(any(), anyDouble(), any(), anyList());
+        verify(ns2, times(2)).read(any(), anyDouble(), any(), anyList());
+    }
+
+    @Test
+    public void testRoutesByNumericRange() {
+        AddressSpaceFragment low = fragment(SimpleAddressSpaceFilter.create(ushort(1), uint(0), uint(999)));
+        AddressSpaceFragment high = fragment(SimpleAddressSpaceFilter.create(ushort(1), uint(1000), uint(1999)));
+
+        composite.register(low);
+        composite.register(high);
+
+        read(new NodeId(1, uint(1500)));
+        read(new NodeId(1, uint(10)));
+        read(new NodeId(1, "notNumeric"));
+
+        verify(low, times(1)).read(any(), anyDouble(), any(), anyList());
+        verify(high, times(1)).read(any(), anyDouble(), any(), anyList());
+    }
+
+    @Test
+    public void testPredicateFragmentsKeepRegistrationOrder() {
+        AtomicInteger predicateTests = new AtomicInteger();
+
+        AddressSpaceFragment predicate = fragment(SimpleAddressSpaceFilter.create(nodeId -> {
+            predicateTests.incrementAndGet();
+            return "claimed".equals(nodeId.getIdentifier());
+        }));
+        AddressSpaceFragment ns1 = fragment(SimpleAddressSpaceFilter.create(ushort(1)));
+        AddressSpaceFragment ns2 = fragment(SimpleAddressSpaceFilter.create(ushort(2)));
+
+        composite.register(ns2);
+        composite.register(predicate);
+        composite.register(ns1);
+
+        // ns2 is registered ahead of the predicate fragment, so it never needs testing
+        read(new NodeId(2, "claimed"));
+        assertEquals(predicateTests.get(), 0);
+
+        // ns1 is registered behind the predicate fragment, which still gets first refusal
+        read(new NodeId(1, "claimed"));
+        read(new NodeId(1, "foo"));
+        assertEquals(predicateTests.get(), 2);
+
+        verify(ns2, times(1)).read(any(), anyDouble(), any(), anyList());
+        verify(predicate, times(1)).read(any(), anyDouble(), any(), anyList());
+        verify(ns1, times(1)).read(any(), anyDouble(), any(), anyList());
+
+        composite.unregister(predicate);
+
+        read(new NodeId(1, "claimed"));
+        verify(ns1, times(2)).read(any(), anyDouble(), any(), anyList());
+        assertEquals(predicateTests.get(), 2);
+    }
+
+    @Test
+    public void testUnmatchedNamespace() {
+        AddressSpaceFragment ns1 = fragment(SimpleAddressSpaceFilter.create(ushort(1)));
+
+        composite.register(ns1);
+
+        read(new NodeId(3, "foo"));
+
+        verify(ns1, never()).read(any(), anyDouble(), any(), anyList());
+    }
+
+    private void read(NodeId nodeId) {
+        List<ReadValueId> readValueIds = Collections.singletonList(
+            new ReadValueId(nodeId, AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE)
+        );
+
+        composite.read(new ReadContext(server, null), 0.0, TimestampsToReturn.Both, readValueIds);
+    }
+
+    private static AddressSpaceFragment fragment(AddressSpaceFilter filter) {
+        AddressSpaceFragment fragment = Mockito.mock(AddressSpaceFragment.class);
+        Mockito.when(fragment.getFilter()).thenReturn(filter);
+        return fragment;
+    }
+
+}
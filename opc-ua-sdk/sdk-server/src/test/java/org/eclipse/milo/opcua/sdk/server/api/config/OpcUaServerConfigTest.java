@@ -41,6 +41,8 @@ public class OpcUaServerConfigTest {
             .setBuildInfo(new BuildInfo("a", "b", "c", "d", "e", DateTime.MIN_VALUE))
             .setLimits(new OpcUaServerConfigLimits() {})
             .setScheduledExecutorService(scheduledExecutorService)
+            .setVirtualThreadsEnabled(true)
+            .setAcceptorCount(4)
             .build();
 
         OpcUaServerConfig copy = OpcUaServerConfig.copy(original).build();
@@ -49,6 +51,9 @@ public class OpcUaServerConfigTest {
         assertEquals(copy.getBuildInfo(), original.getBuildInfo());
         assertEquals(copy.getLimits(), original.getLimits());
         assertEquals(copy.getScheduledExecutorService(), original.getScheduledExecutorService());
+        assertEquals(copy.getExecutor(), original.getExecutor());
+        assertEquals(copy.isVirtualThreadsEnabled(), original.isVirtualThreadsEnabled());
+        assertEquals(copy.getAcceptorCount(), original.getAcceptorCount());
     }
 
 }
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.FilterOperator;
+import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilterElement;
+import org.eclipse.milo.opcua.stack.core.types.structured.EventFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.LiteralOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.SimpleAttributeOperand;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class CompiledEventFilterTest {
+
+    private OpcUaServer server;
+    private FilterContext filterContext;
+
+    @BeforeClass
+    public void setup() {
+        server = new OpcUaServer(OpcUaServerConfig.builder().build());
+        server.getEventFactory().startup();
+
+        filterContext = new FilterContext() {
+            @Override
+            public OpcUaServer getServer() {
+                return server;
+            }
+
+            @Override
+            public Optional<Session> getSession() {
+                return Optional.empty();
+            }
+        };
+    }
+
+    @AfterClass
+    public void teardown() {
+        server.getEventFactory().shutdown();
+    }
+
+    @Test
+    public void testEqualFiltersShareCompiledFilter() {
+        EventFilterCache cache = server.getEventFilterCache();
+
+        CompiledEventFilter compiled0 = cache.getCompiledFilter(newSeverityFilter(500));
+        CompiledEventFilter compiled1 = cache.getCompiledFilter(newSeverityFilter(500));
+        CompiledEventFilter compiled2 = cache.getCompiledFilter(newSeverityFilter(100));
+
+        assertSame(compiled0, compiled1);
+        assertNotSame(compiled0, compiled2);
+    }
+
+    @Test
+    public void testApply() throws Exception {
+        CompiledEventFilter compiled = server.getEventFilterCache().getCompiledFilter(newSeverityFilter(500));
+
+        BaseEventTypeNode highSeverity = newEvent(Identifiers.BaseEventType, 700);
+        BaseEventTypeNode lowSeverity = newEvent(Identifiers.BaseEventType, 100);
+
+        try {
+            Variant[] fields = compiled.apply(filterContext, highSeverity);
+
+            assertNotNull(fields);
+            assertEquals(fields.length, 2);
+            assertEquals(fields[0].getValue(), highSeverity.getEventId());
+            assertEquals(fields[1].getValue(), ushort(700));
+
+            // the result for the same event is remembered
+            assertSame(compiled.apply(filterContext, highSeverity), fields);
+
+            assertNull(compiled.apply(filterContext, lowSeverity));
+        } finally {
+            highSeverity.delete();
+            lowSeverity.delete();
+        }
+    }
+
+    @Test
+    public void testApplyAfterEventIdChanges() throws Exception {
+        CompiledEventFilter compiled = server.getEventFilterCache().getCompiledFilter(newSeverityFilter(500));
+
+        BaseEventTypeNode event = newEvent(Identifiers.BaseEventType, 700);
+
+        try {
+            Variant[] fields0 = compiled.apply(filterContext, event);
+            assertNotNull(fields0);
+
+            event.setEventId(ByteString.of(new byte[]{1, 2, 3, 4}));
+            event.setSeverity(ushort(100));
+
+            assertNull(compiled.apply(filterContext, event));
+        } finally {
+            event.delete();
+        }
+    }
+
+    @Test
+    public void testSubtypeCacheIgnoresUnknownTypes() {
+        EventFilterCache cache = new EventFilterCache(server);
+
+        for (int i = 0; i < 100; i++) {
+            NodeId unknown = new NodeId(2, UUID.randomUUID());
+
+            assertFalse(cache.isSameOrSubtype(Identifiers.AuditEventType, unknown));
+            assertFalse(cache.isSameOrSubtype(unknown, Identifiers.BaseEventType));
+        }
+
+        assertEquals(cache.getSubtypeCacheSize(), 0L);
+
+        assertTrue(cache.isSameOrSubtype(Identifiers.AuditEventType, Identifiers.BaseEventType));
+        assertFalse(cache.isSameOrSubtype(Identifiers.BaseEventType, Identifiers.AuditEventType));
+
+        assertEquals(cache.getSubtypeCacheSize(), 2L);
+    }
+
+    @Test
+    public void testOfType() throws Exception {
+        CompiledEventFilter compiled = server.getEventFilterCache().getCompiledFilter(newOfTypeFilter());
+
+        BaseEventTypeNode baseEvent = newEvent(Identifiers.BaseEventType, 700);
+        BaseEventTypeNode auditEvent = newEvent(Identifiers.AuditEventType, 700);
+        BaseEventTypeNode systemEvent = newEvent(Identifiers.SystemEventType, 700);
+        BaseEventTypeNode deviceFailureEvent = newEvent(Identifiers.DeviceFailureEventType, 700);
+
+        try {
+            assertNull(compiled.apply(filterContext, baseEvent));
+            assertNull(compiled.apply(filterContext, auditEvent));
+            assertNotNull(compiled.apply(filterContext, systemEvent));
+            assertNotNull(compiled.apply(filterContext, deviceFailureEvent));
+        } finally {
+            baseEvent.delete();
+            auditEvent.delete();
+            systemEvent.delete();
+            deviceFailureEvent.delete();
+        }
+    }
+
+    @Test
+    public void testApplyFlyweight() throws Exception {
+        CompiledEventFilter compiled = server.getEventFilterCache().getCompiledFilter(newSeverityFilter(500));
+
+        FlyweightEvent highSeverity = newFlyweightEvent(Identifiers.BaseEventType, 700);
+        FlyweightEvent lowSeverity = newFlyweightEvent(Identifiers.BaseEventType, 100);
+
+        Variant[] fields = compiled.apply(filterContext, highSeverity);
+
+        assertNotNull(fields);
+        assertEquals(fields.length, 2);
+        assertEquals(fields[0].getValue(), highSeverity.getEventId());
+        assertEquals(fields[1].getValue(), ushort(700));
+
+        assertSame(compiled.apply(filterContext, highSeverity), fields);
+
+        assertNull(compiled.apply(filterContext, lowSeverity));
+    }
+
+    @Test
+    public void testOfTypeFlyweight() throws Exception {
+        CompiledEventFilter compiled = server.getEventFilterCache().getCompiledFilter(newOfTypeFilter());
+
+        assertNull(compiled.apply(filterContext, newFlyweightEvent(Identifiers.BaseEventType, 700)));
+        assertNull(compiled.apply(filterContext, newFlyweightEvent(Identifiers.AuditEventType, 700)));
+        assertNotNull(compiled.apply(filterContext, newFlyweightEvent(Identifiers.SystemEventType, 700)));
+        assertNotNull(compiled.apply(filterContext, newFlyweightEvent(Identifiers.DeviceFailureEventType, 700)));
+    }
+
+    @Test
+    public void testSelectNestedFlyweightField() throws Exception {
+        QualifiedName[] enabledStateId = new QualifiedName[]{
+            new QualifiedName(0, "EnabledState"),
+            new QualifiedName(0, "Id")
+        };
+
+        EventFilter filter = new EventFilter(
+            new SimpleAttributeOperand[]{
+                new SimpleAttributeOperand(
+                    Identifiers.ConditionType,
+                    enabledStateId,
+                    AttributeId.Value.uid(),
+                    null
+                ),
+                new SimpleAttributeOperand(
+                    Identifiers.ConditionType,
+                    new QualifiedName[0],
+                    AttributeId.NodeId.uid(),
+                    null
+                )
+            },
+            new ContentFilter(null)
+        );
+
+        CompiledEventFilter compiled = server.getEventFilterCache().getCompiledFilter(filter);
+
+        FlyweightEvent condition = server.getEventFactory().createFlyweightEvent(
+            new NodeId(1, "Condition"),
+            Identifiers.AlarmConditionType
+        );
+        condition.setFieldValue(Arrays.asList(enabledStateId), new Variant(true));
+
+        Variant[] fields = compiled.select(condition);
+
+        assertEquals(fields[0].getValue(), true);
+        assertEquals(fields[1].getValue(), new NodeId(1, "Condition"));
+
+        // not a ConditionType, so the operands don't apply
+        Variant[] baseEventFields = compiled.select(newFlyweightEvent(Identifiers.BaseEventType, 700));
+
+        assertNull(baseEventFields[0].getValue());
+        assertNull(baseEventFields[1].getValue());
+    }
+
+    private EventFilter newOfTypeFilter() {
+        return new EventFilter(
+            new SimpleAttributeOperand[]{
+                new SimpleAttributeOperand(
+                    Identifiers.BaseEventType,
+                    new QualifiedName[]{new QualifiedName(0, "EventType")},
+                    AttributeId.Value.uid(),
+                    null
+                )
+            },
+            new ContentFilter(new ContentFilterElement[]{
+                new ContentFilterElement(
+                    FilterOperator.OfType,
+                    new ExtensionObject[]{
+                        ExtensionObject.encode(
+                            server.getSerializationContext(),
+                            new LiteralOperand(new Variant(Identifiers.SystemEventType))
+                        )
+                    }
+                )
+            })
+        );
+    }
+
+    private EventFilter newSeverityFilter(int severity) {
+        SimpleAttributeOperand severityOperand = new SimpleAttributeOperand(
+            Identifiers.BaseEventType,
+            new QualifiedName[]{new QualifiedName(0, "Severity")},
+            AttributeId.Value.uid(),
+            null
+        );
+
+        return new EventFilter(
+            new SimpleAttributeOperand[]{
+                new SimpleAttributeOperand(
+                    Identifiers.BaseEventType,
+                    new QualifiedName[]{new QualifiedName(0, "EventId")},
+                    AttributeId.Value.uid(),
+                    null
+                ),
+                severityOperand
+            },
+            new ContentFilter(new ContentFilterElement[]{
+                new ContentFilterElement(
+                    FilterOperator.GreaterThan,
+                    new ExtensionObject[]{
+                        ExtensionObject.encode(server.getSerializationContext(), severityOperand),
+                        ExtensionObject.encode(
+                            server.getSerializationContext(),
+                            new LiteralOperand(new Variant(ushort(severity)))
+                        )
+                    }
+                )
+            })
+        );
+    }
+
+    private FlyweightEvent newFlyweightEvent(NodeId eventTypeId, int severity) throws Exception {
+        UUID uuid = UUID.randomUUID();
+
+        FlyweightEvent event = server.getEventFactory().createFlyweightEvent(new NodeId(1, uuid), eventTypeId);
+
+        event.setEventId(ByteString.of(uuid.toString().getBytes()));
+        event.setEventType(eventTypeId);
+        event.setSeverity(ushort(severity));
+
+        return event;
+    }
+
+    private BaseEventTypeNode newEvent(NodeId eventTypeId, int severity) throws Exception {
+        UUID uuid = UUID.randomUUID();
+
+        BaseEventTypeNode event = server.getEventFactory().createEvent(new NodeId(1, uuid), eventTypeId);
+
+        event.setEventId(ByteString.of(uuid.toString().getBytes()));
+        event.setEventType(eventTypeId);
+        event.setSeverity(ushort(severity));
+
+        return event;
+    }
+
+}
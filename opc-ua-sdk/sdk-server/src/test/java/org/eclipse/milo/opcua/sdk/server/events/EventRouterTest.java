@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
+import org.eclipse.milo.opcua.sdk.server.api.EventItem;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class EventRouterTest {
+
+    private final NodeId notifierId = new NodeId(2, "Notifier");
+    private final NodeId sourceId = new NodeId(2, "Source");
+    private final NodeId otherSourceId = new NodeId(2, "OtherSource");
+
+    private final UaNodeManager nodeManager = new UaNodeManager();
+
+    private OpcUaServer server;
+
+    @BeforeClass
+    public void setup() {
+        server = new OpcUaServer(OpcUaServerConfig.builder().build());
+        server.getEventFactory().startup();
+
+        nodeManager.addReferences(
+            new Reference(
+                notifierId,
+                Identifiers.HasEventSource,
+                sourceId.expanded(),
+                true
+            ),
+            server.getNamespaceTable()
+        );
+
+        server.getAddressSpaceManager().register(nodeManager);
+    }
+
+    @AfterClass
+    public void teardown() {
+        server.getAddressSpaceManager().unregister(nodeManager);
+        server.getEventFactory().shutdown();
+    }
+
+    @Test
+    public void testRouteByEventType() throws Exception {
+        EventRouter router = new EventRouter(server);
+
+        EventItem allEvents = newItem(Identifiers.Server, Identifiers.BaseEventType);
+        EventItem systemEvents = newItem(Identifiers.Server, Identifiers.SystemEventType);
+
+        router.register(allEvents);
+        router.register(systemEvents);
+
+        BaseEventTypeNode auditEvent = newEvent(Identifiers.AuditEventType, Identifiers.Server);
+        BaseEventTypeNode deviceFailureEvent = newEvent(Identifiers.DeviceFailureEventType, Identifiers.Server);
+
+        try {
+            router.post(auditEvent);
+            router.post(deviceFailureEvent);
+
+            verify(allEvents).onEvent(auditEvent);
+            verify(allEvents).onEvent(deviceFailureEvent);
+            verify(systemEvents, never()).onEvent(auditEvent);
+            verify(systemEvents).onEvent(deviceFailureEvent);
+        } finally {
+            auditEvent.delete();
+            deviceFailureEvent.delete();
+        }
+    }
+
+    @Test
+    public void testRouteByNotifier() throws Exception {
+        EventRouter router = new EventRouter(server);
+
+        EventItem serverItem = newItem(Identifiers.Server, Identifiers.BaseEventType);
+        EventItem notifierItem = newItem(notifierId, Identifiers.BaseEventType);
+        EventItem sourceItem = newItem(sourceId, Identifiers.BaseEventType);
+
+        router.register(serverItem);
+        router.register(notifierItem);
+        router.register(sourceItem);
+
+        BaseEventTypeNode sourceEvent = newEvent(Identifiers.BaseEventType, sourceId);
+        BaseEventTypeNode otherSourceEvent = newEvent(Identifiers.BaseEventType, otherSourceId);
+
+        try {
+            router.post(sourceEvent);
+            router.post(otherSourceEvent);
+
+            verify(serverItem).onEvent(sourceEvent);
+            verify(serverItem).onEvent(otherSourceEvent);
+            verify(notifierItem).onEvent(sourceEvent);
+            verify(notifierItem, never()).onEvent(otherSourceEvent);
+            verify(sourceItem).onEvent(sourceEvent);
+            verify(sourceItem, never()).onEvent(otherSourceEvent);
+        } finally {
+            sourceEvent.delete();
+            otherSourceEvent.delete();
+        }
+    }
+
+    @Test
+    public void testRouteFlyweight() throws Exception {
+        EventRouter router = new EventRouter(server);
+
+        EventItem systemEvents = newItem(Identifiers.Server, Identifiers.SystemEventType);
+        EventItem notifierItem = newItem(notifierId, Identifiers.BaseEventType);
+
+        router.register(systemEvents);
+        router.register(notifierItem);
+
+        FlyweightEvent auditEvent = server.getEventFactory()
+            .createFlyweightEvent(new NodeId(1, UUID.randomUUID()), Identifiers.AuditEventType);
+        auditEvent.setSourceNode(sourceId);
+
+        FlyweightEvent deviceFailureEvent = server.getEventFactory()
+            .createFlyweightEvent(new NodeId(1, UUID.randomUUID()), Identifiers.DeviceFailureEventType);
+        deviceFailureEvent.setSourceNode(otherSourceId);
+
+        router.post(auditEvent);
+        router.post(deviceFailureEvent);
+
+        verify(systemEvents, never()).onEvent(auditEvent);
+        verify(systemEvents).onEvent(deviceFailureEvent);
+        verify(notifierItem).onEvent(auditEvent);
+        verify(notifierItem, never()).onEvent(deviceFailureEvent);
+    }
+
+    @Test
+    public void testFlyweightIsForwardedAsNode() throws Exception {
+        EventRouter router = new EventRouter(server);
+
+        Session session = mock(Session.class);
+        when(session.getServer()).thenReturn(server);
+
+        AtomicReference<BaseEventTypeNode> received = new AtomicReference<>();
+        List<Object> fields = new ArrayList<>();
+
+        EventItem item = newItem(NodeEventItem.class, Identifiers.Server, Identifiers.BaseEventType);
+        when(item.getSession()).thenReturn(session);
+        doCallRealMethod().when(item).onEvent(any(FlyweightEvent.class));
+        doAnswer(invocation -> {
+            BaseEventTypeNode eventNode = invocation.getArgument(0);
+            received.set(eventNode);
+            fields.add(eventNode.getEventType());
+            fields.add(eventNode.getSourceNode());
+            fields.add(eventNode.getMessage());
+            return null;
+        }).when(item).onEvent(any(BaseEventTypeNode.class));
+
+        router.register(item);
+
+        FlyweightEvent event = server.getEventFactory()
+            .createFlyweightEvent(new NodeId(1, UUID.randomUUID()), Identifiers.AuditEventType);
+        event.setEventType(Identifiers.AuditEventType);
+        event.setSourceNode(sourceId);
+        event.setMessage(LocalizedText.english("flyweight"));
+
+        router.post(event);
+
+        assertNotNull(received.get());
+        assertEquals(fields, Arrays.asList(Identifiers.AuditEventType, sourceId, LocalizedText.english("flyweight")));
+
+        // the Node is only needed for the duration of the call
+        assertFalse(server.getAddressSpaceManager().getManagedNode(received.get().getNodeId()).isPresent());
+    }
+
+    @Test
+    public void testUnregister() throws Exception {
+        EventRouter router = new EventRouter(server);
+
+        EventItem item = newItem(Identifiers.Server, Identifiers.BaseEventType);
+
+        router.register(item);
+        assertEquals(router.getRegisteredItemCount(), 1);
+
+        router.unregister(item);
+        assertEquals(router.getRegisteredItemCount(), 0);
+
+        BaseEventTypeNode event = newEvent(Identifiers.BaseEventType, Identifiers.Server);
+
+        try {
+            router.post(event);
+
+            verify(item, never()).onEvent(any(BaseEventTypeNode.class));
+        } finally {
+            event.delete();
+        }
+    }
+
+    @Test
+    public void testPostAsync() throws Exception {
+        EventRouter router = new EventRouter(server);
+
+        CountDownLatch latch = new CountDownLatch(1);
+
+        EventItem item = newItem(Identifiers.Server, Identifiers.BaseEventType);
+        doAnswer(invocation -> {
+            latch.countDown();
+            return null;
+        }).when(item).onEvent(any(BaseEventTypeNode.class));
+
+        router.register(item);
+
+        BaseEventTypeNode event = newEvent(Identifiers.BaseEventType, Identifiers.Server);
+
+        assertTrue(router.postAsync(event));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        verify(item).onEvent(event);
+    }
+
+    @Test
+    public void testPostAsyncDropsWhenFull() throws Exception {
+        EventRouter router = new EventRouter(server, 0);
+
+        EventItem item = newItem(Identifiers.Server, Identifiers.BaseEventType);
+        router.register(item);
+
+        BaseEventTypeNode event = newEvent(Identifiers.BaseEventType, Identifiers.Server);
+
+        assertFalse(router.postAsync(event));
+        assertEquals(router.getDroppedEventCount().sum(), 1L);
+        assertEquals(router.getQueuedEventCount(), 0);
+
+        verify(item, never()).onEvent(any(BaseEventTypeNode.class));
+    }
+
+    private static EventItem newItem(NodeId notifierId, NodeId eventTypeId) {
+        return newItem(EventItem.class, notifierId, eventTypeId);
+    }
+
+    private static EventItem newItem(Class<? extends EventItem> itemClass, NodeId notifierId, NodeId eventTypeId) {
+        EventItem item = mock(itemClass);
+
+        when(item.getReadValueId()).thenReturn(
+            new ReadValueId(notifierId, AttributeId.EventNotifier.uid(), null, QualifiedName.NULL_VALUE)
+        );
+        when(item.getEventTypeId()).thenReturn(eventTypeId);
+
+        return item;
+    }
+
+    private BaseEventTypeNode newEvent(NodeId eventTypeId, NodeId sourceNodeId) throws Exception {
+        BaseEventTypeNode event = server.getEventFactory().createEvent(new NodeId(1, UUID.randomUUID()), eventTypeId);
+
+        event.setEventType(eventTypeId);
+        event.setSourceNode(sourceNodeId);
+
+        return event;
+    }
+
+    /**
+     * An {@link EventItem} that only implements the {@link BaseEventTypeNode} path, so its inherited default
+     * {@link EventItem#onEvent(FlyweightEvent)} can be called for real.
+     */
+    private abstract static class NodeEventItem implements EventItem {
+
+        @Override
+        public void onEvent(FlyweightEvent event) {
+            EventItem.super.onEvent(event);
+        }
+
+    }
+
+}
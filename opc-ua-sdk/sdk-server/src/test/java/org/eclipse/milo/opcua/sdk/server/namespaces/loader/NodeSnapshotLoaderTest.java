@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.namespaces.loader;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
+import org.eclipse.milo.opcua.sdk.server.api.NodeManager;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.DataTypeManager;
+import org.eclipse.milo.opcua.stack.core.types.OpcUaDataTypeManager;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.mockito.Mockito;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class NodeSnapshotLoaderTest {
+
+    private OpcUaServer server;
+    private UaNodeManager generatedNodeManager;
+
+    @BeforeClass
+    public void setup() throws Exception {
+        server = Mockito.mock(OpcUaServer.class);
+
+        NamespaceTable namespaceTable = new NamespaceTable();
+        Mockito.when(server.getNamespaceTable()).thenReturn(namespaceTable);
+
+        Mockito.when(server.getSerializationContext()).thenReturn(new SerializationContext() {
+            @Override
+            public EncodingLimits getEncodingLimits() {
+                return EncodingLimits.DEFAULT;
+            }
+
+            @Override
+            public NamespaceTable getNamespaceTable() {
+                return namespaceTable;
+            }
+
+            @Override
+            public DataTypeManager getDataTypeManager() {
+                return OpcUaDataTypeManager.getInstance();
+            }
+        });
+
+        generatedNodeManager = new UaNodeManager();
+
+        new NodeLoader(newContext(generatedNodeManager), generatedNodeManager).loadNodes();
+    }
+
+    /**
+     * The snapshot resource, when the build generated one, must contain exactly what the generated loaders produce.
+     */
+    @Test
+    public void testSnapshotResourceMatchesGeneratedLoaders() throws Exception {
+        if (NodeSnapshotLoader.class.getResource(NodeSnapshotLoader.RESOURCE_NAME) == null) {
+            throw new SkipException("no snapshot resource; build with -P node-snapshot to generate it");
+        }
+
+        UaNodeManager snapshotNodeManager = new UaNodeManager();
+
+        assertTrue(new NodeSnapshotLoader(newContext(snapshotNodeManager), snapshotNodeManager).loadNodes());
+
+        assertNodesEqual(snapshotNodeManager, generatedNodeManager);
+    }
+
+    @Test
+    public void testWriteAndLoad() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        new NodeSnapshotWriter(server.getSerializationContext()).write(generatedNodeManager, outputStream);
+
+        UaNodeManager snapshotNodeManager = new UaNodeManager();
+
+        new NodeSnapshotLoader(newContext(snapshotNodeManager), snapshotNodeManager)
+            .loadNodes(Unpooled.wrappedBuffer(outputStream.toByteArray()));
+
+        assertNodesEqual(snapshotNodeManager, generatedNodeManager);
+    }
+
+    @Test
+    public void testNodesAreLoadedOnFirstLookup() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        new NodeSnapshotWriter(server.getSerializationContext()).write(generatedNodeManager, outputStream);
+
+        ByteBuf buffer = Unpooled.wrappedBuffer(outputStream.toByteArray());
+
+        SnapshotNodeManager snapshotNodeManager = new SnapshotNodeManager();
+
+        List<NodeId> initialized = new ArrayList<>();
+        snapshotNodeManager.setNodeInitializer(node -> initialized.add(node.getNodeId()));
+
+        new NodeSnapshotLoader(newContext(snapshotNodeManager), snapshotNodeManager).loadNodes(buffer);
+        buffer.release();
+
+        assertTrue(snapshotNodeManager.getMaterializedNodes().isEmpty());
+        assertEquals(snapshotNodeManager.getNodeIds().size(), generatedNodeManager.getNodeIds().size());
+        assertTrue(snapshotNodeManager.containsNode(Identifiers.Server));
+        assertTrue(snapshotNodeManager.getMaterializedNodes().isEmpty());
+
+        assertNotNull(snapshotNodeManager.get(Identifiers.Server));
+        assertEquals(snapshotNodeManager.getMaterializedNodes().size(), 1);
+        assertEquals(initialized, Collections.singletonList(Identifiers.Server));
+
+        // References are available without loading their source or target nodes.
+        assertEquals(
+            snapshotNodeManager.getReferences(Identifiers.Server),
+            generatedNodeManager.getReferences(Identifiers.Server)
+        );
+        assertEquals(snapshotNodeManager.getMaterializedNodes().size(), 1);
+        assertTrue(buffer.refCnt() > 0);
+
+        assertNodesEqual(snapshotNodeManager, generatedNodeManager);
+        assertEquals(initialized.size(), generatedNodeManager.getNodeIds().size());
+        assertEquals(buffer.refCnt(), 0);
+    }
+
+    @Test
+    public void testTruncatedSnapshotAddsNothing() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        new NodeSnapshotWriter(server.getSerializationContext()).write(generatedNodeManager, outputStream);
+
+        byte[] bs = outputStream.toByteArray();
+
+        UaNodeManager snapshotNodeManager = new UaNodeManager();
+        NodeSnapshotLoader loader = new NodeSnapshotLoader(newContext(snapshotNodeManager), snapshotNodeManager);
+
+        UaException exception = expectThrows(
+            UaException.class,
+            () -> loader.loadNodes(Unpooled.wrappedBuffer(bs, 0, bs.length / 2))
+        );
+
+        assertEquals(exception.getStatusCode().getValue(), StatusCodes.Bad_DecodingError);
+        assertTrue(snapshotNodeManager.getNodes().isEmpty());
+
+        SnapshotNodeManager lazyNodeManager = new SnapshotNodeManager();
+        NodeSnapshotLoader lazyLoader = new NodeSnapshotLoader(newContext(lazyNodeManager), lazyNodeManager);
+
+        expectThrows(UaException.class, () -> lazyLoader.loadNodes(Unpooled.wrappedBuffer(bs, 0, bs.length / 2)));
+        assertTrue(lazyNodeManager.getNodeIds().isEmpty());
+    }
+
+    private UaNodeContext newContext(UaNodeManager nodeManager) {
+        return new UaNodeContext() {
+            @Override
+            public OpcUaServer getServer() {
+                return server;
+            }
+
+            @Override
+            public NodeManager<UaNode> getNodeManager() {
+                return nodeManager;
+            }
+        };
+    }
+
+    private static void assertNodesEqual(UaNodeManager actual, UaNodeManager expected) {
+        assertEquals(actual.getNodes().size(), expected.getNodes().size());
+
+        for (UaNode expectedNode : expected.getNodes()) {
+            UaNode actualNode = actual.get(expectedNode.getNodeId());
+
+            assertNotNull(actualNode, expectedNode.getNodeId().toParseableString());
+            assertEquals(actualNode.getClass(), expectedNode.getClass());
+
+            for (AttributeId attributeId : AttributeId.getAttributes(expectedNode.getNodeClass())) {
+                Object actualValue = actualNode.getAttribute(attributeId);
+                Object expectedValue = expectedNode.getAttribute(attributeId);
+
+                if (attributeId == AttributeId.Value) {
+                    // only the Variant; the timestamps are set when the nodes are loaded
+                    actualValue = ((DataValue) actualValue).getValue();
+                    expectedValue = ((DataValue) expectedValue).getValue();
+                }
+
+                assertEquals(actualValue, expectedValue, expectedNode.getNodeId() + " " + attributeId);
+            }
+
+            assertEquals(
+                actual.getReferences(expectedNode.getNodeId()),
+                expected.getReferences(expectedNode.getNodeId())
+            );
+        }
+    }
+
+}
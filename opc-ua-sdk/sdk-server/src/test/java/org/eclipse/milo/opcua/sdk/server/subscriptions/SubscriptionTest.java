@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.subscriptions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfigLimits;
+import org.eclipse.milo.opcua.sdk.server.diagnostics.ServerDiagnosticsSummary;
+import org.eclipse.milo.opcua.sdk.server.items.MonitoredDataItem;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.serialization.UaStructure;
+import org.eclipse.milo.opcua.stack.core.types.DataTypeManager;
+import org.eclipse.milo.opcua.stack.core.types.OpcUaDataTypeManager;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MonitoringMode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.PublishRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.PublishResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.server.UaStackServer;
+import org.eclipse.milo.opcua.stack.server.UaStackServerConfig;
+import org.eclipse.milo.opcua.stack.server.services.ServiceRequest;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class SubscriptionTest {
+
+    private final SerializationContext serializationContext = new SerializationContext() {
+        private final NamespaceTable namespaceTable = new NamespaceTable();
+
+        @Override
+        public EncodingLimits getEncodingLimits() {
+            return EncodingLimits.DEFAULT;
+        }
+
+        @Override
+        public NamespaceTable getNamespaceTable() {
+            return namespaceTable;
+        }
+
+        @Override
+        public DataTypeManager getDataTypeManager() {
+            return OpcUaDataTypeManager.getInstance();
+        }
+    };
+
+    private OpcUaServer server;
+    private UaStackServer stackServer;
+    private SubscriptionManager subscriptionManager;
+
+    @BeforeMethod
+    public void setup() {
+        OpcUaServerConfig config = Mockito.mock(OpcUaServerConfig.class);
+        Mockito.when(config.getLimits()).thenReturn(new OpcUaServerConfigLimits() {});
+
+        server = Mockito.mock(OpcUaServer.class);
+        Mockito.when(server.getConfig()).thenReturn(config);
+        Mockito.when(server.getDiagnosticsSummary()).thenReturn(new ServerDiagnosticsSummary(server));
+        Mockito.when(server.getSerializationContext()).thenReturn(serializationContext);
+        Mockito.when(server.getScheduledExecutorService()).thenReturn(Mockito.mock(ScheduledExecutorService.class));
+
+        UaStackServerConfig stackServerConfig = Mockito.mock(UaStackServerConfig.class);
+        Mockito.when(stackServerConfig.getExecutor()).thenReturn(MoreExecutors.newDirectExecutorService());
+
+        stackServer = Mockito.mock(UaStackServer.class);
+        Mockito.when(stackServer.getConfig()).thenReturn(stackServerConfig);
+
+        PublishQueue publishQueue = new PublishQueue();
+
+        subscriptionManager = Mockito.mock(SubscriptionManager.class);
+        Mockito.when(subscriptionManager.getServer()).thenReturn(server);
+        Mockito.when(subscriptionManager.getPublishQueue()).thenReturn(publishQueue);
+    }
+
+    @Test
+    public void testItemReadyWhileDrainedIsRegisteredAgain() throws Exception {
+        Subscription subscription = newSubscription(0);
+
+        AtomicBoolean arrived = new AtomicBoolean(false);
+
+        MonitoredDataItem item = new MonitoredDataItem(
+            server, null, uint(1), subscription.getId(), newReadValueId("foo"), MonitoringMode.Reporting,
+            TimestampsToReturn.Both, uint(1), 0.0, uint(10), true
+        ) {
+            @Override
+            public synchronized boolean getNotifications(List<UaStructure> notifications, int max) {
+                boolean gatheredAll = super.getNotifications(notifications, max);
+
+                // a new value arrives after the queue was drained but before the publish completes
+                if (arrived.compareAndSet(false, true)) {
+                    setValue(newValue(2));
+                }
+
+                return gatheredAll;
+            }
+        };
+
+        subscription.addMonitoredItems(Collections.singletonList(item));
+
+        item.setValue(newValue(1));
+
+        assertEquals(values(publish(subscription)), Collections.singletonList(1));
+        assertEquals(values(publish(subscription)), Collections.singletonList(2));
+    }
+
+    @Test
+    public void testSamplingToReportingRegistersItem() throws Exception {
+        Subscription subscription = newSubscription(0);
+
+        MonitoredDataItem item = newItem(subscription, 1, MonitoringMode.Sampling);
+        subscription.addMonitoredItems(Collections.singletonList(item));
+
+        item.setValue(newValue(1));
+
+        // sampling, so the queued value isn't reported...
+        assertTrue(clientHandles(publish(subscription)).isEmpty());
+
+        // ...until the item is switched to reporting.
+        item.setMonitoringMode(MonitoringMode.Reporting);
+
+        PublishResponse response = publish(subscription);
+        assertEquals(clientHandles(response), Collections.singletonList(1L));
+        assertEquals(values(response), Collections.singletonList(1));
+    }
+
+    @Test
+    public void testTriggeredItemsAreDelivered() throws Exception {
+        Subscription subscription = newSubscription(0);
+
+        MonitoredDataItem triggering = newItem(subscription, 1, MonitoringMode.Reporting);
+        MonitoredDataItem triggered = newItem(subscription, 2, MonitoringMode.Sampling);
+        triggering.getTriggeredItems().put(triggered.getId(), triggered);
+
+        subscription.addMonitoredItems(Arrays.asList(triggering, triggered));
+
+        triggered.setValue(newValue(2));
+        triggering.setValue(newValue(1));
+
+        assertEquals(clientHandles(publish(subscription)), Arrays.asList(1L, 2L));
+        assertFalse(triggered.isTriggered());
+    }
+
+    @Test
+    public void testPartialDrainLeavesRemainingItemsReady() throws Exception {
+        Subscription subscription = newSubscription(2);
+
+        MonitoredDataItem item1 = newItem(subscription, 1, MonitoringMode.Reporting);
+        MonitoredDataItem item2 = newItem(subscription, 2, MonitoringMode.Reporting);
+        MonitoredDataItem item3 = newItem(subscription, 3, MonitoringMode.Reporting);
+
+        subscription.addMonitoredItems(Arrays.asList(item1, item2, item3));
+
+        item1.setValue(newValue(1));
+        item2.setValue(newValue(2));
+        item3.setValue(newValue(3));
+
+        PublishResponse response1 = publish(subscription);
+        assertEquals(clientHandles(response1), Arrays.asList(1L, 2L));
+        assertTrue(response1.getMoreNotifications());
+
+        // item1 becomes ready again while item3 is still waiting to be drained
+        item1.setValue(newValue(4));
+
+        PublishResponse response2 = publish(subscription);
+        assertEquals(clientHandles(response2), Arrays.asList(3L, 1L));
+        assertEquals(values(response2), Arrays.asList(3, 4));
+        assertFalse(response2.getMoreNotifications());
+    }
+
+    @Test
+    public void testQueuedNotificationCount() throws Exception {
+        ServerDiagnosticsSummary diagnosticsSummary = server.getDiagnosticsSummary();
+
+        Subscription subscription = newSubscription(0);
+
+        MonitoredDataItem item1 = newItem(subscription, 1, MonitoringMode.Reporting);
+        MonitoredDataItem item2 = newItem(subscription, 2, MonitoringMode.Reporting);
+        subscription.addMonitoredItems(Arrays.asList(item1, item2));
+
+        item1.setValue(newValue(1));
+        item1.setValue(newValue(2));
+        item2.setValue(newValue(3));
+        assertEquals(diagnosticsSummary.getQueuedNotificationCount(), 3L);
+
+        publish(subscription);
+        assertEquals(diagnosticsSummary.getQueuedNotificationCount(), 0L);
+
+        item1.setValue(newValue(4));
+        item2.setValue(newValue(5));
+        item2.setMonitoringMode(MonitoringMode.Disabled);
+        assertEquals(diagnosticsSummary.getQueuedNotificationCount(), 1L);
+
+        subscription.removeMonitoredItems(Collections.singletonList(item1));
+        assertEquals(diagnosticsSummary.getQueuedNotificationCount(), 0L);
+
+        // values queued after the item was deleted aren't counted
+        item1.setValue(newValue(6));
+        assertEquals(diagnosticsSummary.getQueuedNotificationCount(), 0L);
+
+        item2.setMonitoringMode(MonitoringMode.Reporting);
+        item2.setValue(newValue(7));
+        assertEquals(diagnosticsSummary.getQueuedNotificationCount(), 1L);
+
+        subscription.deleteSubscription();
+        assertEquals(diagnosticsSummary.getQueuedNotificationCount(), 0L);
+    }
+
+    private Subscription newSubscription(long maxNotificationsPerPublish) {
+        return new Subscription(
+            subscriptionManager,
+            uint(1),
+            1000.0,
+            10,
+            30,
+            maxNotificationsPerPublish,
+            true,
+            0
+        );
+    }
+
+    private MonitoredDataItem newItem(Subscription subscription, long clientHandle, MonitoringMode monitoringMode) {
+        return new MonitoredDataItem(
+            server,
+            null,
+            uint(clientHandle),
+            subscription.getId(),
+            newReadValueId("item" + clientHandle),
+            monitoringMode,
+            TimestampsToReturn.Both,
+            uint(clientHandle),
+            0.0,
+            uint(10),
+            true
+        );
+    }
+
+    /**
+     * Queue a Publish request and, unless it was used immediately by a Subscription waiting to send more
+     * notifications, expire the publishing timer so the Subscription answers it.
+     */
+    private PublishResponse publish(Subscription subscription) throws Exception {
+        RequestHeader header = new RequestHeader(
+            NodeId.NULL_VALUE, DateTime.now(), uint(1), uint(0), null, uint(0), null);
+
+        ServiceRequest service = new ServiceRequest(
+            stackServer,
+            new PublishRequest(header, null),
+            null,
+            0L,
+            null,
+            null
+        );
+
+        subscriptionManager.getPublishQueue().addRequest(service);
+
+        if (!service.getFuture().isDone()) {
+            subscription.onPublishingTimer();
+        }
+
+        return (PublishResponse) service.getFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    private List<MonitoredItemNotification> notifications(PublishResponse response) {
+        List<MonitoredItemNotification> notifications = new ArrayList<>();
+
+        for (ExtensionObject xo : response.getNotificationMessage().getNotificationData()) {
+            Object notification = xo.decode(serializationContext);
+
+            if (notification instanceof DataChangeNotification) {
+                Collections.addAll(notifications, ((DataChangeNotification) notification).getMonitoredItems());
+            }
+        }
+
+        return notifications;
+    }
+
+    private List<Long> clientHandles(PublishResponse response) {
+        List<Long> clientHandles = new ArrayList<>();
+
+        for (MonitoredItemNotification notification : notifications(response)) {
+            clientHandles.add(notification.getClientHandle().longValue());
+        }
+
+        return clientHandles;
+    }
+
+    private List<Object> values(PublishResponse response) {
+        List<Object> values = new ArrayList<>();
+
+        for (MonitoredItemNotification notification : notifications(response)) {
+            values.add(notification.getValue().getValue().getValue());
+        }
+
+        return values;
+    }
+
+    private static ReadValueId newReadValueId(String id) {
+        return new ReadValueId(new NodeId(1, id), AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE);
+    }
+
+    private static DataValue newValue(int value) {
+        return new DataValue(new Variant(value));
+    }
+
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.AddressSpaceManager;
+import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices.ReadContext;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class AttributeValueCacheTest {
+
+    private static final ReadValueId READ_VALUE_ID = new ReadValueId(
+        new NodeId(1, "foo"),
+        AttributeId.Value.uid(),
+        null,
+        QualifiedName.NULL_VALUE
+    );
+
+    private final AtomicInteger readCount = new AtomicInteger();
+    private final List<ReadContext> pending = new CopyOnWriteArrayList<>();
+
+    private OpcUaServer server;
+    private AttributeValueCache valueCache;
+
+    private volatile boolean completeReads = true;
+
+    @BeforeMethod
+    public void setup() {
+        readCount.set(0);
+        pending.clear();
+        completeReads = true;
+
+        server = Mockito.mock(OpcUaServer.class);
+        AddressSpaceManager addressSpaceManager = Mockito.mock(AddressSpaceManager.class);
+        Mockito.when(server.getAddressSpaceManager()).thenReturn(addressSpaceManager);
+
+        Mockito.doAnswer(invocation -> {
+            ReadContext context = invocation.getArgument(0);
+            List<ReadValueId> readValueIds = invocation.getArgument(3);
+
+            int count = readCount.incrementAndGet();
+
+            if (completeReads) {
+                List<DataValue> values = new ArrayList<>();
+                for (int i = 0; i < readValueIds.size(); i++) {
+                    values.add(new DataValue(new Variant(count), StatusCode.GOOD, DateTime.now()));
+                }
+                context.success(values);
+            } else {
+                pending.add(context);
+            }
+            return null;
+        }).when(addressSpaceManager).read(any(), anyDouble(), any(), anyList());
+
+        valueCache = new AttributeValueCache(server, 100, 60_000);
+    }
+
+    @Test
+    public void testHitWithinMaxAge() throws Exception {
+        assertEquals(read(60_000.0).getValue().getValue(), 1);
+        assertEquals(read(60_000.0).getValue().getValue(), 1);
+
+        assertEquals(readCount.get(), 1);
+        assertEquals(valueCache.getHitCount().sum(), 1L);
+        assertEquals(valueCache.getMissCount().sum(), 1L);
+    }
+
+    @Test
+    public void testMissWhenOlderThanMaxAge() throws Exception {
+        assertEquals(read(60_000.0).getValue().getValue(), 1);
+
+        Thread.sleep(20);
+
+        assertEquals(read(5.0).getValue().getValue(), 2);
+        assertEquals(readCount.get(), 2);
+    }
+
+    @Test
+    public void testValuesExpireIndividually() throws Exception {
+        valueCache = new AttributeValueCache(server, 100, 200);
+
+        ReadValueId displayName = new ReadValueId(
+            READ_VALUE_ID.getNodeId(),
+            AttributeId.DisplayName.uid(),
+            null,
+            QualifiedName.NULL_VALUE
+        );
+
+        assertEquals(read(60_000.0).getValue().getValue(), 1);
+
+        Thread.sleep(120);
+
+        valueCache.put(null, displayName, new DataValue(new Variant("displayName")));
+
+        Thread.sleep(120);
+
+        // refreshing another value cached for the same Node doesn't keep this one alive past maxAge...
+        assertEquals(read(60_000.0).getValue().getValue(), 2);
+
+        // ...and that value doesn't expire with the older values of its Node.
+        ReadContext context = new ReadContext(server, null);
+        valueCache.read(context, 60_000.0, TimestampsToReturn.Both, Collections.singletonList(displayName));
+        assertEquals(context.getFuture().get().get(0).getValue().getValue(), "displayName");
+        assertEquals(readCount.get(), 2);
+    }
+
+    @Test
+    public void testAgeIsMeasuredFromServerTimestamp() throws Exception {
+        DateTime serverTime = new DateTime(DateTime.now().getUtcTime() - 10_000L * 10_000L);
+
+        valueCache.put(null, READ_VALUE_ID, new DataValue(new Variant("old"), StatusCode.GOOD, null, serverTime));
+
+        // the value was 10 seconds old when it was cached...
+        assertEquals(read(5_000.0).getValue().getValue(), 1);
+        assertEquals(readCount.get(), 1);
+
+        valueCache.put(null, READ_VALUE_ID, new DataValue(new Variant("old"), StatusCode.GOOD, null, serverTime));
+
+        // ...but is young enough for a larger maxAge.
+        assertEquals(read(30_000.0).getValue().getValue(), "old");
+        assertEquals(readCount.get(), 1);
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        read(60_000.0);
+
+        valueCache.invalidate(READ_VALUE_ID.getNodeId());
+
+        assertEquals(read(60_000.0).getValue().getValue(), 2);
+    }
+
+    @Test
+    public void testTimestampsToReturn() throws Exception {
+        read(60_000.0);
+
+        ReadContext context = new ReadContext(server, null);
+        valueCache.read(context, 60_000.0, TimestampsToReturn.Neither, Collections.singletonList(READ_VALUE_ID));
+
+        DataValue value = context.getFuture().get().get(0);
+        assertNull(value.getSourceTime());
+        assertNull(value.getServerTime());
+    }
+
+    @Test
+    public void testConcurrentMissesAreCoalesced() throws Exception {
+        completeReads = false;
+
+        ReadContext context1 = new ReadContext(server, null);
+        ReadContext context2 = new ReadContext(server, null);
+
+        valueCache.read(context1, 1000.0, TimestampsToReturn.Both, Collections.singletonList(READ_VALUE_ID));
+        valueCache.read(context2, 1000.0, TimestampsToReturn.Both, Collections.singletonList(READ_VALUE_ID));
+
+        assertEquals(readCount.get(), 1);
+        assertFalse(context2.getFuture().isDone());
+
+        pending.get(0).success(Collections.singletonList(new DataValue(new Variant(42))));
+
+        assertEquals(context1.getFuture().get().get(0).getValue().getValue(), 42);
+        assertEquals(context2.getFuture().get().get(0).getValue().getValue(), 42);
+    }
+
+    @Test
+    public void testReadStartedBeforeInvalidateIsNotCached() throws Exception {
+        completeReads = false;
+
+        ReadContext context = new ReadContext(server, null);
+        valueCache.read(context, 60_000.0, TimestampsToReturn.Both, Collections.singletonList(READ_VALUE_ID));
+
+        // a Write completes and invalidates the Node while the read is still outstanding...
+        valueCache.invalidate(READ_VALUE_ID.getNodeId());
+
+        // ...so the value it returns, which predates the Write, is delivered but not cached.
+        pending.get(0).success(Collections.singletonList(new DataValue(new Variant(42))));
+        assertEquals(context.getFuture().get().get(0).getValue().getValue(), 42);
+
+        completeReads = true;
+
+        assertEquals(read(60_000.0).getValue().getValue(), 2);
+        assertEquals(readCount.get(), 2);
+    }
+
+    @Test
+    public void testReadAfterInvalidateDoesNotJoinEarlierRead() throws Exception {
+        completeReads = false;
+
+        ReadContext context1 = new ReadContext(server, null);
+        valueCache.read(context1, 60_000.0, TimestampsToReturn.Both, Collections.singletonList(READ_VALUE_ID));
+
+        valueCache.invalidate(READ_VALUE_ID.getNodeId());
+
+        ReadContext context2 = new ReadContext(server, null);
+        valueCache.read(context2, 60_000.0, TimestampsToReturn.Both, Collections.singletonList(READ_VALUE_ID));
+
+        assertEquals(readCount.get(), 2);
+
+        pending.get(0).success(Collections.singletonList(new DataValue(new Variant("old"))));
+        assertFalse(context2.getFuture().isDone());
+
+        pending.get(1).success(Collections.singletonList(new DataValue(new Variant("new"))));
+        assertEquals(context1.getFuture().get().get(0).getValue().getValue(), "old");
+        assertEquals(context2.getFuture().get().get(0).getValue().getValue(), "new");
+
+        // the value read after the invalidation is the one that was cached
+        assertEquals(read(60_000.0).getValue().getValue(), "new");
+        assertEquals(readCount.get(), 2);
+    }
+
+    @Test
+    public void testPutWithStaleGenerationIsSkipped() throws Exception {
+        long generation = valueCache.getGeneration(READ_VALUE_ID.getNodeId());
+
+        valueCache.invalidateAll();
+
+        valueCache.put(null, READ_VALUE_ID, new DataValue(new Variant("stale")), generation);
+
+        assertEquals(read(60_000.0).getValue().getValue(), 1);
+    }
+
+    @Test
+    public void testReadThatThrowsIsNotJoined() throws Exception {
+        AddressSpaceManager addressSpaceManager = server.getAddressSpaceManager();
+
+        Mockito.doThrow(new RuntimeException("boom"))
+            .doAnswer(invocation -> {
+                ReadContext context = invocation.getArgument(0);
+                readCount.incrementAndGet();
+                context.success(Collections.singletonList(new DataValue(new Variant("recovered"))));
+                return null;
+            })
+            .when(addressSpaceManager).read(any(), anyDouble(), any(), anyList());
+
+        ReadContext context = new ReadContext(server, null);
+        valueCache.read(context, 60_000.0, TimestampsToReturn.Both, Collections.singletonList(READ_VALUE_ID));
+
+        assertTrue(context.getFuture().isCompletedExceptionally());
+
+        // the failed read isn't left pending for the next Read to join
+        assertEquals(read(60_000.0).getValue().getValue(), "recovered");
+    }
+
+    private DataValue read(double maxAge) throws Exception {
+        ReadContext context = new ReadContext(server, null);
+
+        valueCache.read(context, maxAge, TimestampsToReturn.Both, Collections.singletonList(READ_VALUE_ID));
+
+        return context.getFuture().get().get(0);
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class BoundedQueueTest {
+
+    @Test
+    public void testDiscardOldest() {
+        BoundedQueue<Integer> queue = new BoundedQueue<>(3, true, null);
+
+        for (int i = 0; i < 3; i++) {
+            assertFalse(queue.add(i, UnaryOperator.identity()));
+        }
+
+        assertTrue(queue.add(3, v -> -v));
+        assertEquals(queue.size(), 3);
+
+        assertEquals(drain(queue), Arrays.asList(1, 2, -3));
+    }
+
+    @Test
+    public void testReplaceNewest() {
+        BoundedQueue<Integer> queue = new BoundedQueue<>(3, false, null);
+
+        for (int i = 0; i < 3; i++) {
+            queue.add(i, UnaryOperator.identity());
+        }
+
+        assertTrue(queue.add(3, v -> -v));
+        assertTrue(queue.add(4, v -> -v));
+
+        assertEquals(drain(queue), Arrays.asList(0, 1, -4));
+    }
+
+    @Test
+    public void testSetMaxSize() {
+        BoundedQueue<Integer> oldest = new BoundedQueue<>(5, true, null);
+        BoundedQueue<Integer> newest = new BoundedQueue<>(5, false, null);
+
+        for (int i = 0; i < 5; i++) {
+            oldest.add(i, UnaryOperator.identity());
+            newest.add(i, UnaryOperator.identity());
+        }
+
+        oldest.setMaxSize(2);
+        newest.setMaxSize(2);
+
+        assertEquals(drain(oldest), Arrays.asList(3, 4));
+        assertEquals(drain(newest), Arrays.asList(0, 4));
+    }
+
+    @Test
+    public void testSizeCounter() {
+        LongAdder counter = new LongAdder();
+
+        BoundedQueue<Integer> queue1 = new BoundedQueue<>(2, true, counter);
+        BoundedQueue<Integer> queue2 = new BoundedQueue<>(2, true, counter);
+
+        queue1.add(0, UnaryOperator.identity());
+        queue1.add(1, UnaryOperator.identity());
+        queue1.add(2, UnaryOperator.identity());
+        queue2.add(3, UnaryOperator.identity());
+        assertEquals(counter.sum(), 3L);
+
+        queue1.poll();
+        assertEquals(counter.sum(), 2L);
+
+        queue2.clear();
+        assertEquals(counter.sum(), 1L);
+
+        queue1.close();
+        assertEquals(counter.sum(), 0L);
+
+        // a closed queue ignores new elements
+        assertFalse(queue1.add(4, UnaryOperator.identity()));
+        assertNull(queue1.poll());
+        assertEquals(counter.sum(), 0L);
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 10_000;
+        int maxSize = 16;
+
+        LongAdder counter = new LongAdder();
+        BoundedQueue<Integer> queue = new BoundedQueue<>(maxSize, true, counter);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        AtomicBoolean oversized = new AtomicBoolean(false);
+
+        try {
+            for (int p = 0; p < producers; p++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        queue.add(i, UnaryOperator.identity());
+                    }
+                    done.countDown();
+                });
+            }
+
+            int polled = 0;
+
+            while (done.getCount() > 0 || !queue.isEmpty()) {
+                if (queue.size() > maxSize) oversized.set(true);
+
+                if (queue.poll() != null) polled++;
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertFalse(oversized.get());
+            assertTrue(polled > 0 && polled <= producers * perProducer);
+            assertEquals(queue.size(), 0);
+            assertEquals(counter.sum(), 0L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Integer> drain(BoundedQueue<Integer> queue) {
+        List<Integer> values = new ArrayList<>();
+
+        Integer value;
+        while ((value = queue.poll()) != null) {
+            values.add(value);
+        }
+
+        return values;
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.DataChangeTrigger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.DeadbandType;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.Range;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class DataChangeMonitoringFilterTest {
+
+    @Test
+    public void testNoDeadband() {
+        DataChangeMonitoringFilter filter = create(DataChangeTrigger.StatusValue, DeadbandType.None, 0.0, null);
+
+        assertTrue(filter.filter(null, value(1.0)));
+        assertFalse(filter.filter(value(1.0), value(1.0)));
+        assertTrue(filter.filter(value(1.0), value(1.5)));
+
+        assertFalse(filter.filter(value(new Double[]{1.0, 2.0}), value(new Double[]{1.0, 2.0})));
+        assertTrue(filter.filter(value(new Double[]{1.0, 2.0}), value(new Double[]{1.0, 3.0})));
+        assertFalse(filter.filter(value(new int[]{1, 2}), value(new int[]{1, 2})));
+        assertTrue(filter.filter(value(new String[]{"a"}), value(new String[]{"b"})));
+
+        // a change of type is always a change
+        assertTrue(filter.filter(value(1), value(1.0)));
+    }
+
+    @Test
+    public void testAbsoluteDeadband() {
+        DataChangeMonitoringFilter filter = create(DataChangeTrigger.StatusValue, DeadbandType.Absolute, 1.0, null);
+
+        assertFalse(filter.filter(value(10.0), value(10.5)));
+        assertFalse(filter.filter(value(10.0), value(9.0)));
+        assertTrue(filter.filter(value(10.0), value(11.5)));
+
+        assertFalse(filter.filter(value(10), value(11)));
+        assertTrue(filter.filter(value(uint(10)), value(uint(12))));
+
+        assertFalse(filter.filter(value(new Double[]{1.0, 2.0}), value(new Double[]{1.5, 2.5})));
+        assertTrue(filter.filter(value(new Double[]{1.0, 2.0}), value(new Double[]{1.5, 3.5})));
+        assertTrue(filter.filter(value(new Double[]{1.0, 2.0}), value(new Double[]{1.0})));
+        assertFalse(filter.filter(value(new float[]{1f, 2f}), value(new float[]{1.5f, 2.5f})));
+        assertTrue(filter.filter(value(new long[]{1, 2}), value(new long[]{1, 4})));
+
+        assertFalse(filter.filter(
+            value(new Integer[][]{{1, 2}, {3, 4}}),
+            value(new Integer[][]{{1, 2}, {3, 5}})
+        ));
+        assertTrue(filter.filter(
+            value(new Integer[][]{{1, 2}, {3, 4}}),
+            value(new Integer[][]{{1, 2}, {3, 6}})
+        ));
+
+        assertTrue(filter.filter(value(1.0), value(Double.NaN)));
+        assertFalse(filter.filter(value(Double.NaN), value(Double.NaN)));
+
+        // non-numeric values are reported whenever they change
+        assertTrue(filter.filter(value("a"), value("b")));
+    }
+
+    @Test
+    public void testPercentDeadband() {
+        DataChangeMonitoringFilter filter = create(
+            DataChangeTrigger.StatusValue,
+            DeadbandType.Percent,
+            10.0,
+            new Range(-50.0, 150.0)
+        );
+
+        assertEquals(filter.getDeadband(), 20.0);
+
+        assertFalse(filter.filter(value(100.0), value(119.0)));
+        assertTrue(filter.filter(value(100.0), value(121.0)));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testPercentDeadbandRequiresRange() {
+        create(DataChangeTrigger.StatusValue, DeadbandType.Percent, 10.0, null);
+    }
+
+    @Test
+    public void testStatusChangesIgnoreDeadband() {
+        DataChangeMonitoringFilter filter = create(DataChangeTrigger.StatusValue, DeadbandType.Absolute, 10.0, null);
+
+        DataValue bad = new DataValue(new Variant(1.0), new StatusCode(StatusCodes.Bad_Timeout));
+
+        assertTrue(filter.filter(value(1.0), bad));
+    }
+
+    @Test
+    public void testTriggers() {
+        DataChangeMonitoringFilter status = create(DataChangeTrigger.Status, DeadbandType.None, 0.0, null);
+
+        assertFalse(status.filter(value(1.0), value(2.0)));
+
+        DataChangeMonitoringFilter timestamp = create(
+            DataChangeTrigger.StatusValueTimestamp,
+            DeadbandType.Absolute,
+            10.0,
+            null
+        );
+
+        DataValue v0 = new DataValue(new Variant(1.0), StatusCode.GOOD, new DateTime(0L));
+        DataValue v1 = new DataValue(new Variant(2.0), StatusCode.GOOD, new DateTime(0L));
+        DataValue v2 = new DataValue(new Variant(2.0), StatusCode.GOOD, new DateTime(1L));
+
+        assertFalse(timestamp.filter(v0, v1));
+        assertTrue(timestamp.filter(v0, v2));
+    }
+
+    private static DataChangeMonitoringFilter create(
+        DataChangeTrigger trigger,
+        DeadbandType deadbandType,
+        double deadband,
+        Range euRange
+    ) {
+
+        return DataChangeMonitoringFilter.create(
+            new DataChangeFilter(trigger, uint(deadbandType.getValue()), deadband),
+            euRange
+        );
+    }
+
+    private static DataValue value(Object value) {
+        return new DataValue(new Variant(value));
+    }
+
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2019 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Lists;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
+import org.eclipse.milo.opcua.sdk.server.api.DataItem;
+import org.eclipse.milo.opcua.sdk.server.api.NodeManager;
+import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilters;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
+import org.mockito.Mockito;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class SubscriptionModelTest {
+
+    private final List<List<ReadValueId>> reads = new CopyOnWriteArrayList<>();
+    private final List<Session> sessions = new CopyOnWriteArrayList<>();
+
+    private final UaNodeManager nodeManager = new UaNodeManager();
+
+    private ExecutorService executor;
+    private ScheduledExecutorService scheduler;
+    private SubscriptionModel subscriptionModel;
+    private UaNodeContext nodeContext;
+
+    @BeforeMethod
+    public void setup() {
+        reads.clear();
+        sessions.clear();
+
+        executor = Executors.newCachedThreadPool();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        OpcUaServer server = Mockito.mock(OpcUaServer.class);
+        Mockito.when(server.getExecutorService()).thenReturn(executor);
+        Mockito.when(server.getScheduledExecutorService()).thenReturn(scheduler);
+        Mockito.when(server.getAttributeValueCache()).thenReturn(new AttributeValueCache(server, 0, 0));
+
+        AttributeServices attributeServices = new AttributeServices() {
+            @Override
+            public void read(
+                ReadContext context,
+                Double maxAge,
+                TimestampsToReturn timestamps,
+                List<ReadValueId> readValueIds
+            ) {
+
+                reads.add(readValueIds);
+                context.getSession().ifPresent(sessions::add);
+
+                List<DataValue> values = new ArrayList<>();
+                for (ReadValueId readValueId : readValueIds) {
+                    values.add(new DataValue(new Variant(readValueId.getNodeId().getIdentifier())));
+                }
+                context.success(values);
+            }
+
+            @Override
+            public void write(WriteContext context, List<WriteValue> writeValues) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        nodeContext = new UaNodeContext() {
+            @Override
+            public OpcUaServer getServer() {
+                return server;
+            }
+
+            @Override
+            public NodeManager<UaNode> getNodeManager() {
+                return nodeManager;
+            }
+        };
+
+        subscriptionModel = new SubscriptionModel(server, attributeServices, nodeManager);
+        subscriptionModel.startup();
+    }
+
+    @AfterMethod
+    public void teardown() {
+        subscriptionModel.shutdown();
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testCoalescesIdenticalReadValueIds() throws Exception {
+        Session session = Mockito.mock(Session.class);
+
+        TestDataItem item1 = new TestDataItem(session, "a", 1000.0, 1);
+        TestDataItem item2 = new TestDataItem(session, "a", 1000.0, 1);
+        TestDataItem item3 = new TestDataItem(session, "b", 1000.0, 1);
+
+        subscriptionModel.onDataItemsCreated(Lists.newArrayList(item1, item2, item3));
+
+        assertTrue(item1.latch.await(1, TimeUnit.SECONDS));
+        assertTrue(item2.latch.await(1, TimeUnit.SECONDS));
+        assertTrue(item3.latch.await(1, TimeUnit.SECONDS));
+
+        assertEquals(reads.size(), 1);
+        assertEquals(reads.get(0).size(), 2);
+        assertEquals(item1.values.get(0).getValue().getValue(), "a");
+        assertEquals(item2.values.get(0).getValue().getValue(), "a");
+        assertEquals(item3.values.get(0).getValue().getValue(), "b");
+    }
+
+    @Test
+    public void testReadsAreNotSharedAcrossSessions() throws Exception {
+        TestDataItem item1 = new TestDataItem(Mockito.mock(Session.class), "a", 1000.0, 1);
+        TestDataItem item2 = new TestDataItem(Mockito.mock(Session.class), "a", 1000.0, 1);
+
+        subscriptionModel.onDataItemsCreated(Lists.newArrayList(item1, item2));
+
+        assertTrue(item1.latch.await(1, TimeUnit.SECONDS));
+        assertTrue(item2.latch.await(1, TimeUnit.SECONDS));
+
+        assertEquals(reads.size(), 2);
+        assertEquals(sessions.size(), 2);
+        assertTrue(sessions.contains(item1.getSession()));
+        assertTrue(sessions.contains(item2.getSession()));
+    }
+
+    @Test
+    public void testReadsAreSharedAcrossSessionsForPlainNodes() throws Exception {
+        newNode("shared", 0);
+
+        Session session1 = Mockito.mock(Session.class);
+        Session session2 = Mockito.mock(Session.class);
+
+        TestDataItem item1 = new TestDataItem(session1, "shared", AttributeId.DisplayName, 1);
+        TestDataItem item2 = new TestDataItem(session2, "shared", AttributeId.DisplayName, 1);
+
+        subscriptionModel.onDataItemsCreated(Lists.newArrayList(item1, item2));
+
+        assertTrue(item1.latch.await(1, TimeUnit.SECONDS));
+        assertTrue(item2.latch.await(1, TimeUnit.SECONDS));
+
+        assertEquals(reads.size(), 1);
+        assertEquals(reads.get(0).size(), 1);
+    }
+
+    @Test
+    public void testFilteredReadsAreNotSharedAcrossSessions() throws Exception {
+        UaNode node = newNode("filteredShared", 0);
+        node.getFilterChain().addLast(AttributeFilters.getValue(ctx -> new DataValue(new Variant(42))));
+
+        Session session1 = Mockito.mock(Session.class);
+        Session session2 = Mockito.mock(Session.class);
+
+        TestDataItem item1 = new TestDataItem(session1, "filteredShared", AttributeId.DisplayName, 1);
+        TestDataItem item2 = new TestDataItem(session2, "filteredShared", AttributeId.DisplayName, 1);
+
+        subscriptionModel.onDataItemsCreated(Lists.newArrayList(item1, item2));
+
+        assertTrue(item1.latch.await(1, TimeUnit.SECONDS));
+        assertTrue(item2.latch.await(1, TimeUnit.SECONDS));
+
+        assertEquals(reads.size(), 2);
+    }
+
+    @Test
+    public void testIncrementalUpdates() throws Exception {
+        TestDataItem item1 = new TestDataItem(Mockito.mock(Session.class), "a", 100.0, 3);
+        TestDataItem item2 = new TestDataItem(Mockito.mock(Session.class), "b", 200.0, 1);
+
+        subscriptionModel.onDataItemsCreated(Lists.newArrayList(item1, item2));
+
+        assertTrue(item1.latch.await(2, TimeUnit.SECONDS));
+        assertEquals(subscriptionModel.getSamplingGroupCount(), 2);
+        assertEquals(subscriptionModel.getSampledItemCount(), 2);
+
+        item2.samplingInterval = 100.0;
+        subscriptionModel.onDataItemsModified(Lists.newArrayList(item2));
+        waitForModel();
+        assertEquals(subscriptionModel.getSamplingGroupCount(), 1);
+        assertEquals(subscriptionModel.getSampledItemCount(), 2);
+
+        item1.samplingEnabled = false;
+        subscriptionModel.onMonitoringModeChanged(Lists.newArrayList(item1));
+        waitForModel();
+        assertEquals(subscriptionModel.getSampledItemCount(), 1);
+
+        subscriptionModel.onDataItemsDeleted(Lists.newArrayList(item1, item2));
+        waitForModel();
+        assertEquals(subscriptionModel.getSamplingGroupCount(), 0);
+        assertEquals(subscriptionModel.getSampledItemCount(), 0);
+    }
+
+    @Test
+    public void testPushesNodeValues() throws Exception {
+        UaVariableNode node = newNode("pushed", 0);
+
+        TestDataItem item = new TestDataItem(Mockito.mock(Session.class), "pushed", 0.0, 3);
+
+        subscriptionModel.onDataItemsCreated(Lists.newArrayList(item));
+        waitForModel();
+
+        assertEquals(subscriptionModel.getPushedItemCount(), 1);
+        assertEquals(subscriptionModel.getSampledItemCount(), 0);
+
+        node.setValue(new DataValue(new Variant(1)));
+        node.setValue(new DataValue(new Variant(2)));
+
+        assertTrue(item.latch.await(1, TimeUnit.SECONDS));
+        assertTrue(reads.isEmpty());
+        assertEquals(item.values.get(0).getValue().getValue(), 0);
+        assertEquals(item.values.get(1).getValue().getValue(), 1);
+        assertEquals(item.values.get(2).getValue().getValue(), 2);
+
+        subscriptionModel.onDataItemsDeleted(Lists.newArrayList(item));
+        waitForModel();
+
+        assertEquals(subscriptionModel.getPushedItemCount(), 0);
+
+        node.setValue(new DataValue(new Variant(3)));
+        assertEquals(item.values.size(), 3);
+    }
+
+    @Test
+    public void testPushRespectsSamplingInterval() throws Exception {
+        UaVariableNode node = newNode("limited", 0);
+
+        TestDataItem item = new TestDataItem(Mockito.mock(Session.class), "limited", 200.0, 2);
+
+        subscriptionModel.onDataItemsCreated(Lists.newArrayList(item));
+        waitForModel();
+
+        for (int i = 1; i <= 10; i++) {
+            node.setValue(new DataValue(new Variant(i)));
+        }
+
+        // the initial value, then only the latest of the values set within the interval
+        assertTrue(item.latch.await(1, TimeUnit.SECONDS));
+        Thread.sleep(300);
+
+        assertEquals(item.values.size(), 2);
+        assertEquals(item.values.get(0).getValue().getValue(), 0);
+        assertEquals(item.values.get(1).getValue().getValue(), 10);
+    }
+
+    @Test
+    public void testFilteredNodesAreSampled() throws Exception {
+        UaVariableNode node = newNode("filtered", 0);
+        node.getFilterChain().addLast(AttributeFilters.getValue(ctx -> new DataValue(new Variant(42))));
+
+        TestDataItem item = new TestDataItem(Mockito.mock(Session.class), "filtered", 1000.0, 1);
+
+        subscriptionModel.onDataItemsCreated(Lists.newArrayList(item));
+
+        assertTrue(item.latch.await(1, TimeUnit.SECONDS));
+        assertEquals(subscriptionModel.getPushedItemCount(), 0);
+        assertEquals(subscriptionModel.getSampledItemCount(), 1);
+        assertFalse(reads.isEmpty());
+    }
+
+    private UaVariableNode newNode(String id, Object value) {
+        UaVariableNode node = new UaVariableNode(
+            nodeContext,
+            new NodeId(1, id),
+            new QualifiedName(1, id),
+            LocalizedText.english(id)
+        );
+
+        node.setValue(new DataValue(new Variant(value)));
+
+        nodeManager.addNode(node);
+
+        return node;
+    }
+
+    private static void waitForModel() throws InterruptedException {
+        Thread.sleep(100);
+    }
+
+    private static class TestDataItem implements DataItem {
+
+        private final List<DataValue> values = new CopyOnWriteArrayList<>();
+
+        private volatile double samplingInterval;
+        private volatile boolean samplingEnabled = true;
+
+        private final Session session;
+        private final ReadValueId readValueId;
+        private final CountDownLatch latch;
+
+        TestDataItem(Session session, String id, double samplingInterval, int expectedValues) {
+            this(session, id, AttributeId.Value, samplingInterval, expectedValues);
+        }
+
+        TestDataItem(Session session, String id, AttributeId attributeId, int expectedValues) {
+            this(session, id, attributeId, 1000.0, expectedValues);
+        }
+
+        TestDataItem(
+            Session session,
+            String id,
+            AttributeId attributeId,
+            double samplingInterval,
+            int expectedValues
+        ) {
+
+            this.session = session;
+            this.samplingInterval = samplingInterval;
+            this.readValueId = new ReadValueId(
+                new NodeId(1, id),
+                attributeId.uid(),
+                null,
+                QualifiedName.NULL_VALUE
+            );
+            this.latch = new CountDownLatch(expectedValues);
+        }
+
+        @Override
+        public void setValue(DataValue value) {
+            values.add(value);
+            latch.countDown();
+        }
+
+        @Override
+        public void setQuality(StatusCode quality) {}
+
+        @Override
+        public double getSamplingInterval() {
+            return samplingInterval;
+        }
+
+        @Override
+        public UInteger getId() {
+            return uint(0);
+        }
+
+        @Override
+        public Session getSession() {
+            return session;
+        }
+
+        @Override
+        public UInteger getSubscriptionId() {
+            return uint(0);
+        }
+
+        @Override
+        public ReadValueId getReadValueId() {
+            return readValueId;
+        }
+
+        @Override
+        public TimestampsToReturn getTimestampsToReturn() {
+            return TimestampsToReturn.Both;
+        }
+
+        @Override
+        public boolean isSamplingEnabled() {
+            return samplingEnabled;
+        }
+
+    }
+
+}
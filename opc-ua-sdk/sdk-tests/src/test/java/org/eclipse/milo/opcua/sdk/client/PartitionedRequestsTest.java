@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class PartitionedRequestsTest {
+
+    private final List<Integer> operations = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    @Test
+    public void testNoLimit() throws Exception {
+        List<List<Integer>> requests = new ArrayList<>();
+
+        List<List<Integer>> responses = PartitionedRequests.send(operations, 0, 1, partition -> {
+            requests.add(partition);
+            return CompletableFuture.completedFuture(partition);
+        }).get();
+
+        assertEquals(requests.size(), 1);
+        assertEquals(responses, Arrays.asList(operations));
+    }
+
+    @Test
+    public void testResponsesInRequestOrder() throws Exception {
+        List<CompletableFuture<List<Integer>>> pending = new ArrayList<>();
+
+        CompletableFuture<List<List<Integer>>> future = PartitionedRequests.send(operations, 3, 4, partition -> {
+            CompletableFuture<List<Integer>> f = new CompletableFuture<>();
+            pending.add(f);
+            return f.thenApply(v -> partition);
+        });
+
+        assertEquals(pending.size(), 4);
+
+        // complete out of order
+        for (int i = pending.size() - 1; i >= 0; i--) {
+            pending.get(i).complete(null);
+        }
+
+        assertEquals(future.get(), Arrays.asList(
+            Arrays.asList(0, 1, 2),
+            Arrays.asList(3, 4, 5),
+            Arrays.asList(6, 7, 8),
+            Arrays.asList(9)
+        ));
+    }
+
+    @Test
+    public void testMaxInFlight() {
+        List<CompletableFuture<List<Integer>>> pending = new ArrayList<>();
+
+        CompletableFuture<List<List<Integer>>> future = PartitionedRequests.send(operations, 2, 2, partition -> {
+            CompletableFuture<List<Integer>> f = new CompletableFuture<>();
+            pending.add(f);
+            return f;
+        });
+
+        assertEquals(pending.size(), 2);
+
+        pending.get(1).complete(Arrays.asList(2, 3));
+        assertEquals(pending.size(), 3);
+
+        pending.get(0).complete(Arrays.asList(0, 1));
+        assertEquals(pending.size(), 4);
+
+        pending.get(2).complete(Arrays.asList(4, 5));
+        pending.get(3).complete(Arrays.asList(6, 7));
+        assertEquals(pending.size(), 5);
+
+        pending.get(4).complete(Arrays.asList(8, 9));
+        assertTrue(future.isDone());
+    }
+
+    @Test
+    public void testFailureStopsSending() {
+        List<CompletableFuture<List<Integer>>> pending = new ArrayList<>();
+
+        CompletableFuture<List<List<Integer>>> future = PartitionedRequests.send(operations, 2, 2, partition -> {
+            CompletableFuture<List<Integer>> f = new CompletableFuture<>();
+            pending.add(f);
+            return f;
+        });
+
+        pending.get(0).completeExceptionally(new UaException(StatusCodes.Bad_TooManyOperations));
+        pending.get(1).complete(Arrays.asList(2, 3));
+
+        assertEquals(pending.size(), 2);
+
+        ExecutionException e = expectThrows(ExecutionException.class, future::get);
+        assertEquals(
+            UaException.extractStatusCode(e).map(StatusCode::getValue),
+            Optional.of(StatusCodes.Bad_TooManyOperations)
+        );
+    }
+
+    @Test
+    public void testConcat() {
+        List<Integer[]> responses = Arrays.asList(
+            new Integer[]{0, 1, 2},
+            null,
+            new Integer[]{3, 4}
+        );
+
+        Integer[] concatenated = PartitionedRequests.concat(responses, r -> r, Integer.class);
+
+        assertEquals(concatenated, new Integer[]{0, 1, 2, 3, 4});
+    }
+
+    @Test
+    public void testConcatDiagnostics() {
+        DiagnosticInfo diagnosticInfo = new DiagnosticInfo(1, 2, 3, 4, "info", null, null);
+
+        List<Object[]> results = Arrays.asList(new Object[2], new Object[2]);
+
+        assertNull(PartitionedRequests.concatDiagnostics(results, r -> r, r -> null));
+
+        DiagnosticInfo[] concatenated = PartitionedRequests.concatDiagnostics(
+            results,
+            r -> r,
+            r -> r == results.get(1) ? new DiagnosticInfo[]{diagnosticInfo, diagnosticInfo} : null
+        );
+
+        assertEquals(concatenated, new DiagnosticInfo[]{
+            DiagnosticInfo.NULL_VALUE,
+            DiagnosticInfo.NULL_VALUE,
+            diagnosticInfo,
+            diagnosticInfo
+        });
+    }
+
+}
@@ -52,6 +52,8 @@ public class OpcUaClientConfigTest {
             .setIdentityProvider(new AnonymousProvider())
             .setSessionLocaleIds(new String[]{"en", "es"})
             .setSubscriptionWatchdogMultiplier(1.25)
+            .setMaxInFlightRequestsPerCall(uint(8))
+            .setMaxDeliveryBacklog(uint(16))
             .build();
 
         OpcUaClientConfig copy = OpcUaClientConfig.copy(original).build();
@@ -67,6 +69,8 @@ public class OpcUaClientConfigTest {
         assertEquals(copy.getKeepAliveTimeout(), original.getKeepAliveTimeout());
         assertEquals(copy.getSessionLocaleIds(), original.getSessionLocaleIds());
         assertEquals(copy.getSubscriptionWatchdogMultiplier(), original.getSubscriptionWatchdogMultiplier());
+        assertEquals(copy.getMaxInFlightRequestsPerCall(), original.getMaxInFlightRequestsPerCall());
+        assertEquals(copy.getMaxDeliveryBacklog(), original.getMaxDeliveryBacklog());
     }
 
     @Test
@@ -0,0 +1,443 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.binaryschema;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.OpcUaBinaryDataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.util.ArrayUtil;
+import org.eclipse.milo.opcua.stack.core.util.Namespaces;
+import org.jetbrains.annotations.Nullable;
+import org.opcfoundation.opcua.binaryschema.FieldType;
+import org.opcfoundation.opcua.binaryschema.StructuredType;
+import org.opcfoundation.opcua.binaryschema.SwitchOperand;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * A codec for a {@link StructuredType} that resolves everything about each field once, when the codec is created,
+ * into an array-indexed plan, and decodes to a {@link PositionalStruct}.
+ * <p>
+ * The encoding is the same as {@link GenericStructCodec}'s: a value encoded by one can be decoded by the other.
+ * Length fields are not members of the decoded value; they are written from the length of the array they describe.
+ */
+public class CompiledStructCodec implements OpcUaBinaryDataTypeCodec<PositionalStruct> {
+
+    private final PositionalStruct.Layout layout;
+    private final CompiledField[] fields;
+    private final boolean hasLengthFields;
+
+    public CompiledStructCodec(StructuredType structuredType) {
+        List<FieldType> fieldTypes = structuredType.getField();
+
+        Map<String, Integer> fieldIndices = new HashMap<>();
+        for (int i = 0; i < fieldTypes.size(); i++) {
+            fieldIndices.put(fieldTypes.get(i).getName(), i);
+        }
+
+        boolean[] isLengthField = new boolean[fieldTypes.size()];
+        for (FieldType field : fieldTypes) {
+            Integer lengthIndex = field.getLengthField() != null ? fieldIndices.get(field.getLengthField()) : null;
+            if (lengthIndex != null) {
+                isLengthField[lengthIndex] = true;
+            }
+        }
+
+        List<String> memberNames = new ArrayList<>();
+        List<Boolean> optional = new ArrayList<>();
+
+        fields = new CompiledField[fieldTypes.size()];
+
+        for (int i = 0; i < fieldTypes.size(); i++) {
+            FieldType field = fieldTypes.get(i);
+
+            int memberIndex = -1;
+            if (!isLengthField[i]) {
+                memberIndex = memberNames.size();
+                memberNames.add(field.getName());
+                optional.add(field.getSwitchField() != null);
+            }
+
+            fields[i] = new CompiledField(field, fieldIndices, memberIndex);
+        }
+
+        boolean[] optionalArray = new boolean[optional.size()];
+        for (int i = 0; i < optionalArray.length; i++) {
+            optionalArray[i] = optional.get(i);
+        }
+
+        layout = new PositionalStruct.Layout(structuredType.getName(), memberNames, optionalArray);
+        hasLengthFields = memberNames.size() != fields.length;
+    }
+
+    /**
+     * Get the {@link PositionalStruct.Layout} of values this codec decodes to and encodes from.
+     *
+     * @return the {@link PositionalStruct.Layout} of values this codec decodes to and encodes from.
+     */
+    public PositionalStruct.Layout getLayout() {
+        return layout;
+    }
+
+    @Override
+    public Class<PositionalStruct> getType() {
+        return PositionalStruct.class;
+    }
+
+    @Override
+    public PositionalStruct decode(
+        SerializationContext context,
+        OpcUaBinaryStreamDecoder decoder
+    ) throws UaSerializationException {
+
+        // indexed by field, including length fields, which are dropped below
+        Object[] values = new Object[fields.length];
+
+        for (int i = 0; i < fields.length; i++) {
+            CompiledField field = fields[i];
+
+            if (field.switchIndex >= 0 && !field.isPresent(values[field.switchIndex])) {
+                continue;
+            }
+
+            switch (field.kind) {
+                case SCALAR:
+                    values[i] = field.read(context, decoder);
+                    break;
+
+                case BITS: {
+                    int length = field.decodeLength(values);
+                    int bits = 0;
+
+                    for (int j = 0; j < length; j++) {
+                        int bit = decoder.readBit();
+
+                        if (j < Integer.SIZE) {
+                            bits |= bit << j;
+                        }
+                    }
+
+                    values[i] = bits;
+                    break;
+                }
+
+                case ARRAY: {
+                    field.checkLengthInBytes(StatusCodes.Bad_DecodingError);
+
+                    int length = field.decodeLength(values);
+
+                    if (length >= 0) {
+                        Object[] array = new Object[length];
+
+                        for (int j = 0; j < length; j++) {
+                            array[j] = field.read(context, decoder);
+                        }
+
+                        values[i] = array;
+                    }
+                    break;
+                }
+
+                default:
+                    throw new IllegalStateException("kind: " + field.kind);
+            }
+        }
+
+        if (hasLengthFields) {
+            Object[] members = new Object[layout.size()];
+
+            for (int i = 0; i < fields.length; i++) {
+                int memberIndex = fields[i].memberIndex;
+
+                if (memberIndex >= 0) {
+                    members[memberIndex] = values[i];
+                }
+            }
+
+            values = members;
+        }
+
+        return new PositionalStruct(layout, values);
+    }
+
+    @Override
+    public void encode(
+        SerializationContext context,
+        OpcUaBinaryStreamEncoder encoder,
+        PositionalStruct value
+    ) throws UaSerializationException {
+
+        Object[] members = value.getValues();
+
+        for (CompiledField field : fields) {
+            if (field.memberIndex < 0) {
+                // length fields are written by the array they describe
+                continue;
+            }
+
+            if (field.switchIndex >= 0) {
+                int switchMemberIndex = fields[field.switchIndex].memberIndex;
+                Object switchValue = switchMemberIndex >= 0 ? members[switchMemberIndex] : null;
+
+                if (!field.isPresent(switchValue)) {
+                    continue;
+                }
+            }
+
+            Object member = members[field.memberIndex];
+
+            switch (field.kind) {
+                case SCALAR:
+                    field.write(context, encoder, member);
+                    break;
+
+                case BITS: {
+                    int length = field.fixedLength >= 0 ? field.fixedLength : 1;
+                    long bits = member != null ? ((Number) member).longValue() : 0L;
+
+                    for (int j = 0; j < length; j++) {
+                        encoder.writeBit((int) ((bits >> Math.min(j, Long.SIZE - 1)) & 1L));
+                    }
+                    break;
+                }
+
+                case ARRAY: {
+                    field.checkLengthInBytes(StatusCodes.Bad_EncodingError);
+
+                    Object[] array = toArray(member);
+
+                    if (field.lengthIndex >= 0) {
+                        CompiledField lengthField = fields[field.lengthIndex];
+
+                        lengthField.write(
+                            context,
+                            encoder,
+                            lengthField.toLengthValue(array != null ? array.length : -1)
+                        );
+                    }
+
+                    if (array != null) {
+                        for (Object element : array) {
+                            field.write(context, encoder, element);
+                        }
+                    }
+                    break;
+                }
+
+                default:
+                    throw new IllegalStateException("kind: " + field.kind);
+            }
+        }
+    }
+
+    @Nullable
+    private static Object[] toArray(@Nullable Object value) {
+        if (value == null) {
+            return null;
+        } else if (value instanceof Object[] && !value.getClass().getComponentType().isArray()) {
+            return (Object[]) value;
+        } else if (value instanceof List) {
+            return ((List<?>) value).toArray();
+        } else if (value.getClass().isArray()) {
+            Object flattened = ArrayUtil.flatten(value);
+            int length = Array.getLength(flattened);
+
+            Object[] values = new Object[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = Array.get(flattened, i);
+            }
+            return values;
+        } else {
+            return new Object[]{value};
+        }
+    }
+
+    private enum Kind {
+        SCALAR,
+        BITS,
+        ARRAY
+    }
+
+    /**
+     * Everything needed to encode or decode one field, resolved from its {@link FieldType}.
+     */
+    private static final class CompiledField {
+
+        final String typeNamespace;
+        final String typeName;
+        final Kind kind;
+        final boolean lengthInBytes;
+
+        /**
+         * The reader and writer for builtin types, or {@code null} if the field is encoded by the
+         * {@link SerializationContext}.
+         */
+        @Nullable final Function<OpcUaBinaryStreamDecoder, Object> reader;
+        @Nullable final BiConsumer<OpcUaBinaryStreamEncoder, Object> writer;
+
+        /**
+         * The fixed length of an array or bit field, or -1.
+         */
+        final int fixedLength;
+
+        /**
+         * The index of the field holding the length of this array or bit field, or -1.
+         */
+        final int lengthIndex;
+
+        /**
+         * The index of the field this field's presence depends on, or -1.
+         */
+        final int switchIndex;
+        final long switchValue;
+        final SwitchOperand switchOperand;
+
+        /**
+         * This field's index in the decoded {@link PositionalStruct}, or -1 if it is a length field.
+         */
+        final int memberIndex;
+
+        CompiledField(FieldType field, Map<String, Integer> fieldIndices, int memberIndex) {
+            this.typeNamespace = field.getTypeName().getNamespaceURI();
+            this.typeName = field.getTypeName().getLocalPart();
+            this.lengthInBytes = field.isIsLengthInBytes();
+            this.memberIndex = memberIndex;
+
+            boolean typeNamespaceIsUa =
+                Namespaces.OPC_UA.equals(typeNamespace) ||
+                    Namespaces.OPC_UA_BSD.equals(typeNamespace);
+
+            this.reader = typeNamespaceIsUa ? AbstractCodec.READERS.get(typeName) : null;
+            this.writer = typeNamespaceIsUa ? AbstractCodec.WRITERS.get(typeName) : null;
+
+            boolean scalar = field.getLengthField() == null && field.getLength() == null;
+
+            if (scalar) {
+                this.kind = Kind.SCALAR;
+            } else if ("Bit".equals(typeName) && typeNamespaceIsUa) {
+                this.kind = Kind.BITS;
+            } else {
+                this.kind = Kind.ARRAY;
+            }
+
+            this.fixedLength = field.getLength() != null ? field.getLength().intValue() : -1;
+            this.lengthIndex = field.getLengthField() != null ?
+                fieldIndices.getOrDefault(field.getLengthField(), -1) : -1;
+
+            this.switchIndex = field.getSwitchField() != null ?
+                fieldIndices.getOrDefault(field.getSwitchField(), -1) : -1;
+            this.switchValue = field.getSwitchValue() != null ? field.getSwitchValue() : 1L;
+            this.switchOperand = field.getSwitchOperand() != null ? field.getSwitchOperand() : SwitchOperand.EQUALS;
+        }
+
+        Object read(SerializationContext context, OpcUaBinaryStreamDecoder decoder) {
+            if (reader != null) {
+                return reader.apply(decoder);
+            } else {
+                return context.decode(typeNamespace, typeName, decoder);
+            }
+        }
+
+        void write(SerializationContext context, OpcUaBinaryStreamEncoder encoder, Object value) {
+            if (writer != null) {
+                writer.accept(encoder, value);
+            } else {
+                context.encode(typeNamespace, typeName, value, encoder);
+            }
+        }
+
+        int decodeLength(Object[] values) {
+            if (fixedLength >= 0) {
+                return fixedLength;
+            } else if (lengthIndex >= 0 && values[lengthIndex] != null) {
+                return ((Number) values[lengthIndex]).intValue();
+            } else {
+                return 1;
+            }
+        }
+
+        boolean isPresent(@Nullable Object switchFieldValue) {
+            long controlValue;
+            if (switchFieldValue instanceof Number) {
+                controlValue = ((Number) switchFieldValue).longValue();
+            } else if (switchFieldValue instanceof Boolean) {
+                controlValue = (Boolean) switchFieldValue ? 1L : 0L;
+            } else {
+                controlValue = 0L;
+            }
+
+            switch (switchOperand) {
+                case EQUALS:
+                    return controlValue == switchValue;
+                case NOT_EQUAL:
+                    return controlValue != switchValue;
+                case GREATER_THAN:
+                    return controlValue > switchValue;
+                case GREATER_THAN_OR_EQUAL:
+                    return controlValue >= switchValue;
+                case LESS_THAN:
+                    return controlValue < switchValue;
+                case LESS_THAN_OR_EQUAL:
+                    return controlValue <= switchValue;
+                default:
+                    throw new UaSerializationException(
+                        StatusCodes.Bad_InternalError,
+                        "unknown SwitchOperand: " + switchOperand);
+            }
+        }
+
+        /**
+         * Convert an array length to a value of this (length) field's type.
+         */
+        Object toLengthValue(int length) {
+            switch (typeName) {
+                case "SByte":
+                    return (byte) length;
+                case "Byte":
+                    return ubyte(length);
+                case "Int16":
+                    return (short) length;
+                case "UInt16":
+                    return ushort(length);
+                case "UInt32":
+                    return uint(length);
+                case "Int64":
+                    return (long) length;
+                case "UInt64":
+                    return ulong(length);
+                default:
+                    return length;
+            }
+        }
+
+        void checkLengthInBytes(long statusCode) {
+            if (lengthInBytes) {
+                throw new UaSerializationException(statusCode, "IsLengthInBytes=true not supported");
+            }
+        }
+
+    }
+
+}
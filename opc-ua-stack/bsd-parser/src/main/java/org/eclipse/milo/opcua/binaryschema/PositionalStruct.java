@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.binaryschema;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A structure value whose members are stored by position rather than by name.
+ * <p>
+ * The member names, shared by every value of the same type, are held by a {@link Layout}; a value holds only its
+ * {@link Layout} and an array of member values. This is the representation {@link CompiledStructCodec} decodes to
+ * and encodes from.
+ * <p>
+ * Optional members that are absent, because the field they depend on says so, have a {@code null} value.
+ *
+ * @see Struct
+ */
+public final class PositionalStruct {
+
+    private final Layout layout;
+    private final Object[] values;
+
+    /**
+     * @param layout the {@link Layout} of the structure.
+     * @param values the member values, in the order of {@link Layout#getMemberNames()}.
+     */
+    public PositionalStruct(@NotNull Layout layout, @NotNull Object[] values) {
+        Preconditions.checkArgument(
+            values.length == layout.size(),
+            "expected %s values, got %s", layout.size(), values.length
+        );
+
+        this.layout = layout;
+        this.values = values;
+    }
+
+    @NotNull
+    public String getName() {
+        return layout.getName();
+    }
+
+    @NotNull
+    public Layout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Get the value of the member at {@code index}.
+     *
+     * @param index the index of the member, in the order of {@link Layout#getMemberNames()}.
+     * @return the value of the member at {@code index}.
+     */
+    @Nullable
+    public Object get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Get the value of the member named {@code memberName}.
+     *
+     * @param memberName the name of the member.
+     * @return the value of the member named {@code memberName}.
+     * @throws IllegalArgumentException if the structure has no member named {@code memberName}.
+     */
+    @Nullable
+    public Object get(String memberName) {
+        int index = layout.indexOf(memberName);
+
+        if (index < 0) {
+            throw new IllegalArgumentException("no member named " + memberName + " in " + layout.getName());
+        }
+
+        return values[index];
+    }
+
+    /**
+     * Convert this value to a {@link Struct} as decoded by {@link GenericStructCodec}.
+     * <p>
+     * Optional members with a {@code null} value are treated as absent and left out.
+     *
+     * @return a {@link Struct} with the same members as this value.
+     */
+    public Struct toStruct() {
+        Struct.Builder builder = Struct.builder(layout.getName());
+
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null || !layout.isOptional(i)) {
+                builder.addMember(layout.memberNames.get(i), values[i]);
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Create a {@link PositionalStruct} with {@code layout} from the members of a {@link Struct}.
+     * <p>
+     * Members of {@code layout} that {@code struct} doesn't have get a {@code null} value; members of
+     * {@code struct} that {@code layout} doesn't have are ignored.
+     *
+     * @param layout the {@link Layout} of the structure.
+     * @param struct the {@link Struct} to get member values from.
+     * @return a {@link PositionalStruct} with the member values of {@code struct}.
+     */
+    public static PositionalStruct fromStruct(Layout layout, Struct struct) {
+        Object[] values = new Object[layout.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            Struct.Member member = struct.getMember(layout.memberNames.get(i));
+
+            values[i] = member != null ? member.getValue() : null;
+        }
+
+        return new PositionalStruct(layout, values);
+    }
+
+    Object[] getValues() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PositionalStruct that = (PositionalStruct) o;
+        return layout.equals(that.layout) &&
+            Arrays.deepEquals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * layout.hashCode() + Arrays.deepHashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this)
+            .add("name", layout.getName());
+
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+
+            helper.add(
+                layout.memberNames.get(i),
+                value instanceof Object[] ? Arrays.deepToString((Object[]) value) : value
+            );
+        }
+
+        return helper.toString();
+    }
+
+    /**
+     * The name and member names of a structure type, shared by every {@link PositionalStruct} of that type.
+     */
+    public static final class Layout {
+
+        private final String name;
+        private final List<String> memberNames;
+        private final boolean[] optional;
+        private final Map<String, Integer> indices = new HashMap<>();
+
+        Layout(String name, List<String> memberNames, boolean[] optional) {
+            this.name = name;
+            this.memberNames = Collections.unmodifiableList(memberNames);
+            this.optional = optional;
+
+            for (int i = 0; i < memberNames.size(); i++) {
+                indices.put(memberNames.get(i), i);
+            }
+        }
+
+        @NotNull
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the names of the members, in positional order.
+         */
+        @NotNull
+        public List<String> getMemberNames() {
+            return memberNames;
+        }
+
+        /**
+         * @return the number of members.
+         */
+        public int size() {
+            return memberNames.size();
+        }
+
+        /**
+         * Get the index of the member named {@code memberName}.
+         *
+         * @param memberName the name of the member.
+         * @return the index of the member named {@code memberName}, or -1 if there is none.
+         */
+        public int indexOf(String memberName) {
+            Integer index = indices.get(memberName);
+
+            return index != null ? index : -1;
+        }
+
+        /**
+         * @param index the index of a member.
+         * @return {@code true} if the member at {@code index} is only present depending on the value of a switch
+         * field.
+         */
+        public boolean isOptional(int index) {
+            return optional[index];
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Layout layout = (Layout) o;
+            return name.equals(layout.name) && memberNames.equals(layout.memberNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + memberNames.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                .add("name", name)
+                .add("memberNames", memberNames)
+                .toString();
+        }
+
+    }
+
+}
@@ -28,7 +28,7 @@ import org.eclipse.milo.opcua.stack.core.types.DataTypeManager;
 import org.eclipse.milo.opcua.stack.core.types.OpcUaBinaryDataTypeDictionary;
 import org.eclipse.milo.opcua.stack.core.types.OpcUaDataTypeManager;
 import org.eclipse.milo.opcua.stack.core.util.Namespaces;
-import org.testng.annotations.BeforeSuite;
+import org.testng.annotations.BeforeClass;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
@@ -39,7 +39,7 @@ public abstract class BsdParserTest {
 
     private final Table<String, String, OpcUaBinaryDataTypeCodec<?>> codecTable = HashBasedTable.create();
 
-    private final SerializationContext context = new SerializationContext() {
+    protected final SerializationContext context = new SerializationContext() {
 
         private final NamespaceTable namespaceTable = new NamespaceTable();
 
@@ -105,7 +105,7 @@ public abstract class BsdParserTest {
      */
     protected abstract BsdParser createBsdParser();
 
-    @BeforeSuite
+    @BeforeClass
     public void parseTypeDictionary() throws Exception {
         BsdParser parser = createBsdParser();
 
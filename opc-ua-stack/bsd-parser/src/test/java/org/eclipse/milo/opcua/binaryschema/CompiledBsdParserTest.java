@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.binaryschema;
+
+import java.util.Arrays;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.eclipse.milo.opcua.binaryschema.parser.BsdParser;
+import org.eclipse.milo.opcua.binaryschema.parser.CodecDescription;
+import org.eclipse.milo.opcua.binaryschema.parser.DictionaryDescription;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.OpcUaBinaryDataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.types.structured.Range;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class CompiledBsdParserTest extends BsdParserTest {
+
+    @Override
+    protected BsdParser createBsdParser() {
+        return new CompiledBsdParser();
+    }
+
+    @Test
+    public void testFoo() {
+        assertRoundTrip("Foo", struct("Foo", 0, "hello"), getCodec("Foo"));
+    }
+
+    @Test
+    public void testOptionals_AllPresent() {
+        assertRoundTrip("Optionals", struct("Optionals", 1, 1, 0, 0, "hello"), getCodec("Optionals"));
+    }
+
+    @Test
+    public void testOptionals_OnePresent() {
+        assertRoundTrip("Optionals", struct("Optionals", 1, 0, 0, 0, null), getCodec("Optionals"));
+    }
+
+    @Test
+    public void testOptionals_NonePresent() {
+        PositionalStruct optionals = struct("Optionals", 0, 0, 0, 42, "ignored");
+
+        OpcUaBinaryDataTypeCodec<Object> codec = getCodec("Optionals");
+        PositionalStruct decoded = (PositionalStruct) codec.decode(context, decoder(encode(codec, optionals)));
+
+        assertNull(decoded.get("OptionalInt32"));
+        assertNull(decoded.get("OptionalString"));
+    }
+
+    @Test
+    public void testArrayContainer() {
+        PositionalStruct arrayContainer = struct(
+            "ArrayContainer",
+            new Integer[]{1, 2, 3},
+            0b10001111,
+            new String[]{"hello", "world"}
+        );
+
+        assertRoundTrip("ArrayContainer", arrayContainer, getCodec("ArrayContainer"));
+        assertEquals(arrayContainer.getLayout().getMemberNames(), Arrays.asList("IntArray", "BitField", "StringArray"));
+    }
+
+    @Test
+    public void testArrayContainer_NullArray() {
+        assertRoundTrip("ArrayContainer", struct("ArrayContainer", null, 0, new String[0]), getCodec("ArrayContainer"));
+    }
+
+    @Test
+    public void testNestedStruct() {
+        PositionalStruct bar = struct("Bar", struct("Foo", 1, "foo"), 2, "bar");
+
+        assertRoundTrip("Bar", bar, getCodec("Bar"));
+    }
+
+    @Test
+    public void testNestedUaStruct() {
+        PositionalStruct profilePoint = struct("ProfilePointStruct", 1, 0, 0, 1.0, 2.0, new Range(3.0, 4.0), null);
+
+        assertRoundTripUsingToString("ProfilePointStruct", profilePoint, getCodec("ProfilePointStruct"));
+    }
+
+    @Test
+    public void testWireCompatibleWithGenericStructCodec() throws Exception {
+        DictionaryDescription genericDictionary = new GenericBsdParser().parse(
+            getClass().getClassLoader().getResourceAsStream("dictionaries/BsdParserTest.bsd.xml")
+        );
+
+        Struct[] structs = new Struct[]{
+            Struct.builder("Foo")
+                .addMember("Bar", 0)
+                .addMember("Baz", "hello")
+                .build(),
+            Struct.builder("Optionals")
+                .addMember("OptionalInt32Specified", 0)
+                .addMember("OptionalStringSpecified", 1)
+                .addMember("Reserved1", 0)
+                .addMember("OptionalString", "hello")
+                .build(),
+            Struct.builder("ArrayContainer")
+                .addMember("IntArray", new Integer[]{1, 2, 3})
+                .addMember("BitField", 0b10001111)
+                .addMember("StringArray", new String[]{"hello", "world"})
+                .build()
+        };
+
+        for (Struct struct : structs) {
+            OpcUaBinaryDataTypeCodec<Object> genericCodec = genericCodec(genericDictionary, struct.getName());
+            OpcUaBinaryDataTypeCodec<Object> compiledCodec = getCodec(struct.getName());
+
+            byte[] genericEncoded = encode(genericCodec, struct);
+
+            PositionalStruct decoded = (PositionalStruct) compiledCodec.decode(context, decoder(genericEncoded));
+            assertEquals(decoded.toStruct(), struct);
+
+            byte[] compiledEncoded = encode(compiledCodec, decoded);
+            assertEquals(ByteBufUtil.hexDump(compiledEncoded), ByteBufUtil.hexDump(genericEncoded));
+
+            assertEquals(genericCodec.decode(context, decoder(compiledEncoded)), struct);
+        }
+    }
+
+    private PositionalStruct struct(String name, Object... values) {
+        CompiledStructCodec codec = (CompiledStructCodec) (Object) getCodec(name);
+
+        return new PositionalStruct(codec.getLayout(), values);
+    }
+
+    private byte[] encode(OpcUaBinaryDataTypeCodec<Object> codec, Object value) {
+        ByteBuf buffer = Unpooled.buffer();
+        codec.encode(context, new OpcUaBinaryStreamEncoder(context).setBuffer(buffer), value);
+        return ByteBufUtil.getBytes(buffer);
+    }
+
+    private OpcUaBinaryStreamDecoder decoder(byte[] bs) {
+        return new OpcUaBinaryStreamDecoder(context).setBuffer(Unpooled.wrappedBuffer(bs));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static OpcUaBinaryDataTypeCodec<Object> genericCodec(DictionaryDescription dictionary, String name) {
+        return (OpcUaBinaryDataTypeCodec<Object>) dictionary.getStructCodecs().stream()
+            .filter(cd -> cd.getDescription().equals(name))
+            .findFirst()
+            .map(CodecDescription::getCodec)
+            .orElseThrow(() -> new AssertionError("no codec for " + name));
+    }
+
+}
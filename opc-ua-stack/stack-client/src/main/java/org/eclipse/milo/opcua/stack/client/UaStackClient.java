@@ -18,6 +18,7 @@ import com.google.common.collect.Maps;
 import org.eclipse.milo.opcua.stack.client.transport.UaTransport;
 import org.eclipse.milo.opcua.stack.client.transport.http.OpcHttpTransport;
 import org.eclipse.milo.opcua.stack.client.transport.tcp.OpcTcpTransport;
+import org.eclipse.milo.opcua.stack.client.transport.websocket.OpcWebSocketJsonTransport;
 import org.eclipse.milo.opcua.stack.client.transport.websocket.OpcWebSocketTransport;
 import org.eclipse.milo.opcua.stack.core.NamespaceTable;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
@@ -399,13 +400,19 @@ public class UaStackClient {
                 transportFactory = OpcHttpTransport::new;
                 break;
 
+            case HTTPS_UAJSON:
+                transportFactory = OpcHttpTransport::new;
+                break;
+
             case WSS_UASC_UABINARY:
                 transportFactory = OpcWebSocketTransport::new;
                 break;
 
-            case HTTPS_UAXML:
-            case HTTPS_UAJSON:
             case WSS_UAJSON:
+                transportFactory = OpcWebSocketJsonTransport::new;
+                break;
+
+            case HTTPS_UAXML:
             default:
                 throw new UaException(
                     StatusCodes.Bad_InternalError,
@@ -17,10 +17,12 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.HashedWheelTimer;
 import org.eclipse.milo.opcua.stack.client.security.ClientCertificateValidator;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.channel.FlushConsolidation;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
 
@@ -70,11 +72,27 @@ public interface UaStackClientConfig {
      */
     EncodingLimits getEncodingLimits();
 
+    /**
+     * @return the {@link FlushConsolidation} settings used when writing to UA TCP channels.
+     */
+    default FlushConsolidation getFlushConsolidation() {
+        return FlushConsolidation.DISABLED;
+    }
+
     /**
      * @return the {@link ExecutorService} used by the client.
      */
     ExecutorService getExecutor();
 
+    /**
+     * @return {@code true} if the default {@link ExecutorService} runs each task on a virtual thread when the JVM
+     *     supports them.
+     * @see UaStackClientConfigBuilder#setVirtualThreadsEnabled(boolean)
+     */
+    default boolean isVirtualThreadsEnabled() {
+        return false;
+    }
+
     /**
      * @return the {@link ScheduledExecutorService} used by the client.
      */
@@ -82,9 +100,21 @@ public interface UaStackClientConfig {
 
     /**
      * @return the {@link NioEventLoopGroup} used by the client.
+     * @deprecated use {@link #getTransportEventLoop()}, which may be an {@link EventLoopGroup} other than
+     *     {@link NioEventLoopGroup}. If it is, this returns
+     *     {@link org.eclipse.milo.opcua.stack.core.Stack#sharedEventLoop()} instead.
      */
+    @Deprecated
     NioEventLoopGroup getEventLoop();
 
+    /**
+     * @return the {@link EventLoopGroup} used by the client's transports.
+     * @see UaStackClientConfigBuilder#setTransportEventLoop(EventLoopGroup)
+     */
+    default EventLoopGroup getTransportEventLoop() {
+        return getEventLoop();
+    }
+
     /**
      * @return the {@link HashedWheelTimer} used by the client.
      */
@@ -132,10 +162,12 @@ public interface UaStackClientConfig {
         config.getCertificateChain().ifPresent(builder::setCertificateChain);
         builder.setCertificateValidator(config.getCertificateValidator());
         builder.setEncodingLimits(config.getEncodingLimits());
+        builder.setFlushConsolidation(config.getFlushConsolidation());
         builder.setChannelLifetime(config.getChannelLifetime());
         builder.setExecutor(config.getExecutor());
+        builder.setVirtualThreadsEnabled(config.isVirtualThreadsEnabled());
         builder.setScheduledExecutor(config.getScheduledExecutor());
-        builder.setEventLoop(config.getEventLoop());
+        builder.setTransportEventLoop(config.getTransportEventLoop());
         builder.setWheelTimer(config.getWheelTimer());
         builder.setConnectTimeout(config.getConnectTimeout());
         builder.setAcknowledgeTimeout(config.getAcknowledgeTimeout());
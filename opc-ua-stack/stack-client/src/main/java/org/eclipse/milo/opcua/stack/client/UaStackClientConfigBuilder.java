@@ -17,11 +17,13 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 import com.google.common.base.Preconditions;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.HashedWheelTimer;
 import org.eclipse.milo.opcua.stack.client.security.ClientCertificateValidator;
 import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.channel.FlushConsolidation;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
 import org.jetbrains.annotations.Nullable;
@@ -37,11 +39,14 @@ public class UaStackClientConfigBuilder {
     private ClientCertificateValidator certificateValidator = new ClientCertificateValidator.InsecureValidator();
 
     private ExecutorService executor;
+    private boolean virtualThreadsEnabled = false;
     private ScheduledExecutorService scheduledExecutor;
-    private NioEventLoopGroup eventLoop;
+    private EventLoopGroup eventLoop;
     private HashedWheelTimer wheelTimer;
 
     private EncodingLimits encodingLimits = EncodingLimits.DEFAULT;
+
+    private FlushConsolidation flushConsolidation = FlushConsolidation.DISABLED;
     private UInteger connectTimeout = uint(5_000);
     private UInteger acknowledgeTimeout = uint(5_000);
     private UInteger requestTimeout = uint(60_000);
@@ -77,12 +82,44 @@ public class UaStackClientConfigBuilder {
         return this;
     }
 
+    /**
+     * Run tasks on virtual threads when the JVM supports them.
+     * <p>
+     * When enabled and no {@link ExecutorService} has been set, the default executor is
+     * {@link Stack#sharedVirtualThreadExecutor()} instead of {@link Stack#sharedExecutor()}. JVMs without virtual
+     * thread support keep using {@link Stack#sharedExecutor()}.
+     *
+     * @param virtualThreadsEnabled {@code true} to run tasks on virtual threads when the JVM supports them.
+     * @return this {@link UaStackClientConfigBuilder}.
+     */
+    public UaStackClientConfigBuilder setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        return this;
+    }
+
     public UaStackClientConfigBuilder setScheduledExecutor(ScheduledExecutorService scheduledExecutor) {
         this.scheduledExecutor = scheduledExecutor;
         return this;
     }
 
+    /**
+     * @deprecated use {@link #setTransportEventLoop(EventLoopGroup)}.
+     */
+    @Deprecated
     public UaStackClientConfigBuilder setEventLoop(NioEventLoopGroup eventLoop) {
+        return setTransportEventLoop(eventLoop);
+    }
+
+    /**
+     * Set the {@link EventLoopGroup} used by the client's transports.
+     * <p>
+     * Defaults to {@link Stack#sharedTransportEventLoop()}. Any {@link EventLoopGroup} supported by a
+     * {@link org.eclipse.milo.opcua.stack.core.transport.TransportFactory} may be used.
+     *
+     * @param eventLoop the {@link EventLoopGroup} used by the client's transports.
+     * @return this {@link UaStackClientConfigBuilder}.
+     */
+    public UaStackClientConfigBuilder setTransportEventLoop(EventLoopGroup eventLoop) {
         this.eventLoop = eventLoop;
         return this;
     }
@@ -97,6 +134,11 @@ public class UaStackClientConfigBuilder {
         return this;
     }
 
+    public UaStackClientConfigBuilder setFlushConsolidation(FlushConsolidation flushConsolidation) {
+        this.flushConsolidation = flushConsolidation;
+        return this;
+    }
+
     public UaStackClientConfigBuilder setConnectTimeout(UInteger connectTimeout) {
         this.connectTimeout = connectTimeout;
         return this;
@@ -121,13 +163,13 @@ public class UaStackClientConfigBuilder {
         Preconditions.checkNotNull(endpoint, "endpoint must be non-null");
 
         if (executor == null) {
-            executor = Stack.sharedExecutor();
+            executor = virtualThreadsEnabled ? Stack.sharedVirtualThreadExecutor() : Stack.sharedExecutor();
         }
         if (scheduledExecutor == null) {
             scheduledExecutor = Stack.sharedScheduledExecutor();
         }
         if (eventLoop == null) {
-            eventLoop = Stack.sharedEventLoop();
+            eventLoop = Stack.sharedTransportEventLoop();
         }
         if (wheelTimer == null) {
             wheelTimer = Stack.sharedWheelTimer();
@@ -140,7 +182,9 @@ public class UaStackClientConfigBuilder {
             certificateChain,
             certificateValidator,
             encodingLimits,
+            flushConsolidation,
             executor,
+            virtualThreadsEnabled,
             scheduledExecutor,
             eventLoop,
             wheelTimer,
@@ -160,9 +204,11 @@ public class UaStackClientConfigBuilder {
         private final ClientCertificateValidator certificateValidator;
 
         private final EncodingLimits encodingLimits;
+        private final FlushConsolidation flushConsolidation;
         private final ExecutorService executor;
+        private final boolean virtualThreadsEnabled;
         private final ScheduledExecutorService scheduledExecutor;
-        private final NioEventLoopGroup eventLoop;
+        private final EventLoopGroup eventLoop;
         private final HashedWheelTimer wheelTimer;
         private final UInteger connectTimeout;
         private final UInteger acknowledgeTimeout;
@@ -176,9 +222,11 @@ public class UaStackClientConfigBuilder {
             @Nullable X509Certificate[] certificateChain,
             ClientCertificateValidator certificateValidator,
             EncodingLimits encodingLimits,
+            FlushConsolidation flushConsolidation,
             ExecutorService executor,
+            boolean virtualThreadsEnabled,
             ScheduledExecutorService scheduledExecutor,
-            NioEventLoopGroup eventLoop,
+            EventLoopGroup eventLoop,
             HashedWheelTimer wheelTimer,
             UInteger connectTimeout,
             UInteger acknowledgeTimeout,
@@ -192,7 +240,9 @@ public class UaStackClientConfigBuilder {
             this.certificateChain = certificateChain;
             this.certificateValidator = certificateValidator;
             this.encodingLimits = encodingLimits;
+            this.flushConsolidation = flushConsolidation;
             this.executor = executor;
+            this.virtualThreadsEnabled = virtualThreadsEnabled;
             this.scheduledExecutor = scheduledExecutor;
             this.eventLoop = eventLoop;
             this.wheelTimer = wheelTimer;
@@ -240,6 +290,11 @@ public class UaStackClientConfigBuilder {
             return encodingLimits;
         }
 
+        @Override
+        public FlushConsolidation getFlushConsolidation() {
+            return flushConsolidation;
+        }
+
         @Override
         public UInteger getChannelLifetime() {
             return channelLifetime;
@@ -250,13 +305,24 @@ public class UaStackClientConfigBuilder {
             return executor;
         }
 
+        @Override
+        public boolean isVirtualThreadsEnabled() {
+            return virtualThreadsEnabled;
+        }
+
         @Override
         public ScheduledExecutorService getScheduledExecutor() {
             return scheduledExecutor;
         }
 
         @Override
+        @SuppressWarnings("deprecation")
         public NioEventLoopGroup getEventLoop() {
+            return eventLoop instanceof NioEventLoopGroup ? (NioEventLoopGroup) eventLoop : Stack.sharedEventLoop();
+        }
+
+        @Override
+        public EventLoopGroup getTransportEventLoop() {
             return eventLoop;
         }
 
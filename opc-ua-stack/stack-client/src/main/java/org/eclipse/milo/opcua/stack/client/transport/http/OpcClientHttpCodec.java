@@ -10,9 +10,16 @@
 
 package org.eclipse.milo.opcua.stack.client.transport.http;
 
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageCodec;
@@ -29,10 +36,13 @@ import io.netty.util.AttributeKey;
 import org.eclipse.milo.opcua.stack.client.UaStackClient;
 import org.eclipse.milo.opcua.stack.client.UaStackClientConfig;
 import org.eclipse.milo.opcua.stack.client.transport.UaTransportRequest;
+import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamEncoder;
 import org.eclipse.milo.opcua.stack.core.serialization.UaResponseMessage;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
@@ -75,6 +85,7 @@ public class OpcClientHttpCodec extends MessageToMessageCodec<HttpResponse, UaTr
         ctx.channel().attr(KEY_PENDING_REQUEST).set(transportRequest);
 
         ByteBuf content = Unpooled.buffer();
+        String contentType;
 
         switch (transportProfile) {
             case HTTPS_UABINARY: {
@@ -82,6 +93,19 @@ public class OpcClientHttpCodec extends MessageToMessageCodec<HttpResponse, UaTr
                     new OpcUaBinaryStreamEncoder(client.getStaticSerializationContext());
                 encoder.setBuffer(content);
                 encoder.writeMessage(null, transportRequest.getRequest());
+                contentType = UABINARY_CONTENT_TYPE;
+                break;
+            }
+
+            case HTTPS_UAJSON: {
+                Writer writer = new OutputStreamWriter(new ByteBufOutputStream(content), StandardCharsets.UTF_8);
+
+                OpcUaJsonStreamEncoder encoder =
+                    new OpcUaJsonStreamEncoder(client.getStaticSerializationContext());
+                encoder.setWriter(writer);
+                encoder.writeMessage(null, transportRequest.getRequest());
+                encoder.flush();
+                contentType = Stack.HTTPS_CONTENT_TYPE_JSON;
                 break;
             }
 
@@ -107,7 +131,7 @@ public class OpcClientHttpCodec extends MessageToMessageCodec<HttpResponse, UaTr
 
         httpRequest.headers().set(HttpHeaderNames.HOST, EndpointUtil.getHost(endpointUrl));
         httpRequest.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
-        httpRequest.headers().set(HttpHeaderNames.CONTENT_TYPE, UABINARY_CONTENT_TYPE);
+        httpRequest.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
         httpRequest.headers().set(HttpHeaderNames.CONTENT_LENGTH, content.readableBytes());
         httpRequest.headers().set("OPCUA-SecurityPolicy", config.getEndpoint().getSecurityPolicyUri());
 
@@ -148,6 +172,21 @@ public class OpcClientHttpCodec extends MessageToMessageCodec<HttpResponse, UaTr
                     break;
                 }
 
+                case HTTPS_UAJSON: {
+                    if (contentType == null || !contentType.toLowerCase().startsWith(Stack.HTTPS_CONTENT_TYPE_JSON)) {
+                        throw new UaException(StatusCodes.Bad_DecodingError,
+                            "unexpected content-type: " + contentType);
+                    }
+
+                    Reader reader = new InputStreamReader(new ByteBufInputStream(content), StandardCharsets.UTF_8);
+
+                    OpcUaJsonStreamDecoder decoder =
+                        new OpcUaJsonStreamDecoder(client.getStaticSerializationContext());
+                    decoder.setReader(reader);
+                    responseMessage = (UaResponseMessage) decoder.readMessage(null);
+                    break;
+                }
+
                 case HTTPS_UAXML: {
                     // TODO extract document from SOAP message body
                     throw new UaException(StatusCodes.Bad_InternalError,
@@ -17,7 +17,6 @@ import io.netty.channel.Channel;
 import io.netty.channel.pool.AbstractChannelPoolHandler;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.pool.SimpleChannelPool;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.logging.LogLevel;
@@ -31,6 +30,7 @@ import org.eclipse.milo.opcua.stack.client.transport.AbstractTransport;
 import org.eclipse.milo.opcua.stack.client.transport.UaTransport;
 import org.eclipse.milo.opcua.stack.core.serialization.UaRequestMessage;
 import org.eclipse.milo.opcua.stack.core.serialization.UaResponseMessage;
+import org.eclipse.milo.opcua.stack.core.transport.TransportFactory;
 import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -118,8 +118,8 @@ public class OpcHttpTransport extends AbstractTransport {
         LOGGER.debug("createChannelPool() host={} port={}", host, port);
 
         Bootstrap bootstrap = new Bootstrap()
-            .channel(NioSocketChannel.class)
-            .group(client.getConfig().getEventLoop())
+            .channel(TransportFactory.forEventLoop(client.getConfig().getTransportEventLoop()).getSocketChannelClass())
+            .group(client.getConfig().getTransportEventLoop())
             .remoteAddress(host, port);
 
         return new SimpleChannelPool(
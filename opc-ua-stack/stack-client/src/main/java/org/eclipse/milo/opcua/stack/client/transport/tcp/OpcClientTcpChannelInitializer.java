@@ -17,6 +17,7 @@ import io.netty.channel.socket.SocketChannel;
 import org.eclipse.milo.opcua.stack.client.UaStackClient;
 import org.eclipse.milo.opcua.stack.client.transport.uasc.ClientSecureChannel;
 import org.eclipse.milo.opcua.stack.client.transport.uasc.UascClientAcknowledgeHandler;
+import org.eclipse.milo.opcua.stack.core.channel.FlushConsolidation;
 
 public class OpcClientTcpChannelInitializer extends ChannelInitializer<SocketChannel> {
 
@@ -33,6 +34,11 @@ public class OpcClientTcpChannelInitializer extends ChannelInitializer<SocketCha
 
     @Override
     protected void initChannel(SocketChannel channel) throws Exception {
+        FlushConsolidation flushConsolidation = client.getConfig().getFlushConsolidation();
+        if (flushConsolidation.isEnabled()) {
+            channel.pipeline().addLast(flushConsolidation.newHandler());
+        }
+
         channel.pipeline().addLast(new UascClientAcknowledgeHandler(client, handshake));
     }
 
@@ -32,7 +32,6 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ConnectTimeoutException;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.Timeout;
 import io.netty.util.TimerTask;
 import org.eclipse.milo.opcua.stack.client.UaStackClient;
@@ -41,6 +40,7 @@ import org.eclipse.milo.opcua.stack.client.transport.tcp.OpcClientTcpChannelInit
 import org.eclipse.milo.opcua.stack.client.transport.websocket.OpcClientWebSocketChannelInitializer;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.transport.TransportFactory;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
@@ -102,8 +102,8 @@ public class ClientChannelFsm {
 
             Bootstrap bootstrap = new Bootstrap();
 
-            bootstrap.group(config.getEventLoop())
-                .channel(NioSocketChannel.class)
+            bootstrap.group(config.getTransportEventLoop())
+                .channel(TransportFactory.forEventLoop(config.getTransportEventLoop()).getSocketChannelClass())
                 .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeout().intValue())
                 .option(ChannelOption.TCP_NODELAY, true)
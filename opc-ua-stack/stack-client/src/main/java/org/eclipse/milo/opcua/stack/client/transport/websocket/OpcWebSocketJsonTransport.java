@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.client.transport.websocket;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.websocketx.WebSocketClientHandshakerFactory;
+import io.netty.handler.codec.http.websocketx.WebSocketClientProtocolHandler;
+import io.netty.handler.codec.http.websocketx.WebSocketFrameAggregator;
+import io.netty.handler.codec.http.websocketx.WebSocketVersion;
+import io.netty.handler.logging.LogLevel;
+import io.netty.handler.logging.LoggingHandler;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import org.eclipse.milo.opcua.stack.client.UaStackClient;
+import org.eclipse.milo.opcua.stack.client.UaStackClientConfig;
+import org.eclipse.milo.opcua.stack.client.transport.AbstractTransport;
+import org.eclipse.milo.opcua.stack.client.transport.UaTransport;
+import org.eclipse.milo.opcua.stack.core.Stack;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.transport.TransportFactory;
+import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link UaTransport} for the WSS UA-JSON transport profile.
+ * <p>
+ * Requests and responses are exchanged as JSON encoded text frames over a single WebSocket connection, without a
+ * secure channel. The connection is established when first needed and re-established if it closes.
+ */
+public class OpcWebSocketJsonTransport extends AbstractTransport {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpcWebSocketJsonTransport.class);
+
+    private CompletableFuture<Channel> channelFuture = null;
+
+    private final UaStackClient client;
+
+    public OpcWebSocketJsonTransport(UaStackClient client) {
+        super(client.getConfig());
+
+        this.client = client;
+    }
+
+    @Override
+    public UaStackClientConfig getConfig() {
+        return client.getConfig();
+    }
+
+    @Override
+    public CompletableFuture<UaTransport> connect() {
+        return channel().thenApply(ch -> OpcWebSocketJsonTransport.this);
+    }
+
+    @Override
+    public synchronized CompletableFuture<UaTransport> disconnect() {
+        CompletableFuture<Channel> future = channelFuture;
+        channelFuture = null;
+
+        if (future == null) {
+            return CompletableFuture.completedFuture(OpcWebSocketJsonTransport.this);
+        }
+
+        CompletableFuture<UaTransport> disconnected = new CompletableFuture<>();
+
+        future.whenComplete((ch, ex) -> {
+            if (ch != null) {
+                ch.close().addListener(f -> disconnected.complete(OpcWebSocketJsonTransport.this));
+            } else {
+                disconnected.complete(OpcWebSocketJsonTransport.this);
+            }
+        });
+
+        return disconnected;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Channel> channel() {
+        CompletableFuture<Channel> future = channelFuture;
+
+        if (future == null ||
+            future.isCompletedExceptionally() ||
+            (future.isDone() && !future.getNow(null).isActive())) {
+
+            channelFuture = future = connectChannel();
+        }
+
+        return future;
+    }
+
+    private CompletableFuture<Channel> connectChannel() {
+        CompletableFuture<Channel> handshake = new CompletableFuture<>();
+
+        UaStackClientConfig config = client.getConfig();
+        String endpointUrl = config.getEndpoint().getEndpointUrl();
+
+        String host = EndpointUtil.getHost(endpointUrl);
+        if (host == null) host = "";
+
+        int port = EndpointUtil.getPort(endpointUrl);
+
+        LOGGER.debug("connectChannel() host={} port={}", host, port);
+
+        Bootstrap bootstrap = new Bootstrap()
+            .group(config.getTransportEventLoop())
+            .channel(TransportFactory.forEventLoop(config.getTransportEventLoop()).getSocketChannelClass())
+            .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeout().intValue())
+            .option(ChannelOption.TCP_NODELAY, true)
+            .handler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(SocketChannel channel) throws Exception {
+                    if ("opc.wss".equalsIgnoreCase(EndpointUtil.getScheme(endpointUrl))) {
+                        SslContext sslContext = SslContextBuilder.forClient()
+                            .trustManager(InsecureTrustManagerFactory.INSTANCE)
+                            .build();
+
+                        channel.pipeline().addLast(sslContext.newHandler(channel.alloc()));
+                    }
+
+                    EncodingLimits encodingLimits = config.getEncodingLimits();
+
+                    channel.pipeline().addLast(new LoggingHandler(LogLevel.TRACE));
+                    channel.pipeline().addLast(new HttpClientCodec());
+                    channel.pipeline().addLast(new HttpObjectAggregator(encodingLimits.getMaxMessageSize()));
+
+                    channel.pipeline().addLast(
+                        new WebSocketClientProtocolHandler(
+                            WebSocketClientHandshakerFactory.newHandshaker(
+                                new URI(endpointUrl),
+                                WebSocketVersion.V13,
+                                Stack.WSS_PROTOCOL_JSON,
+                                true,
+                                new DefaultHttpHeaders(),
+                                encodingLimits.getMaxMessageSize()
+                            )
+                        )
+                    );
+
+                    channel.pipeline().addLast(new WebSocketFrameAggregator(encodingLimits.getMaxMessageSize()));
+                    channel.pipeline().addLast(new OpcClientWebSocketJsonFrameCodec(client, handshake));
+                }
+            });
+
+        bootstrap.connect(host, port).addListener((ChannelFuture f) -> {
+            if (!f.isSuccess()) {
+                handshake.completeExceptionally(f.cause());
+            }
+        });
+
+        return handshake;
+    }
+
+}
@@ -19,10 +19,13 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.HashedWheelTimer;
 import io.netty.util.Timeout;
+import org.eclipse.milo.opcua.stack.core.transport.TransportFactory;
 import org.eclipse.milo.opcua.stack.core.util.ManifestUtil;
+import org.eclipse.milo.opcua.stack.core.util.VirtualThreads;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.LoggerFactory;
 
@@ -53,32 +56,79 @@ public final class Stack {
 
     public static final String WSS_PROTOCOL_JSON = "opcua+uajson";
 
+    public static final String HTTPS_CONTENT_TYPE_JSON = "application/opcua+uajson";
+
     public static final int DEFAULT_TCP_PORT = 12685;
     public static final int DEFAULT_HTTP_PORT = 8080;
     public static final int DEFAULT_HTTPS_PORT = 8443;
 
-    private static NioEventLoopGroup EVENT_LOOP;
+    private static TransportFactory TRANSPORT_FACTORY;
+    private static EventLoopGroup EVENT_LOOP;
+    private static NioEventLoopGroup NIO_EVENT_LOOP;
     private static ExecutorService EXECUTOR_SERVICE;
+    private static ExecutorService VIRTUAL_THREAD_EXECUTOR_SERVICE;
+    private static boolean VIRTUAL_THREADS_UNSUPPORTED_LOGGED = false;
     private static ScheduledExecutorService SCHEDULED_EXECUTOR_SERVICE;
     private static HashedWheelTimer WHEEL_TIMER;
 
+    /**
+     * @return the {@link TransportFactory} used to create the shared {@link EventLoopGroup}.
+     */
+    public static synchronized TransportFactory getTransportFactory() {
+        if (TRANSPORT_FACTORY == null) {
+            TRANSPORT_FACTORY = TransportFactory.getDefault();
+        }
+
+        return TRANSPORT_FACTORY;
+    }
+
+    /**
+     * Set the {@link TransportFactory} used to create the shared {@link EventLoopGroup}.
+     * <p>
+     * Defaults to {@link TransportFactory#getDefault()}, which selects native epoll when available and NIO otherwise.
+     *
+     * @param transportFactory the {@link TransportFactory} used to create the shared {@link EventLoopGroup}.
+     * @throws IllegalStateException if the shared {@link EventLoopGroup} has already been created, has not been
+     *                               released, and is not compatible with {@code transportFactory}.
+     */
+    public static synchronized void setTransportFactory(TransportFactory transportFactory) {
+        if (EVENT_LOOP != null && !transportFactory.isCompatible(EVENT_LOOP)) {
+            throw new IllegalStateException("shared event loop already created by " + TRANSPORT_FACTORY);
+        }
+
+        TRANSPORT_FACTORY = transportFactory;
+    }
+
     /**
      * @return a shared {@link NioEventLoopGroup}.
+     * @deprecated the client and server transports use {@link #sharedTransportEventLoop()}, which is only a
+     *     {@link NioEventLoopGroup} when {@link #getTransportFactory()} is {@link TransportFactory#NIO}. When it
+     *     isn't, this returns a separate {@link NioEventLoopGroup}.
      */
+    @Deprecated
     public static synchronized NioEventLoopGroup sharedEventLoop() {
-        if (EVENT_LOOP == null) {
-            ThreadFactory threadFactory = new ThreadFactory() {
-                private final AtomicLong threadNumber = new AtomicLong(0L);
+        EventLoopGroup eventLoop = sharedTransportEventLoop();
 
-                @Override
-                public Thread newThread(@NotNull Runnable r) {
-                    Thread thread = new Thread(r, "milo-netty-event-loop-" + threadNumber.getAndIncrement());
-                    thread.setDaemon(true);
-                    return thread;
-                }
-            };
+        if (eventLoop instanceof NioEventLoopGroup) {
+            return (NioEventLoopGroup) eventLoop;
+        }
+
+        if (NIO_EVENT_LOOP == null) {
+            NIO_EVENT_LOOP = (NioEventLoopGroup) TransportFactory.NIO.newEventLoopGroup(0, newEventLoopThreadFactory());
+        }
+
+        return NIO_EVENT_LOOP;
+    }
+
+    /**
+     * @return a shared {@link EventLoopGroup}, created by {@link #getTransportFactory()}.
+     */
+    public static synchronized EventLoopGroup sharedTransportEventLoop() {
+        if (EVENT_LOOP == null) {
+            EVENT_LOOP = getTransportFactory().newEventLoopGroup(0, newEventLoopThreadFactory());
 
-            EVENT_LOOP = new NioEventLoopGroup(0, threadFactory);
+            LoggerFactory.getLogger(Stack.class)
+                .debug("Created shared event loop using {} transport.", getTransportFactory().getName());
         }
 
         return EVENT_LOOP;
@@ -127,6 +177,39 @@ public final class Stack {
         return EXECUTOR_SERVICE;
     }
 
+    /**
+     * Get a shared {@link ExecutorService} that runs each task on a new virtual thread.
+     * <p>
+     * If the JVM does not support virtual threads this falls back to {@link #sharedExecutor()}.
+     *
+     * @return a shared {@link ExecutorService} that runs each task on a new virtual thread, or
+     *     {@link #sharedExecutor()} if the JVM does not support virtual threads.
+     * @see VirtualThreads#isSupported()
+     */
+    public static synchronized ExecutorService sharedVirtualThreadExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR_SERVICE == null) {
+            VIRTUAL_THREAD_EXECUTOR_SERVICE = VirtualThreads.newExecutor(
+                "milo-shared-virtual-thread-",
+                (t, e) ->
+                    LoggerFactory.getLogger(Stack.class)
+                        .error("Uncaught Exception on shared stack virtual thread!", e)
+            ).orElse(null);
+
+            if (VIRTUAL_THREAD_EXECUTOR_SERVICE == null) {
+                if (!VIRTUAL_THREADS_UNSUPPORTED_LOGGED) {
+                    VIRTUAL_THREADS_UNSUPPORTED_LOGGED = true;
+
+                    LoggerFactory.getLogger(Stack.class)
+                        .warn("Virtual threads are not supported by this JVM; using the shared ExecutorService.");
+                }
+
+                return sharedExecutor();
+            }
+        }
+
+        return VIRTUAL_THREAD_EXECUTOR_SERVICE;
+    }
+
     /**
      * @return a shared {@link ScheduledExecutorService}.
      */
@@ -189,15 +272,28 @@ public final class Stack {
         return WHEEL_TIMER;
     }
 
+    private static ThreadFactory newEventLoopThreadFactory() {
+        return new ThreadFactory() {
+            private final AtomicLong threadNumber = new AtomicLong(0L);
+
+            @Override
+            public Thread newThread(@NotNull Runnable r) {
+                Thread thread = new Thread(r, "milo-netty-event-loop-" + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
     /**
-     * Release shared resources, waiting at most 5 seconds for the {@link NioEventLoopGroup} to shutdown gracefully.
+     * Release shared resources, waiting at most 5 seconds for the {@link EventLoopGroup} to shutdown gracefully.
      */
     public static synchronized void releaseSharedResources() {
         releaseSharedResources(5, TimeUnit.SECONDS);
     }
 
     /**
-     * Release shared resources, waiting at most the specified timeout for the {@link NioEventLoopGroup} to shutdown
+     * Release shared resources, waiting at most the specified timeout for the {@link EventLoopGroup} to shutdown
      * gracefully.
      *
      * @param timeout the duration of the timeout.
@@ -214,6 +310,16 @@ public final class Stack {
             EVENT_LOOP = null;
         }
 
+        if (NIO_EVENT_LOOP != null) {
+            try {
+                NIO_EVENT_LOOP.shutdownGracefully().await(timeout, unit);
+            } catch (InterruptedException e) {
+                LoggerFactory.getLogger(Stack.class)
+                    .warn("Interrupted awaiting event loop shutdown.", e);
+            }
+            NIO_EVENT_LOOP = null;
+        }
+
         if (SCHEDULED_EXECUTOR_SERVICE != null) {
             SCHEDULED_EXECUTOR_SERVICE.shutdown();
         }
@@ -222,6 +328,10 @@ public final class Stack {
             EXECUTOR_SERVICE.shutdown();
         }
 
+        if (VIRTUAL_THREAD_EXECUTOR_SERVICE != null) {
+            VIRTUAL_THREAD_EXECUTOR_SERVICE.shutdown();
+        }
+
         if (SCHEDULED_EXECUTOR_SERVICE != null) {
             try {
                 SCHEDULED_EXECUTOR_SERVICE.awaitTermination(timeout, unit);
@@ -242,6 +352,16 @@ public final class Stack {
             EXECUTOR_SERVICE = null;
         }
 
+        if (VIRTUAL_THREAD_EXECUTOR_SERVICE != null) {
+            try {
+                VIRTUAL_THREAD_EXECUTOR_SERVICE.awaitTermination(timeout, unit);
+            } catch (InterruptedException e) {
+                LoggerFactory.getLogger(Stack.class)
+                    .warn("Interrupted awaiting virtual thread executor service shutdown.", e);
+            }
+            VIRTUAL_THREAD_EXECUTOR_SERVICE = null;
+        }
+
         if (WHEEL_TIMER != null) {
             WHEEL_TIMER.stop().forEach(Timeout::cancel);
             WHEEL_TIMER = null;
@@ -246,6 +246,11 @@ public final class ChunkDecoder {
         }
 
         private void decryptChunk(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
+            if (!isAsymmetric() && chunkBuffer.nioBufferCount() == 1) {
+                decryptChunkInPlace(channel, chunkBuffer);
+                return;
+            }
+
             int cipherTextBlockSize = getCipherTextBlockSize(channel);
             int blockCount = chunkBuffer.readableBytes() / cipherTextBlockSize;
 
@@ -286,6 +291,29 @@ public final class ChunkDecoder {
             }
         }
 
+        /**
+         * Decrypt the readable bytes of {@code chunkBuffer} in place.
+         * <p>
+         * Symmetric block ciphers produce exactly as many bytes as they consume, so the plaintext can be written
+         * through a second view of the same memory without an intermediate buffer.
+         */
+        private void decryptChunkInPlace(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
+            int cipherTextBlockSize = getCipherTextBlockSize(channel);
+
+            assert (chunkBuffer.readableBytes() % cipherTextBlockSize == 0);
+
+            ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer();
+            ByteBuffer plainTextNioBuffer = chunkBuffer.nioBuffer();
+
+            try {
+                int bytesWritten = getCipher(channel).doFinal(chunkNioBuffer, plainTextNioBuffer);
+
+                assert (bytesWritten == chunkBuffer.readableBytes());
+            } catch (GeneralSecurityException e) {
+                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+            }
+        }
+
         private int getPaddingSize(int cipherTextBlockSize, int signatureSize, ByteBuf buffer) {
             int lastPaddingByteOffset = buffer.readableBytes() - signatureSize - 1;
 
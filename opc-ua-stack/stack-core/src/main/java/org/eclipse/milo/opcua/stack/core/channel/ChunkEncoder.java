@@ -202,27 +202,34 @@ public final class ChunkEncoder {
                         ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(
                             chunkBuffer.readerIndex(), blockCount * cipherTextBlockSize);
 
-                        ByteBuf copyBuffer = chunkBuffer.copy();
-                        ByteBuffer plainTextNioBuffer = copyBuffer.nioBuffer();
-
                         Cipher cipher = getCipher(channel);
 
                         if (isAsymmetric()) {
-                            for (int blockNumber = 0; blockNumber < blockCount; blockNumber++) {
-                                int position = blockNumber * plainTextBlockSize;
-                                int limit = (blockNumber + 1) * plainTextBlockSize;
-                                ((Buffer) plainTextNioBuffer).position(position);
-                                ((Buffer) plainTextNioBuffer).limit(limit);
-
-                                int bytesWritten = cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
-
-                                assert (bytesWritten == cipherTextBlockSize);
+                            ByteBuf copyBuffer = chunkBuffer.copy();
+                            ByteBuffer plainTextNioBuffer = copyBuffer.nioBuffer();
+
+                            try {
+                                for (int blockNumber = 0; blockNumber < blockCount; blockNumber++) {
+                                    int position = blockNumber * plainTextBlockSize;
+                                    int limit = (blockNumber + 1) * plainTextBlockSize;
+                                    ((Buffer) plainTextNioBuffer).position(position);
+                                    ((Buffer) plainTextNioBuffer).limit(limit);
+
+                                    int bytesWritten = cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
+
+                                    assert (bytesWritten == cipherTextBlockSize);
+                                }
+                            } finally {
+                                copyBuffer.release();
                             }
                         } else {
+                            // Symmetric block ciphers produce exactly as many bytes as they consume, so the chunk
+                            // can be encrypted in place through a second view of the same memory.
+                            ByteBuffer plainTextNioBuffer = chunkBuffer.nioBuffer(
+                                chunkBuffer.readerIndex(), chunkBuffer.readableBytes());
+
                             cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
                         }
-
-                        copyBuffer.release();
                     } catch (GeneralSecurityException e) {
                         throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
                     }
@@ -50,6 +50,7 @@ public class EncodingLimits {
     private final int maxChunkCount;
     private final int maxMessageSize;
     private final int maxRecursionDepth;
+    private final boolean primitiveArraysEnabled;
 
     /**
      * Create a {@link EncodingLimits} using the default parameters.
@@ -74,6 +75,29 @@ public class EncodingLimits {
         int maxRecursionDepth
     ) {
 
+        this(maxChunkSize, maxChunkCount, maxMessageSize, maxRecursionDepth, false);
+    }
+
+    /**
+     * Create a {@link EncodingLimits}.
+     *
+     * @param maxChunkSize           the maximum size of a single chunk.
+     * @param maxChunkCount          the maximum number of chunks a message can break down into.
+     * @param maxMessageSize         the maximum size of a message.
+     * @param maxRecursionDepth      the maximum recursion depth when decoding nested structures.
+     * @param primitiveArraysEnabled if {@code true}, {@link Variant} arrays of Boolean, SByte, Int16, Int32, Int64,
+     *                               Float, and Double are decoded into {@code boolean[]}, {@code byte[]},
+     *                               {@code short[]}, {@code int[]}, {@code long[]}, {@code float[]}, and
+     *                               {@code double[]} instead of arrays of the boxed types.
+     */
+    public EncodingLimits(
+        int maxChunkSize,
+        int maxChunkCount,
+        int maxMessageSize,
+        int maxRecursionDepth,
+        boolean primitiveArraysEnabled
+    ) {
+
         Preconditions.checkArgument(maxChunkSize >= 8196,
             "maxChunkSize must be greater than or equal to 8196");
 
@@ -81,6 +105,7 @@ public class EncodingLimits {
         this.maxChunkCount = maxChunkCount;
         this.maxMessageSize = maxMessageSize;
         this.maxRecursionDepth = maxRecursionDepth;
+        this.primitiveArraysEnabled = primitiveArraysEnabled;
     }
 
     public int getMaxChunkSize() {
@@ -99,4 +124,12 @@ public class EncodingLimits {
         return maxRecursionDepth;
     }
 
+    /**
+     * @return {@code true} if {@link Variant} arrays of numeric and boolean builtin types are decoded into arrays of
+     * the primitive types rather than the boxed types.
+     */
+    public boolean isPrimitiveArraysEnabled() {
+        return primitiveArraysEnabled;
+    }
+
 }
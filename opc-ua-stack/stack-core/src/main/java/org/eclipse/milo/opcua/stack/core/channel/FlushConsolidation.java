@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.channel;
+
+import com.google.common.base.MoreObjects;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.flush.FlushConsolidationHandler;
+
+/**
+ * Settings for coalescing the flushes issued when writing message chunks to a channel.
+ * <p>
+ * When enabled, flushes requested while a read is in progress are deferred until the read completes, and flushes
+ * requested outside of a read are deferred until the current event loop iteration ends, so that the chunks of many
+ * messages are written to the socket with a single syscall. A flush is forced once {@link #getMaxPendingFlushes()}
+ * flushes have been deferred or {@link #getMaxPendingBytes()} bytes are waiting to be written.
+ */
+public class FlushConsolidation {
+
+    /**
+     * A {@link FlushConsolidation} that flushes every write immediately.
+     */
+    public static final FlushConsolidation DISABLED = new FlushConsolidation(0, 0);
+
+    /**
+     * The default maximum number of flushes deferred before a flush is forced.
+     */
+    public static final int DEFAULT_MAX_PENDING_FLUSHES = 256;
+
+    /**
+     * The default maximum number of bytes waiting to be written before a flush is forced; 64KB by default.
+     */
+    public static final int DEFAULT_MAX_PENDING_BYTES = 64 * 1024;
+
+    /**
+     * A {@link FlushConsolidation} that uses the default settings.
+     *
+     * @see #DEFAULT_MAX_PENDING_FLUSHES
+     * @see #DEFAULT_MAX_PENDING_BYTES
+     */
+    public static final FlushConsolidation DEFAULT =
+        new FlushConsolidation(DEFAULT_MAX_PENDING_FLUSHES, DEFAULT_MAX_PENDING_BYTES);
+
+    private final int maxPendingFlushes;
+    private final int maxPendingBytes;
+
+    /**
+     * @param maxPendingFlushes the maximum number of flushes to defer before forcing a flush, or 0 to disable flush
+     *                          consolidation.
+     * @param maxPendingBytes   the number of bytes waiting in the channel's outbound buffer, including its per-message
+     *                          overhead, at which a flush is forced; or 0 for no byte threshold.
+     */
+    public FlushConsolidation(int maxPendingFlushes, int maxPendingBytes) {
+        this.maxPendingFlushes = maxPendingFlushes;
+        this.maxPendingBytes = maxPendingBytes;
+    }
+
+    public int getMaxPendingFlushes() {
+        return maxPendingFlushes;
+    }
+
+    public int getMaxPendingBytes() {
+        return maxPendingBytes;
+    }
+
+    /**
+     * @return {@code true} if flushes should be consolidated.
+     */
+    public boolean isEnabled() {
+        return maxPendingFlushes > 0;
+    }
+
+    /**
+     * Create a new {@link ChannelHandler} that consolidates flushes according to these settings.
+     * <p>
+     * The handler should be added first in the pipeline so it sees every flush issued by the handlers behind it.
+     *
+     * @return a new {@link ChannelHandler} that consolidates flushes.
+     * @throws IllegalStateException if flush consolidation is not enabled.
+     */
+    public ChannelHandler newHandler() {
+        if (!isEnabled()) {
+            throw new IllegalStateException("flush consolidation not enabled");
+        }
+
+        return new ConsolidatingHandler(maxPendingFlushes, maxPendingBytes);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("maxPendingFlushes", maxPendingFlushes)
+            .add("maxPendingBytes", maxPendingBytes)
+            .toString();
+    }
+
+    private static class ConsolidatingHandler extends FlushConsolidationHandler {
+
+        private final int maxPendingBytes;
+
+        ConsolidatingHandler(int maxPendingFlushes, int maxPendingBytes) {
+            super(maxPendingFlushes, true);
+
+            this.maxPendingBytes = maxPendingBytes;
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            ctx.write(msg, promise);
+
+            if (maxPendingBytes > 0) {
+                Channel channel = ctx.channel();
+                ChannelOutboundBuffer buffer = channel.unsafe().outboundBuffer();
+
+                if (buffer != null && buffer.totalPendingWriteBytes() >= maxPendingBytes) {
+                    ctx.flush();
+                }
+            }
+        }
+
+    }
+
+}
@@ -13,6 +13,8 @@ package org.eclipse.milo.opcua.stack.core.serialization;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
@@ -399,12 +401,17 @@ public class OpcUaBinaryStreamDecoder implements UaDecoder {
                     } else {
                         checkArrayLength(length);
 
-                        Object flatArray = Array.newInstance(backingClass, length);
+                        Object flatArray = context.getEncodingLimits().isPrimitiveArraysEnabled() ?
+                            readPrimitiveArray(typeId, length) : null;
 
-                        for (int i = 0; i < length; i++) {
-                            Object element = decodeBuiltinType(typeId);
+                        if (flatArray == null) {
+                            flatArray = Array.newInstance(backingClass, length);
 
-                            Array.set(flatArray, i, element);
+                            for (int i = 0; i < length; i++) {
+                                Object element = decodeBuiltinType(typeId);
+
+                                Array.set(flatArray, i, element);
+                            }
                         }
 
                         int[] dimensions = dimensionsEncoded ? decodeDimensions() : new int[]{length};
@@ -423,6 +430,105 @@ public class OpcUaBinaryStreamDecoder implements UaDecoder {
         }
     }
 
+    /**
+     * Read an array of {@code length} elements of the builtin type {@code typeId} into an array of the primitive type
+     * backing it, or return {@code null} if the builtin type has no primitive backing type.
+     * <p>
+     * Fixed-width numeric elements are copied straight out of the buffer without being boxed.
+     */
+    @Nullable
+    private Object readPrimitiveArray(int typeId, int length) {
+        switch (typeId) {
+            case 1: {
+                boolean[] array = new boolean[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = buffer.readBoolean();
+                }
+                return array;
+            }
+            case 2: {
+                byte[] array = new byte[length];
+                buffer.readBytes(array);
+                return array;
+            }
+            case 4: {
+                short[] array = new short[length];
+                if (buffer.nioBufferCount() == 1) {
+                    littleEndianView(length * Short.BYTES).asShortBuffer().get(array);
+                } else {
+                    for (int i = 0; i < length; i++) {
+                        array[i] = buffer.readShortLE();
+                    }
+                }
+                return array;
+            }
+            case 6: {
+                int[] array = new int[length];
+                if (buffer.nioBufferCount() == 1) {
+                    littleEndianView(length * Integer.BYTES).asIntBuffer().get(array);
+                } else {
+                    for (int i = 0; i < length; i++) {
+                        array[i] = buffer.readIntLE();
+                    }
+                }
+                return array;
+            }
+            case 8: {
+                long[] array = new long[length];
+                if (buffer.nioBufferCount() == 1) {
+                    littleEndianView(length * Long.BYTES).asLongBuffer().get(array);
+                } else {
+                    for (int i = 0; i < length; i++) {
+                        array[i] = buffer.readLongLE();
+                    }
+                }
+                return array;
+            }
+            case 10: {
+                float[] array = new float[length];
+                if (buffer.nioBufferCount() == 1) {
+                    littleEndianView(length * Float.BYTES).asFloatBuffer().get(array);
+                } else {
+                    for (int i = 0; i < length; i++) {
+                        array[i] = buffer.readFloatLE();
+                    }
+                }
+                return array;
+            }
+            case 11: {
+                double[] array = new double[length];
+                if (buffer.nioBufferCount() == 1) {
+                    littleEndianView(length * Double.BYTES).asDoubleBuffer().get(array);
+                } else {
+                    for (int i = 0; i < length; i++) {
+                        array[i] = buffer.readDoubleLE();
+                    }
+                }
+                return array;
+            }
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Get a little-endian {@link ByteBuffer} view of the next {@code length} readable bytes and skip past them.
+     */
+    private ByteBuffer littleEndianView(int length) {
+        if (length < 0 || length > buffer.readableBytes()) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                String.format(
+                    "array exceeds readable bytes (length=%s, readable=%s)",
+                    length, buffer.readableBytes())
+            );
+        }
+
+        ByteBuffer view = buffer.nioBuffer(buffer.readerIndex(), length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.skipBytes(length);
+        return view;
+    }
+
     @Nullable
     private String readLengthPrefixedString(Charset charset) {
         int length = readInt32();
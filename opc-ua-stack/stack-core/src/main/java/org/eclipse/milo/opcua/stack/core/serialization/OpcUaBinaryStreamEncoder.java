@@ -608,10 +608,12 @@ public class OpcUaBinaryStreamEncoder implements UaEncoder {
                     int length = Array.getLength(value);
                     buffer.writeIntLE(length);
 
-                    for (int i = 0; i < length; i++) {
-                        Object o = Array.get(value, i);
+                    if (!writePrimitiveArray(value)) {
+                        for (int i = 0; i < length; i++) {
+                            Object o = Array.get(value, i);
 
-                        writeValue(o, typeId, structure, enumeration);
+                            writeValue(o, typeId, structure, enumeration);
+                        }
                     }
                 } else {
                     buffer.writeByte(typeId | 0xC0);
@@ -620,10 +622,12 @@ public class OpcUaBinaryStreamEncoder implements UaEncoder {
                     int length = Array.getLength(flattened);
                     buffer.writeIntLE(length);
 
-                    for (int i = 0; i < length; i++) {
-                        Object o = Array.get(flattened, i);
+                    if (!writePrimitiveArray(flattened)) {
+                        for (int i = 0; i < length; i++) {
+                            Object o = Array.get(flattened, i);
 
-                        writeValue(o, typeId, structure, enumeration);
+                            writeValue(o, typeId, structure, enumeration);
+                        }
                     }
 
                     writeInt32(dimensions.length);
@@ -641,6 +645,58 @@ public class OpcUaBinaryStreamEncoder implements UaEncoder {
 
     // endregion
 
+    /**
+     * Write the elements of {@code array} if it is a one-dimensional array of a primitive type, without boxing them.
+     *
+     * @param array a one-dimensional array.
+     * @return {@code true} if {@code array} was an array of a primitive type and its elements were written.
+     */
+    private boolean writePrimitiveArray(Object array) {
+        if (array instanceof double[]) {
+            double[] a = (double[]) array;
+            buffer.ensureWritable(a.length * Double.BYTES);
+            for (double d : a) {
+                buffer.writeDoubleLE(d);
+            }
+        } else if (array instanceof float[]) {
+            float[] a = (float[]) array;
+            buffer.ensureWritable(a.length * Float.BYTES);
+            for (float f : a) {
+                buffer.writeFloatLE(f);
+            }
+        } else if (array instanceof long[]) {
+            long[] a = (long[]) array;
+            buffer.ensureWritable(a.length * Long.BYTES);
+            for (long l : a) {
+                buffer.writeLongLE(l);
+            }
+        } else if (array instanceof int[]) {
+            int[] a = (int[]) array;
+            buffer.ensureWritable(a.length * Integer.BYTES);
+            for (int i : a) {
+                buffer.writeIntLE(i);
+            }
+        } else if (array instanceof short[]) {
+            short[] a = (short[]) array;
+            buffer.ensureWritable(a.length * Short.BYTES);
+            for (short s : a) {
+                buffer.writeShortLE(s);
+            }
+        } else if (array instanceof byte[]) {
+            buffer.writeBytes((byte[]) array);
+        } else if (array instanceof boolean[]) {
+            boolean[] a = (boolean[]) array;
+            buffer.ensureWritable(a.length);
+            for (boolean b : a) {
+                buffer.writeBoolean(b);
+            }
+        } else {
+            return false;
+        }
+
+        return true;
+    }
+
     private void writeValue(Object value, int typeId, boolean structure, boolean enumeration) {
         if (structure) {
             UaStructure struct = (UaStructure) value;
@@ -0,0 +1,1201 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.DataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.OpcUaJsonDataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.XmlElement;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.util.ArrayUtil;
+import org.eclipse.milo.opcua.stack.core.util.TypeUtil;
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * Decodes values encoded using the reversible form of the OPC UA JSON encoding, as written by
+ * {@link OpcUaJsonStreamEncoder}.
+ * <p>
+ * Values are read from a {@link Reader} as they are decoded; no document tree is built.
+ * <p>
+ * The fields of a structure are read as they arrive when they are in the order its codec decodes them, which is the
+ * order they are encoded in. Fields that arrive out of order are buffered until the codec asks for them, so they may
+ * appear in any order. A field that is missing, or null, decodes to the default value of its type; fields the codec
+ * doesn't know about are skipped. The fields of built-in types such as NodeId, DataValue or Variant may appear in any
+ * order.
+ */
+public class OpcUaJsonStreamDecoder implements UaDecoder {
+
+    private JsonReader jsonReader;
+
+    /**
+     * Fields of the structure currently being decoded that were read ahead of the field the codec asked for, as JSON
+     * text keyed by field name, or {@code null} if no field has arrived out of order.
+     */
+    private Map<String, String> buffered;
+
+    private int depth = 0;
+
+    private final SerializationContext context;
+
+    public OpcUaJsonStreamDecoder(SerializationContext context) {
+        this.context = context;
+    }
+
+    public OpcUaJsonStreamDecoder setReader(Reader reader) {
+        jsonReader = new JsonReader(reader);
+        buffered = null;
+        depth = 0;
+
+        return this;
+    }
+
+    @Override
+    public Boolean readBoolean(String field) throws UaSerializationException {
+        return read(field, false, () -> jsonReader.nextBoolean());
+    }
+
+    @Override
+    public Byte readSByte(String field) throws UaSerializationException {
+        return read(field, (byte) 0, () -> (byte) jsonReader.nextInt());
+    }
+
+    @Override
+    public Short readInt16(String field) throws UaSerializationException {
+        return read(field, (short) 0, () -> (short) jsonReader.nextInt());
+    }
+
+    @Override
+    public Integer readInt32(String field) throws UaSerializationException {
+        return read(field, 0, () -> jsonReader.nextInt());
+    }
+
+    @Override
+    public Long readInt64(String field) throws UaSerializationException {
+        // nextLong() accepts both numbers and strings
+        return read(field, 0L, () -> jsonReader.nextLong());
+    }
+
+    @Override
+    public UByte readByte(String field) throws UaSerializationException {
+        return read(field, UByte.MIN, () -> ubyte(jsonReader.nextInt()));
+    }
+
+    @Override
+    public UShort readUInt16(String field) throws UaSerializationException {
+        return read(field, UShort.MIN, () -> ushort(jsonReader.nextInt()));
+    }
+
+    @Override
+    public UInteger readUInt32(String field) throws UaSerializationException {
+        return read(field, UInteger.MIN, () -> uint(jsonReader.nextLong()));
+    }
+
+    @Override
+    public ULong readUInt64(String field) throws UaSerializationException {
+        return read(field, ULong.MIN, () -> ULong.valueOf(jsonReader.nextString()));
+    }
+
+    @Override
+    public Float readFloat(String field) throws UaSerializationException {
+        // nextString() accepts numbers as well as "NaN", "Infinity" and "-Infinity"
+        return read(field, 0.0f, () -> Float.parseFloat(jsonReader.nextString()));
+    }
+
+    @Override
+    public Double readDouble(String field) throws UaSerializationException {
+        return read(field, 0.0, () -> Double.parseDouble(jsonReader.nextString()));
+    }
+
+    @Override
+    public String readString(String field) throws UaSerializationException {
+        return read(field, null, () -> jsonReader.nextString());
+    }
+
+    @Override
+    public DateTime readDateTime(String field) throws UaSerializationException {
+        return read(field, DateTime.MIN_VALUE, () -> {
+            DateTime dateTime = new DateTime(Instant.parse(jsonReader.nextString()));
+
+            return dateTime.getUtcTime() > 0 ? dateTime : DateTime.MIN_VALUE;
+        });
+    }
+
+    @Override
+    public UUID readGuid(String field) throws UaSerializationException {
+        return read(field, null, () -> UUID.fromString(jsonReader.nextString()));
+    }
+
+    @Override
+    public ByteString readByteString(String field) throws UaSerializationException {
+        return read(field, ByteString.NULL_VALUE, () ->
+            ByteString.of(Base64.getDecoder().decode(jsonReader.nextString())));
+    }
+
+    @Override
+    public XmlElement readXmlElement(String field) throws UaSerializationException {
+        return read(field, new XmlElement(null), () -> new XmlElement(jsonReader.nextString()));
+    }
+
+    @Override
+    public NodeId readNodeId(String field) throws UaSerializationException {
+        return read(field, NodeId.NULL_VALUE, () -> {
+            ExpandedNodeId xni = readExpandedNodeIdObject();
+
+            return xni.toNodeId(context.getNamespaceTable())
+                .orElseThrow(() -> new UaSerializationException(
+                    StatusCodes.Bad_DecodingError,
+                    "namespace not registered: " + xni.getNamespaceUri()
+                ));
+        });
+    }
+
+    @Override
+    public ExpandedNodeId readExpandedNodeId(String field) throws UaSerializationException {
+        return read(field, ExpandedNodeId.NULL_VALUE, this::readExpandedNodeIdObject);
+    }
+
+    private ExpandedNodeId readExpandedNodeIdObject() throws IOException {
+        int idType = 0;
+        String id = null;
+        UShort namespaceIndex = UShort.MIN;
+        String namespaceUri = null;
+        UInteger serverIndex = UInteger.MIN;
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+                continue;
+            }
+
+            switch (name) {
+                case "IdType":
+                    idType = jsonReader.nextInt();
+                    break;
+                case "Id":
+                    id = jsonReader.nextString();
+                    break;
+                case "Namespace":
+                    if (jsonReader.peek() == JsonToken.NUMBER) {
+                        namespaceIndex = ushort(jsonReader.nextInt());
+                    } else {
+                        namespaceUri = jsonReader.nextString();
+                    }
+                    break;
+                case "ServerUri":
+                    serverIndex = uint(jsonReader.nextLong());
+                    break;
+                default:
+                    jsonReader.skipValue();
+                    break;
+            }
+        }
+        jsonReader.endObject();
+
+        if (namespaceUri != null) {
+            UShort index = context.getNamespaceTable().getIndex(namespaceUri);
+
+            if (index != null) {
+                namespaceIndex = index;
+                namespaceUri = null;
+            }
+        }
+
+        Object identifier;
+        switch (idType) {
+            case 0:
+                identifier = id != null ? uint(Long.parseLong(id)) : UInteger.MIN;
+                break;
+            case 1:
+                identifier = id;
+                break;
+            case 2:
+                identifier = id != null ? UUID.fromString(id) : null;
+                break;
+            case 3:
+                identifier = id != null ? ByteString.of(Base64.getDecoder().decode(id)) : ByteString.NULL_VALUE;
+                break;
+            default:
+                throw new UaSerializationException(
+                    StatusCodes.Bad_DecodingError,
+                    "invalid IdType: " + idType
+                );
+        }
+
+        return new ExpandedNodeId(namespaceIndex, namespaceUri, identifier, serverIndex);
+    }
+
+    @Override
+    public StatusCode readStatusCode(String field) throws UaSerializationException {
+        return read(field, StatusCode.GOOD, () -> {
+            if (jsonReader.peek() == JsonToken.BEGIN_OBJECT) {
+                long code = 0L;
+
+                jsonReader.beginObject();
+                while (jsonReader.hasNext()) {
+                    if ("Code".equals(jsonReader.nextName()) && jsonReader.peek() != JsonToken.NULL) {
+                        code = jsonReader.nextLong();
+                    } else {
+                        jsonReader.skipValue();
+                    }
+                }
+                jsonReader.endObject();
+
+                return new StatusCode(code);
+            } else {
+                return new StatusCode(jsonReader.nextLong());
+            }
+        });
+    }
+
+    @Override
+    public QualifiedName readQualifiedName(String field) throws UaSerializationException {
+        return read(field, QualifiedName.NULL_VALUE, () -> {
+            String name = null;
+            UShort namespaceIndex = UShort.MIN;
+
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String fieldName = jsonReader.nextName();
+
+                if (jsonReader.peek() == JsonToken.NULL) {
+                    jsonReader.nextNull();
+                } else if ("Name".equals(fieldName)) {
+                    name = jsonReader.nextString();
+                } else if ("Uri".equals(fieldName)) {
+                    if (jsonReader.peek() == JsonToken.NUMBER) {
+                        namespaceIndex = ushort(jsonReader.nextInt());
+                    } else {
+                        String uri = jsonReader.nextString();
+                        namespaceIndex = context.getNamespaceTable().getIndex(uri);
+
+                        if (namespaceIndex == null) {
+                            throw new UaSerializationException(
+                                StatusCodes.Bad_DecodingError,
+                                "namespace not registered: " + uri
+                            );
+                        }
+                    }
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+
+            return new QualifiedName(namespaceIndex, name);
+        });
+    }
+
+    @Override
+    public LocalizedText readLocalizedText(String field) throws UaSerializationException {
+        return read(field, LocalizedText.NULL_VALUE, () -> {
+            if (jsonReader.peek() == JsonToken.STRING) {
+                return new LocalizedText(jsonReader.nextString());
+            }
+
+            String locale = null;
+            String text = null;
+
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String fieldName = jsonReader.nextName();
+
+                if (jsonReader.peek() == JsonToken.NULL) {
+                    jsonReader.nextNull();
+                } else if ("Locale".equals(fieldName)) {
+                    locale = jsonReader.nextString();
+                } else if ("Text".equals(fieldName)) {
+                    text = jsonReader.nextString();
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+
+            return new LocalizedText(locale, text);
+        });
+    }
+
+    @Override
+    public ExtensionObject readExtensionObject(String field) throws UaSerializationException {
+        return read(field, null, () -> {
+            enter();
+            try {
+                return readExtensionObjectObject();
+            } finally {
+                depth--;
+            }
+        });
+    }
+
+    private ExtensionObject readExtensionObjectObject() throws IOException {
+        NodeId typeId = NodeId.NULL_VALUE;
+        int encoding = 0;
+        ExtensionObject extensionObject = null;
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+
+            switch (name) {
+                case "TypeId":
+                    typeId = readNodeId(null);
+                    break;
+                case "Encoding":
+                    encoding = readInt32(null);
+                    break;
+                case "Body":
+                    if (jsonReader.peek() == JsonToken.NULL) {
+                        jsonReader.nextNull();
+                    } else if (encoding == 1) {
+                        extensionObject = new ExtensionObject(readByteString(null), typeId);
+                    } else if (encoding == 2) {
+                        extensionObject = new ExtensionObject(readXmlElement(null), typeId);
+                    } else {
+                        OpcUaJsonDataTypeCodec<Object> codec = OpcUaJsonStreamEncoder.findCodec(context, typeId);
+
+                        if (codec == null) {
+                            throw new UaSerializationException(
+                                StatusCodes.Bad_DecodingError,
+                                "no codec registered: " + typeId
+                            );
+                        }
+
+                        Object struct = readStructObject(codec);
+
+                        if (struct instanceof UaStructure) {
+                            extensionObject = ExtensionObject.encode(context, (UaStructure) struct);
+                        } else {
+                            throw new UaSerializationException(
+                                StatusCodes.Bad_DecodingError,
+                                "no binary encoding for structure: " + typeId
+                            );
+                        }
+                    }
+                    break;
+                default:
+                    jsonReader.skipValue();
+                    break;
+            }
+        }
+        jsonReader.endObject();
+
+        return extensionObject;
+    }
+
+    @Override
+    public DataValue readDataValue(String field) throws UaSerializationException {
+        return read(field, null, () -> {
+            Variant value = Variant.NULL_VALUE;
+            StatusCode status = StatusCode.GOOD;
+            DateTime sourceTime = DateTime.MIN_VALUE;
+            UShort sourcePicoseconds = null;
+            DateTime serverTime = DateTime.MIN_VALUE;
+            UShort serverPicoseconds = null;
+
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String name = jsonReader.nextName();
+
+                if (jsonReader.peek() == JsonToken.NULL) {
+                    jsonReader.nextNull();
+                    continue;
+                }
+
+                switch (name) {
+                    case "Value":
+                        value = readVariant(null);
+                        break;
+                    case "Status":
+                        status = readStatusCode(null);
+                        break;
+                    case "SourceTimestamp":
+                        sourceTime = readDateTime(null);
+                        break;
+                    case "SourcePicoseconds":
+                        sourcePicoseconds = readUInt16(null);
+                        break;
+                    case "ServerTimestamp":
+                        serverTime = readDateTime(null);
+                        break;
+                    case "ServerPicoseconds":
+                        serverPicoseconds = readUInt16(null);
+                        break;
+                    default:
+                        jsonReader.skipValue();
+                        break;
+                }
+            }
+            jsonReader.endObject();
+
+            return new DataValue(value, status, sourceTime, sourcePicoseconds, serverTime, serverPicoseconds);
+        });
+    }
+
+    @Override
+    public Variant readVariant(String field) throws UaSerializationException {
+        return read(field, Variant.NULL_VALUE, () -> {
+            enter();
+            try {
+                return readVariantObject();
+            } finally {
+                depth--;
+            }
+        });
+    }
+
+    private Variant readVariantObject() throws IOException {
+        int typeId = 0;
+        Object value = null;
+        int[] dimensions = null;
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+                continue;
+            }
+
+            switch (name) {
+                case "Type":
+                    typeId = jsonReader.nextInt();
+                    break;
+                case "Body":
+                    if (typeId == 0) {
+                        throw new UaSerializationException(
+                            StatusCodes.Bad_DecodingError,
+                            "Variant Body without Type"
+                        );
+                    }
+                    if (jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+                        value = readVariantArray(typeId);
+                    } else {
+                        value = readBuiltinType(typeId);
+                    }
+                    break;
+                case "Dimensions":
+                    Integer[] ds = readInt32Array(null);
+                    dimensions = new int[ds.length];
+                    for (int i = 0; i < ds.length; i++) {
+                        dimensions[i] = ds[i];
+                    }
+                    break;
+                default:
+                    jsonReader.skipValue();
+                    break;
+            }
+        }
+        jsonReader.endObject();
+
+        if (value != null && dimensions != null && dimensions.length > 1) {
+            value = ArrayUtil.unflatten(value, dimensions);
+        }
+
+        return new Variant(value);
+    }
+
+    private Object readVariantArray(int typeId) throws IOException {
+        Class<?> backingClass = TypeUtil.getBackingClass(typeId);
+
+        if (backingClass == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "unknown builtin type: " + typeId
+            );
+        }
+
+        List<Object> elements = new ArrayList<>();
+
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+            checkArrayLength(elements.size() + 1);
+
+            elements.add(readBuiltinType(typeId));
+        }
+        jsonReader.endArray();
+
+        Object array = Array.newInstance(backingClass, elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            Array.set(array, i, elements.get(i));
+        }
+
+        return array;
+    }
+
+    private Object readBuiltinType(int typeId) throws UaSerializationException {
+        switch (typeId) {
+            case 1:
+                return readBoolean(null);
+            case 2:
+                return readSByte(null);
+            case 3:
+                return readByte(null);
+            case 4:
+                return readInt16(null);
+            case 5:
+                return readUInt16(null);
+            case 6:
+                return readInt32(null);
+            case 7:
+                return readUInt32(null);
+            case 8:
+                return readInt64(null);
+            case 9:
+                return readUInt64(null);
+            case 10:
+                return readFloat(null);
+            case 11:
+                return readDouble(null);
+            case 12:
+                return readString(null);
+            case 13:
+                return readDateTime(null);
+            case 14:
+                return readGuid(null);
+            case 15:
+                return readByteString(null);
+            case 16:
+                return readXmlElement(null);
+            case 17:
+                return readNodeId(null);
+            case 18:
+                return readExpandedNodeId(null);
+            case 19:
+                return readStatusCode(null);
+            case 20:
+                return readQualifiedName(null);
+            case 21:
+                return readLocalizedText(null);
+            case 22:
+                return readExtensionObject(null);
+            case 23:
+                return readDataValue(null);
+            case 24:
+                return readVariant(null);
+            case 25:
+                return readDiagnosticInfo(null);
+            default:
+                throw new UaSerializationException(
+                    StatusCodes.Bad_DecodingError,
+                    "unknown builtin type: " + typeId
+                );
+        }
+    }
+
+    @Override
+    public DiagnosticInfo readDiagnosticInfo(String field) throws UaSerializationException {
+        return read(field, null, () -> {
+            enter();
+            try {
+                int symbolicId = -1;
+                int namespaceUri = -1;
+                int locale = -1;
+                int localizedText = -1;
+                String additionalInfo = null;
+                StatusCode innerStatusCode = null;
+                DiagnosticInfo innerDiagnosticInfo = null;
+
+                jsonReader.beginObject();
+                while (jsonReader.hasNext()) {
+                    String name = jsonReader.nextName();
+
+                    if (jsonReader.peek() == JsonToken.NULL) {
+                        jsonReader.nextNull();
+                        continue;
+                    }
+
+                    switch (name) {
+                        case "SymbolicId":
+                            symbolicId = jsonReader.nextInt();
+                            break;
+                        case "NamespaceUri":
+                            namespaceUri = jsonReader.nextInt();
+                            break;
+                        case "Locale":
+                            locale = jsonReader.nextInt();
+                            break;
+                        case "LocalizedText":
+                            localizedText = jsonReader.nextInt();
+                            break;
+                        case "AdditionalInfo":
+                            additionalInfo = jsonReader.nextString();
+                            break;
+                        case "InnerStatusCode":
+                            innerStatusCode = readStatusCode(null);
+                            break;
+                        case "InnerDiagnosticInfo":
+                            innerDiagnosticInfo = readDiagnosticInfo(null);
+                            break;
+                        default:
+                            jsonReader.skipValue();
+                            break;
+                    }
+                }
+                jsonReader.endObject();
+
+                return new DiagnosticInfo(
+                    namespaceUri,
+                    symbolicId,
+                    locale,
+                    localizedText,
+                    additionalInfo,
+                    innerStatusCode,
+                    innerDiagnosticInfo
+                );
+            } finally {
+                depth--;
+            }
+        });
+    }
+
+    /**
+     * Read a message written by {@link OpcUaJsonStreamEncoder#writeMessage(String, UaMessage)}: an object containing
+     * the DataType NodeId of the message, as "TypeId", and the message itself, as "Body".
+     */
+    @Override
+    public UaMessage readMessage(String field) throws UaSerializationException {
+        UaMessage message = read(field, null, () -> {
+            NodeId typeId = null;
+            Object body = null;
+
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String name = jsonReader.nextName();
+
+                if ("TypeId".equals(name)) {
+                    typeId = readNodeId(null);
+                } else if ("Body".equals(name)) {
+                    if (typeId == null) {
+                        throw new UaSerializationException(
+                            StatusCodes.Bad_DecodingError,
+                            "message Body without TypeId"
+                        );
+                    }
+
+                    OpcUaJsonDataTypeCodec<Object> codec = OpcUaJsonStreamEncoder.findCodec(context, typeId);
+
+                    if (codec == null) {
+                        throw new UaSerializationException(
+                            StatusCodes.Bad_DecodingError,
+                            "no codec registered: " + typeId
+                        );
+                    }
+
+                    body = readStructObject(codec);
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+
+            if (body instanceof UaMessage) {
+                return (UaMessage) body;
+            } else {
+                throw new UaSerializationException(
+                    StatusCodes.Bad_DecodingError,
+                    "not a message: " + typeId
+                );
+            }
+        });
+
+        if (message == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "message expected"
+            );
+        }
+
+        return message;
+    }
+
+    /**
+     * Read an enumeration written either as its Int32 value or as {@code Name_Value}.
+     */
+    @Override
+    public <T extends Enum<?> & UaEnumeration> T readEnum(
+        String field,
+        Class<T> enumType
+    ) throws UaSerializationException {
+
+        int value = read(field, 0, () -> {
+            if (jsonReader.peek() == JsonToken.STRING) {
+                String s = jsonReader.nextString();
+
+                return Integer.parseInt(s.substring(s.lastIndexOf('_') + 1));
+            } else {
+                return jsonReader.nextInt();
+            }
+        });
+
+        try {
+            Method m = enumType.getDeclaredMethod("from", int.class);
+            Object o = m.invoke(null, value);
+            return enumType.cast(o);
+        } catch (ClassCastException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        }
+    }
+
+    @Override
+    public Object readStruct(String field, NodeId dataTypeId) throws UaSerializationException {
+        OpcUaJsonDataTypeCodec<Object> codec = OpcUaJsonStreamEncoder.findCodec(context, dataTypeId);
+
+        if (codec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "no codec registered: " + dataTypeId
+            );
+        }
+
+        return read(field, null, () -> readStructObject(codec));
+    }
+
+    @Override
+    public Object readStruct(String field, ExpandedNodeId dataTypeId) throws UaSerializationException {
+        return readStruct(field, toNodeId(dataTypeId));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object readStruct(String field, DataTypeCodec codec) throws UaSerializationException {
+        if (codec instanceof OpcUaJsonDataTypeCodec) {
+            OpcUaJsonDataTypeCodec<Object> jsonCodec = (OpcUaJsonDataTypeCodec<Object>) codec;
+
+            return read(field, null, () -> readStructObject(jsonCodec));
+        } else {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                new IllegalArgumentException("codec: " + codec)
+            );
+        }
+    }
+
+    private Object readStructObject(OpcUaJsonDataTypeCodec<Object> codec) throws IOException {
+        Map<String, String> outer = buffered;
+
+        enter();
+        try {
+            buffered = null;
+
+            jsonReader.beginObject();
+
+            Object value = codec.decode(context, this);
+
+            // skip any fields the codec didn't read
+            while (jsonReader.hasNext()) {
+                jsonReader.nextName();
+                jsonReader.skipValue();
+            }
+            jsonReader.endObject();
+
+            return value;
+        } finally {
+            buffered = outer;
+            depth--;
+        }
+    }
+
+    @Override
+    public Boolean[] readBooleanArray(String field) throws UaSerializationException {
+        return readArray(field, this::readBoolean, Boolean.class);
+    }
+
+    @Override
+    public Byte[] readSByteArray(String field) throws UaSerializationException {
+        return readArray(field, this::readSByte, Byte.class);
+    }
+
+    @Override
+    public Short[] readInt16Array(String field) throws UaSerializationException {
+        return readArray(field, this::readInt16, Short.class);
+    }
+
+    @Override
+    public Integer[] readInt32Array(String field) throws UaSerializationException {
+        return readArray(field, this::readInt32, Integer.class);
+    }
+
+    @Override
+    public Long[] readInt64Array(String field) throws UaSerializationException {
+        return readArray(field, this::readInt64, Long.class);
+    }
+
+    @Override
+    public UByte[] readByteArray(String field) throws UaSerializationException {
+        return readArray(field, this::readByte, UByte.class);
+    }
+
+    @Override
+    public UShort[] readUInt16Array(String field) throws UaSerializationException {
+        return readArray(field, this::readUInt16, UShort.class);
+    }
+
+    @Override
+    public UInteger[] readUInt32Array(String field) throws UaSerializationException {
+        return readArray(field, this::readUInt32, UInteger.class);
+    }
+
+    @Override
+    public ULong[] readUInt64Array(String field) throws UaSerializationException {
+        return readArray(field, this::readUInt64, ULong.class);
+    }
+
+    @Override
+    public Float[] readFloatArray(String field) throws UaSerializationException {
+        return readArray(field, this::readFloat, Float.class);
+    }
+
+    @Override
+    public Double[] readDoubleArray(String field) throws UaSerializationException {
+        return readArray(field, this::readDouble, Double.class);
+    }
+
+    @Override
+    public String[] readStringArray(String field) throws UaSerializationException {
+        return readArray(field, this::readString, String.class);
+    }
+
+    @Override
+    public DateTime[] readDateTimeArray(String field) throws UaSerializationException {
+        return readArray(field, this::readDateTime, DateTime.class);
+    }
+
+    @Override
+    public UUID[] readGuidArray(String field) throws UaSerializationException {
+        return readArray(field, this::readGuid, UUID.class);
+    }
+
+    @Override
+    public ByteString[] readByteStringArray(String field) throws UaSerializationException {
+        return readArray(field, this::readByteString, ByteString.class);
+    }
+
+    @Override
+    public XmlElement[] readXmlElementArray(String field) throws UaSerializationException {
+        return readArray(field, this::readXmlElement, XmlElement.class);
+    }
+
+    @Override
+    public NodeId[] readNodeIdArray(String field) throws UaSerializationException {
+        return readArray(field, this::readNodeId, NodeId.class);
+    }
+
+    @Override
+    public ExpandedNodeId[] readExpandedNodeIdArray(String field) throws UaSerializationException {
+        return readArray(field, this::readExpandedNodeId, ExpandedNodeId.class);
+    }
+
+    @Override
+    public StatusCode[] readStatusCodeArray(String field) throws UaSerializationException {
+        return readArray(field, this::readStatusCode, StatusCode.class);
+    }
+
+    @Override
+    public QualifiedName[] readQualifiedNameArray(String field) throws UaSerializationException {
+        return readArray(field, this::readQualifiedName, QualifiedName.class);
+    }
+
+    @Override
+    public LocalizedText[] readLocalizedTextArray(String field) throws UaSerializationException {
+        return readArray(field, this::readLocalizedText, LocalizedText.class);
+    }
+
+    @Override
+    public ExtensionObject[] readExtensionObjectArray(String field) throws UaSerializationException {
+        return readArray(field, this::readExtensionObject, ExtensionObject.class);
+    }
+
+    @Override
+    public DataValue[] readDataValueArray(String field) throws UaSerializationException {
+        return readArray(field, this::readDataValue, DataValue.class);
+    }
+
+    @Override
+    public Variant[] readVariantArray(String field) throws UaSerializationException {
+        return readArray(field, this::readVariant, Variant.class);
+    }
+
+    @Override
+    public DiagnosticInfo[] readDiagnosticInfoArray(String field) throws UaSerializationException {
+        return readArray(field, this::readDiagnosticInfo, DiagnosticInfo.class);
+    }
+
+    @Override
+    public <T extends Enum<?> & UaEnumeration> Object[] readEnumArray(
+        String field,
+        Class<T> enumType
+    ) throws UaSerializationException {
+
+        return readArray(field, f -> readEnum(f, enumType), enumType);
+    }
+
+    @Override
+    public Object[] readStructArray(String field, NodeId dataTypeId) throws UaSerializationException {
+        OpcUaJsonDataTypeCodec<Object> codec = OpcUaJsonStreamEncoder.findCodec(context, dataTypeId);
+
+        if (codec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "no codec registered: " + dataTypeId
+            );
+        }
+
+        @SuppressWarnings("unchecked")
+        Class<Object> clazz = (Class<Object>) codec.getType();
+
+        return readArray(field, f -> read(f, null, () -> readStructObject(codec)), clazz);
+    }
+
+    @Override
+    public Object[] readStructArray(String field, ExpandedNodeId dataTypeId) throws UaSerializationException {
+        return readStructArray(field, toNodeId(dataTypeId));
+    }
+
+    @Override
+    public <T> T[] readArray(
+        String field,
+        Function<String, T> decoder,
+        Class<T> clazz
+    ) throws UaSerializationException {
+
+        return read(field, null, () -> {
+            List<T> elements = new ArrayList<>();
+
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                checkArrayLength(elements.size() + 1);
+
+                elements.add(decoder.apply(null));
+            }
+            jsonReader.endArray();
+
+            @SuppressWarnings("unchecked")
+            T[] array = (T[]) Array.newInstance(clazz, elements.size());
+
+            return elements.toArray(array);
+        });
+    }
+
+    /**
+     * Read the value of {@code field}, or the next value of the enclosing array or document if {@code field} is
+     * {@code null}.
+     *
+     * @param field        the name of the field to read, or {@code null}.
+     * @param defaultValue the value to return if the field is missing or null.
+     * @param reader       reads the value once the reader is positioned at it.
+     * @return the value read, or {@code defaultValue}.
+     */
+    private <T> T read(
+        @Nullable String field,
+        @Nullable T defaultValue,
+        ValueReader<T> reader
+    ) throws UaSerializationException {
+
+        try {
+            if (field != null) {
+                String json = buffered != null ? buffered.remove(field) : null;
+
+                if (json != null) {
+                    return readBuffered(json, defaultValue, reader);
+                }
+
+                // fields usually arrive in encoding order; buffer any that
+                // come before the one being read until they're asked for.
+                while (true) {
+                    if (!jsonReader.hasNext()) {
+                        return defaultValue;
+                    }
+
+                    String name = jsonReader.nextName();
+
+                    if (field.equals(name)) {
+                        break;
+                    }
+
+                    if (buffered == null) {
+                        buffered = new HashMap<>();
+                    }
+                    buffered.put(name, bufferValue());
+                }
+            }
+
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+                return defaultValue;
+            }
+
+            return reader.read();
+        } catch (IOException | IllegalStateException | IllegalArgumentException |
+            DateTimeParseException | IndexOutOfBoundsException e) {
+
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        }
+    }
+
+    private <T> T readBuffered(
+        String json,
+        @Nullable T defaultValue,
+        ValueReader<T> reader
+    ) throws UaSerializationException {
+
+        JsonReader streamReader = jsonReader;
+
+        jsonReader = new JsonReader(new StringReader(json));
+        try {
+            return read(null, defaultValue, reader);
+        } finally {
+            jsonReader = streamReader;
+        }
+    }
+
+    /**
+     * Copy the next value from the reader, which may be an object or array, to a String of JSON text.
+     */
+    private String bufferValue() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        JsonWriter jsonWriter = new JsonWriter(stringWriter);
+        jsonWriter.setLenient(true);
+
+        copyValue(jsonWriter);
+        jsonWriter.flush();
+
+        return stringWriter.toString();
+    }
+
+    private void copyValue(JsonWriter jsonWriter) throws IOException {
+        switch (jsonReader.peek()) {
+            case BEGIN_OBJECT:
+                enter();
+                try {
+                    jsonReader.beginObject();
+                    jsonWriter.beginObject();
+                    while (jsonReader.hasNext()) {
+                        jsonWriter.name(jsonReader.nextName());
+                        copyValue(jsonWriter);
+                    }
+                    jsonReader.endObject();
+                    jsonWriter.endObject();
+                } finally {
+                    depth--;
+                }
+                break;
+            case BEGIN_ARRAY:
+                enter();
+                try {
+                    jsonReader.beginArray();
+                    jsonWriter.beginArray();
+                    while (jsonReader.hasNext()) {
+                        copyValue(jsonWriter);
+                    }
+                    jsonReader.endArray();
+                    jsonWriter.endArray();
+                } finally {
+                    depth--;
+                }
+                break;
+            case STRING:
+                jsonWriter.value(jsonReader.nextString());
+                break;
+            case NUMBER:
+                // keep the number's text so Int64 and UInt64 values don't lose precision
+                jsonWriter.jsonValue(jsonReader.nextString());
+                break;
+            case BOOLEAN:
+                jsonWriter.value(jsonReader.nextBoolean());
+                break;
+            case NULL:
+                jsonReader.nextNull();
+                jsonWriter.nullValue();
+                break;
+            default:
+                throw new IllegalStateException("unexpected token: " + jsonReader.peek());
+        }
+    }
+
+    private void enter() throws UaSerializationException {
+        if (depth >= context.getEncodingLimits().getMaxRecursionDepth()) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingLimitsExceeded,
+                "max recursion depth exceeded: " +
+                    context.getEncodingLimits().getMaxRecursionDepth()
+            );
+        }
+
+        depth++;
+    }
+
+    private void checkArrayLength(int length) throws UaSerializationException {
+        if (length > context.getEncodingLimits().getMaxMessageSize()) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingLimitsExceeded,
+                String.format(
+                    "array length exceeds max message size (length=%s, max=%s)",
+                    length, context.getEncodingLimits().getMaxMessageSize())
+            );
+        }
+    }
+
+    private NodeId toNodeId(ExpandedNodeId xni) throws UaSerializationException {
+        return xni.toNodeId(context.getNamespaceTable())
+            .orElseThrow(() -> new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "namespace not registered: " + xni
+            ));
+    }
+
+    private interface ValueReader<T> {
+        T read() throws IOException;
+    }
+
+}
@@ -0,0 +1,968 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import com.google.gson.stream.JsonWriter;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.DataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.GenericDataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.OpcUaJsonDataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.types.DataTypeManager;
+import org.eclipse.milo.opcua.stack.core.types.OpcUaDefaultBinaryEncoding;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.XmlElement;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.IdType;
+import org.eclipse.milo.opcua.stack.core.util.ArrayUtil;
+import org.eclipse.milo.opcua.stack.core.util.TypeUtil;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Encodes values using the OPC UA JSON encoding.
+ * <p>
+ * Values are streamed to a {@link Writer} as they are encoded; no document tree is built.
+ * <p>
+ * The reversible form, the default, can be decoded by {@link OpcUaJsonStreamDecoder} and is what the HTTPS and
+ * WebSocket JSON transports use. In the reversible form null fields are left out, NodeIds and QualifiedNames refer
+ * to namespaces by index, and Variants and ExtensionObjects carry their type.
+ * <p>
+ * The non-reversible form is meant for consumers that only display or process values: null fields are written as
+ * JSON null, namespaces other than 0 and 1 are written as URIs, Variants and ExtensionObjects are written as their
+ * bare body, LocalizedTexts as their text, StatusCodes with their symbolic name, and enumerations as
+ * {@code Name_Value}.
+ * <p>
+ * Structures are written as JSON objects using the {@link OpcUaJsonDataTypeCodec} registered for their DataType
+ * under {@link OpcUaJsonDataTypeCodec#ENCODING_NAME}, or using the {@link GenericDataTypeCodec} behind their Default
+ * Binary codec. ExtensionObjects whose body can't be decoded to such a structure are written with their binary or
+ * XML body.
+ */
+public class OpcUaJsonStreamEncoder implements UaEncoder {
+
+    private static final String DATE_TIME_MIN = "0001-01-01T00:00:00Z";
+    private static final String DATE_TIME_MAX = "9999-12-31T23:59:59Z";
+
+    private static final Instant INSTANT_MAX = Instant.parse(DATE_TIME_MAX);
+
+    private JsonWriter jsonWriter;
+
+    private final SerializationContext context;
+    private final boolean reversible;
+
+    public OpcUaJsonStreamEncoder(SerializationContext context) {
+        this(context, true);
+    }
+
+    /**
+     * @param context    the {@link SerializationContext}.
+     * @param reversible {@code true} to encode using the reversible form, {@code false} to use the non-reversible
+     *                   form.
+     */
+    public OpcUaJsonStreamEncoder(SerializationContext context, boolean reversible) {
+        this.context = context;
+        this.reversible = reversible;
+    }
+
+    public OpcUaJsonStreamEncoder setWriter(Writer writer) {
+        jsonWriter = new JsonWriter(writer);
+        jsonWriter.setHtmlSafe(false);
+
+        return this;
+    }
+
+    public boolean isReversible() {
+        return reversible;
+    }
+
+    /**
+     * Flush the {@link Writer} this encoder writes to.
+     */
+    public void flush() throws UaSerializationException {
+        try {
+            jsonWriter.flush();
+        } catch (IOException e) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+        }
+    }
+
+    @Override
+    public void writeBoolean(String field, Boolean value) throws UaSerializationException {
+        write(field, value, v -> jsonWriter.value(v));
+    }
+
+    @Override
+    public void writeSByte(String field, Byte value) throws UaSerializationException {
+        write(field, value, v -> jsonWriter.value(v));
+    }
+
+    @Override
+    public void writeInt16(String field, Short value) throws UaSerializationException {
+        write(field, value, v -> jsonWriter.value(v));
+    }
+
+    @Override
+    public void writeInt32(String field, Integer value) throws UaSerializationException {
+        write(field, value, v -> jsonWriter.value(v));
+    }
+
+    @Override
+    public void writeInt64(String field, Long value) throws UaSerializationException {
+        // 64-bit integers are written as strings; many JSON parsers can't represent them exactly as numbers.
+        write(field, value, v -> jsonWriter.value(v.toString()));
+    }
+
+    @Override
+    public void writeByte(String field, UByte value) throws UaSerializationException {
+        write(field, value, v -> jsonWriter.value(v.intValue()));
+    }
+
+    @Override
+    public void writeUInt16(String field, UShort value) throws UaSerializationException {
+        write(field, value, v -> jsonWriter.value(v.intValue()));
+    }
+
+    @Override
+    public void writeUInt32(String field, UInteger value) throws UaSerializationException {
+        write(field, value, v -> jsonWriter.value(v.longValue()));
+    }
+
+    @Override
+    public void writeUInt64(String field, ULong value) throws UaSerializationException {
+        write(field, value, v -> jsonWriter.value(v.toString()));
+    }
+
+    @Override
+    public void writeFloat(String field, Float value) throws UaSerializationException {
+        write(field, value, v -> {
+            if (v.isNaN() || v.isInfinite()) {
+                jsonWriter.value(v.toString());
+            } else {
+                jsonWriter.value(v);
+            }
+        });
+    }
+
+    @Override
+    public void writeDouble(String field, Double value) throws UaSerializationException {
+        write(field, value, v -> {
+            if (v.isNaN() || v.isInfinite()) {
+                jsonWriter.value(v.toString());
+            } else {
+                jsonWriter.value(v);
+            }
+        });
+    }
+
+    @Override
+    public void writeString(String field, String value) throws UaSerializationException {
+        write(field, value, v -> jsonWriter.value(v));
+    }
+
+    @Override
+    public void writeDateTime(String field, DateTime value) throws UaSerializationException {
+        write(field, value, v -> {
+            if (v.getUtcTime() <= 0) {
+                jsonWriter.value(DATE_TIME_MIN);
+            } else {
+                Instant instant = v.getJavaInstant();
+
+                if (instant.isAfter(INSTANT_MAX)) {
+                    jsonWriter.value(DATE_TIME_MAX);
+                } else {
+                    jsonWriter.value(DateTimeFormatter.ISO_INSTANT.format(instant));
+                }
+            }
+        });
+    }
+
+    @Override
+    public void writeGuid(String field, UUID value) throws UaSerializationException {
+        write(field, value, v -> jsonWriter.value(v.toString()));
+    }
+
+    @Override
+    public void writeByteString(String field, ByteString value) throws UaSerializationException {
+        write(field, value != null && value.isNotNull() ? value : null, v ->
+            jsonWriter.value(Base64.getEncoder().encodeToString(v.bytesOrEmpty())));
+    }
+
+    @Override
+    public void writeXmlElement(String field, XmlElement value) throws UaSerializationException {
+        write(field, value != null && value.isNotNull() ? value : null, v -> jsonWriter.value(v.getFragment()));
+    }
+
+    @Override
+    public void writeNodeId(String field, NodeId value) throws UaSerializationException {
+        write(field, value, v -> {
+            jsonWriter.beginObject();
+            writeIdentifier(v.getType(), v.getIdentifier());
+            writeNamespace("Namespace", v.getNamespaceIndex(), null);
+            jsonWriter.endObject();
+        });
+    }
+
+    @Override
+    public void writeExpandedNodeId(String field, ExpandedNodeId value) throws UaSerializationException {
+        write(field, value, v -> {
+            jsonWriter.beginObject();
+            writeIdentifier(v.getType(), v.getIdentifier());
+            writeNamespace("Namespace", v.getNamespaceIndex(), v.getNamespaceUri());
+            if (v.getServerIndex().longValue() != 0L) {
+                jsonWriter.name("ServerUri").value(v.getServerIndex().longValue());
+            }
+            jsonWriter.endObject();
+        });
+    }
+
+    private void writeIdentifier(IdType idType, Object identifier) throws IOException {
+        switch (idType) {
+            case Numeric:
+                jsonWriter.name("Id").value(((UInteger) identifier).longValue());
+                break;
+            case String:
+                jsonWriter.name("IdType").value(1);
+                jsonWriter.name("Id").value((String) identifier);
+                break;
+            case Guid:
+                jsonWriter.name("IdType").value(2);
+                jsonWriter.name("Id").value(identifier.toString());
+                break;
+            case Opaque:
+                jsonWriter.name("IdType").value(3);
+                jsonWriter.name("Id").value(Base64.getEncoder().encodeToString(
+                    ((ByteString) identifier).bytesOrEmpty()));
+                break;
+            default:
+                throw new UaSerializationException(
+                    StatusCodes.Bad_EncodingError,
+                    "unknown IdType: " + idType
+                );
+        }
+    }
+
+    private void writeNamespace(String name, @Nullable UShort namespaceIndex, @Nullable String namespaceUri)
+        throws IOException {
+
+        if (namespaceUri != null && !namespaceUri.isEmpty()) {
+            jsonWriter.name(name).value(namespaceUri);
+        } else if (namespaceIndex != null && namespaceIndex.intValue() != 0) {
+            String uri = !reversible && namespaceIndex.intValue() > 1 ?
+                context.getNamespaceTable().getUri(namespaceIndex) : null;
+
+            if (uri != null) {
+                jsonWriter.name(name).value(uri);
+            } else {
+                jsonWriter.name(name).value(namespaceIndex.intValue());
+            }
+        }
+    }
+
+    @Override
+    public void writeStatusCode(String field, StatusCode value) throws UaSerializationException {
+        write(field, value, v -> {
+            if (reversible) {
+                jsonWriter.value(v.getValue());
+            } else {
+                jsonWriter.beginObject();
+                jsonWriter.name("Code").value(v.getValue());
+                String[] nameAndDescription = StatusCodes.lookup(v.getValue()).orElse(null);
+                if (nameAndDescription != null) {
+                    jsonWriter.name("Symbol").value(nameAndDescription[0]);
+                }
+                jsonWriter.endObject();
+            }
+        });
+    }
+
+    @Override
+    public void writeQualifiedName(String field, QualifiedName value) throws UaSerializationException {
+        write(field, value, v -> {
+            jsonWriter.beginObject();
+            if (v.getName() != null) {
+                jsonWriter.name("Name").value(v.getName());
+            }
+            writeNamespace("Uri", v.getNamespaceIndex(), null);
+            jsonWriter.endObject();
+        });
+    }
+
+    @Override
+    public void writeLocalizedText(String field, LocalizedText value) throws UaSerializationException {
+        write(field, value, v -> {
+            if (reversible) {
+                jsonWriter.beginObject();
+                if (v.getLocale() != null) {
+                    jsonWriter.name("Locale").value(v.getLocale());
+                }
+                if (v.getText() != null) {
+                    jsonWriter.name("Text").value(v.getText());
+                }
+                jsonWriter.endObject();
+            } else {
+                jsonWriter.value(v.getText());
+            }
+        });
+    }
+
+    @Override
+    public void writeExtensionObject(String field, ExtensionObject value) throws UaSerializationException {
+        write(field, value != null && !value.isNull() ? value : null, v -> {
+            Object decoded = v.getBodyType() == ExtensionObject.BodyType.ByteString ?
+                v.decodeOrNull(context) : null;
+
+            if (decoded instanceof UaStructure) {
+                UaStructure structure = (UaStructure) decoded;
+                NodeId typeId = toNodeId(structure.getTypeId());
+                OpcUaJsonDataTypeCodec<Object> codec = findCodec(context, typeId);
+
+                if (codec != null) {
+                    writeStructure(typeId, structure, codec);
+                    return;
+                }
+            }
+
+            if (reversible) {
+                jsonWriter.beginObject();
+                writeNodeId("TypeId", v.getEncodingId());
+                jsonWriter.name("Encoding").value(v.getBodyType() == ExtensionObject.BodyType.ByteString ? 1 : 2);
+                jsonWriter.name("Body");
+            }
+
+            if (v.getBodyType() == ExtensionObject.BodyType.ByteString) {
+                ByteString bs = (ByteString) v.getBody();
+                jsonWriter.value(Base64.getEncoder().encodeToString(bs.bytesOrEmpty()));
+            } else {
+                jsonWriter.value(((XmlElement) v.getBody()).getFragmentOrEmpty());
+            }
+
+            if (reversible) {
+                jsonWriter.endObject();
+            }
+        });
+    }
+
+    @Override
+    public void writeDataValue(String field, DataValue value) throws UaSerializationException {
+        write(field, value, v -> {
+            jsonWriter.beginObject();
+            if (v.getValue() != null && v.getValue().isNotNull()) {
+                writeVariant("Value", v.getValue());
+            }
+            if (v.getStatusCode() != null && v.getStatusCode().getValue() != StatusCode.GOOD.getValue()) {
+                writeStatusCode("Status", v.getStatusCode());
+            }
+            if (v.getSourceTime() != null && !v.getSourceTime().isNull()) {
+                writeDateTime("SourceTimestamp", v.getSourceTime());
+            }
+            if (v.getSourcePicoseconds() != null && v.getSourcePicoseconds().intValue() != 0) {
+                writeUInt16("SourcePicoseconds", v.getSourcePicoseconds());
+            }
+            if (v.getServerTime() != null && !v.getServerTime().isNull()) {
+                writeDateTime("ServerTimestamp", v.getServerTime());
+            }
+            if (v.getServerPicoseconds() != null && v.getServerPicoseconds().intValue() != 0) {
+                writeUInt16("ServerPicoseconds", v.getServerPicoseconds());
+            }
+            jsonWriter.endObject();
+        });
+    }
+
+    @Override
+    public void writeVariant(String field, Variant value) throws UaSerializationException {
+        Object o = value != null ? value.getValue() : null;
+
+        if (o == null && field == null && reversible) {
+            // a null Variant in an array or at the top level is an empty object
+            try {
+                jsonWriter.beginObject();
+                jsonWriter.endObject();
+            } catch (IOException e) {
+                throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+            }
+            return;
+        }
+
+        write(field, o, v -> {
+            boolean structure = false;
+            boolean enumeration = false;
+            Class<?> valueClass = v.getClass().isArray() ? ArrayUtil.getType(v) : v.getClass();
+
+            if (UaStructure.class.isAssignableFrom(valueClass)) {
+                valueClass = ExtensionObject.class;
+                structure = true;
+            } else if (UaEnumeration.class.isAssignableFrom(valueClass)) {
+                valueClass = Integer.class;
+                enumeration = true;
+            }
+
+            int typeId = TypeUtil.getBuiltinTypeId(valueClass);
+
+            if (typeId == -1) {
+                throw new UaSerializationException(
+                    StatusCodes.Bad_EncodingError,
+                    "not a built-in type: " + valueClass
+                );
+            }
+
+            if (reversible) {
+                jsonWriter.beginObject();
+                jsonWriter.name("Type").value(typeId);
+                jsonWriter.name("Body");
+
+                if (v.getClass().isArray()) {
+                    int[] dimensions = ArrayUtil.getDimensions(v);
+                    Object flattened = dimensions.length > 1 ? ArrayUtil.flatten(v) : v;
+
+                    writeVariantArray(flattened, typeId, structure, enumeration);
+
+                    if (dimensions.length > 1) {
+                        jsonWriter.name("Dimensions");
+                        jsonWriter.beginArray();
+                        for (int dimension : dimensions) {
+                            jsonWriter.value(dimension);
+                        }
+                        jsonWriter.endArray();
+                    }
+                } else {
+                    writeVariantValue(v, typeId, structure, enumeration);
+                }
+
+                jsonWriter.endObject();
+            } else {
+                if (v.getClass().isArray()) {
+                    // multi-dimensional arrays are written as nested arrays
+                    writeVariantArray(v, typeId, structure, enumeration);
+                } else {
+                    writeVariantValue(v, typeId, structure, enumeration);
+                }
+            }
+        });
+    }
+
+    private void writeVariantArray(Object array, int typeId, boolean structure, boolean enumeration)
+        throws IOException {
+
+        jsonWriter.beginArray();
+
+        int length = Array.getLength(array);
+        for (int i = 0; i < length; i++) {
+            Object element = Array.get(array, i);
+
+            if (element == null) {
+                jsonWriter.nullValue();
+            } else if (element.getClass().isArray()) {
+                writeVariantArray(element, typeId, structure, enumeration);
+            } else {
+                writeVariantValue(element, typeId, structure, enumeration);
+            }
+        }
+
+        jsonWriter.endArray();
+    }
+
+    private void writeVariantValue(Object value, int typeId, boolean structure, boolean enumeration) {
+        if (structure) {
+            UaStructure struct = (UaStructure) value;
+            NodeId dataTypeId = toNodeId(struct.getTypeId());
+            OpcUaJsonDataTypeCodec<Object> codec = findCodec(context, dataTypeId);
+
+            if (codec != null) {
+                try {
+                    writeStructure(dataTypeId, struct, codec);
+                } catch (IOException e) {
+                    throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+                }
+            } else {
+                writeExtensionObject(null, ExtensionObject.encode(context, struct));
+            }
+        } else if (enumeration) {
+            writeInt32(null, ((UaEnumeration) value).getValue());
+        } else {
+            writeBuiltinType(typeId, value);
+        }
+    }
+
+    private void writeBuiltinType(int typeId, Object value) throws UaSerializationException {
+        switch (typeId) {
+            case 1:
+                writeBoolean(null, (Boolean) value);
+                break;
+            case 2:
+                writeSByte(null, (Byte) value);
+                break;
+            case 3:
+                writeByte(null, (UByte) value);
+                break;
+            case 4:
+                writeInt16(null, (Short) value);
+                break;
+            case 5:
+                writeUInt16(null, (UShort) value);
+                break;
+            case 6:
+                writeInt32(null, (Integer) value);
+                break;
+            case 7:
+                writeUInt32(null, (UInteger) value);
+                break;
+            case 8:
+                writeInt64(null, (Long) value);
+                break;
+            case 9:
+                writeUInt64(null, (ULong) value);
+                break;
+            case 10:
+                writeFloat(null, (Float) value);
+                break;
+            case 11:
+                writeDouble(null, (Double) value);
+                break;
+            case 12:
+                writeString(null, (String) value);
+                break;
+            case 13:
+                writeDateTime(null, (DateTime) value);
+                break;
+            case 14:
+                writeGuid(null, (UUID) value);
+                break;
+            case 15:
+                writeByteString(null, (ByteString) value);
+                break;
+            case 16:
+                writeXmlElement(null, (XmlElement) value);
+                break;
+            case 17:
+                writeNodeId(null, (NodeId) value);
+                break;
+            case 18:
+                writeExpandedNodeId(null, (ExpandedNodeId) value);
+                break;
+            case 19:
+                writeStatusCode(null, (StatusCode) value);
+                break;
+            case 20:
+                writeQualifiedName(null, (QualifiedName) value);
+                break;
+            case 21:
+                writeLocalizedText(null, (LocalizedText) value);
+                break;
+            case 22:
+                writeExtensionObject(null, (ExtensionObject) value);
+                break;
+            case 23:
+                writeDataValue(null, (DataValue) value);
+                break;
+            case 24:
+                writeVariant(null, (Variant) value);
+                break;
+            case 25:
+                writeDiagnosticInfo(null, (DiagnosticInfo) value);
+                break;
+            default:
+                throw new UaSerializationException(
+                    StatusCodes.Bad_EncodingError,
+                    "unknown builtin type: " + typeId
+                );
+        }
+    }
+
+    @Override
+    public void writeDiagnosticInfo(String field, DiagnosticInfo value) throws UaSerializationException {
+        write(field, value, v -> {
+            jsonWriter.beginObject();
+            if (v.getSymbolicId() >= 0) {
+                jsonWriter.name("SymbolicId").value(v.getSymbolicId());
+            }
+            if (v.getNamespaceUri() >= 0) {
+                jsonWriter.name("NamespaceUri").value(v.getNamespaceUri());
+            }
+            if (v.getLocale() >= 0) {
+                jsonWriter.name("Locale").value(v.getLocale());
+            }
+            if (v.getLocalizedText() >= 0) {
+                jsonWriter.name("LocalizedText").value(v.getLocalizedText());
+            }
+            if (v.getAdditionalInfo() != null) {
+                jsonWriter.name("AdditionalInfo").value(v.getAdditionalInfo());
+            }
+            if (v.getInnerStatusCode() != null) {
+                writeStatusCode("InnerStatusCode", v.getInnerStatusCode());
+            }
+            if (v.getInnerDiagnosticInfo() != null) {
+                writeDiagnosticInfo("InnerDiagnosticInfo", v.getInnerDiagnosticInfo());
+            }
+            jsonWriter.endObject();
+        });
+    }
+
+    /**
+     * Write {@code message} as an object containing its DataType NodeId, as "TypeId", and the message itself, as
+     * "Body".
+     */
+    @Override
+    public void writeMessage(String field, UaMessage message) throws UaSerializationException {
+        NodeId typeId = toNodeId(message.getTypeId());
+
+        OpcUaJsonDataTypeCodec<Object> codec = findCodec(context, typeId);
+
+        if (codec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                "no codec registered: " + typeId
+            );
+        }
+
+        write(field, message, v -> writeStructure(typeId, v, codec));
+    }
+
+    @Override
+    public void writeEnum(String field, UaEnumeration value) throws UaSerializationException {
+        write(field, value, v -> {
+            if (reversible) {
+                jsonWriter.value(v.getValue());
+            } else {
+                jsonWriter.value(String.format("%s_%s", v.toString(), v.getValue()));
+            }
+        });
+    }
+
+    @Override
+    public void writeStruct(String field, Object value, NodeId dataTypeId) throws UaSerializationException {
+        OpcUaJsonDataTypeCodec<Object> codec = findCodec(context, dataTypeId);
+
+        if (codec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                "no codec registered: " + dataTypeId
+            );
+        }
+
+        writeStruct(field, value, codec);
+    }
+
+    @Override
+    public void writeStruct(String field, Object value, ExpandedNodeId dataTypeId) throws UaSerializationException {
+        writeStruct(field, value, toNodeId(dataTypeId));
+    }
+
+    @Override
+    public void writeStruct(String field, Object value, DataTypeCodec codec) throws UaSerializationException {
+        OpcUaJsonDataTypeCodec<Object> jsonCodec = toJsonCodec(codec);
+
+        if (jsonCodec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                new IllegalArgumentException("codec: " + codec)
+            );
+        }
+
+        write(field, value, v -> {
+            jsonWriter.beginObject();
+            jsonCodec.encode(context, this, v);
+            jsonWriter.endObject();
+        });
+    }
+
+    /**
+     * Write a structure along with its DataType NodeId, i.e. as an ExtensionObject with a JSON body.
+     */
+    private void writeStructure(NodeId typeId, Object value, OpcUaJsonDataTypeCodec<Object> codec) throws IOException {
+        if (reversible) {
+            jsonWriter.beginObject();
+            writeNodeId("TypeId", typeId);
+            jsonWriter.name("Body");
+        }
+
+        jsonWriter.beginObject();
+        codec.encode(context, this, value);
+        jsonWriter.endObject();
+
+        if (reversible) {
+            jsonWriter.endObject();
+        }
+    }
+
+    @Override
+    public void writeBooleanArray(String field, Boolean[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeBoolean);
+    }
+
+    @Override
+    public void writeSByteArray(String field, Byte[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeSByte);
+    }
+
+    @Override
+    public void writeInt16Array(String field, Short[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeInt16);
+    }
+
+    @Override
+    public void writeInt32Array(String field, Integer[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeInt32);
+    }
+
+    @Override
+    public void writeInt64Array(String field, Long[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeInt64);
+    }
+
+    @Override
+    public void writeByteArray(String field, UByte[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeByte);
+    }
+
+    @Override
+    public void writeUInt16Array(String field, UShort[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeUInt16);
+    }
+
+    @Override
+    public void writeUInt32Array(String field, UInteger[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeUInt32);
+    }
+
+    @Override
+    public void writeUInt64Array(String field, ULong[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeUInt64);
+    }
+
+    @Override
+    public void writeFloatArray(String field, Float[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeFloat);
+    }
+
+    @Override
+    public void writeDoubleArray(String field, Double[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeDouble);
+    }
+
+    @Override
+    public void writeStringArray(String field, String[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeString);
+    }
+
+    @Override
+    public void writeDateTimeArray(String field, DateTime[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeDateTime);
+    }
+
+    @Override
+    public void writeGuidArray(String field, UUID[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeGuid);
+    }
+
+    @Override
+    public void writeByteStringArray(String field, ByteString[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeByteString);
+    }
+
+    @Override
+    public void writeXmlElementArray(String field, XmlElement[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeXmlElement);
+    }
+
+    @Override
+    public void writeNodeIdArray(String field, NodeId[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeNodeId);
+    }
+
+    @Override
+    public void writeExpandedNodeIdArray(String field, ExpandedNodeId[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeExpandedNodeId);
+    }
+
+    @Override
+    public void writeStatusCodeArray(String field, StatusCode[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeStatusCode);
+    }
+
+    @Override
+    public void writeQualifiedNameArray(String field, QualifiedName[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeQualifiedName);
+    }
+
+    @Override
+    public void writeLocalizedTextArray(String field, LocalizedText[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeLocalizedText);
+    }
+
+    @Override
+    public void writeExtensionObjectArray(String field, ExtensionObject[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeExtensionObject);
+    }
+
+    @Override
+    public void writeDataValueArray(String field, DataValue[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeDataValue);
+    }
+
+    @Override
+    public void writeVariantArray(String field, Variant[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeVariant);
+    }
+
+    @Override
+    public void writeDiagnosticInfoArray(String field, DiagnosticInfo[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeDiagnosticInfo);
+    }
+
+    @Override
+    public void writeEnumArray(String field, UaEnumeration[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeEnum);
+    }
+
+    @Override
+    public void writeStructArray(String field, Object[] value, NodeId dataTypeId) throws UaSerializationException {
+        OpcUaJsonDataTypeCodec<Object> codec = findCodec(context, dataTypeId);
+
+        if (codec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                "no codec registered: " + dataTypeId
+            );
+        }
+
+        writeArray(field, value, (s, o) -> writeStruct(s, o, codec));
+    }
+
+    @Override
+    public void writeStructArray(
+        String field,
+        Object[] value,
+        ExpandedNodeId dataTypeId
+    ) throws UaSerializationException {
+
+        writeStructArray(field, value, toNodeId(dataTypeId));
+    }
+
+    @Override
+    public <T> void writeArray(
+        String field,
+        T[] values,
+        BiConsumer<String, T> encoder
+    ) throws UaSerializationException {
+
+        write(field, values, vs -> {
+            jsonWriter.beginArray();
+            for (T v : vs) {
+                encoder.accept(null, v);
+            }
+            jsonWriter.endArray();
+        });
+    }
+
+    /**
+     * Write {@code value} as the value of {@code field}, or as the next value of the enclosing array or document if
+     * {@code field} is {@code null}.
+     * <p>
+     * A {@code null} value is left out of the enclosing object when using the reversible form, and written as JSON
+     * null otherwise.
+     */
+    private <T> void write(
+        @Nullable String field,
+        @Nullable T value,
+        ValueWriter<T> writer
+    ) throws UaSerializationException {
+
+        try {
+            if (value == null) {
+                if (field == null) {
+                    jsonWriter.nullValue();
+                } else if (!reversible) {
+                    jsonWriter.name(field).nullValue();
+                }
+            } else {
+                if (field != null) {
+                    jsonWriter.name(field);
+                }
+                writer.write(value);
+            }
+        } catch (IOException | IllegalStateException | IllegalArgumentException e) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+        }
+    }
+
+    private NodeId toNodeId(ExpandedNodeId xni) throws UaSerializationException {
+        return xni.toNodeId(context.getNamespaceTable())
+            .orElseThrow(() -> new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                "namespace not registered: " + xni
+            ));
+    }
+
+    /**
+     * Find the codec to encode or decode JSON values of the DataType identified by {@code typeId} with.
+     * <p>
+     * {@code typeId} is usually a DataType NodeId, but the NodeId of a DataTypeEncoding is accepted too.
+     *
+     * @param context the {@link SerializationContext}.
+     * @param typeId  the NodeId of a DataType or DataTypeEncoding.
+     * @return an {@link OpcUaJsonDataTypeCodec}, or {@code null} if no suitable codec is registered.
+     */
+    @Nullable
+    static OpcUaJsonDataTypeCodec<Object> findCodec(SerializationContext context, NodeId typeId) {
+        DataTypeManager dataTypeManager = context.getDataTypeManager();
+
+        OpcUaJsonDataTypeCodec<Object> codec = toJsonCodec(
+            dataTypeManager.getCodec(OpcUaJsonDataTypeCodec.ENCODING_NAME, typeId));
+
+        if (codec == null) {
+            codec = toJsonCodec(dataTypeManager.getCodec(OpcUaDefaultBinaryEncoding.ENCODING_NAME, typeId));
+        }
+
+        if (codec == null) {
+            codec = toJsonCodec(dataTypeManager.getCodec(typeId));
+        }
+
+        return codec;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static OpcUaJsonDataTypeCodec<Object> toJsonCodec(@Nullable DataTypeCodec<?, ?, ?> codec) {
+        if (codec instanceof OpcUaJsonDataTypeCodec) {
+            return (OpcUaJsonDataTypeCodec<Object>) codec;
+        } else {
+            GenericDataTypeCodec<?> genericCodec = GenericDataTypeCodec.unwrap(codec);
+
+            return genericCodec != null ? (OpcUaJsonDataTypeCodec<Object>) genericCodec.asJsonCodec() : null;
+        }
+    }
+
+    private interface ValueWriter<T> {
+        void write(T value) throws IOException;
+    }
+
+}
@@ -13,11 +13,14 @@ package org.eclipse.milo.opcua.stack.core.serialization.codecs;
 import org.eclipse.milo.opcua.stack.core.UaSerializationException;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamEncoder;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaXmlStreamDecoder;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaXmlStreamEncoder;
 import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
 import org.eclipse.milo.opcua.stack.core.serialization.UaDecoder;
 import org.eclipse.milo.opcua.stack.core.serialization.UaEncoder;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class GenericDataTypeCodec<T> implements DataTypeCodec<T, UaDecoder, UaEncoder> {
 
@@ -29,6 +32,31 @@ public abstract class GenericDataTypeCodec<T> implements DataTypeCodec<T, UaDeco
         return new GenericXmlDataTypeCodec<>(this);
     }
 
+    public final OpcUaJsonDataTypeCodec<T> asJsonCodec() {
+        return new GenericJsonDataTypeCodec<>(this);
+    }
+
+    /**
+     * Get the {@link GenericDataTypeCodec} behind a codec created by {@link #asBinaryCodec()}, {@link #asXmlCodec()},
+     * or {@link #asJsonCodec()}.
+     *
+     * @param codec the codec to unwrap.
+     * @return the {@link GenericDataTypeCodec} {@code codec} delegates to, or {@code null} if {@code codec} wasn't
+     * created from a {@link GenericDataTypeCodec}.
+     */
+    @Nullable
+    public static GenericDataTypeCodec<?> unwrap(@Nullable DataTypeCodec<?, ?, ?> codec) {
+        if (codec instanceof GenericBinaryDataTypeCodec) {
+            return ((GenericBinaryDataTypeCodec<?>) codec).codec;
+        } else if (codec instanceof GenericXmlDataTypeCodec) {
+            return ((GenericXmlDataTypeCodec<?>) codec).codec;
+        } else if (codec instanceof GenericJsonDataTypeCodec) {
+            return ((GenericJsonDataTypeCodec<?>) codec).codec;
+        } else {
+            return null;
+        }
+    }
+
     private static class GenericBinaryDataTypeCodec<T> implements OpcUaBinaryDataTypeCodec<T> {
 
         private final GenericDataTypeCodec<T> codec;
@@ -83,5 +111,31 @@ public abstract class GenericDataTypeCodec<T> implements DataTypeCodec<T, UaDeco
 
     }
 
-}
+    private static class GenericJsonDataTypeCodec<T> implements OpcUaJsonDataTypeCodec<T> {
+
+        private final GenericDataTypeCodec<T> codec;
 
+        public GenericJsonDataTypeCodec(GenericDataTypeCodec<T> codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        public Class<T> getType() {
+            return codec.getType();
+        }
+
+        @Override
+        public T decode(SerializationContext context, OpcUaJsonStreamDecoder reader) throws UaSerializationException {
+            return codec.decode(context, reader);
+        }
+
+        @Override
+        public void encode(
+            SerializationContext context, OpcUaJsonStreamEncoder writer, T value) throws UaSerializationException {
+
+            codec.encode(context, writer, value);
+        }
+
+    }
+
+}
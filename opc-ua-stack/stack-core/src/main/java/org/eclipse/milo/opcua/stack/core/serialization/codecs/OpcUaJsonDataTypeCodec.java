@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization.codecs;
+
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+
+public interface OpcUaJsonDataTypeCodec<T> extends
+    DataTypeCodec<T, OpcUaJsonStreamDecoder, OpcUaJsonStreamEncoder> {
+
+    /**
+     * The name of the Default JSON DataTypeEncoding.
+     * <p>
+     * Codecs registered with a DataTypeManager under this encoding name take precedence over the
+     * {@link GenericDataTypeCodec} behind a Default Binary codec when encoding or decoding JSON.
+     */
+    QualifiedName ENCODING_NAME = new QualifiedName(0, "Default JSON");
+
+    /**
+     * Decode a {@link T} using the provided {@link OpcUaJsonStreamDecoder}.
+     *
+     * @param context the {@link SerializationContext}.
+     * @param reader  the {@link OpcUaJsonStreamDecoder} to decode from.
+     * @return a decoded {@link T}.
+     */
+    @Override
+    T decode(SerializationContext context, OpcUaJsonStreamDecoder reader) throws UaSerializationException;
+
+    /**
+     * Encode a {@link T} using the provided {@link OpcUaJsonStreamEncoder}.
+     *
+     * @param context the {@link SerializationContext}.
+     * @param writer  the {@link OpcUaJsonStreamEncoder} to encode to.
+     * @param value   the value {@link T} to encode.
+     */
+    @Override
+    void encode(SerializationContext context, OpcUaJsonStreamEncoder writer, T value) throws UaSerializationException;
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.transport;
+
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The native epoll transport.
+ * <p>
+ * netty-transport-native-epoll is an optional runtime dependency, so its classes are loaded reflectively. Event loop
+ * groups created by this factory use edge-triggered epoll, Netty's default for the epoll transport.
+ */
+class EpollTransportFactory implements TransportFactory {
+
+    static final Optional<TransportFactory> INSTANCE = create();
+
+    private final Constructor<? extends EventLoopGroup> eventLoopGroupConstructor;
+    private final Class<? extends EventLoopGroup> eventLoopGroupClass;
+    private final Class<? extends SocketChannel> socketChannelClass;
+    private final Class<? extends ServerSocketChannel> serverSocketChannelClass;
+    private final ChannelOption<Boolean> reusePortOption;
+
+    private EpollTransportFactory(
+        Class<? extends EventLoopGroup> eventLoopGroupClass,
+        Class<? extends SocketChannel> socketChannelClass,
+        Class<? extends ServerSocketChannel> serverSocketChannelClass,
+        ChannelOption<Boolean> reusePortOption
+    ) throws NoSuchMethodException {
+
+        this.eventLoopGroupClass = eventLoopGroupClass;
+        this.socketChannelClass = socketChannelClass;
+        this.serverSocketChannelClass = serverSocketChannelClass;
+        this.reusePortOption = reusePortOption;
+
+        eventLoopGroupConstructor = eventLoopGroupClass.getConstructor(int.class, ThreadFactory.class);
+    }
+
+    @Override
+    public String getName() {
+        return "epoll";
+    }
+
+    @Override
+    public EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+        try {
+            return eventLoopGroupConstructor.newInstance(nThreads, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("failed to create EpollEventLoopGroup", e);
+        }
+    }
+
+    @Override
+    public Class<? extends SocketChannel> getSocketChannelClass() {
+        return socketChannelClass;
+    }
+
+    @Override
+    public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+        return serverSocketChannelClass;
+    }
+
+    @Override
+    public boolean isCompatible(EventLoopGroup eventLoop) {
+        return eventLoopGroupClass.isInstance(eventLoop);
+    }
+
+    @Override
+    public Optional<ChannelOption<Boolean>> getReusePortOption() {
+        return Optional.of(reusePortOption);
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<TransportFactory> create() {
+        try {
+            Class<?> epoll = Class.forName("io.netty.channel.epoll.Epoll");
+
+            if (!(Boolean) epoll.getMethod("isAvailable").invoke(null)) {
+                LoggerFactory.getLogger(EpollTransportFactory.class).debug(
+                    "epoll transport unavailable: {}",
+                    epoll.getMethod("unavailabilityCause").invoke(null)
+                );
+
+                return Optional.empty();
+            }
+
+            Class<? extends EventLoopGroup> eventLoopGroupClass =
+                Class.forName("io.netty.channel.epoll.EpollEventLoopGroup").asSubclass(EventLoopGroup.class);
+
+            Class<? extends SocketChannel> socketChannelClass =
+                Class.forName("io.netty.channel.epoll.EpollSocketChannel").asSubclass(SocketChannel.class);
+
+            Class<? extends ServerSocketChannel> serverSocketChannelClass =
+                Class.forName("io.netty.channel.epoll.EpollServerSocketChannel").asSubclass(ServerSocketChannel.class);
+
+            ChannelOption<Boolean> reusePortOption = (ChannelOption<Boolean>)
+                Class.forName("io.netty.channel.epoll.EpollChannelOption").getField("SO_REUSEPORT").get(null);
+
+            return Optional.of(new EpollTransportFactory(
+                eventLoopGroupClass,
+                socketChannelClass,
+                serverSocketChannelClass,
+                reusePortOption
+            ));
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        } catch (Throwable t) {
+            LoggerFactory.getLogger(EpollTransportFactory.class)
+                .debug("epoll transport unavailable: {}", t.toString());
+
+            return Optional.empty();
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.transport;
+
+import java.util.concurrent.ThreadFactory;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+class NioTransportFactory implements TransportFactory {
+
+    @Override
+    public String getName() {
+        return "nio";
+    }
+
+    @Override
+    public EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+        return new NioEventLoopGroup(nThreads, threadFactory);
+    }
+
+    @Override
+    public Class<? extends SocketChannel> getSocketChannelClass() {
+        return NioSocketChannel.class;
+    }
+
+    @Override
+    public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+        return NioServerSocketChannel.class;
+    }
+
+    @Override
+    public boolean isCompatible(EventLoopGroup eventLoop) {
+        return eventLoop instanceof NioEventLoopGroup;
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.transport;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import org.eclipse.milo.opcua.stack.core.Stack;
+
+/**
+ * Creates the Netty {@link EventLoopGroup}s the client and server transports run on, and provides the channel classes
+ * that go with them.
+ * <p>
+ * {@link #NIO} works on every platform. {@link #epoll()} is available on Linux when netty-transport-native-epoll is on
+ * the classpath, and uses edge-triggered native I/O with fewer wakeups than NIO.
+ *
+ * @see Stack#setTransportFactory(TransportFactory)
+ */
+public interface TransportFactory {
+
+    /**
+     * The Java NIO transport, available on every platform.
+     */
+    TransportFactory NIO = new NioTransportFactory();
+
+    /**
+     * @return a name identifying this transport, e.g. "nio" or "epoll".
+     */
+    String getName();
+
+    /**
+     * Create a new {@link EventLoopGroup} for channels created by this transport.
+     *
+     * @param nThreads      the number of threads, or 0 to use Netty's default.
+     * @param threadFactory the {@link ThreadFactory} used to create event loop threads.
+     * @return a new {@link EventLoopGroup}.
+     */
+    EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory);
+
+    /**
+     * @return the {@link SocketChannel} class used by client bootstraps.
+     */
+    Class<? extends SocketChannel> getSocketChannelClass();
+
+    /**
+     * @return the {@link ServerSocketChannel} class used by server bootstraps.
+     */
+    Class<? extends ServerSocketChannel> getServerSocketChannelClass();
+
+    /**
+     * @param eventLoop an {@link EventLoopGroup}.
+     * @return {@code true} if channels created by this transport can be registered with {@code eventLoop}.
+     */
+    boolean isCompatible(EventLoopGroup eventLoop);
+
+    /**
+     * Get the option that allows multiple server channels to bind the same address, so each can accept connections on
+     * its own event loop thread.
+     *
+     * @return the {@code SO_REUSEPORT} {@link ChannelOption}, or empty if this transport doesn't support it.
+     */
+    default Optional<ChannelOption<Boolean>> getReusePortOption() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return the native epoll transport, or empty if it is not on the classpath or not supported on this platform.
+     */
+    static Optional<TransportFactory> epoll() {
+        return EpollTransportFactory.INSTANCE;
+    }
+
+    /**
+     * @return the native epoll transport if it's available, otherwise {@link #NIO}.
+     */
+    static TransportFactory getDefault() {
+        return epoll().orElse(NIO);
+    }
+
+    /**
+     * Get the {@link TransportFactory} whose channels can be registered with {@code eventLoop}.
+     * <p>
+     * The factory configured on {@link Stack} is preferred, followed by {@link #NIO} and {@link #epoll()}.
+     *
+     * @param eventLoop the {@link EventLoopGroup} channels will be registered with.
+     * @return the {@link TransportFactory} whose channels can be registered with {@code eventLoop}.
+     * @throws IllegalArgumentException if no known transport is compatible with {@code eventLoop}.
+     */
+    static TransportFactory forEventLoop(EventLoopGroup eventLoop) {
+        TransportFactory transportFactory = Stack.getTransportFactory();
+
+        if (transportFactory.isCompatible(eventLoop)) {
+            return transportFactory;
+        } else if (NIO.isCompatible(eventLoop)) {
+            return NIO;
+        } else {
+            return epoll()
+                .filter(f -> f.isCompatible(eventLoop))
+                .orElseThrow(() -> new IllegalArgumentException(
+                    "no TransportFactory compatible with " + eventLoop.getClass().getName()));
+        }
+    }
+
+}
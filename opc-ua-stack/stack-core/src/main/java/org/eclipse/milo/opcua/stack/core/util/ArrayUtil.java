@@ -41,10 +41,7 @@ public class ArrayUtil {
 
     private static void flatten(Object array, Object flattened, int[] dimensions, int offset) {
         if (dimensions.length == 1) {
-            for (int i = 0; i < dimensions[0]; i++) {
-                Object element = Array.get(array, i);
-                Array.set(flattened, i + offset, element);
-            }
+            System.arraycopy(array, 0, flattened, offset, dimensions[0]);
         } else {
             int[] tail = Arrays.copyOfRange(dimensions, 1, dimensions.length);
 
@@ -73,9 +70,7 @@ public class ArrayUtil {
         if (dimensions.length == 1) {
             a = Array.newInstance(type, dimensions[0]);
 
-            for (int i = 0; i < dimensions[0]; i++) {
-                Array.set(a, i, Array.get(array, offset + i));
-            }
+            System.arraycopy(array, offset, a, 0, dimensions[0]);
         } else {
             a = Array.newInstance(type, dimensions);
 
@@ -10,8 +10,11 @@
 
 package org.eclipse.milo.opcua.stack.core.util;
 
-import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
@@ -25,27 +28,55 @@ import org.slf4j.LoggerFactory;
  * <p>
  * When {@code concurrency > 1} there are no guarantees beyond the fact that tasks are still pulled from a queue to be
  * executed.
+ * <p>
+ * Submitting does not lock. Up to {@code concurrencyLimit} drain tasks run on the executor at a time, and each one
+ * executes queued {@link Runnable}s until the queue is empty or it has executed {@code drainBudget} of them, at which
+ * point it yields the executor thread and schedules itself again.
  */
 public class ExecutionQueue {
 
+    /**
+     * Default maximum number of queued tasks executed per turn on the executor.
+     */
+    public static final int DEFAULT_DRAIN_BUDGET = 64;
+
     private final Logger log = LoggerFactory.getLogger(getClass());
 
-    private final Object queueLock = new Object();
-    private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+    private final ConcurrentLinkedDeque<QueuedTask> queue = new ConcurrentLinkedDeque<>();
 
-    private int pending = 0;
-    private boolean paused = false;
+    private final AtomicInteger queueDepth = new AtomicInteger(0);
+    private final AtomicInteger pending = new AtomicInteger(0);
+
+    private final LongAdder executedTaskCount = new LongAdder();
+    private final LongAdder totalQueueLatency = new LongAdder();
+    private final AtomicLong maxQueueLatency = new AtomicLong(0L);
+
+    private volatile boolean paused = false;
 
     private final Executor executor;
     private final int concurrencyLimit;
+    private final int drainBudget;
 
     public ExecutionQueue(Executor executor) {
         this(executor, 1);
     }
 
     public ExecutionQueue(Executor executor, int concurrencyLimit) {
+        this(executor, concurrencyLimit, DEFAULT_DRAIN_BUDGET);
+    }
+
+    /**
+     * @param executor         the {@link Executor} to execute submitted tasks on.
+     * @param concurrencyLimit the maximum number of tasks executing at a time.
+     * @param drainBudget      the maximum number of queued tasks executed per turn on the executor before yielding.
+     */
+    public ExecutionQueue(Executor executor, int concurrencyLimit, int drainBudget) {
+        Preconditions.checkArgument(concurrencyLimit > 0, "concurrencyLimit must be > 0");
+        Preconditions.checkArgument(drainBudget > 0, "drainBudget must be > 0");
+
         this.executor = executor;
         this.concurrencyLimit = concurrencyLimit;
+        this.drainBudget = drainBudget;
     }
 
     /**
@@ -54,11 +85,10 @@ public class ExecutionQueue {
      * @param runnable the {@link Runnable} to be executed.
      */
     public void submit(Runnable runnable) {
-        synchronized (queueLock) {
-            queue.add(runnable);
+        queue.addLast(new QueuedTask(runnable));
+        queueDepth.incrementAndGet();
 
-            maybePollAndExecute();
-        }
+        maybeDrain();
     }
 
     /**
@@ -67,104 +97,126 @@ public class ExecutionQueue {
      * @param runnable the {@link Runnable} to be executed.
      */
     public void submitToHead(Runnable runnable) {
-        synchronized (queueLock) {
-            queue.addFirst(runnable);
+        queue.addFirst(new QueuedTask(runnable));
+        queueDepth.incrementAndGet();
 
-            maybePollAndExecute();
-        }
+        maybeDrain();
     }
 
     /**
      * Pause execution of queued {@link java.lang.Runnable}s.
+     * <p>
+     * Tasks already executing run to completion.
      */
     public void pause() {
-        synchronized (queueLock) {
-            paused = true;
-        }
+        paused = true;
     }
 
     /**
      * Resume execution of queued {@link java.lang.Runnable}s.
      */
     public void resume() {
-        synchronized (queueLock) {
-            paused = false;
+        paused = false;
 
-            maybePollAndExecute();
-        }
+        maybeDrain();
     }
 
-    private void maybePollAndExecute() {
-        synchronized (queueLock) {
-            if (pending < concurrencyLimit && !paused && !queue.isEmpty()) {
-                executor.execute(new Task(queue.poll()));
-                pending++;
-            }
-        }
+    /**
+     * @return the number of tasks queued and not yet executing.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
     }
 
-    private class Task implements Runnable {
+    /**
+     * @return the number of tasks executed.
+     */
+    public LongAdder getExecutedTaskCount() {
+        return executedTaskCount;
+    }
 
-        private final Runnable runnable;
+    /**
+     * @return the sum, in nanoseconds, of the time each executed task spent queued.
+     */
+    public LongAdder getTotalQueueLatency() {
+        return totalQueueLatency;
+    }
 
-        Task(Runnable runnable) {
-            Preconditions.checkNotNull(runnable);
+    /**
+     * @return the longest time, in nanoseconds, any executed task spent queued.
+     */
+    public long getMaxQueueLatency() {
+        return maxQueueLatency.get();
+    }
 
-            this.runnable = runnable;
+    /**
+     * Schedule a drain task if the queue isn't paused or empty and fewer than {@code concurrencyLimit} are running.
+     */
+    private void maybeDrain() {
+        while (!paused && !queue.isEmpty()) {
+            int p = pending.get();
+
+            if (p >= concurrencyLimit) return;
+
+            if (pending.compareAndSet(p, p + 1)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (Throwable t) {
+                    pending.decrementAndGet();
+                    throw t;
+                }
+                return;
+            }
         }
+    }
 
-        @Override
-        public void run() {
-            try {
-                runnable.run();
-            } catch (Throwable throwable) {
-                log.warn("Uncaught Throwable during execution.", throwable);
-            }
+    private void drain() {
+        try {
+            for (int i = 0; i < drainBudget && !paused; i++) {
+                QueuedTask task = queue.pollFirst();
 
-            InlineTask inlineTask = null;
+                if (task == null) break;
 
-            synchronized (queueLock) {
-                if (queue.isEmpty() || paused) {
-                    pending--;
-                } else {
-                    // pending count remains the same
-                    inlineTask = new InlineTask(queue.poll());
-                }
-            }
+                queueDepth.decrementAndGet();
 
-            if (inlineTask != null) {
-                inlineTask.run();
+                task.run();
             }
+        } finally {
+            pending.decrementAndGet();
         }
+
+        // Tasks may have been submitted after the last poll but before the pending count was decremented, or the
+        // budget ran out, so check again rather than leave them stranded.
+        maybeDrain();
     }
 
-    private class InlineTask implements Runnable {
+    private class QueuedTask {
+
+        private final long queuedNanos = System.nanoTime();
 
         private final Runnable runnable;
 
-        InlineTask(Runnable runnable) {
+        QueuedTask(Runnable runnable) {
             Preconditions.checkNotNull(runnable);
 
             this.runnable = runnable;
         }
 
-        @Override
-        public void run() {
+        void run() {
+            long latency = System.nanoTime() - queuedNanos;
+
+            totalQueueLatency.add(latency);
+            maxQueueLatency.accumulateAndGet(latency, Math::max);
+
             try {
                 runnable.run();
             } catch (Throwable throwable) {
                 log.warn("Uncaught Throwable during execution.", throwable);
             }
 
-            synchronized (queueLock) {
-                if (queue.isEmpty() || paused) {
-                    pending--;
-                } else {
-                    // pending count remains the same
-                    executor.execute(new Task(queue.poll()));
-                }
-            }
+            executedTaskCount.increment();
         }
+
     }
 
 }
@@ -10,23 +10,28 @@
 
 package org.eclipse.milo.opcua.stack.core.util;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Executes {@link Task}s on an {@link Executor}, by priority, with a limit on how many execute concurrently.
+ * <p>
+ * Queueing a task does not lock. Up to {@code maxConcurrentTasks} drain tasks run on the executor at a time, and each
+ * one executes queued tasks until the queue is empty or it has executed {@code drainBudget} of them, at which point it
+ * yields the executor thread and schedules itself again.
+ */
 public final class TaskQueue {
 
     /**
@@ -45,19 +50,29 @@ public final class TaskQueue {
      */
     private static final int DEFAULT_MAX_QUEUE_SIZE = Integer.MAX_VALUE;
 
+    /**
+     * Default drain budget, 64. At most 64 queued tasks are executed per turn on the executor.
+     */
+    private static final int DEFAULT_DRAIN_BUDGET = 64;
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
-    private int pending = 0;
-    private boolean paused = false;
-    private boolean shutdown = false;
-    private CountDownLatch shutdownLatch;
+    private final AtomicInteger pending = new AtomicInteger(0);
+    private final Object quiescenceLock = new Object();
+
+    private volatile boolean paused = false;
+    private volatile boolean shutdown = false;
+
+    private final LongAdder executedTaskCount = new LongAdder();
+    private final LongAdder totalQueueLatency = new LongAdder();
+    private final AtomicLong maxQueueLatency = new AtomicLong(0L);
 
     private final PrioritizedTaskQueue taskQueue;
-    private final Lock taskQueueLock = new ReentrantLock(true);
 
     private final Executor executor;
     private final int maxConcurrentTasks;
     private final int maxQueueSize;
+    private final int drainBudget;
 
     /**
      * Create a {@link TaskQueue} that executes {@link Task}s on the provided {@link Executor}.
@@ -86,9 +101,35 @@ public final class TaskQueue {
      *     elevated tasks are continually being dequeued.
      */
     public TaskQueue(Executor executor, int maxConcurrentTasks, int maxQueueSize, int priorityRatio) {
+        this(executor, maxConcurrentTasks, maxQueueSize, priorityRatio, DEFAULT_DRAIN_BUDGET);
+    }
+
+    /**
+     * Create a {@link TaskQueue} that executes {@link Task}s on the provided {@link Executor}.
+     *
+     * @param executor the {@link Executor} that {@link Task}s will use to execute.
+     * @param maxConcurrentTasks the number of concurrently executing tasks allowed. When 1, the
+     *     default value, submitted Tasks are guaranteed to execute serially.
+     * @param maxQueueSize the maximum number of Tasks that can be queued before backpressure
+     *     is applied and {@link #execute(Task)} starts returning false.
+     * @param priorityRatio ratio of {@link TaskPriority#ELEVATED} tasks to
+     *     {@link TaskPriority#REGULAR} tasks that will be executed when
+     *     elevated tasks are continually being dequeued.
+     * @param drainBudget the maximum number of queued Tasks executed per turn on the
+     *     {@link Executor} before yielding it.
+     */
+    public TaskQueue(
+        Executor executor,
+        int maxConcurrentTasks,
+        int maxQueueSize,
+        int priorityRatio,
+        int drainBudget
+    ) {
+
         this.executor = executor;
         this.maxConcurrentTasks = maxConcurrentTasks;
         this.maxQueueSize = maxQueueSize;
+        this.drainBudget = drainBudget;
 
         taskQueue = new PrioritizedTaskQueue(priorityRatio);
     }
@@ -102,20 +143,13 @@ public final class TaskQueue {
      *     is being applied because the configured max queue size would be exceeded.
      */
     public boolean execute(Task task) {
-        taskQueueLock.lock();
-        try {
-            if (shutdown || taskQueue.size() >= maxQueueSize) {
-                return false;
-            }
-
-            taskQueue.add(new TaskWrapper(task));
+        if (!enqueue(new TaskWrapper(task))) {
+            return false;
+        }
 
-            maybePollAndExecute();
+        maybeDrain();
 
-            return true;
-        } finally {
-            taskQueueLock.unlock();
-        }
+        return true;
     }
 
     /**
@@ -132,47 +166,31 @@ public final class TaskQueue {
      *     exceeded.
      */
     public @Nullable CompletionStage<Unit> submit(Task task) {
-        taskQueueLock.lock();
-        try {
-            if (shutdown || taskQueue.size() >= maxQueueSize) {
-                return null;
-            }
+        CompletableFuture<Unit> callback = new CompletableFuture<>();
 
-            CompletableFuture<Unit> callback = new CompletableFuture<>();
-            taskQueue.add(new TaskWrapper(task, callback));
+        if (!enqueue(new TaskWrapper(task, callback))) {
+            return null;
+        }
 
-            maybePollAndExecute();
+        maybeDrain();
 
-            return callback;
-        } finally {
-            taskQueueLock.unlock();
-        }
+        return callback;
     }
 
     /**
      * Pause execution of queued {@link Task}s.
      */
     public void pause() {
-        taskQueueLock.lock();
-        try {
-            paused = true;
-        } finally {
-            taskQueueLock.unlock();
-        }
+        paused = true;
     }
 
     /**
      * Resume execution of queued {@link Task}s.
      */
     public void resume() {
-        taskQueueLock.lock();
-        try {
-            paused = false;
+        paused = false;
 
-            maybePollAndExecute();
-        } finally {
-            taskQueueLock.unlock();
-        }
+        maybeDrain();
     }
 
     /**
@@ -184,65 +202,123 @@ public final class TaskQueue {
      * @throws InterruptedException if the current Thread is interrupted while waiting.
      */
     public List<Task> shutdown(boolean awaitQuiescence) throws InterruptedException {
-        taskQueueLock.lock();
-        try {
-            shutdown = true;
+        shutdown = true;
 
-            if (taskQueue.isEmpty() && pending == 0) {
-                return Collections.emptyList();
-            }
-
-            if (awaitQuiescence) {
-                // wait for pending to execute, clear queue and return un-executed tasks afterwards
-                shutdownLatch = new CountDownLatch(pending);
-            } else {
-                // don't wait for pending to execute, just clear queue and return un-executed tasks
-                List<Task> tasks = taskQueue.getTasks()
-                    .stream()
-                    .map(tw -> tw.task)
-                    .collect(Collectors.toList());
-                taskQueue.clear();
-                return tasks;
+        if (awaitQuiescence) {
+            synchronized (quiescenceLock) {
+                while (pending.get() > 0) {
+                    quiescenceLock.wait();
+                }
             }
-        } finally {
-            taskQueueLock.unlock();
         }
 
-        // if we made it this far we have pending tasks to await
-        assert shutdownLatch != null;
-        shutdownLatch.await();
+        List<Task> tasks = new ArrayList<>();
 
-        taskQueueLock.lock();
-        try {
-            List<Task> tasks = taskQueue.getTasks()
-                .stream()
-                .map(tw -> tw.task)
-                .collect(Collectors.toList());
-            taskQueue.clear();
-            return tasks;
-        } finally {
-            taskQueueLock.unlock();
+        TaskWrapper tw;
+        while ((tw = taskQueue.poll()) != null) {
+            tasks.add(tw.task);
         }
+
+        return tasks.isEmpty() ? Collections.emptyList() : tasks;
     }
 
     public boolean isShutdown() {
-        taskQueueLock.lock();
-        try {
-            return shutdown;
-        } finally {
-            taskQueueLock.unlock();
+        return shutdown;
+    }
+
+    /**
+     * @return the number of {@link Task}s queued and not yet executing.
+     */
+    public int getQueueDepth() {
+        return taskQueue.size();
+    }
+
+    /**
+     * @return the number of {@link Task}s executed.
+     */
+    public LongAdder getExecutedTaskCount() {
+        return executedTaskCount;
+    }
+
+    /**
+     * @return the sum, in nanoseconds, of the time each executed {@link Task} spent queued.
+     */
+    public LongAdder getTotalQueueLatency() {
+        return totalQueueLatency;
+    }
+
+    /**
+     * @return the longest time, in nanoseconds, any executed {@link Task} spent queued.
+     */
+    public long getMaxQueueLatency() {
+        return maxQueueLatency.get();
+    }
+
+    /**
+     * Add {@code task} to the queue unless this {@link TaskQueue} is shut down or full.
+     * <p>
+     * Queueing doesn't lock, so {@link #shutdown(boolean)} may start between the shutdown check and the add. The
+     * shutdown flag is checked again afterwards and, if it was set in the meantime, the task is taken back out and
+     * reported as not queued. Only a successful removal counts: if the task is already gone, a drain ran it or
+     * {@link #shutdown(boolean)} returned it, so it was queued and the caller must not resubmit or fail it.
+     */
+    private boolean enqueue(TaskWrapper task) {
+        if (shutdown || !taskQueue.add(task, maxQueueSize)) {
+            return false;
+        }
+
+        if (!shutdown) {
+            return true;
+        }
+
+        return !taskQueue.remove(task);
+    }
+
+    /**
+     * Schedule a drain task if execution isn't paused or shut down, there are queued tasks, and
+     * fewer than {@code maxConcurrentTasks} drain tasks are running.
+     */
+    private void maybeDrain() {
+        while (!paused && !shutdown && !taskQueue.isEmpty()) {
+            int p = pending.get();
+
+            if (p >= maxConcurrentTasks) return;
+
+            if (pending.compareAndSet(p, p + 1)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (Throwable t) {
+                    onDrainFinished();
+                    throw t;
+                }
+                return;
+            }
         }
     }
 
-    private void maybePollAndExecute() {
-        taskQueueLock.lock();
+    private void drain() {
         try {
-            if (pending < maxConcurrentTasks && !paused && !shutdown && !taskQueue.isEmpty()) {
-                executor.execute(Objects.requireNonNull(taskQueue.poll()));
-                pending++;
+            for (int i = 0; i < drainBudget && !paused && !shutdown; i++) {
+                TaskWrapper task = taskQueue.poll();
+
+                if (task == null) break;
+
+                task.run();
             }
         } finally {
-            taskQueueLock.unlock();
+            onDrainFinished();
+        }
+
+        // Tasks may have been queued after the last poll but before the pending count was
+        // decremented, or the budget ran out, so check again rather than leave them stranded.
+        maybeDrain();
+    }
+
+    private void onDrainFinished() {
+        if (pending.decrementAndGet() == 0 && shutdown) {
+            synchronized (quiescenceLock) {
+                quiescenceLock.notifyAll();
+            }
         }
     }
 
@@ -253,7 +329,9 @@ public final class TaskQueue {
         return new Builder();
     }
 
-    private class TaskWrapper implements Runnable {
+    private class TaskWrapper {
+
+        private final long queuedNanos = System.nanoTime();
 
         private final Task task;
         private final CompletableFuture<Unit> callback;
@@ -267,8 +345,12 @@ public final class TaskQueue {
             this.callback = callback;
         }
 
-        @Override
-        public void run() {
+        void run() {
+            long latency = System.nanoTime() - queuedNanos;
+
+            totalQueueLatency.add(latency);
+            maxQueueLatency.accumulateAndGet(latency, Math::max);
+
             try {
                 task.execute();
 
@@ -279,51 +361,7 @@ public final class TaskQueue {
                 logger.warn("Uncaught Throwable during Task execution.", throwable);
             }
 
-            TaskWrapper inlineTask = null;
-
-            taskQueueLock.lock();
-            try {
-                if (taskQueue.isEmpty() || paused || shutdown) {
-                    pending--;
-
-                    if (shutdown && shutdownLatch != null) {
-                        shutdownLatch.countDown();
-                    }
-                } else {
-                    // pending count remains the same
-                    inlineTask = taskQueue.poll();
-                }
-            } finally {
-                taskQueueLock.unlock();
-            }
-
-            if (inlineTask != null) {
-                try {
-                    inlineTask.task.execute();
-                    if (inlineTask.callback != null) {
-                        CompletableFuture<Unit> callback = inlineTask.callback;
-                        executor.execute(() -> callback.complete(Unit.VALUE));
-                    }
-                } catch (Throwable throwable) {
-                    logger.warn("Uncaught Throwable during Task execution.", throwable);
-                }
-
-                taskQueueLock.lock();
-                try {
-                    if (taskQueue.isEmpty() || paused || shutdown) {
-                        pending--;
-
-                        if (shutdown && shutdownLatch != null) {
-                            shutdownLatch.countDown();
-                        }
-                    } else {
-                        // pending count remains the same
-                        executor.execute(Objects.requireNonNull(taskQueue.poll()));
-                    }
-                } finally {
-                    taskQueueLock.unlock();
-                }
-            }
+            executedTaskCount.increment();
         }
 
     }
@@ -375,6 +413,7 @@ public final class TaskQueue {
         private int maxConcurrentTasks = DEFAULT_MAX_CONCURRENT_TASKS;
         private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
         private int priorityRatio = DEFAULT_PRIORITY_RATIO;
+        private int drainBudget = DEFAULT_DRAIN_BUDGET;
 
         public Builder setExecutor(Executor executor) {
             this.executor = executor;
@@ -396,6 +435,11 @@ public final class TaskQueue {
             return this;
         }
 
+        public Builder setDrainBudget(int drainBudget) {
+            this.drainBudget = drainBudget;
+            return this;
+        }
+
         /**
          * Build a {@link TaskQueue} using the parameters configured on this {@link Builder}.
          * <p>
@@ -412,26 +456,42 @@ public final class TaskQueue {
             maxConcurrentTasks = Math.max(1, maxConcurrentTasks);
             maxQueueSize = Math.max(1, maxQueueSize);
             priorityRatio = Math.max(1, priorityRatio);
+            drainBudget = Math.max(1, drainBudget);
 
-            return new TaskQueue(executor, maxConcurrentTasks, maxQueueSize, priorityRatio);
+            return new TaskQueue(executor, maxConcurrentTasks, maxQueueSize, priorityRatio, drainBudget);
         }
 
     }
 
+    /**
+     * Regular, elevated, and critical priority queues that are safe for concurrent use without locking.
+     * <p>
+     * The size is reserved before a task is added, so {@code maxQueueSize} is never exceeded.
+     */
     private static final class PrioritizedTaskQueue {
 
-        private final ArrayDeque<TaskWrapper> regular = new ArrayDeque<>();
-        private final ArrayDeque<TaskWrapper> elevated = new ArrayDeque<>();
-        private final ArrayDeque<TaskWrapper> critical = new ArrayDeque<>();
+        private final ConcurrentLinkedQueue<TaskWrapper> regular = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<TaskWrapper> elevated = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<TaskWrapper> critical = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger size = new AtomicInteger(0);
+        private final AtomicInteger consecutiveElevatedExecutions = new AtomicInteger(0);
 
-        private int consecutiveElevatedExecutions = 0;
         private final int priorityRatio;
 
         private PrioritizedTaskQueue(int priorityRatio) {
             this.priorityRatio = priorityRatio;
         }
 
-        void add(TaskWrapper task) {
+        boolean add(TaskWrapper task, int maxSize) {
+            while (true) {
+                int s = size.get();
+
+                if (s >= maxSize) return false;
+
+                if (size.compareAndSet(s, s + 1)) break;
+            }
+
             switch (task.task.getPriority()) {
                 case REGULAR:
                     regular.add(task);
@@ -443,8 +503,35 @@ public final class TaskQueue {
                     critical.add(task);
                     break;
                 default:
+                    size.decrementAndGet();
                     throw new RuntimeException("priority: " + task.task.getPriority());
             }
+
+            return true;
+        }
+
+        boolean remove(TaskWrapper task) {
+            boolean removed;
+
+            switch (task.task.getPriority()) {
+                case REGULAR:
+                    removed = regular.remove(task);
+                    break;
+                case ELEVATED:
+                    removed = elevated.remove(task);
+                    break;
+                case CRITICAL:
+                    removed = critical.remove(task);
+                    break;
+                default:
+                    removed = false;
+            }
+
+            if (removed) {
+                size.decrementAndGet();
+            }
+
+            return removed;
         }
 
         boolean isEmpty() {
@@ -452,47 +539,39 @@ public final class TaskQueue {
         }
 
         TaskWrapper poll() {
-            if (!critical.isEmpty()) {
-                return critical.poll();
-            } else if (consecutiveElevatedExecutions >= priorityRatio) {
-                if (!regular.isEmpty()) {
-                    consecutiveElevatedExecutions = 0;
-                    return regular.poll();
-                } else if (!elevated.isEmpty()) {
-                    consecutiveElevatedExecutions++;
-                    return elevated.poll();
-                } else {
-                    return null;
-                }
-            } else {
-                if (!elevated.isEmpty()) {
-                    consecutiveElevatedExecutions++;
-                    return elevated.poll();
-                } else if (!regular.isEmpty()) {
-                    consecutiveElevatedExecutions = 0;
-                    return regular.poll();
+            TaskWrapper task = critical.poll();
+
+            if (task == null) {
+                if (consecutiveElevatedExecutions.get() >= priorityRatio) {
+                    task = pollRegular();
+                    if (task == null) task = pollElevated();
                 } else {
-                    return null;
+                    task = pollElevated();
+                    if (task == null) task = pollRegular();
                 }
             }
+
+            if (task != null) {
+                size.decrementAndGet();
+            }
+
+            return task;
         }
 
-        List<TaskWrapper> getTasks() {
-            List<TaskWrapper> tasks = new ArrayList<>();
-            tasks.addAll(critical);
-            tasks.addAll(elevated);
-            tasks.addAll(regular);
-            return tasks;
+        private TaskWrapper pollRegular() {
+            TaskWrapper task = regular.poll();
+            if (task != null) consecutiveElevatedExecutions.set(0);
+            return task;
         }
 
-        void clear() {
-            critical.clear();
-            elevated.clear();
-            regular.clear();
+        private TaskWrapper pollElevated() {
+            TaskWrapper task = elevated.poll();
+            if (task != null) consecutiveElevatedExecutions.incrementAndGet();
+            return task;
         }
 
         int size() {
-            return critical.size() + elevated.size() + regular.size();
+            return size.get();
         }
 
     }
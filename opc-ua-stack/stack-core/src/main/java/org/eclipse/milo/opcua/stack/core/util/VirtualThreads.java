@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.util;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Access to virtual threads when the JVM supports them.
+ * <p>
+ * The stack is compiled for Java 8, so the virtual thread API is looked up reflectively. Virtual threads are
+ * supported on Java 21 and later, or on Java 19 and 20 with {@code --enable-preview}.
+ */
+public final class VirtualThreads {
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+    private static final Method IS_VIRTUAL;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        Method isVirtual = null;
+
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            isVirtual = Thread.class.getMethod("isVirtual");
+
+            // Throws UnsupportedOperationException when virtual threads are a preview feature that isn't enabled.
+            ofVirtual.invoke(null);
+        } catch (Throwable t) {
+            LoggerFactory.getLogger(VirtualThreads.class)
+                .debug("Virtual threads not supported: {}", t.toString());
+
+            ofVirtual = null;
+        }
+
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+        IS_VIRTUAL = isVirtual;
+    }
+
+    private VirtualThreads() {}
+
+    /**
+     * @return {@code true} if the JVM supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * @param thread the {@link Thread} to check.
+     * @return {@code true} if {@code thread} is a virtual thread.
+     */
+    public static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) return false;
+
+        try {
+            return (Boolean) IS_VIRTUAL.invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Create an {@link ExecutorService} that runs each task on a new virtual thread.
+     *
+     * @param namePrefix               the prefix of the name given to each thread, followed by a counter.
+     * @param uncaughtExceptionHandler the {@link Thread.UncaughtExceptionHandler} set on each thread, if any.
+     * @return an {@link ExecutorService} that runs each task on a new virtual thread, or empty if the JVM does not
+     *     support virtual threads.
+     */
+    public static Optional<ExecutorService> newExecutor(
+        String namePrefix,
+        @Nullable Thread.UncaughtExceptionHandler uncaughtExceptionHandler
+    ) {
+
+        if (!isSupported()) return Optional.empty();
+
+        try {
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+
+            ThreadFactory threadFactory = r -> {
+                Thread thread = factory.newThread(r);
+                if (uncaughtExceptionHandler != null) {
+                    thread.setUncaughtExceptionHandler(uncaughtExceptionHandler);
+                }
+                return thread;
+            };
+
+            return Optional.of((ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory));
+        } catch (ReflectiveOperationException e) {
+            LoggerFactory.getLogger(VirtualThreads.class)
+                .warn("Failed to create virtual thread executor.", e);
+
+            return Optional.empty();
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.channel;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+
+public class FlushConsolidationTest {
+
+    @Test
+    public void testDisabled() {
+        assertFalse(FlushConsolidation.DISABLED.isEnabled());
+        assertThrows(IllegalStateException.class, FlushConsolidation.DISABLED::newHandler);
+    }
+
+    @Test
+    public void testFlushesDuringReadAreConsolidated() {
+        AtomicInteger flushes = new AtomicInteger();
+
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new FlushCounter(flushes),
+            FlushConsolidation.DEFAULT.newHandler(),
+            new ChannelInboundHandlerAdapter() {
+                @Override
+                public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                    for (int i = 0; i < 10; i++) {
+                        ctx.writeAndFlush(Unpooled.wrappedBuffer(new byte[16]));
+                    }
+                }
+            }
+        );
+        flushes.set(0);
+
+        channel.writeInbound(Unpooled.EMPTY_BUFFER);
+
+        assertEquals(flushes.get(), 1);
+        assertEquals(channel.outboundMessages().size(), 10);
+
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testFlushForcedAtByteThreshold() {
+        AtomicInteger flushes = new AtomicInteger();
+
+        EmbeddedChannel channel = new EmbeddedChannel(
+            new FlushCounter(flushes),
+            new FlushConsolidation(256, 4096).newHandler()
+        );
+        flushes.set(0);
+
+        channel.write(Unpooled.wrappedBuffer(new byte[3000]));
+        assertEquals(flushes.get(), 0);
+
+        channel.write(Unpooled.wrappedBuffer(new byte[3000]));
+        assertEquals(flushes.get(), 1);
+        assertEquals(channel.outboundMessages().size(), 2);
+
+        channel.finishAndReleaseAll();
+    }
+
+    private static class FlushCounter extends ChannelOutboundHandlerAdapter {
+
+        private final AtomicInteger flushes;
+
+        FlushCounter(AtomicInteger flushes) {
+            this.flushes = flushes;
+        }
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            flushes.incrementAndGet();
+            ctx.flush();
+        }
+
+    }
+
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+public class OpcUaJsonStreamEncoderTest {
+
+    private final SerializationContext context = new TestSerializationContext();
+
+    @Test
+    public void testNodeId() {
+        assertEquals(encode(e -> e.writeNodeId(null, new NodeId(0, 85))), "{\"Id\":85}");
+        assertEquals(
+            encode(e -> e.writeNodeId(null, new NodeId(2, "foo"))),
+            "{\"IdType\":1,\"Id\":\"foo\",\"Namespace\":2}"
+        );
+
+        NodeId[] nodeIds = new NodeId[]{
+            new NodeId(0, 85),
+            new NodeId(1, "foo"),
+            new NodeId(2, UUID.randomUUID()),
+            new NodeId(3, ByteString.of(new byte[]{1, 2, 3}))
+        };
+
+        for (NodeId nodeId : nodeIds) {
+            String json = encode(e -> e.writeNodeId(null, nodeId));
+
+            assertEquals(decoder(json).readNodeId(null), nodeId);
+        }
+    }
+
+    @Test
+    public void testNullFieldsOmitted() {
+        String json = encode(e -> e.writeStruct(
+            null,
+            new ReadValueId(NodeId.NULL_VALUE, uint(13), null, QualifiedName.NULL_VALUE),
+            ReadValueId.TYPE_ID
+        ));
+
+        assertEquals(json, "{\"NodeId\":{\"Id\":0},\"AttributeId\":13,\"DataEncoding\":{}}");
+    }
+
+    @Test
+    public void testDataValueRoundTrip() {
+        DataValue[] dataValues = new DataValue[]{
+            new DataValue(new Variant(42)),
+            new DataValue(new Variant(Double.NaN), new StatusCode(StatusCodes.Uncertain_InitialValue)),
+            new DataValue(new Variant(Long.MAX_VALUE), StatusCode.GOOD, DateTime.now(), DateTime.now()),
+            new DataValue(new Variant(ULong.MAX)),
+            new DataValue(new Variant(new Integer[][]{{1, 2, 3}, {4, 5, 6}})),
+            new DataValue(new Variant(new String[]{"foo", null, "bar"})),
+            new DataValue(new Variant(new LocalizedText("en", "hello"))),
+            new DataValue(new Variant(new Variant[]{new Variant(1.0f), Variant.NULL_VALUE})),
+            new DataValue(
+                Variant.NULL_VALUE,
+                StatusCode.BAD,
+                DateTime.now(),
+                ushort(10),
+                DateTime.now(),
+                ushort(20)
+            )
+        };
+
+        for (DataValue dataValue : dataValues) {
+            String json = encode(e -> e.writeDataValue(null, dataValue));
+
+            assertEquals(decoder(json).readDataValue(null), dataValue, json);
+        }
+    }
+
+    @Test
+    public void testMessageRoundTrip() {
+        ReadRequest request = new ReadRequest(
+            new RequestHeader(NodeId.NULL_VALUE, DateTime.now(), uint(1), uint(0), null, uint(5000), null),
+            0.0,
+            TimestampsToReturn.Both,
+            new ReadValueId[]{
+                new ReadValueId(new NodeId(0, 2258), uint(13), null, QualifiedName.NULL_VALUE),
+                new ReadValueId(new NodeId(2, "foo"), uint(13), "1:2", new QualifiedName(0, "Default Binary"))
+            }
+        );
+
+        String json = encode(e -> e.writeMessage(null, request));
+
+        assertEquals(decoder(json).readMessage(null), request);
+    }
+
+    @Test
+    public void testExtensionObjectRoundTrip() {
+        ExtensionObject xo = ExtensionObject.encode(
+            context,
+            new ReadValueId(new NodeId(2, "foo"), uint(13), null, QualifiedName.NULL_VALUE)
+        );
+
+        String json = encode(e -> e.writeExtensionObject(null, xo));
+
+        assertEquals(
+            json,
+            "{\"TypeId\":{\"Id\":626},\"Body\":{\"NodeId\":{\"IdType\":1,\"Id\":\"foo\",\"Namespace\":2}," +
+                "\"AttributeId\":13,\"DataEncoding\":{}}}"
+        );
+        assertEquals(decoder(json).readExtensionObject(null), xo);
+    }
+
+    @Test
+    public void testStructFieldsOutOfOrder() {
+        String json = "{\"AttributeId\":13,\"Unknown\":[{\"a\":1}]," +
+            "\"Value\":{\"Value\":{\"Type\":8,\"Body\":\"9223372036854775807\"}}," +
+            "\"NodeId\":{\"IdType\":1,\"Id\":\"foo\",\"Namespace\":2}}";
+
+        Object value = decoder(json).readStruct(null, WriteValue.TYPE_ID);
+
+        assertEquals(
+            value,
+            new WriteValue(
+                new NodeId(2, "foo"),
+                uint(13),
+                null,
+                new DataValue(
+                    new Variant(Long.MAX_VALUE),
+                    StatusCode.GOOD,
+                    DateTime.MIN_VALUE,
+                    null,
+                    DateTime.MIN_VALUE,
+                    null
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testMessageFieldsOutOfOrder() {
+        ReadRequest request = new ReadRequest(
+            new RequestHeader(NodeId.NULL_VALUE, DateTime.MIN_VALUE, uint(1), uint(0), null, uint(5000), null),
+            0.0,
+            TimestampsToReturn.Both,
+            new ReadValueId[]{
+                new ReadValueId(new NodeId(2, "foo"), uint(13), null, QualifiedName.NULL_VALUE)
+            }
+        );
+
+        String json = "{\"TypeId\":{\"Id\":629},\"Body\":{" +
+            "\"NodesToRead\":[{\"AttributeId\":13,\"NodeId\":{\"IdType\":1,\"Id\":\"foo\",\"Namespace\":2}}]," +
+            "\"TimestampsToReturn\":2," +
+            "\"RequestHeader\":{\"TimeoutHint\":5000,\"RequestHandle\":1}}}";
+
+        assertEquals(decoder(json).readMessage(null), request);
+    }
+
+    @Test
+    public void testNonReversible() {
+        StringWriter writer = new StringWriter();
+        OpcUaJsonStreamEncoder encoder = new OpcUaJsonStreamEncoder(context, false).setWriter(writer);
+
+        encoder.writeDataValue(null, new DataValue(
+            new Variant(new LocalizedText("en", "hello")),
+            new StatusCode(StatusCodes.Bad_NodeIdUnknown),
+            null,
+            null
+        ));
+        encoder.flush();
+
+        assertEquals(
+            writer.toString(),
+            "{\"Value\":\"hello\",\"Status\":{\"Code\":2150891520,\"Symbol\":\"Bad_NodeIdUnknown\"}}"
+        );
+    }
+
+    @Test
+    public void testReadVariantStackOverflow() {
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            json.append("{\"Type\":24,\"Body\":");
+        }
+        json.append("{}");
+        for (int i = 0; i < 10000; i++) {
+            json.append("}");
+        }
+
+        assertThrows(UaSerializationException.class, () -> decoder(json.toString()).readVariant(null));
+    }
+
+    private String encode(Consumer<OpcUaJsonStreamEncoder> write) {
+        StringWriter writer = new StringWriter();
+        OpcUaJsonStreamEncoder encoder = new OpcUaJsonStreamEncoder(context).setWriter(writer);
+
+        write.accept(encoder);
+        encoder.flush();
+
+        return writer.toString();
+    }
+
+    private OpcUaJsonStreamDecoder decoder(String json) {
+        return new OpcUaJsonStreamDecoder(context).setReader(new StringReader(json));
+    }
+
+}
@@ -19,9 +19,19 @@ public class TestSerializationContext implements SerializationContext {
 
     private final NamespaceTable namespaceTable = new NamespaceTable();
 
+    private final EncodingLimits encodingLimits;
+
+    public TestSerializationContext() {
+        this(EncodingLimits.DEFAULT);
+    }
+
+    public TestSerializationContext(EncodingLimits encodingLimits) {
+        this.encodingLimits = encodingLimits;
+    }
+
     @Override
     public EncodingLimits getEncodingLimits() {
-        return EncodingLimits.DEFAULT;
+        return encodingLimits;
     }
 
     @Override
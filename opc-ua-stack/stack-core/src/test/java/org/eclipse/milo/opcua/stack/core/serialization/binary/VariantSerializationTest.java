@@ -13,12 +13,14 @@ package org.eclipse.milo.opcua.stack.core.serialization.binary;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import org.eclipse.milo.opcua.stack.core.BuiltinDataType;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
 import org.eclipse.milo.opcua.stack.core.serialization.TestSerializationContext;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
 import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.ServiceCounterDataType;
+import org.eclipse.milo.opcua.stack.core.util.ArrayUtil;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -98,6 +100,59 @@ public class VariantSerializationTest extends BinarySerializationFixture {
         assertEquals(decoded, expected);
     }
 
+    @DataProvider(name = "PrimitiveArrayProvider")
+    public Object[][] getPrimitiveArrays() {
+        return new Object[][]{
+            {new Variant(new boolean[]{true, false, true})},
+            {new Variant(new byte[]{-1, 0, 1})},
+            {new Variant(new short[]{Short.MIN_VALUE, 0, Short.MAX_VALUE})},
+            {new Variant(new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE})},
+            {new Variant(new long[]{Long.MIN_VALUE, 0L, Long.MAX_VALUE})},
+            {new Variant(new float[]{-1.5f, 0f, Float.NaN})},
+            {new Variant(new double[]{-1.5, 0.0, Double.MAX_VALUE})},
+            {new Variant(new double[][]{{0.0, 1.0}, {2.0, 3.0}})},
+            {new Variant(new Integer[]{0, 1, 2})},
+            {new Variant(new String[]{"a", "b"})}
+        };
+    }
+
+    @Test(dataProvider = "PrimitiveArrayProvider",
+        description = "Test that primitive arrays round trip as primitive arrays when primitive array decoding is enabled.")
+    public void testPrimitiveArraysEnabledRoundTrip(Variant variant) {
+        EncodingLimits encodingLimits = new EncodingLimits(
+            EncodingLimits.DEFAULT_MAX_CHUNK_SIZE,
+            EncodingLimits.DEFAULT_MAX_CHUNK_COUNT,
+            EncodingLimits.DEFAULT_MAX_MESSAGE_SIZE,
+            EncodingLimits.DEFAULT_MAX_RECURSION_DEPTH,
+            true
+        );
+
+        OpcUaBinaryStreamDecoder reader = new OpcUaBinaryStreamDecoder(new TestSerializationContext(encodingLimits));
+        reader.setBuffer(buffer);
+
+        writer.writeVariant(variant);
+        Variant decoded = reader.readVariant();
+
+        Object value = variant.getValue();
+        boolean boxed = ArrayUtil.getType(value) == Integer.class;
+
+        assertEquals(decoded.getValue().getClass(), boxed ? int[].class : value.getClass());
+        if (!boxed) assertEquals(decoded, variant);
+        assertEquals(ArrayUtil.getDimensions(decoded.getValue()), ArrayUtil.getDimensions(value));
+        assertEquals(buffer.readableBytes(), 0);
+    }
+
+    @Test(description = "Test that primitive arrays are encoded the same as arrays of the boxed type.")
+    public void testPrimitiveArrayEncodingMatchesBoxed() {
+        writer.writeVariant(new Variant(new double[]{0.0, 1.5, -2.25}));
+        ByteBuf primitive = buffer.copy();
+
+        buffer.clear();
+        writer.writeVariant(new Variant(new Double[]{0.0, 1.5, -2.25}));
+
+        assertEquals(primitive, buffer);
+    }
+
     @Test(description = "Test that a Variant containing a null array encoded with a negative array size to indicate a null value decodes properly.")
     public void testNullArrayEncodedWithNegativeArraySize() {
         ByteBuf buffer = Unpooled.buffer();
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.transport;
+
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.eclipse.milo.opcua.stack.core.Stack;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class TransportFactoryTest {
+
+    @Test
+    public void testNio() throws Exception {
+        TransportFactory nio = TransportFactory.NIO;
+
+        assertEquals(nio.getSocketChannelClass(), NioSocketChannel.class);
+        assertEquals(nio.getServerSocketChannelClass(), NioServerSocketChannel.class);
+        assertFalse(nio.getReusePortOption().isPresent());
+
+        EventLoopGroup eventLoop = nio.newEventLoopGroup(1, Thread::new);
+
+        try {
+            assertTrue(nio.isCompatible(eventLoop));
+            assertSame(TransportFactory.forEventLoop(eventLoop), nio);
+        } finally {
+            eventLoop.shutdownGracefully().await();
+        }
+    }
+
+    @Test
+    public void testDefaultPrefersEpoll() throws Exception {
+        assertEquals(TransportFactory.epoll().isPresent(), Epoll.isAvailable());
+
+        if (Epoll.isAvailable()) {
+            TransportFactory epoll = TransportFactory.epoll().get();
+
+            assertSame(TransportFactory.getDefault(), epoll);
+            assertEquals(epoll.getSocketChannelClass(), EpollSocketChannel.class);
+            assertEquals(epoll.getServerSocketChannelClass(), EpollServerSocketChannel.class);
+            assertEquals(epoll.getReusePortOption().orElse(null), EpollChannelOption.SO_REUSEPORT);
+
+            EventLoopGroup eventLoop = epoll.newEventLoopGroup(1, Thread::new);
+
+            try {
+                assertTrue(eventLoop instanceof EpollEventLoopGroup);
+                assertSame(TransportFactory.forEventLoop(eventLoop), epoll);
+            } finally {
+                eventLoop.shutdownGracefully().await();
+            }
+        } else {
+            assertSame(TransportFactory.getDefault(), TransportFactory.NIO);
+        }
+    }
+
+    @Test
+    public void testSharedEventLoop() {
+        EventLoopGroup eventLoop = Stack.sharedTransportEventLoop();
+
+        assertTrue(Stack.getTransportFactory().isCompatible(eventLoop));
+        assertSame(TransportFactory.forEventLoop(eventLoop), Stack.getTransportFactory());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testSharedNioEventLoop() {
+        NioEventLoopGroup eventLoop = Stack.sharedEventLoop();
+
+        if (Stack.getTransportFactory() == TransportFactory.NIO) {
+            assertSame(eventLoop, Stack.sharedTransportEventLoop());
+        } else {
+            assertNotSame(eventLoop, Stack.sharedTransportEventLoop());
+        }
+    }
+
+    @Test
+    public void testIncompatibleEventLoop() throws Exception {
+        EventLoopGroup eventLoop = new DefaultEventLoopGroup(1);
+
+        try {
+            assertThrows(IllegalArgumentException.class, () -> TransportFactory.forEventLoop(eventLoop));
+        } finally {
+            eventLoop.shutdownGracefully().await();
+        }
+    }
+
+}
@@ -10,9 +10,12 @@
 
 package org.eclipse.milo.opcua.stack.core.util;
 
+import java.util.ArrayDeque;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -20,6 +23,7 @@ import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 public class ExecutionQueueTest {
 
@@ -65,4 +69,102 @@ public class ExecutionQueueTest {
         assertEquals(count.get(), 100000);
     }
 
+    @Test
+    public void testDrainsInBatches() {
+        ManualExecutor manualExecutor = new ManualExecutor();
+        ExecutionQueue queue = new ExecutionQueue(manualExecutor, 1, 10);
+
+        AtomicInteger count = new AtomicInteger();
+
+        for (int i = 0; i < 25; i++) {
+            queue.submit(count::incrementAndGet);
+        }
+
+        // only one drain task is scheduled no matter how many are submitted
+        assertEquals(manualExecutor.tasks.size(), 1);
+        assertEquals(queue.getQueueDepth(), 25);
+
+        // each drain task executes at most drainBudget queued tasks, then reschedules itself
+        assertEquals(manualExecutor.runAll(), 3);
+        assertEquals(count.get(), 25);
+        assertEquals(queue.getQueueDepth(), 0);
+        assertEquals(queue.getExecutedTaskCount().sum(), 25L);
+    }
+
+    @Test
+    public void testPauseAndResume() throws InterruptedException {
+        ExecutionQueue queue = new ExecutionQueue(executor, 1);
+        queue.pause();
+
+        CountDownLatch latch = new CountDownLatch(10);
+
+        for (int i = 0; i < 10; i++) {
+            queue.submit(latch::countDown);
+        }
+
+        assertFalse(latch.await(100, TimeUnit.MILLISECONDS));
+        assertEquals(queue.getQueueDepth(), 10);
+
+        queue.resume();
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSubmitToHead() {
+        ManualExecutor manualExecutor = new ManualExecutor();
+        ExecutionQueue queue = new ExecutionQueue(manualExecutor);
+
+        StringBuilder order = new StringBuilder();
+
+        queue.submit(() -> order.append("b"));
+        queue.submitToHead(() -> order.append("a"));
+
+        manualExecutor.runAll();
+
+        assertEquals(order.toString(), "ab");
+    }
+
+    @Test
+    public void testQueueLatency() throws InterruptedException {
+        ExecutionQueue queue = new ExecutionQueue(executor, 1);
+        queue.pause();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        queue.submit(latch::countDown);
+
+        Thread.sleep(50);
+        queue.resume();
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(queue.getMaxQueueLatency() >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(queue.getTotalQueueLatency().sum() >= queue.getMaxQueueLatency());
+    }
+
+    /**
+     * An {@link Executor} that queues tasks until {@link #runAll()} is called.
+     */
+    static class ManualExecutor implements Executor {
+
+        final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        int runAll() {
+            int executed = 0;
+
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+                executed++;
+            }
+
+            return executed;
+        }
+
+    }
+
 }
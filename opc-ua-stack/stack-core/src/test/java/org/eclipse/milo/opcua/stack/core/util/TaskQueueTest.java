@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.milo.opcua.stack.core.util.ExecutionQueueTest.ManualExecutor;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TaskQueueTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @Test
+    public void testExecuteIsLinearWhenConcurrencyIs1() throws InterruptedException {
+        TaskQueue queue = new TaskQueue(executor);
+
+        CountDownLatch latch = new CountDownLatch(100000);
+        AtomicInteger n = new AtomicInteger(0);
+        AtomicInteger outOfOrder = new AtomicInteger(0);
+
+        for (int i = 0; i < 100000; i++) {
+            final int ii = i;
+
+            assertTrue(queue.execute(() -> {
+                if (n.getAndIncrement() != ii) outOfOrder.incrementAndGet();
+                latch.countDown();
+            }));
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(outOfOrder.get(), 0);
+        assertEquals(queue.getExecutedTaskCount().sum(), 100000L);
+    }
+
+    @Test
+    public void testPriority() {
+        ManualExecutor manualExecutor = new ManualExecutor();
+
+        TaskQueue queue = TaskQueue.newBuilder()
+            .setExecutor(manualExecutor)
+            .setPriorityRatio(2)
+            .build();
+
+        List<String> order = new ArrayList<>();
+
+        for (int i = 0; i < 2; i++) {
+            queue.execute(newTask(order, "r" + i, TaskQueue.TaskPriority.REGULAR));
+        }
+        for (int i = 0; i < 4; i++) {
+            queue.execute(newTask(order, "e" + i, TaskQueue.TaskPriority.ELEVATED));
+        }
+        queue.execute(newTask(order, "c0", TaskQueue.TaskPriority.CRITICAL));
+
+        manualExecutor.runAll();
+
+        assertEquals(order, Arrays.asList("c0", "e0", "e1", "r0", "e2", "e3", "r1"));
+    }
+
+    @Test
+    public void testMaxQueueSize() {
+        ManualExecutor manualExecutor = new ManualExecutor();
+
+        TaskQueue queue = TaskQueue.newBuilder()
+            .setExecutor(manualExecutor)
+            .setMaxQueueSize(2)
+            .build();
+
+        assertTrue(queue.execute(() -> {}));
+        assertNotNull(queue.submit(() -> {}));
+        assertFalse(queue.execute(() -> {}));
+        assertNull(queue.submit(() -> {}));
+        assertEquals(queue.getQueueDepth(), 2);
+
+        manualExecutor.runAll();
+
+        assertEquals(queue.getQueueDepth(), 0);
+        assertTrue(queue.execute(() -> {}));
+    }
+
+    @Test
+    public void testDrainsInBatches() {
+        ManualExecutor manualExecutor = new ManualExecutor();
+
+        TaskQueue queue = TaskQueue.newBuilder()
+            .setExecutor(manualExecutor)
+            .setDrainBudget(10)
+            .build();
+
+        for (int i = 0; i < 25; i++) {
+            queue.execute(() -> {});
+        }
+
+        assertEquals(manualExecutor.runAll(), 3);
+        assertEquals(queue.getExecutedTaskCount().sum(), 25L);
+    }
+
+    @Test
+    public void testSubmitCompletes() throws Exception {
+        TaskQueue queue = new TaskQueue(executor);
+
+        CompletionStage<Unit> callback = queue.submit(() -> {});
+
+        assertNotNull(callback);
+        assertEquals(callback.toCompletableFuture().get(5, TimeUnit.SECONDS), Unit.VALUE);
+    }
+
+    @Test
+    public void testShutdown() throws InterruptedException {
+        TaskQueue queue = new TaskQueue(executor);
+        queue.pause();
+
+        for (int i = 0; i < 5; i++) {
+            queue.execute(() -> {});
+        }
+
+        List<TaskQueue.Task> remaining = queue.shutdown(true);
+
+        assertTrue(queue.isShutdown());
+        assertEquals(remaining.size(), 5);
+        assertFalse(queue.execute(() -> {}));
+    }
+
+    @Test
+    public void testShutdownAwaitsQuiescence() throws InterruptedException {
+        TaskQueue queue = new TaskQueue(executor);
+
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger(0);
+
+        queue.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ignored) {
+                // nothing to do
+            }
+            completed.incrementAndGet();
+        });
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        queue.shutdown(true);
+
+        assertEquals(completed.get(), 1);
+    }
+
+    @Test
+    public void testConcurrentExecuteAndShutdown() throws Exception {
+        ExecutorService submitters = Executors.newFixedThreadPool(4);
+
+        try {
+            for (int round = 0; round < 100; round++) {
+                TaskQueue queue = new TaskQueue(executor);
+
+                AtomicInteger accepted = new AtomicInteger(0);
+                AtomicInteger executed = new AtomicInteger(0);
+                List<AtomicBoolean> rejected = Collections.synchronizedList(new ArrayList<>());
+                CountDownLatch start = new CountDownLatch(1);
+
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    futures.add(submitters.submit(() -> {
+                        start.await();
+
+                        for (int j = 0; j < 1000; j++) {
+                            AtomicBoolean ran = new AtomicBoolean(false);
+
+                            boolean queued = queue.execute(() -> {
+                                ran.set(true);
+                                executed.incrementAndGet();
+                            });
+
+                            if (queued) {
+                                accepted.incrementAndGet();
+                            } else {
+                                rejected.add(ran);
+                            }
+                        }
+                        return null;
+                    }));
+                }
+
+                start.countDown();
+
+                List<TaskQueue.Task> remaining = queue.shutdown(true);
+
+                for (Future<?> future : futures) {
+                    future.get(5, TimeUnit.SECONDS);
+                }
+
+                // every accepted task either executed or was returned from shutdown, none were stranded...
+                assertEquals(accepted.get(), executed.get() + remaining.size());
+
+                // ...and no task reported as not queued was executed anyway.
+                for (AtomicBoolean ran : rejected) {
+                    assertFalse(ran.get());
+                }
+                assertEquals(queue.getQueueDepth(), 0);
+            }
+        } finally {
+            submitters.shutdown();
+        }
+    }
+
+    private static TaskQueue.Task newTask(List<String> order, String name, TaskQueue.TaskPriority priority) {
+        return new TaskQueue.Task() {
+            @Override
+            public void execute() {
+                order.add(name);
+            }
+
+            @Override
+            public TaskQueue.TaskPriority getPriority() {
+                return priority;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.milo.opcua.stack.core.Stack;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+
+public class VirtualThreadsTest {
+
+    @Test
+    public void testSharedVirtualThreadExecutor() throws Exception {
+        ExecutorService executor = Stack.sharedVirtualThreadExecutor();
+
+        if (!VirtualThreads.isSupported()) {
+            assertSame(executor, Stack.sharedExecutor());
+            assertFalse(VirtualThreads.newExecutor("test-", null).isPresent());
+        }
+
+        CompletableFuture<Thread> thread = CompletableFuture.supplyAsync(Thread::currentThread, executor);
+
+        assertEquals(VirtualThreads.isVirtual(thread.get(5, TimeUnit.SECONDS)), VirtualThreads.isSupported());
+        assertFalse(VirtualThreads.isVirtual(Thread.currentThread()));
+    }
+
+}
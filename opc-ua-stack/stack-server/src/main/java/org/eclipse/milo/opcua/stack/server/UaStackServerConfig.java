@@ -18,6 +18,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.channel.FlushConsolidation;
 import org.eclipse.milo.opcua.stack.core.security.CertificateManager;
 import org.eclipse.milo.opcua.stack.core.security.TrustListManager;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
@@ -66,6 +67,21 @@ public interface UaStackServerConfig {
      */
     EncodingLimits getEncodingLimits();
 
+    /**
+     * @return the {@link FlushConsolidation} settings used when writing to UA TCP channels.
+     */
+    default FlushConsolidation getFlushConsolidation() {
+        return FlushConsolidation.DISABLED;
+    }
+
+    /**
+     * @return the number of server channels accepting connections on each bind address.
+     * @see UaStackServerConfigBuilder#setAcceptorCount(int)
+     */
+    default int getAcceptorCount() {
+        return 1;
+    }
+
     /**
      * @return the minimum allowable secure channel lifetime, in milliseconds.
      */
@@ -116,6 +132,15 @@ public interface UaStackServerConfig {
      */
     ExecutorService getExecutor();
 
+    /**
+     * @return {@code true} if the default {@link ExecutorService} runs each task on a virtual thread when the JVM
+     *     supports them.
+     * @see UaStackServerConfigBuilder#setVirtualThreadsEnabled(boolean)
+     */
+    default boolean isVirtualThreadsEnabled() {
+        return false;
+    }
+
     /**
      * @return a new {@link UaStackServerConfigBuilder}.
      */
@@ -140,6 +165,8 @@ public interface UaStackServerConfig {
         builder.setApplicationUri(config.getApplicationUri());
         builder.setProductUri(config.getProductUri());
         builder.setEncodingLimits(config.getEncodingLimits());
+        builder.setFlushConsolidation(config.getFlushConsolidation());
+        builder.setAcceptorCount(config.getAcceptorCount());
         builder.setMinimumSecureChannelLifetime(config.getMinimumSecureChannelLifetime());
         builder.setMaximumSecureChannelLifetime(config.getMaximumSecureChannelLifetime());
         builder.setCertificateManager(config.getCertificateManager());
@@ -148,6 +175,7 @@ public interface UaStackServerConfig {
         builder.setHttpsKeyPair(config.getHttpsKeyPair().orElse(null));
         builder.setHttpsCertificateChain(config.getHttpsCertificateChain().orElse(null));
         builder.setExecutor(config.getExecutor());
+        builder.setVirtualThreadsEnabled(config.isVirtualThreadsEnabled());
 
         return builder;
     }
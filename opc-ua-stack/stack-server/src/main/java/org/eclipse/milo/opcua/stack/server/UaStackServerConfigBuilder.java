@@ -19,6 +19,7 @@ import java.util.concurrent.ExecutorService;
 
 import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.channel.FlushConsolidation;
 import org.eclipse.milo.opcua.stack.core.security.CertificateManager;
 import org.eclipse.milo.opcua.stack.core.security.TrustListManager;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
@@ -41,6 +42,10 @@ public class UaStackServerConfigBuilder {
 
     private EncodingLimits encodingLimits = EncodingLimits.DEFAULT;
 
+    private FlushConsolidation flushConsolidation = FlushConsolidation.DISABLED;
+
+    private int acceptorCount = 1;
+
     private UInteger minimumSecureChannelLifetime = uint(60_000);
     private UInteger maximumSecureChannelLifetime = uint(60_000 * 60 * 24);
 
@@ -52,6 +57,7 @@ public class UaStackServerConfigBuilder {
     private X509Certificate[] httpsCertificate;
 
     private ExecutorService executor;
+    private boolean virtualThreadsEnabled = false;
 
     public UaStackServerConfigBuilder setEndpoints(Set<EndpointConfiguration> endpointConfigurations) {
         this.endpoints = endpointConfigurations;
@@ -78,6 +84,27 @@ public class UaStackServerConfigBuilder {
         return this;
     }
 
+    public UaStackServerConfigBuilder setFlushConsolidation(FlushConsolidation flushConsolidation) {
+        this.flushConsolidation = flushConsolidation;
+        return this;
+    }
+
+    /**
+     * Set the number of server channels accepting connections on each bind address.
+     * <p>
+     * Values greater than 1 bind the address once per acceptor with {@code SO_REUSEPORT}, so connections are accepted
+     * on several event loop threads. This requires a transport that supports {@code SO_REUSEPORT}, such as native
+     * epoll; other transports use a single acceptor.
+     *
+     * @param acceptorCount the number of server channels accepting connections on each bind address.
+     * @return this {@link UaStackServerConfigBuilder}.
+     * @see org.eclipse.milo.opcua.stack.core.transport.TransportFactory#getReusePortOption()
+     */
+    public UaStackServerConfigBuilder setAcceptorCount(int acceptorCount) {
+        this.acceptorCount = acceptorCount;
+        return this;
+    }
+
     public UaStackServerConfigBuilder setMinimumSecureChannelLifetime(UInteger minimumSecureChannelLifetime) {
         this.minimumSecureChannelLifetime = minimumSecureChannelLifetime;
         return this;
@@ -124,9 +151,24 @@ public class UaStackServerConfigBuilder {
         return this;
     }
 
+    /**
+     * Run tasks on virtual threads when the JVM supports them.
+     * <p>
+     * When enabled and no {@link ExecutorService} has been set, the default executor is
+     * {@link Stack#sharedVirtualThreadExecutor()} instead of {@link Stack#sharedExecutor()}. JVMs without virtual
+     * thread support keep using {@link Stack#sharedExecutor()}.
+     *
+     * @param virtualThreadsEnabled {@code true} to run tasks on virtual threads when the JVM supports them.
+     * @return this {@link UaStackServerConfigBuilder}.
+     */
+    public UaStackServerConfigBuilder setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        return this;
+    }
+
     public UaStackServerConfig build() {
         if (executor == null) {
-            executor = Stack.sharedExecutor();
+            executor = virtualThreadsEnabled ? Stack.sharedVirtualThreadExecutor() : Stack.sharedExecutor();
         }
 
         return new UaStackServerConfigImpl(
@@ -135,6 +177,8 @@ public class UaStackServerConfigBuilder {
             applicationUri,
             productUri,
             encodingLimits,
+            flushConsolidation,
+            Math.max(1, acceptorCount),
             minimumSecureChannelLifetime,
             maximumSecureChannelLifetime,
             certificateManager,
@@ -142,7 +186,8 @@ public class UaStackServerConfigBuilder {
             certificateValidator,
             httpsKeyPair,
             httpsCertificate,
-            executor
+            executor,
+            virtualThreadsEnabled
         );
     }
 
@@ -156,6 +201,8 @@ public class UaStackServerConfigBuilder {
         private final String productUri;
 
         private final EncodingLimits encodingLimits;
+        private final FlushConsolidation flushConsolidation;
+        private final int acceptorCount;
 
         private final UInteger minimumSecureChannelLifetime;
         private final UInteger maximumSecureChannelLifetime;
@@ -168,6 +215,7 @@ public class UaStackServerConfigBuilder {
         private final X509Certificate[] httpsCertificate;
 
         private final ExecutorService executor;
+        private final boolean virtualThreadsEnabled;
 
         UaStackServerConfigImpl(
             Set<EndpointConfiguration> endpointConfigurations,
@@ -175,6 +223,8 @@ public class UaStackServerConfigBuilder {
             String applicationUri,
             String productUri,
             EncodingLimits encodingLimits,
+            FlushConsolidation flushConsolidation,
+            int acceptorCount,
             UInteger minimumSecureChannelLifetime,
             UInteger maximumSecureChannelLifetime,
             CertificateManager certificateManager,
@@ -182,7 +232,8 @@ public class UaStackServerConfigBuilder {
             ServerCertificateValidator certificateValidator,
             @Nullable KeyPair httpsKeyPair,
             @Nullable X509Certificate[] httpsCertificate,
-            ExecutorService executor
+            ExecutorService executor,
+            boolean virtualThreadsEnabled
         ) {
 
             this.endpointConfigurations = endpointConfigurations;
@@ -190,6 +241,8 @@ public class UaStackServerConfigBuilder {
             this.applicationUri = applicationUri;
             this.productUri = productUri;
             this.encodingLimits = encodingLimits;
+            this.flushConsolidation = flushConsolidation;
+            this.acceptorCount = acceptorCount;
             this.minimumSecureChannelLifetime = minimumSecureChannelLifetime;
             this.maximumSecureChannelLifetime = maximumSecureChannelLifetime;
             this.trustListManager = trustListManager;
@@ -198,6 +251,7 @@ public class UaStackServerConfigBuilder {
             this.httpsKeyPair = httpsKeyPair;
             this.httpsCertificate = httpsCertificate;
             this.executor = executor;
+            this.virtualThreadsEnabled = virtualThreadsEnabled;
         }
 
         @Override
@@ -225,6 +279,16 @@ public class UaStackServerConfigBuilder {
             return encodingLimits;
         }
 
+        @Override
+        public FlushConsolidation getFlushConsolidation() {
+            return flushConsolidation;
+        }
+
+        @Override
+        public int getAcceptorCount() {
+            return acceptorCount;
+        }
+
         @Override
         public UInteger getMinimumSecureChannelLifetime() {
             return minimumSecureChannelLifetime;
@@ -265,6 +329,11 @@ public class UaStackServerConfigBuilder {
             return executor;
         }
 
+        @Override
+        public boolean isVirtualThreadsEnabled() {
+            return virtualThreadsEnabled;
+        }
+
     }
 
 }
@@ -11,8 +11,11 @@
 package org.eclipse.milo.opcua.stack.server.transport;
 
 import java.net.InetSocketAddress;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.google.common.collect.ConcurrentHashMultiset;
 import com.google.common.collect.Maps;
@@ -23,10 +26,11 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.logging.LoggingHandler;
 import org.eclipse.milo.opcua.stack.core.Stack;
+import org.eclipse.milo.opcua.stack.core.transport.TransportFactory;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
 import org.eclipse.milo.opcua.stack.core.util.AsyncSemaphore;
 import org.eclipse.milo.opcua.stack.core.util.Unit;
@@ -44,7 +48,7 @@ public class ServerChannelManager {
     private final AsyncSemaphore semaphore = new AsyncSemaphore(1);
 
     private final Multiset<InetSocketAddress> addresses = ConcurrentHashMultiset.create();
-    private final Map<InetSocketAddress, Channel> channels = Maps.newConcurrentMap();
+    private final Map<InetSocketAddress, List<Channel>> channels = Maps.newConcurrentMap();
 
     private final UaStackServer stackServer;
 
@@ -68,16 +72,16 @@ public class ServerChannelManager {
             } else {
                 logger.debug("binding to {}", bindAddress);
 
-                CompletableFuture<Channel> bootstrap = bootstrap(
+                CompletableFuture<List<Channel>> bootstrap = bootstrap(
                     stackServer,
                     bindAddress,
                     endpoint.getTransportProfile()
                 );
 
-                return bootstrap.whenComplete((channel, ex) -> {
-                    if (channel != null) {
+                return bootstrap.whenComplete((boundChannels, ex) -> {
+                    if (boundChannels != null) {
                         addresses.add(bindAddress);
-                        channels.put(bindAddress, channel);
+                        channels.put(bindAddress, boundChannels);
                         future.complete(Unit.VALUE);
                     } else {
                         future.completeExceptionally(ex);
@@ -103,10 +107,10 @@ public class ServerChannelManager {
             if (addresses.remove(bindAddress, 1) == 1) {
                 logger.debug("unbinding from {}", bindAddress);
 
-                Channel channel = channels.remove(bindAddress);
+                List<Channel> boundChannels = channels.remove(bindAddress);
 
-                if (channel != null) {
-                    channel.close();
+                if (boundChannels != null) {
+                    boundChannels.forEach(Channel::close);
                 }
             }
 
@@ -116,7 +120,14 @@ public class ServerChannelManager {
         return future;
     }
 
-    private static CompletableFuture<Channel> bootstrap(
+    /**
+     * Bind {@code bindAddress} once per acceptor.
+     * <p>
+     * When more than one acceptor is configured and the transport supports {@code SO_REUSEPORT} each bind creates
+     * another server channel, registered with the next event loop in the group, and the kernel balances incoming
+     * connections between them.
+     */
+    private CompletableFuture<List<Channel>> bootstrap(
         UaStackServer stackServer,
         InetSocketAddress bindAddress,
         TransportProfile transportProfile) {
@@ -129,15 +140,57 @@ public class ServerChannelManager {
             initializer = new OpcServerHttpChannelInitializer(stackServer);
         }
 
+        EventLoopGroup eventLoop = Stack.sharedTransportEventLoop();
+        TransportFactory transportFactory = TransportFactory.forEventLoop(eventLoop);
+
         ServerBootstrap bootstrap = new ServerBootstrap();
 
-        bootstrap.group(Stack.sharedEventLoop())
+        bootstrap.group(eventLoop)
             .handler(new LoggingHandler(ServerChannelManager.class))
-            .channel(NioServerSocketChannel.class)
+            .channel(transportFactory.getServerSocketChannelClass())
             .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
             .childOption(ChannelOption.TCP_NODELAY, true)
             .childHandler(initializer);
 
+        int acceptorCount = stackServer.getConfig().getAcceptorCount();
+
+        if (acceptorCount > 1) {
+            Optional<ChannelOption<Boolean>> reusePort = transportFactory.getReusePortOption();
+
+            if (reusePort.isPresent()) {
+                bootstrap.option(reusePort.get(), true);
+            } else {
+                logger.warn(
+                    "acceptorCount={} requires SO_REUSEPORT, which the {} transport does not support; " +
+                        "binding {} with a single acceptor.",
+                    acceptorCount, transportFactory.getName(), bindAddress
+                );
+
+                acceptorCount = 1;
+            }
+        }
+
+        List<Channel> boundChannels = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Unit> bindFuture = CompletableFuture.completedFuture(Unit.VALUE);
+
+        for (int i = 0; i < acceptorCount; i++) {
+            bindFuture = bindFuture.thenCompose(u -> bind(bootstrap, bindAddress).thenApply(channel -> {
+                boundChannels.add(channel);
+                return Unit.VALUE;
+            }));
+        }
+
+        return bindFuture
+            .whenComplete((u, ex) -> {
+                if (ex != null) {
+                    boundChannels.forEach(Channel::close);
+                }
+            })
+            .thenApply(u -> boundChannels);
+    }
+
+    private static CompletableFuture<Channel> bind(ServerBootstrap bootstrap, InetSocketAddress bindAddress) {
         CompletableFuture<Channel> channelFuture = new CompletableFuture<>();
 
         bootstrap.bind(bindAddress).addListener((ChannelFutureListener) future -> {
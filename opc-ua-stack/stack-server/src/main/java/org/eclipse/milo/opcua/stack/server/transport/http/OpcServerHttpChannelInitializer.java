@@ -29,6 +29,7 @@ import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.websocketx.WebSocketFrameAggregator;
 import io.netty.handler.codec.http.websocketx.WebSocketServerProtocolHandler;
 import io.netty.handler.codec.http.websocketx.extensions.compression.WebSocketServerCompressionHandler;
 import io.netty.handler.logging.LogLevel;
@@ -145,17 +146,21 @@ public class OpcServerHttpChannelInitializer extends ChannelInitializer<SocketCh
 
                 ctx.channel().pipeline().addLast(new WebSocketServerCompressionHandler());
 
-                // TODO configure webSocketPath based on path component of endpoint URL?
+                int maxMessageSize = stackServer.getConfig().getEncodingLimits().getMaxMessageSize();
+
                 ctx.channel().pipeline().addLast(new WebSocketServerProtocolHandler(
-                    "/ws",
+                    uri,
                     String.format("%s, %s", Stack.WSS_PROTOCOL_BINARY, Stack.WSS_PROTOCOL_JSON),
-                    true
+                    true,
+                    maxMessageSize
                 ));
 
+                ctx.channel().pipeline().addLast(new WebSocketFrameAggregator(maxMessageSize));
+
                 ctx.channel().pipeline().addLast(new OpcServerWebSocketFrameHandler(stackServer));
 
                 httpRequest.retain();
-                ctx.executor().execute(() -> ctx.fireChannelRead(httpRequest));
+                ctx.executor().execute(() -> ctx.pipeline().fireChannelRead(httpRequest));
             } else if (Objects.equals(httpRequest.method(), HttpMethod.POST)) {
                 logger.debug("intercepted HTTP POST");
 
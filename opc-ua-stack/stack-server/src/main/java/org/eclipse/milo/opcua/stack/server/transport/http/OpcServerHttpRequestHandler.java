@@ -10,13 +10,20 @@
 
 package org.eclipse.milo.opcua.stack.server.transport.http;
 
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyPair;
 import java.security.cert.X509Certificate;
 import java.util.Objects;
 import java.util.Optional;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -26,12 +33,16 @@ import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.channel.ServerSecureChannel;
 import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.UaMessage;
 import org.eclipse.milo.opcua.stack.core.serialization.UaRequestMessage;
 import org.eclipse.milo.opcua.stack.core.serialization.UaResponseMessage;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
@@ -81,13 +92,17 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
             MessageSecurityMode.None :
             MessageSecurityMode.Sign;
 
+        TransportProfile transportProfile = contentType != null &&
+            contentType.toLowerCase().startsWith(Stack.HTTPS_CONTENT_TYPE_JSON) ?
+            TransportProfile.HTTPS_UAJSON :
+            TransportProfile.HTTPS_UABINARY;
+
         EndpointDescription endpoint = stackServer.getEndpointDescriptions()
             .stream()
             .filter(e -> {
-                // TODO use contentType to determine which TransportProfile to match
                 boolean transportMatch = Objects.equals(
                     e.getTransportProfileUri(),
-                    TransportProfile.HTTPS_UABINARY.getUri()
+                    transportProfile.getUri()
                 );
 
                 boolean pathMatch = Objects.equals(
@@ -136,11 +151,8 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
 
         keyPair.ifPresent(secureChannel::setKeyPair);
 
-        OpcUaBinaryStreamDecoder decoder = new OpcUaBinaryStreamDecoder(stackServer.getSerializationContext());
-        decoder.setBuffer(httpRequest.content());
-
         try {
-            UaRequestMessage request = (UaRequestMessage) decoder.readMessage(null);
+            UaRequestMessage request = (UaRequestMessage) decodeMessage(transportProfile, httpRequest.content());
             UInteger requestHandle = request.getRequestHeader().getRequestHandle();
 
             InetSocketAddress remoteSocketAddress =
@@ -157,9 +169,9 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
 
             serviceRequest.getFuture().whenComplete((response, fault) -> {
                 if (response != null) {
-                    sendServiceResponse(ctx, request, response);
+                    sendServiceResponse(ctx, transportProfile, request, response);
                 } else {
-                    sendServiceFault(ctx, requestHandle, fault);
+                    sendServiceFault(ctx, transportProfile, requestHandle, fault);
                 }
             });
 
@@ -167,21 +179,28 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
         } catch (Throwable t) {
             logger.error("Error decoding UaRequestMessage", t);
 
-            sendServiceFault(ctx, null, t);
+            sendServiceFault(ctx, transportProfile, null, t);
         }
     }
 
     private void sendServiceResponse(
         ChannelHandlerContext ctx,
+        TransportProfile transportProfile,
         UaRequestMessage request,
         UaResponseMessage response) {
 
         ByteBuf contentBuffer = BufferUtil.pooledBuffer();
 
-        // TODO switch on transport profile for binary vs xml encoding
-        OpcUaBinaryStreamEncoder binaryEncoder = new OpcUaBinaryStreamEncoder(stackServer.getSerializationContext());
-        binaryEncoder.setBuffer(contentBuffer);
-        binaryEncoder.writeMessage(null, response);
+        try {
+            encodeMessage(transportProfile, response, contentBuffer);
+        } catch (Throwable t) {
+            logger.error("Error encoding UaResponseMessage", t);
+
+            contentBuffer.release();
+
+            sendServiceFault(ctx, transportProfile, request.getRequestHeader().getRequestHandle(), t);
+            return;
+        }
 
         FullHttpResponse httpResponse = new DefaultFullHttpResponse(
             HttpVersion.HTTP_1_1,
@@ -190,7 +209,7 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
         );
 
         httpResponse.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
-        httpResponse.headers().set(HttpHeaderNames.CONTENT_TYPE, UABINARY_CONTENT_TYPE);
+        httpResponse.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType(transportProfile));
         httpResponse.headers().set(HttpHeaderNames.CONTENT_LENGTH, contentBuffer.readableBytes());
 
         ctx.writeAndFlush(httpResponse);
@@ -198,6 +217,7 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
 
     private void sendServiceFault(
         ChannelHandlerContext ctx,
+        TransportProfile transportProfile,
         UInteger requestHandle,
         Throwable fault) {
 
@@ -218,10 +238,7 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
 
         ByteBuf contentBuffer = BufferUtil.pooledBuffer();
 
-        // TODO switch on transport profile for binary vs xml encoding
-        OpcUaBinaryStreamEncoder binaryEncoder = new OpcUaBinaryStreamEncoder(stackServer.getSerializationContext());
-        binaryEncoder.setBuffer(contentBuffer);
-        binaryEncoder.writeMessage(null, serviceFault);
+        encodeMessage(transportProfile, serviceFault, contentBuffer);
 
         FullHttpResponse httpResponse = new DefaultFullHttpResponse(
             HttpVersion.HTTP_1_1,
@@ -230,10 +247,47 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
         );
 
         httpResponse.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
-        httpResponse.headers().set(HttpHeaderNames.CONTENT_TYPE, UABINARY_CONTENT_TYPE);
+        httpResponse.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType(transportProfile));
         httpResponse.headers().set(HttpHeaderNames.CONTENT_LENGTH, contentBuffer.readableBytes());
 
         ctx.writeAndFlush(httpResponse);
     }
 
+    private UaMessage decodeMessage(TransportProfile transportProfile, ByteBuf content) {
+        if (transportProfile == TransportProfile.HTTPS_UAJSON) {
+            Reader reader = new InputStreamReader(new ByteBufInputStream(content), StandardCharsets.UTF_8);
+
+            OpcUaJsonStreamDecoder decoder = new OpcUaJsonStreamDecoder(stackServer.getSerializationContext());
+            decoder.setReader(reader);
+
+            return decoder.readMessage(null);
+        } else {
+            OpcUaBinaryStreamDecoder decoder = new OpcUaBinaryStreamDecoder(stackServer.getSerializationContext());
+            decoder.setBuffer(content);
+
+            return decoder.readMessage(null);
+        }
+    }
+
+    private void encodeMessage(TransportProfile transportProfile, UaMessage message, ByteBuf content) {
+        if (transportProfile == TransportProfile.HTTPS_UAJSON) {
+            Writer writer = new OutputStreamWriter(new ByteBufOutputStream(content), StandardCharsets.UTF_8);
+
+            OpcUaJsonStreamEncoder encoder = new OpcUaJsonStreamEncoder(stackServer.getSerializationContext());
+            encoder.setWriter(writer);
+            encoder.writeMessage(null, message);
+            encoder.flush();
+        } else {
+            OpcUaBinaryStreamEncoder encoder = new OpcUaBinaryStreamEncoder(stackServer.getSerializationContext());
+            encoder.setBuffer(content);
+            encoder.writeMessage(null, message);
+        }
+    }
+
+    private static String contentType(TransportProfile transportProfile) {
+        return transportProfile == TransportProfile.HTTPS_UAJSON ?
+            Stack.HTTPS_CONTENT_TYPE_JSON :
+            UABINARY_CONTENT_TYPE;
+    }
+
 }
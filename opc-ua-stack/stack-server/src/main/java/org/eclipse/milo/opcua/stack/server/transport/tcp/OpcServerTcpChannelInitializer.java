@@ -12,6 +12,7 @@ package org.eclipse.milo.opcua.stack.server.transport.tcp;
 
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.socket.SocketChannel;
+import org.eclipse.milo.opcua.stack.core.channel.FlushConsolidation;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
 import org.eclipse.milo.opcua.stack.server.UaStackServer;
 import org.eclipse.milo.opcua.stack.server.transport.RateLimitingHandler;
@@ -31,6 +32,11 @@ public class OpcServerTcpChannelInitializer extends ChannelInitializer<SocketCha
 
         channel.closeFuture().addListener(future -> stackServer.unregisterConnectedChannel(channel));
 
+        FlushConsolidation flushConsolidation = stackServer.getConfig().getFlushConsolidation();
+        if (flushConsolidation.isEnabled()) {
+            channel.pipeline().addLast(flushConsolidation.newHandler());
+        }
+
         channel.pipeline().addLast(RateLimitingHandler.getInstance());
         channel.pipeline().addLast(new UascServerHelloHandler(stackServer, TransportProfile.TCP_UASC_UABINARY));
     }
@@ -10,21 +10,56 @@
 
 package org.eclipse.milo.opcua.stack.server.transport.websocket;
 
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.InetSocketAddress;
+import java.util.Objects;
+
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
 import org.eclipse.milo.opcua.stack.core.Stack;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.UaMessage;
+import org.eclipse.milo.opcua.stack.core.serialization.UaRequestMessage;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ServiceFault;
+import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
 import org.eclipse.milo.opcua.stack.server.UaStackServer;
+import org.eclipse.milo.opcua.stack.server.services.ServiceRequest;
 import org.eclipse.milo.opcua.stack.server.transport.uasc.UascServerHelloHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static io.netty.handler.codec.http.websocketx.WebSocketServerProtocolHandler.HandshakeComplete;
 
 public class OpcServerWebSocketFrameHandler extends SimpleChannelInboundHandler<WebSocketFrame> {
 
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
     private String subprotocol;
 
+    /**
+     * The WSS UA-JSON endpoint this connection was made to, if {@link #subprotocol} is
+     * {@link Stack#WSS_PROTOCOL_JSON}.
+     */
+    private EndpointDescription jsonEndpoint;
+
+    /**
+     * The id identifying this connection to services, if {@link #subprotocol} is {@link Stack#WSS_PROTOCOL_JSON}.
+     */
+    private long jsonChannelId;
+
     private final UaStackServer stackServer;
 
     public OpcServerWebSocketFrameHandler(UaStackServer stackServer) {
@@ -45,6 +80,21 @@ public class OpcServerWebSocketFrameHandler extends SimpleChannelInboundHandler<
                 );
 
                 ctx.channel().pipeline().addLast(helloHandler);
+            } else if (Stack.WSS_PROTOCOL_JSON.equalsIgnoreCase(subprotocol)) {
+                String path = new QueryStringDecoder(handshake.requestUri()).path();
+
+                jsonEndpoint = stackServer.getEndpointDescriptions()
+                    .stream()
+                    .filter(e ->
+                        Objects.equals(e.getTransportProfileUri(), TransportProfile.WSS_UAJSON.getUri()) &&
+                            Objects.equals(EndpointUtil.getPath(e.getEndpointUrl()), path))
+                    .findFirst()
+                    .orElseThrow(() ->
+                        new UaException(
+                            StatusCodes.Bad_TcpEndpointUrlInvalid,
+                            "unrecognized endpoint uri: " + path));
+
+                jsonChannelId = stackServer.getNextChannelId();
             } else {
                 throw new IllegalArgumentException("subprotocol: " + subprotocol);
             }
@@ -59,14 +109,83 @@ public class OpcServerWebSocketFrameHandler extends SimpleChannelInboundHandler<
             // Pass the binary contents to the UA Secure Conversation handlers
 
             ctx.fireChannelRead(msg.content().retain());
-        } else if (Stack.WSS_PROTOCOL_JSON.equalsIgnoreCase(subprotocol)) {
-            // TODO End of the pipeline; decode and deliver
-            String text = ((TextWebSocketFrame) msg).text();
-
-            throw new IllegalArgumentException("subprotocol: " + subprotocol);
+        } else if (Stack.WSS_PROTOCOL_JSON.equalsIgnoreCase(subprotocol) && msg instanceof TextWebSocketFrame) {
+            // End of the pipeline; decode and deliver
+            onJsonRequest(ctx, ((TextWebSocketFrame) msg).text());
         } else {
             ctx.close();
         }
     }
 
+    private void onJsonRequest(ChannelHandlerContext ctx, String text) {
+        OpcUaJsonStreamDecoder decoder = new OpcUaJsonStreamDecoder(stackServer.getSerializationContext());
+        decoder.setReader(new StringReader(text));
+
+        try {
+            UaRequestMessage request = (UaRequestMessage) decoder.readMessage(null);
+            UInteger requestHandle = request.getRequestHeader().getRequestHandle();
+
+            InetSocketAddress remoteSocketAddress =
+                (InetSocketAddress) ctx.channel().remoteAddress();
+
+            ServiceRequest serviceRequest = new ServiceRequest(
+                stackServer,
+                request,
+                jsonEndpoint,
+                jsonChannelId,
+                remoteSocketAddress.getAddress(),
+                null
+            );
+
+            serviceRequest.getFuture().whenComplete((response, fault) -> {
+                if (response != null) {
+                    try {
+                        sendJsonMessage(ctx, response);
+                    } catch (Throwable t) {
+                        logger.error("Error encoding UaResponseMessage", t);
+
+                        sendServiceFault(ctx, requestHandle, t);
+                    }
+                } else {
+                    sendServiceFault(ctx, requestHandle, fault);
+                }
+            });
+
+            stackServer.onServiceRequest(EndpointUtil.getPath(jsonEndpoint.getEndpointUrl()), serviceRequest);
+        } catch (Throwable t) {
+            logger.error("Error decoding UaRequestMessage", t);
+
+            sendServiceFault(ctx, null, t);
+        }
+    }
+
+    private void sendServiceFault(ChannelHandlerContext ctx, UInteger requestHandle, Throwable fault) {
+        StatusCode statusCode = UaException.extract(fault)
+            .map(UaException::getStatusCode)
+            .orElse(StatusCode.BAD);
+
+        ServiceFault serviceFault = new ServiceFault(
+            new ResponseHeader(
+                DateTime.now(),
+                requestHandle,
+                statusCode,
+                null,
+                null,
+                null
+            )
+        );
+
+        sendJsonMessage(ctx, serviceFault);
+    }
+
+    private void sendJsonMessage(ChannelHandlerContext ctx, UaMessage message) {
+        StringWriter writer = new StringWriter();
+
+        OpcUaJsonStreamEncoder encoder = new OpcUaJsonStreamEncoder(stackServer.getSerializationContext());
+        encoder.setWriter(writer);
+        encoder.writeMessage(null, message);
+
+        ctx.writeAndFlush(new TextWebSocketFrame(writer.toString()));
+    }
+
 }
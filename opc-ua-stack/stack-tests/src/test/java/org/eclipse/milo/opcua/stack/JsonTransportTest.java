@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack;
+
+import java.security.KeyPair;
+import java.security.Security;
+import java.security.cert.X509Certificate;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.eclipse.milo.opcua.stack.client.UaStackClient;
+import org.eclipse.milo.opcua.stack.client.UaStackClientConfig;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Stack;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.UserTokenType;
+import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.UserTokenPolicy;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateGenerator;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedHttpsCertificateBuilder;
+import org.eclipse.milo.opcua.stack.server.EndpointConfiguration;
+import org.eclipse.milo.opcua.stack.server.UaStackServer;
+import org.eclipse.milo.opcua.stack.server.UaStackServerConfig;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+
+public class JsonTransportTest extends SecurityFixture {
+
+    static {
+        Security.addProvider(new BouncyCastleProvider());
+
+        Stack.ConnectionLimits.RATE_LIMIT_ENABLED = false;
+    }
+
+    private static final UserTokenPolicy USER_TOKEN_POLICY_ANONYMOUS = new UserTokenPolicy(
+        "anonymous",
+        UserTokenType.Anonymous,
+        null,
+        null,
+        null
+    );
+
+    private final int httpsBindPort = new Random().nextInt(64000) + 1000;
+
+    private volatile Variant value = Variant.NULL_VALUE;
+
+    private UaStackServer server;
+
+    @BeforeClass
+    public void setUpServer() throws Exception {
+        super.setUp();
+
+        KeyPair httpsKeyPair = SelfSignedCertificateGenerator.generateRsaKeyPair(2048);
+
+        X509Certificate httpsCertificate = new SelfSignedHttpsCertificateBuilder(httpsKeyPair)
+            .setCommonName("localhost")
+            .build();
+
+        EndpointConfiguration.Builder base = EndpointConfiguration.newBuilder()
+            .setBindAddress("localhost")
+            .setHostname("localhost")
+            .setBindPort(httpsBindPort)
+            .setPath("/test")
+            .setCertificate(serverCertificate)
+            .setSecurityPolicy(SecurityPolicy.None)
+            .setSecurityMode(MessageSecurityMode.None)
+            .addTokenPolicies(USER_TOKEN_POLICY_ANONYMOUS);
+
+        Set<EndpointConfiguration> endpointConfigurations = new LinkedHashSet<>();
+        endpointConfigurations.add(base.copy().setTransportProfile(TransportProfile.HTTPS_UAJSON).build());
+        endpointConfigurations.add(base.copy().setTransportProfile(TransportProfile.WSS_UAJSON).build());
+
+        UaStackServerConfig config = UaStackServerConfig.builder()
+            .setEndpoints(endpointConfigurations)
+            .setCertificateManager(serverCertificateManager)
+            .setCertificateValidator(serverCertificateValidator)
+            .setHttpsKeyPair(httpsKeyPair)
+            .setHttpsCertificate(httpsCertificate)
+            .build();
+
+        server = new UaStackServer(config);
+
+        server.addServiceHandler("/test", ReadRequest.TYPE_ID, service -> {
+            ReadRequest request = (ReadRequest) service.getRequest();
+
+            ResponseHeader header = new ResponseHeader(
+                DateTime.now(),
+                request.getRequestHeader().getRequestHandle(),
+                StatusCode.GOOD,
+                null,
+                null,
+                null
+            );
+
+            service.setResponse(new ReadResponse(header, new DataValue[]{new DataValue(value)}, null));
+        });
+
+        server.startup().get();
+    }
+
+    @AfterClass
+    public void tearDownServer() throws Exception {
+        server.shutdown().get();
+    }
+
+    @DataProvider
+    public Object[][] getTransportsAndVariants() {
+        Variant[] variants = new Variant[]{
+            new Variant(42),
+            new Variant("hello, world"),
+            new Variant(DateTime.now()),
+            new Variant(LocalizedText.english("LocalizedText")),
+            new Variant(new Double[][]{{1.0, 2.0}, {3.0, Double.NaN}}),
+            new Variant(ExtensionObject.encode(
+                new TestSerializationContext(),
+                new ReadValueId(NodeId.NULL_VALUE, uint(1), null, new QualifiedName(0, "DataEncoding"))
+            ))
+        };
+
+        TransportProfile[] transportProfiles = new TransportProfile[]{
+            TransportProfile.HTTPS_UAJSON,
+            TransportProfile.WSS_UAJSON
+        };
+
+        Object[][] parameters = new Object[transportProfiles.length * variants.length][];
+
+        for (int i = 0; i < transportProfiles.length; i++) {
+            for (int j = 0; j < variants.length; j++) {
+                parameters[i * variants.length + j] = new Object[]{transportProfiles[i], variants[j]};
+            }
+        }
+
+        return parameters;
+    }
+
+    @Test(dataProvider = "getTransportsAndVariants")
+    public void testRead(TransportProfile transportProfile, Variant input) throws Exception {
+        value = input;
+
+        EndpointDescription endpoint = server.getEndpointDescriptions()
+            .stream()
+            .filter(e -> e.getTransportProfileUri().equals(transportProfile.getUri()))
+            .findFirst()
+            .orElseThrow(() -> new Exception("no endpoint for " + transportProfile));
+
+        UaStackClient client = UaStackClient.create(
+            UaStackClientConfig.builder()
+                .setEndpoint(endpoint)
+                .setKeyPair(clientKeyPair)
+                .setCertificate(clientCertificate)
+                .build()
+        );
+
+        client.connect().get();
+
+        try {
+            for (int i = 0; i < 10; i++) {
+                ReadRequest request = new ReadRequest(
+                    new RequestHeader(NodeId.NULL_VALUE, DateTime.now(), uint(i), uint(0), null, uint(10000), null),
+                    0.0,
+                    TimestampsToReturn.Neither,
+                    new ReadValueId[]{
+                        new ReadValueId(NodeId.NULL_VALUE, AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE)
+                    }
+                );
+
+                ReadResponse response = (ReadResponse) client.sendRequest(request).get();
+
+                assertEquals(response.getResults()[0].getValue(), input);
+            }
+        } finally {
+            client.disconnect().get();
+        }
+    }
+
+}
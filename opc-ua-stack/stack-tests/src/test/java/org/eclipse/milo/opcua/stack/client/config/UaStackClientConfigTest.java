@@ -19,6 +19,7 @@ import org.eclipse.milo.opcua.stack.client.UaStackClientConfig;
 import org.eclipse.milo.opcua.stack.client.security.ClientCertificateValidator;
 import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.channel.FlushConsolidation;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.UserTokenType;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.UserTokenPolicy;
@@ -68,9 +69,11 @@ public class UaStackClientConfigTest extends SecurityFixture {
             .setCertificateChain(new X509Certificate[]{clientCertificate})
             .setCertificateValidator(validator)
             .setEncodingLimits(EncodingLimits.DEFAULT)
+            .setFlushConsolidation(FlushConsolidation.DEFAULT)
             .setChannelLifetime(uint(1234))
             .setExecutor(Stack.sharedExecutor())
-            .setEventLoop(Stack.sharedEventLoop())
+            .setVirtualThreadsEnabled(true)
+            .setTransportEventLoop(Stack.sharedTransportEventLoop())
             .setWheelTimer(Stack.sharedWheelTimer())
             .setAcknowledgeTimeout(uint(12345))
             .build();
@@ -82,9 +85,11 @@ public class UaStackClientConfigTest extends SecurityFixture {
         assertEquals(copy.getCertificateChain(), original.getCertificateChain());
         assertEquals(copy.getCertificateValidator(), original.getCertificateValidator());
         assertEquals(copy.getEncodingLimits(), original.getEncodingLimits());
+        assertEquals(copy.getFlushConsolidation(), original.getFlushConsolidation());
         assertEquals(copy.getChannelLifetime(), original.getChannelLifetime());
         assertEquals(copy.getExecutor(), original.getExecutor());
-        assertEquals(copy.getEventLoop(), original.getEventLoop());
+        assertEquals(copy.isVirtualThreadsEnabled(), original.isVirtualThreadsEnabled());
+        assertEquals(copy.getTransportEventLoop(), original.getTransportEventLoop());
         assertEquals(copy.getWheelTimer(), original.getWheelTimer());
         assertEquals(copy.getAcknowledgeTimeout(), original.getAcknowledgeTimeout());
     }
@@ -99,7 +104,7 @@ public class UaStackClientConfigTest extends SecurityFixture {
             .setEncodingLimits(EncodingLimits.DEFAULT)
             .setChannelLifetime(uint(1234))
             .setExecutor(Stack.sharedExecutor())
-            .setEventLoop(Stack.sharedEventLoop())
+            .setTransportEventLoop(Stack.sharedTransportEventLoop())
             .setWheelTimer(Stack.sharedWheelTimer())
             .build();
 
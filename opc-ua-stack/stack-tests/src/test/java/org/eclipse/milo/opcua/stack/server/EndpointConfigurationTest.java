@@ -72,25 +72,24 @@ public class EndpointConfigurationTest {
             IllegalArgumentException.class,
             () ->
                 EndpointConfiguration.newBuilder()
-                    .setTransportProfile(TransportProfile.HTTPS_UAJSON)
+                    .setTransportProfile(TransportProfile.WSS_UASC_UABINARY)
                     .build()
         );
+    }
 
-        expectThrows(
-            IllegalArgumentException.class,
-            () ->
-                EndpointConfiguration.newBuilder()
-                    .setTransportProfile(TransportProfile.WSS_UAJSON)
-                    .build()
-        );
+    @Test
+    public void jsonTransportsSupported() {
+        EndpointConfiguration httpsJson = EndpointConfiguration.newBuilder()
+            .setTransportProfile(TransportProfile.HTTPS_UAJSON)
+            .build();
 
-        expectThrows(
-            IllegalArgumentException.class,
-            () ->
-                EndpointConfiguration.newBuilder()
-                    .setTransportProfile(TransportProfile.WSS_UASC_UABINARY)
-                    .build()
-        );
+        assertEquals(httpsJson.getTransportProfile(), TransportProfile.HTTPS_UAJSON);
+
+        EndpointConfiguration wssJson = EndpointConfiguration.newBuilder()
+            .setTransportProfile(TransportProfile.WSS_UAJSON)
+            .build();
+
+        assertEquals(wssJson.getTransportProfile(), TransportProfile.WSS_UAJSON);
     }
 
     @Test